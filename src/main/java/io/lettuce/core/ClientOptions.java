@@ -56,6 +56,16 @@ public class ClientOptions implements Serializable {
 
     public static final DisconnectedBehavior DEFAULT_DISCONNECTED_BEHAVIOR = DisconnectedBehavior.DEFAULT;
 
+    public static final boolean DEFAULT_LOCK_FREE_SUBMISSION = false;
+
+    public static final int DEFAULT_LOCK_FREE_SUBMISSION_BATCH_SIZE = 256;
+
+    public static final FlushConsolidationOptions DEFAULT_FLUSH_CONSOLIDATION_OPTIONS = FlushConsolidationOptions.create();
+
+    public static final int DEFAULT_GATHERING_WRITE_THRESHOLD = 0;
+
+    public static final HedgedReadOptions DEFAULT_HEDGED_READ_OPTIONS = HedgedReadOptions.create();
+
     public static final ReauthenticateBehavior DEFAULT_REAUTHENTICATE_BEHAVIOUR = ReauthenticateBehavior.DEFAULT;
 
     public static final boolean DEFAULT_PUBLISH_ON_SCHEDULER = false;
@@ -98,6 +108,16 @@ public class ClientOptions implements Serializable {
 
     private final DisconnectedBehavior disconnectedBehavior;
 
+    private final boolean lockFreeSubmission;
+
+    private final int lockFreeSubmissionBatchSize;
+
+    private final FlushConsolidationOptions flushConsolidationOptions;
+
+    private final int gatheringWriteThreshold;
+
+    private final HedgedReadOptions hedgedReadOptions;
+
     private final ReauthenticateBehavior reauthenticateBehavior;
 
     private final boolean publishOnScheduler;
@@ -129,6 +149,11 @@ public class ClientOptions implements Serializable {
         this.cancelCommandsOnReconnectFailure = builder.cancelCommandsOnReconnectFailure;
         this.decodeBufferPolicy = builder.decodeBufferPolicy;
         this.disconnectedBehavior = builder.disconnectedBehavior;
+        this.lockFreeSubmission = builder.lockFreeSubmission;
+        this.lockFreeSubmissionBatchSize = builder.lockFreeSubmissionBatchSize;
+        this.flushConsolidationOptions = builder.flushConsolidationOptions;
+        this.gatheringWriteThreshold = builder.gatheringWriteThreshold;
+        this.hedgedReadOptions = builder.hedgedReadOptions;
         this.reauthenticateBehavior = builder.reauthenticateBehavior;
         this.publishOnScheduler = builder.publishOnScheduler;
         this.pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
@@ -149,6 +174,11 @@ public class ClientOptions implements Serializable {
         this.cancelCommandsOnReconnectFailure = original.isCancelCommandsOnReconnectFailure();
         this.decodeBufferPolicy = original.getDecodeBufferPolicy();
         this.disconnectedBehavior = original.getDisconnectedBehavior();
+        this.lockFreeSubmission = original.isLockFreeSubmission();
+        this.lockFreeSubmissionBatchSize = original.getLockFreeSubmissionBatchSize();
+        this.flushConsolidationOptions = original.getFlushConsolidationOptions();
+        this.gatheringWriteThreshold = original.getGatheringWriteThreshold();
+        this.hedgedReadOptions = original.getHedgedReadOptions();
         this.reauthenticateBehavior = original.getReauthenticateBehaviour();
         this.publishOnScheduler = original.isPublishOnScheduler();
         this.pingBeforeActivateConnection = original.isPingBeforeActivateConnection();
@@ -205,6 +235,16 @@ public class ClientOptions implements Serializable {
 
         private DisconnectedBehavior disconnectedBehavior = DEFAULT_DISCONNECTED_BEHAVIOR;
 
+        private boolean lockFreeSubmission = DEFAULT_LOCK_FREE_SUBMISSION;
+
+        private int lockFreeSubmissionBatchSize = DEFAULT_LOCK_FREE_SUBMISSION_BATCH_SIZE;
+
+        private FlushConsolidationOptions flushConsolidationOptions = DEFAULT_FLUSH_CONSOLIDATION_OPTIONS;
+
+        private int gatheringWriteThreshold = DEFAULT_GATHERING_WRITE_THRESHOLD;
+
+        private HedgedReadOptions hedgedReadOptions = DEFAULT_HEDGED_READ_OPTIONS;
+
         private boolean pingBeforeActivateConnection = DEFAULT_PING_BEFORE_ACTIVATE_CONNECTION;
 
         private ProtocolVersion protocolVersion;
@@ -310,6 +350,91 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Submit auto-flushed commands through a lock-free multi-producer queue that is drained by the channel's event loop
+         * instead of synchronizing writers with the connection state. Commands submitted concurrently are written in batches
+         * and flushed together, at most {@link #lockFreeSubmissionBatchSize(int)} commands per flush. Submission falls back to
+         * the regular write path while the connection is disconnected or activating, or if the request queue is bounded.
+         * Flushed batches are reported to the {@link io.lettuce.core.metrics.FlushBatchRecorder} configured through
+         * {@link #flushConsolidationOptions(FlushConsolidationOptions)}; other flush consolidation settings do not apply.
+         * Defaults to {@code false}. See {@link #DEFAULT_LOCK_FREE_SUBMISSION}.
+         *
+         * @param lockFreeSubmission {@code true} to submit commands through a lock-free queue.
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder lockFreeSubmission(boolean lockFreeSubmission) {
+
+            this.lockFreeSubmission = lockFreeSubmission;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of commands that are written before flushing when draining the lock-free submission queue.
+         * Only applies if {@link #lockFreeSubmission(boolean) lock-free submission} is enabled. Defaults to {@code 256}. See
+         * {@link #DEFAULT_LOCK_FREE_SUBMISSION_BATCH_SIZE}.
+         *
+         * @param lockFreeSubmissionBatchSize the maximum number of commands per flush, must be greater than zero.
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder lockFreeSubmissionBatchSize(int lockFreeSubmissionBatchSize) {
+
+            LettuceAssert.isTrue(lockFreeSubmissionBatchSize > 0, "Lock-free submission batch size must be greater than zero");
+            this.lockFreeSubmissionBatchSize = lockFreeSubmissionBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the {@link FlushConsolidationOptions} to consolidate flushes of auto-flushed commands. See
+         * {@link #DEFAULT_FLUSH_CONSOLIDATION_OPTIONS}.
+         *
+         * @param flushConsolidationOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder flushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+
+            LettuceAssert.notNull(flushConsolidationOptions, "FlushConsolidationOptions must not be null");
+            this.flushConsolidationOptions = flushConsolidationOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link HedgedReadOptions} to hedge read-only commands routed through {@link ReadFrom}. See
+         * {@link #DEFAULT_HEDGED_READ_OPTIONS}.
+         *
+         * @param hedgedReadOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder hedgedReadOptions(HedgedReadOptions hedgedReadOptions) {
+
+            LettuceAssert.notNull(hedgedReadOptions, "HedgedReadOptions must not be null");
+            this.hedgedReadOptions = hedgedReadOptions;
+            return this;
+        }
+
+        /**
+         * Sets the argument size threshold in bytes for gathering writes. Command arguments (keys, values, byte arrays) whose
+         * encoded size reaches the threshold are written as separate buffers instead of being copied into the command buffer.
+         * Small arguments and protocol headers are still packed together. Defaults to {@code 0} (disabled), see
+         * {@link #DEFAULT_GATHERING_WRITE_THRESHOLD}.
+         * <p>
+         * When using heap buffers, {@code byte[]} arguments are wrapped without copying and must not be modified until the
+         * command has been written.
+         *
+         * @param gatheringWriteThreshold the threshold in bytes, {@code 0} to disable gathering writes.
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder gatheringWriteThreshold(int gatheringWriteThreshold) {
+
+            LettuceAssert.isTrue(gatheringWriteThreshold >= 0, "Gathering write threshold must be greater or equal to 0");
+            this.gatheringWriteThreshold = gatheringWriteThreshold;
+            return this;
+        }
+
         /**
          * Configure the {@link ReauthenticateBehavior} of the Lettuce driver. Defaults to
          * {@link ReauthenticateBehavior#DEFAULT}.
@@ -528,12 +653,14 @@ public class ClientOptions implements Serializable {
 
         builder.autoReconnect(isAutoReconnect()).cancelCommandsOnReconnectFailure(isCancelCommandsOnReconnectFailure())
                 .decodeBufferPolicy(getDecodeBufferPolicy()).disconnectedBehavior(getDisconnectedBehavior())
-                .reauthenticateBehavior(getReauthenticateBehaviour()).readOnlyCommands(getReadOnlyCommands())
-                .publishOnScheduler(isPublishOnScheduler()).pingBeforeActivateConnection(isPingBeforeActivateConnection())
-                .protocolVersion(getConfiguredProtocolVersion()).requestQueueSize(getRequestQueueSize())
-                .scriptCharset(getScriptCharset()).jsonParser(getJsonParser()).socketOptions(getSocketOptions())
-                .sslOptions(getSslOptions()).suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure())
-                .timeoutOptions(getTimeoutOptions());
+                .lockFreeSubmission(isLockFreeSubmission()).lockFreeSubmissionBatchSize(getLockFreeSubmissionBatchSize())
+                .flushConsolidationOptions(getFlushConsolidationOptions()).gatheringWriteThreshold(getGatheringWriteThreshold())
+                .hedgedReadOptions(getHedgedReadOptions()).reauthenticateBehavior(getReauthenticateBehaviour())
+                .readOnlyCommands(getReadOnlyCommands()).publishOnScheduler(isPublishOnScheduler())
+                .pingBeforeActivateConnection(isPingBeforeActivateConnection()).protocolVersion(getConfiguredProtocolVersion())
+                .requestQueueSize(getRequestQueueSize()).scriptCharset(getScriptCharset()).jsonParser(getJsonParser())
+                .socketOptions(getSocketOptions()).sslOptions(getSslOptions())
+                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions());
 
         return builder;
     }
@@ -597,6 +724,56 @@ public class ClientOptions implements Serializable {
         return disconnectedBehavior;
     }
 
+    /**
+     * Submit auto-flushed commands through a lock-free queue drained by the channel's event loop.
+     *
+     * @return {@code true} if commands are submitted through a lock-free queue.
+     * @since 6.7
+     */
+    public boolean isLockFreeSubmission() {
+        return lockFreeSubmission;
+    }
+
+    /**
+     * Returns the maximum number of commands that are written before flushing when draining the lock-free submission queue.
+     *
+     * @return the maximum number of commands per flush.
+     * @since 6.7
+     */
+    public int getLockFreeSubmissionBatchSize() {
+        return lockFreeSubmissionBatchSize;
+    }
+
+    /**
+     * Returns the {@link FlushConsolidationOptions}.
+     *
+     * @return the {@link FlushConsolidationOptions}.
+     * @since 6.7
+     */
+    public FlushConsolidationOptions getFlushConsolidationOptions() {
+        return flushConsolidationOptions;
+    }
+
+    /**
+     * Returns the {@link HedgedReadOptions}.
+     *
+     * @return the {@link HedgedReadOptions}.
+     * @since 6.7
+     */
+    public HedgedReadOptions getHedgedReadOptions() {
+        return hedgedReadOptions;
+    }
+
+    /**
+     * Returns the argument size threshold in bytes for gathering writes. {@code 0} if gathering writes are disabled.
+     *
+     * @return the gathering write threshold in bytes.
+     * @since 6.7
+     */
+    public int getGatheringWriteThreshold() {
+        return gatheringWriteThreshold;
+    }
+
     /**
      * Behavior for re-authentication when the {@link RedisCredentialsProvider} emits new credentials. Defaults to
      * {@link ReauthenticateBehavior#DEFAULT}.
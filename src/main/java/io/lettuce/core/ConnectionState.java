@@ -21,6 +21,7 @@ package io.lettuce.core;
 
 import java.util.List;
 
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.ProtocolVersion;
 
 /**
@@ -41,6 +42,8 @@ public class ConnectionState {
 
     private volatile boolean readOnly;
 
+    private volatile CommandArgs<?, ?> clientTracking;
+
     private volatile ConnectionMetadata connectionMetadata = new ConnectionMetadata();
 
     /**
@@ -153,6 +156,21 @@ public class ConnectionState {
         return readOnly;
     }
 
+    /**
+     * Set the arguments of the last successful {@code CLIENT TRACKING ON} command to restore tracking after a reconnect.
+     * {@code null} if tracking is disabled or cannot be restored.
+     *
+     * @param clientTracking the {@code CLIENT TRACKING} arguments, can be {@code null}.
+     * @since 6.7
+     */
+    protected void setClientTracking(CommandArgs<?, ?> clientTracking) {
+        this.clientTracking = clientTracking;
+    }
+
+    CommandArgs<?, ?> getClientTracking() {
+        return clientTracking;
+    }
+
     protected void setClientName(String clientName) {
         this.connectionMetadata.setClientName(clientName);
     }
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import reactor.core.publisher.Mono;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.ExceptionFactory;
+import io.lettuce.core.internal.Exceptions;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.CommandWrapper;
+import io.lettuce.core.protocol.ConnectionFacade;
+import io.lettuce.core.protocol.NoReplyCommand;
+import io.lettuce.core.protocol.PushHandler;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Fire-and-forget command execution using {@code CLIENT REPLY}. Commands are recorded through {@link RedisAsyncCommands} and
+ * sent to the server with replies turned off so that the server does not send replies and the client does not need to decode
+ * them or keep the commands in its response queue:
+ *
+ * <pre class="code">
+ * FireAndForget&lt;String, String&gt; fireAndForget = FireAndForget.create(connection);
+ *
+ * fireAndForget.async(commands -&gt; {
+ *     commands.incrby("counter", 1);
+ *     commands.hset("hash", "field", "value");
+ * });
+ * </pre>
+ *
+ * A single command is preceded by {@code CLIENT REPLY SKIP} and the returned future completes once the command was written to
+ * the transport. Multiple commands are wrapped in {@code CLIENT REPLY OFF} and {@code CLIENT REPLY ON} and the returned future
+ * completes once the server has acknowledged {@code CLIENT REPLY ON}, i.e. once the server has processed all commands. The
+ * futures returned by {@link RedisAsyncCommands} within the callback complete with {@code null} once the commands were written.
+ * <p>
+ * Semantics:
+ * <ul>
+ * <li>Errors raised by the server (e.g. {@code WRONGTYPE}) are not reported.</li>
+ * <li>Commands are sent at most once. Commands that were written are not retried after a reconnect. If the connection is lost
+ * before the server acknowledged a batch, the future returned for the batch completes exceptionally.</li>
+ * <li>Commands that were not yet written (e.g. buffered while disconnected) are sent together with their {@code CLIENT REPLY}
+ * commands after reconnect.</li>
+ * <li>Fire-and-forget commands cannot be used within a transaction.</li>
+ * </ul>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ */
+public class FireAndForget<K, V> {
+
+    private final StatefulRedisConnection<K, V> connection;
+
+    private final RedisCodec<K, V> codec;
+
+    private final RecordingChannelWriter recorder;
+
+    private final RedisAsyncCommands<K, V> commands;
+
+    private FireAndForget(StatefulRedisConnectionImpl<K, V> connection) {
+
+        this.connection = connection;
+        this.codec = connection.getCodec();
+        this.recorder = new RecordingChannelWriter(connection.getResources());
+
+        StatefulRedisConnectionImpl<K, V> recordingConnection = new StatefulRedisConnectionImpl<>(recorder,
+                NoOpPushHandler.INSTANCE, codec, connection.getTimeout());
+        recordingConnection.setOptions(connection.getOptions());
+
+        this.commands = recordingConnection.async();
+    }
+
+    /**
+     * Create a new {@link FireAndForget} for a {@link StatefulRedisConnection}.
+     *
+     * @param connection the connection, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link FireAndForget}.
+     */
+    public static <K, V> FireAndForget<K, V> create(StatefulRedisConnection<K, V> connection) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.isTrue(connection instanceof StatefulRedisConnectionImpl,
+                "Connection must be a StatefulRedisConnectionImpl");
+
+        return new FireAndForget<>((StatefulRedisConnectionImpl<K, V>) connection);
+    }
+
+    /**
+     * Record commands using {@code commands} and send these without awaiting replies.
+     *
+     * @param commands callback to record commands, must not be {@code null}.
+     * @return a future that completes once a single command was written or once the server acknowledged a batch of commands.
+     */
+    public CompletableFuture<Void> async(Consumer<RedisAsyncCommands<K, V>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands consumer must not be null");
+
+        if (connection.isMulti()) {
+            return Futures.failed(new RedisException("Fire-and-forget commands cannot be used within a transaction"));
+        }
+
+        List<RedisCommand<K, V, ?>> recorded = record(commands);
+
+        if (recorded.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<RedisCommand<K, V, ?>> batch = new ArrayList<>(recorded.size() + 2);
+
+        if (recorded.size() == 1) {
+
+            RedisCommand<K, V, ?> command = recorded.get(0);
+            AsyncCommand<?, ?, ?> future = CommandWrapper.unwrap(command, AsyncCommand.class);
+
+            batch.add(NoReplyCommand.replySkip(codec));
+            batch.add(new NoReplyCommand<>(command));
+            connection.dispatch(batch);
+
+            return future.thenApply(ignore -> null);
+        }
+
+        AsyncCommand<K, V, Void> acknowledgement = NoReplyCommand.replyOn(codec);
+
+        batch.add(NoReplyCommand.replyOff(codec));
+        for (RedisCommand<K, V, ?> command : recorded) {
+            batch.add(new NoReplyCommand<>(command));
+        }
+        batch.add(acknowledgement);
+
+        connection.dispatch(batch);
+
+        return acknowledgement;
+    }
+
+    /**
+     * Record commands using {@code commands}, send these without awaiting replies and wait until a single command was written
+     * or until the server acknowledged a batch of commands. Waits up to the connection timeout.
+     *
+     * @param commands callback to record commands, must not be {@code null}.
+     */
+    public void sync(Consumer<RedisAsyncCommands<K, V>> commands) {
+
+        CompletableFuture<Void> future = async(commands);
+        Duration timeout = connection.getTimeout();
+
+        try {
+            if (timeout.isZero() || timeout.isNegative()) {
+                future.get();
+            } else {
+                future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            throw ExceptionFactory.createTimeoutException(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        } catch (ExecutionException e) {
+            throw Exceptions.bubble(e);
+        }
+    }
+
+    /**
+     * Record commands using {@code commands} and send these without awaiting replies upon subscription.
+     *
+     * @param commands callback to record commands, must not be {@code null}.
+     * @return a {@link Mono} that completes once a single command was written or once the server acknowledged a batch of
+     *         commands.
+     */
+    public Mono<Void> reactive(Consumer<RedisAsyncCommands<K, V>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands consumer must not be null");
+
+        return Mono.defer(() -> Mono.fromCompletionStage(async(commands)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RedisCommand<K, V, ?>> record(Consumer<RedisAsyncCommands<K, V>> consumer) {
+
+        List<RedisCommand<?, ?, ?>> recorded = new ArrayList<>();
+        recorder.start(recorded);
+
+        try {
+            consumer.accept(commands);
+        } finally {
+            recorder.stop();
+        }
+
+        List<RedisCommand<K, V, ?>> result = new ArrayList<>(recorded.size());
+
+        for (RedisCommand<?, ?, ?> command : recorded) {
+
+            String type = command.getType().toString();
+
+            if (type.equals("MULTI") || type.equals("EXEC") || type.equals("DISCARD") || type.equals("WATCH")) {
+                throw new RedisException("Fire-and-forget commands cannot be used within a transaction");
+            }
+
+            result.add((RedisCommand<K, V, ?>) command);
+        }
+
+        return result;
+    }
+
+    /**
+     * The recording connection does not receive push messages.
+     */
+    enum NoOpPushHandler implements PushHandler {
+
+        INSTANCE;
+
+        @Override
+        public void addListener(PushListener listener) {
+        }
+
+        @Override
+        public void removeListener(PushListener listener) {
+        }
+
+        @Override
+        public Collection<PushListener> getPushListeners() {
+            return Collections.emptyList();
+        }
+
+    }
+
+    /**
+     * {@link RedisChannelWriter} that collects commands for the current thread instead of writing these.
+     */
+    static class RecordingChannelWriter implements RedisChannelWriter {
+
+        private final ThreadLocal<List<RedisCommand<?, ?, ?>>> recording = new ThreadLocal<>();
+
+        private final ClientResources clientResources;
+
+        RecordingChannelWriter(ClientResources clientResources) {
+            this.clientResources = clientResources;
+        }
+
+        void start(List<RedisCommand<?, ?, ?>> target) {
+            recording.set(target);
+        }
+
+        void stop() {
+            recording.remove();
+        }
+
+        @Override
+        public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
+            getRecording().add(command);
+            return command;
+        }
+
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public <K, V> Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> redisCommands) {
+            getRecording().addAll(redisCommands);
+            return (Collection) redisCommands;
+        }
+
+        private List<RedisCommand<?, ?, ?>> getRecording() {
+
+            List<RedisCommand<?, ?, ?>> target = recording.get();
+
+            if (target == null) {
+                throw new IllegalStateException("Fire-and-forget commands must be invoked within the recording callback");
+            }
+
+            return target;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public CompletableFuture<Void> closeAsync() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void setConnectionFacade(ConnectionFacade connection) {
+        }
+
+        @Override
+        public ClientResources getClientResources() {
+            return clientResources;
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+        }
+
+        @Override
+        public void flushCommands() {
+        }
+
+    }
+
+}
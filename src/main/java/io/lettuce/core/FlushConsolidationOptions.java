@@ -0,0 +1,230 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.metrics.FlushBatchRecorder;
+
+/**
+ * Options to consolidate flushes of auto-flushed commands. By default, each command that is written with
+ * {@link io.lettuce.core.api.StatefulConnection#setAutoFlushCommands(boolean) auto-flush} enabled is flushed to the transport
+ * individually which results in a system call per command. Enabling flush consolidation writes commands to the channel and
+ * defers the flush to the event loop so that all commands that were written within the same event loop tick (or within the
+ * configured {@link #getFlushDelay() flush delay}) are flushed together. The number of commands that may await a flush is
+ * limited by {@link #getMaxCommandsPerFlush()}.
+ * <p>
+ * Flush consolidation trades a slightly higher latency for a single command for a higher throughput under concurrent load.
+ *
+ * @since 6.7
+ */
+@SuppressWarnings("serial")
+public class FlushConsolidationOptions implements Serializable {
+
+    public static final boolean DEFAULT_CONSOLIDATE_FLUSHES = false;
+
+    public static final int DEFAULT_MAX_COMMANDS_PER_FLUSH = 256;
+
+    public static final Duration DEFAULT_FLUSH_DELAY = Duration.ZERO;
+
+    private final boolean consolidateFlushes;
+
+    private final int maxCommandsPerFlush;
+
+    private final Duration flushDelay;
+
+    private final transient FlushBatchRecorder flushBatchRecorder;
+
+    private FlushConsolidationOptions(Builder builder) {
+
+        this.consolidateFlushes = builder.consolidateFlushes;
+        this.maxCommandsPerFlush = builder.maxCommandsPerFlush;
+        this.flushDelay = builder.flushDelay;
+        this.flushBatchRecorder = builder.flushBatchRecorder;
+    }
+
+    /**
+     * Returns a new {@link FlushConsolidationOptions.Builder} to construct {@link FlushConsolidationOptions}.
+     *
+     * @return a new {@link FlushConsolidationOptions.Builder} to construct {@link FlushConsolidationOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link FlushConsolidationOptions} with default settings (flush consolidation disabled).
+     *
+     * @return a new instance of {@link FlushConsolidationOptions} with default settings.
+     */
+    public static FlushConsolidationOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link FlushConsolidationOptions} with enabled flush consolidation using default settings.
+     *
+     * @return a new instance of {@link FlushConsolidationOptions} with enabled flush consolidation.
+     */
+    public static FlushConsolidationOptions enabled() {
+        return builder().consolidateFlushes().build();
+    }
+
+    /**
+     * Returns a builder to create new {@link FlushConsolidationOptions} whose settings are replicated from the current
+     * {@link FlushConsolidationOptions}.
+     *
+     * @return a {@link FlushConsolidationOptions.Builder} to create new {@link FlushConsolidationOptions} whose settings are
+     *         replicated from the current {@link FlushConsolidationOptions}.
+     */
+    public Builder mutate() {
+
+        Builder builder = new Builder();
+        builder.consolidateFlushes(isConsolidateFlushes()).maxCommandsPerFlush(getMaxCommandsPerFlush())
+                .flushDelay(getFlushDelay()).flushBatchRecorder(getFlushBatchRecorder());
+
+        return builder;
+    }
+
+    /**
+     * Builder for {@link FlushConsolidationOptions}.
+     */
+    public static class Builder {
+
+        private boolean consolidateFlushes = DEFAULT_CONSOLIDATE_FLUSHES;
+
+        private int maxCommandsPerFlush = DEFAULT_MAX_COMMANDS_PER_FLUSH;
+
+        private Duration flushDelay = DEFAULT_FLUSH_DELAY;
+
+        private FlushBatchRecorder flushBatchRecorder = FlushBatchRecorder.disabled();
+
+        private Builder() {
+        }
+
+        /**
+         * Enable flush consolidation. Disabled by default, see {@link #DEFAULT_CONSOLIDATE_FLUSHES}.
+         *
+         * @return {@code this}
+         */
+        public Builder consolidateFlushes() {
+            return consolidateFlushes(true);
+        }
+
+        /**
+         * Configure whether auto-flushed commands should be flushed together. Disabled by default, see
+         * {@link #DEFAULT_CONSOLIDATE_FLUSHES}.
+         *
+         * @param consolidateFlushes {@code true} to consolidate flushes; {@code false} to flush each command individually.
+         * @return {@code this}
+         */
+        public Builder consolidateFlushes(boolean consolidateFlushes) {
+
+            this.consolidateFlushes = consolidateFlushes;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of commands that are written before a flush is enforced regardless of the scheduled flush.
+         * Defaults to {@literal 256}, see {@link #DEFAULT_MAX_COMMANDS_PER_FLUSH}.
+         *
+         * @param maxCommandsPerFlush the maximum number of commands per flush, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder maxCommandsPerFlush(int maxCommandsPerFlush) {
+
+            LettuceAssert.isTrue(maxCommandsPerFlush > 0, "Max commands per flush must be greater zero");
+
+            this.maxCommandsPerFlush = maxCommandsPerFlush;
+            return this;
+        }
+
+        /**
+         * Set the time window to collect commands before flushing. A zero delay flushes at the end of the current event loop
+         * tick. Defaults to {@link Duration#ZERO}, see {@link #DEFAULT_FLUSH_DELAY}.
+         *
+         * @param flushDelay the flush delay, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder flushDelay(Duration flushDelay) {
+
+            LettuceAssert.notNull(flushDelay, "Flush delay must not be null");
+            LettuceAssert.isTrue(!flushDelay.isNegative(), "Flush delay must not be negative");
+
+            this.flushDelay = flushDelay;
+            return this;
+        }
+
+        /**
+         * Set the {@link FlushBatchRecorder} to record the number of commands per flush. Disabled by default.
+         *
+         * @param flushBatchRecorder the recorder, must not be {@code null}.
+         * @return {@code this}
+         */
+        public Builder flushBatchRecorder(FlushBatchRecorder flushBatchRecorder) {
+
+            LettuceAssert.notNull(flushBatchRecorder, "FlushBatchRecorder must not be null");
+
+            this.flushBatchRecorder = flushBatchRecorder;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link FlushConsolidationOptions}.
+         *
+         * @return new instance of {@link FlushConsolidationOptions}
+         */
+        public FlushConsolidationOptions build() {
+            return new FlushConsolidationOptions(this);
+        }
+
+    }
+
+    /**
+     * @return {@code true} if auto-flushed commands should be flushed together.
+     */
+    public boolean isConsolidateFlushes() {
+        return consolidateFlushes;
+    }
+
+    /**
+     * @return the maximum number of commands that are written before a flush is enforced.
+     */
+    public int getMaxCommandsPerFlush() {
+        return maxCommandsPerFlush;
+    }
+
+    /**
+     * @return the time window to collect commands before flushing.
+     */
+    public Duration getFlushDelay() {
+        return flushDelay;
+    }
+
+    /**
+     * @return the {@link FlushBatchRecorder} recording the number of commands per flush.
+     */
+    public FlushBatchRecorder getFlushBatchRecorder() {
+        return flushBatchRecorder == null ? FlushBatchRecorder.disabled() : flushBatchRecorder;
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to hedge read-only commands that are routed to replicas through {@link ReadFrom}. A hedged read that has not
+ * completed within the {@link #getDelay() hedge delay} is sent to a second candidate node and the first reply completes the
+ * command. Hedging trades additional load for a lower tail latency when a single node is slow, for example while forking for
+ * {@code BGSAVE} or while serving a large key. The additional load is limited by the {@link #getBudget() hedge budget}.
+ * <p>
+ * Hedging applies to {@link io.lettuce.core.protocol.ReadOnlyCommands read-only} commands that are dispatched individually
+ * through Redis Cluster and Master/Replica connections using a {@link ReadFrom} setting that selects more than one node.
+ *
+ * @since 6.7
+ */
+@SuppressWarnings("serial")
+public class HedgedReadOptions implements Serializable {
+
+    public static final boolean DEFAULT_HEDGE_READS = false;
+
+    public static final Duration DEFAULT_DELAY = Duration.ofMillis(10);
+
+    public static final double DEFAULT_DELAY_PERCENTILE = 0;
+
+    public static final double DEFAULT_BUDGET = 0.05;
+
+    private final boolean hedgeReads;
+
+    private final Duration delay;
+
+    private final double delayPercentile;
+
+    private final double budget;
+
+    private HedgedReadOptions(Builder builder) {
+
+        this.hedgeReads = builder.hedgeReads;
+        this.delay = builder.delay;
+        this.delayPercentile = builder.delayPercentile;
+        this.budget = builder.budget;
+    }
+
+    /**
+     * Returns a new {@link HedgedReadOptions.Builder} to construct {@link HedgedReadOptions}.
+     *
+     * @return a new {@link HedgedReadOptions.Builder} to construct {@link HedgedReadOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link HedgedReadOptions} with default settings (hedging disabled).
+     *
+     * @return a new instance of {@link HedgedReadOptions} with default settings.
+     */
+    public static HedgedReadOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link HedgedReadOptions} with enabled hedging using default settings.
+     *
+     * @return a new instance of {@link HedgedReadOptions} with enabled hedging.
+     */
+    public static HedgedReadOptions enabled() {
+        return builder().hedgeReads().build();
+    }
+
+    /**
+     * Returns a builder to create new {@link HedgedReadOptions} whose settings are replicated from the current
+     * {@link HedgedReadOptions}.
+     *
+     * @return a {@link HedgedReadOptions.Builder} to create new {@link HedgedReadOptions} whose settings are replicated from
+     *         the current {@link HedgedReadOptions}.
+     */
+    public Builder mutate() {
+
+        Builder builder = new Builder();
+        builder.hedgeReads(isHedgeReads()).delay(getDelay()).delayPercentile(getDelayPercentile()).budget(getBudget());
+
+        return builder;
+    }
+
+    /**
+     * Builder for {@link HedgedReadOptions}.
+     */
+    public static class Builder {
+
+        private boolean hedgeReads = DEFAULT_HEDGE_READS;
+
+        private Duration delay = DEFAULT_DELAY;
+
+        private double delayPercentile = DEFAULT_DELAY_PERCENTILE;
+
+        private double budget = DEFAULT_BUDGET;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable hedged reads. Disabled by default, see {@link #DEFAULT_HEDGE_READS}.
+         *
+         * @return {@code this}
+         */
+        public Builder hedgeReads() {
+            return hedgeReads(true);
+        }
+
+        /**
+         * Configure whether read-only commands should be hedged. Disabled by default, see {@link #DEFAULT_HEDGE_READS}.
+         *
+         * @param hedgeReads {@code true} to hedge reads.
+         * @return {@code this}
+         */
+        public Builder hedgeReads(boolean hedgeReads) {
+
+            this.hedgeReads = hedgeReads;
+            return this;
+        }
+
+        /**
+         * Set the time after which an incomplete read is sent to a second node. Used as fixed delay unless a
+         * {@link #delayPercentile(double) delay percentile} is configured. Defaults to {@literal 10 ms}, see
+         * {@link #DEFAULT_DELAY}.
+         *
+         * @param delay the hedge delay, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder delay(Duration delay) {
+
+            LettuceAssert.notNull(delay, "Delay must not be null");
+            LettuceAssert.isTrue(!delay.isNegative(), "Delay must not be negative");
+
+            this.delay = delay;
+            return this;
+        }
+
+        /**
+         * Derive the hedge delay from the latency of recent reads at the given percentile, e.g. {@code 95} to hedge reads that
+         * take longer than 95% of the recent reads. The {@link #delay(Duration) fixed delay} is used until enough reads have
+         * completed. Set to {@code 0} to use the fixed delay. Defaults to {@code 0}, see {@link #DEFAULT_DELAY_PERCENTILE}.
+         *
+         * @param delayPercentile the percentile between {@code 0} (exclusive) and {@code 100} (exclusive), or {@code 0} to use
+         *        the fixed delay.
+         * @return {@code this}
+         */
+        public Builder delayPercentile(double delayPercentile) {
+
+            LettuceAssert.isTrue(delayPercentile >= 0 && delayPercentile < 100,
+                    "Delay percentile must be between 0 (inclusive) and 100 (exclusive)");
+
+            this.delayPercentile = delayPercentile;
+            return this;
+        }
+
+        /**
+         * Set the hedge budget as ratio of hedged reads to reads, e.g. {@code 0.05} to send at most 5% additional reads. Reads
+         * are not hedged once the budget is exhausted. Defaults to {@code 0.05}, see {@link #DEFAULT_BUDGET}.
+         *
+         * @param budget the hedge budget, must be greater zero and not greater than {@code 1}.
+         * @return {@code this}
+         */
+        public Builder budget(double budget) {
+
+            LettuceAssert.isTrue(budget > 0 && budget <= 1, "Budget must be greater zero and not greater than 1");
+
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link HedgedReadOptions}.
+         *
+         * @return new instance of {@link HedgedReadOptions}
+         */
+        public HedgedReadOptions build() {
+            return new HedgedReadOptions(this);
+        }
+
+    }
+
+    /**
+     * @return {@code true} if read-only commands should be hedged.
+     */
+    public boolean isHedgeReads() {
+        return hedgeReads;
+    }
+
+    /**
+     * @return the time after which an incomplete read is sent to a second node.
+     */
+    public Duration getDelay() {
+        return delay;
+    }
+
+    /**
+     * @return the percentile of recent read latencies used as hedge delay, {@code 0} to use the fixed {@link #getDelay()
+     *         delay}.
+     */
+    public double getDelayPercentile() {
+        return delayPercentile;
+    }
+
+    /**
+     * @return the ratio of hedged reads to reads.
+     */
+    public double getBudget() {
+        return budget;
+    }
+
+}
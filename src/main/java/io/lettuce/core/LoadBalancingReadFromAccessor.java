@@ -0,0 +1,72 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.List;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.protocol.CommandLoad;
+
+/**
+ * Accessor for load-balancing {@link ReadFrom} settings. Internal utility class.
+ *
+ * @since 6.7
+ */
+public abstract class LoadBalancingReadFromAccessor {
+
+    /**
+     * Returns whether this {@link ReadFrom} chooses the node for each read using live load signals.
+     *
+     * @param readFrom the read from setting.
+     * @return {@code true} if {@link #choose(ReadFrom, List)} should be used to choose the connection for a read.
+     */
+    public static boolean isLoadBalancing(ReadFrom readFrom) {
+        return readFrom instanceof ReadFromImpl.LoadBalancingReadFrom;
+    }
+
+    /**
+     * Choose the connection for a read using the live {@link CommandLoad load signals} of the connections. Load tracking is
+     * {@link CommandLoad#enable() enabled} on the connections once they are considered for a read.
+     *
+     * @param readFrom the {@link #isLoadBalancing(ReadFrom) load-balancing} read from setting.
+     * @param connections open connections to the candidate nodes, must not be empty.
+     * @return the chosen connection.
+     */
+    public static <T extends StatefulConnection<?, ?>> T choose(ReadFrom readFrom, List<T> connections) {
+        return ((ReadFromImpl.LoadBalancingReadFrom) readFrom).choose(connections, LoadBalancingReadFromAccessor::getLoad);
+    }
+
+    private static CommandLoad getLoad(StatefulConnection<?, ?> connection) {
+
+        if (connection instanceof RedisChannelHandler) {
+
+            CommandLoad load = CommandLoad.from(((RedisChannelHandler<?, ?>) connection).getChannelWriter());
+
+            if (load != null) {
+                load.enable();
+            }
+
+            return load;
+        }
+
+        return null;
+    }
+
+}
@@ -126,6 +126,51 @@ public abstract class ReadFrom {
      */
     public static final ReadFrom ANY_REPLICA = new ReadFromImpl.ReadFromAnyReplica();
 
+    /**
+     * Setting to read from any node choosing the node with the least in-flight commands for each read. In-flight commands are
+     * tracked live per connection. The node is chosen by comparing two random nodes (power-of-two-choices).
+     *
+     * @since 6.7
+     * @see #leastOutstandingRequests(ReadFrom)
+     */
+    public static final ReadFrom LEAST_OUTSTANDING_REQUESTS = leastOutstandingRequests(ANY);
+
+    /**
+     * Setting to read from any node choosing the node with the lowest command latency for each read. Latency is tracked live
+     * per connection as exponentially weighted moving average and weighted by the number of in-flight commands so that reads
+     * steer away from nodes that are busy or stuck on a slow command. The node is chosen by comparing two random nodes
+     * (power-of-two-choices).
+     *
+     * @since 6.7
+     * @see #lowestEwmaLatency(ReadFrom)
+     */
+    public static final ReadFrom LOWEST_EWMA_LATENCY = lowestEwmaLatency(ANY);
+
+    /**
+     * Read from the nodes selected by {@code candidates} choosing the node with the least in-flight commands for each read.
+     *
+     * @param candidates the {@link ReadFrom} setting selecting the candidate nodes, e.g. {@link #ANY_REPLICA}. Must not be
+     *        {@code null}.
+     * @return an instance of {@link ReadFromImpl.ReadFromLeastOutstandingRequests}.
+     * @since 6.7
+     */
+    public static ReadFrom leastOutstandingRequests(ReadFrom candidates) {
+        return new ReadFromImpl.ReadFromLeastOutstandingRequests(candidates);
+    }
+
+    /**
+     * Read from the nodes selected by {@code candidates} choosing the node with the lowest moving average of command latency
+     * weighted by its in-flight commands for each read.
+     *
+     * @param candidates the {@link ReadFrom} setting selecting the candidate nodes, e.g. {@link #ANY_REPLICA}. Must not be
+     *        {@code null}.
+     * @return an instance of {@link ReadFromImpl.ReadFromLowestEwmaLatency}.
+     * @since 6.7
+     */
+    public static ReadFrom lowestEwmaLatency(ReadFrom candidates) {
+        return new ReadFromImpl.ReadFromLowestEwmaLatency(candidates);
+    }
+
     /**
      * Setting to read from any node in the subnets.
      *
@@ -250,6 +295,14 @@ public abstract class ReadFrom {
             return ANY_REPLICA;
         }
 
+        if (name.equalsIgnoreCase("leastOutstandingRequests")) {
+            return LEAST_OUTSTANDING_REQUESTS;
+        }
+
+        if (name.equalsIgnoreCase("lowestEwmaLatency")) {
+            return LOWEST_EWMA_LATENCY;
+        }
+
         throw new IllegalArgumentException("ReadFrom " + name + " not supported");
     }
 
@@ -23,6 +23,8 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -30,6 +32,7 @@ import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceLists;
 import io.lettuce.core.internal.LettuceStrings;
 import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.CommandLoad;
 import io.netty.util.NetUtil;
 
 /**
@@ -436,4 +439,103 @@ class ReadFromImpl {
 
     }
 
+    /**
+     * Base class for {@link ReadFrom} settings that choose the node for each read using live {@link CommandLoad} signals of the
+     * node connections. Candidate nodes are selected through a {@link ReadFrom} delegate. The node for a read is chosen using
+     * power-of-two-choices: Two random candidates are compared and the one with the lower load is used. Comparing two random
+     * candidates instead of picking the least loaded one avoids that multiple clients flock to the same node.
+     *
+     * @since 6.7
+     */
+    abstract static class LoadBalancingReadFrom extends ReadFrom {
+
+        private final ReadFrom candidates;
+
+        LoadBalancingReadFrom(ReadFrom candidates) {
+
+            LettuceAssert.notNull(candidates, "Candidates ReadFrom must not be null");
+
+            this.candidates = candidates;
+        }
+
+        @Override
+        public List<RedisNodeDescription> select(Nodes nodes) {
+            return candidates.select(nodes);
+        }
+
+        /**
+         * Choose a candidate for a read.
+         *
+         * @param candidates connected candidates, must not be empty.
+         * @param loadFunction function to obtain the {@link CommandLoad} of a candidate, can return {@code null} if the
+         *        candidate does not report load signals.
+         * @return the chosen candidate.
+         */
+        <T> T choose(List<T> candidates, Function<? super T, CommandLoad> loadFunction) {
+
+            int size = candidates.size();
+
+            if (size == 1) {
+                return candidates.get(0);
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+
+            long nanoTime = System.nanoTime();
+            T firstCandidate = candidates.get(first);
+            T secondCandidate = candidates.get(second);
+
+            return getLoad(loadFunction.apply(firstCandidate), nanoTime) <= getLoad(loadFunction.apply(secondCandidate),
+                    nanoTime) ? firstCandidate : secondCandidate;
+        }
+
+        private long getLoad(CommandLoad load, long nanoTime) {
+            return load != null ? getLoad0(load, nanoTime) : 0;
+        }
+
+        abstract long getLoad0(CommandLoad load, long nanoTime);
+
+    }
+
+    /**
+     * Read from the candidate with the least in-flight commands.
+     *
+     * @since 6.7
+     */
+    static final class ReadFromLeastOutstandingRequests extends LoadBalancingReadFrom {
+
+        ReadFromLeastOutstandingRequests(ReadFrom candidates) {
+            super(candidates);
+        }
+
+        @Override
+        long getLoad0(CommandLoad load, long nanoTime) {
+            return load.getInFlight();
+        }
+
+    }
+
+    /**
+     * Read from the candidate with the lowest moving average of command latency weighted by its in-flight commands.
+     *
+     * @since 6.7
+     */
+    static final class ReadFromLowestEwmaLatency extends LoadBalancingReadFrom {
+
+        ReadFromLowestEwmaLatency(ReadFrom candidates) {
+            super(candidates);
+        }
+
+        @Override
+        long getLoad0(CommandLoad load, long nanoTime) {
+            return load.getLatency(nanoTime) * (load.getInFlight() + 1);
+        }
+
+    }
+
 }
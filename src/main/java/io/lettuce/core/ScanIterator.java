@@ -4,6 +4,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -11,6 +12,10 @@ import io.lettuce.core.api.sync.RedisHashCommands;
 import io.lettuce.core.api.sync.RedisKeyCommands;
 import io.lettuce.core.api.sync.RedisSetCommands;
 import io.lettuce.core.api.sync.RedisSortedSetCommands;
+import io.lettuce.core.cluster.ParallelClusterScan;
+import io.lettuce.core.cluster.ParallelScanCursor;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
 import io.lettuce.core.internal.LettuceAssert;
 
 /**
@@ -90,6 +95,70 @@ public abstract class ScanIterator<T> implements Iterator<T> {
         };
     }
 
+    /**
+     * Iterate over keys in the keyspace of a Redis Cluster scanning up to {@code parallelism} nodes concurrently. This method
+     * uses {@code SCAN} with one cursor per node. Each iteration step scans the next page of up to {@code parallelism} nodes
+     * concurrently and merges their keys without a particular order.
+     *
+     * @param commands the cluster commands interface, must not be {@code null}.
+     * @param parallelism the maximum number of nodes to scan concurrently. Must be greater than {@code 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @since 6.7
+     * @see ParallelClusterScan
+     */
+    public static <K, V> ScanIterator<K> scanParallel(RedisAdvancedClusterCommands<K, V> commands, int parallelism) {
+        return scanParallel(commands, Optional.empty(), parallelism);
+    }
+
+    /**
+     * Iterate over keys in the keyspace of a Redis Cluster scanning up to {@code parallelism} nodes concurrently. This method
+     * uses {@code SCAN} with one cursor per node. Each iteration step scans the next page of up to {@code parallelism} nodes
+     * concurrently and merges their keys without a particular order.
+     *
+     * @param commands the cluster commands interface, must not be {@code null}.
+     * @param scanArgs the scan arguments, must not be {@code null}.
+     * @param parallelism the maximum number of nodes to scan concurrently. Must be greater than {@code 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @since 6.7
+     * @see ParallelClusterScan
+     */
+    public static <K, V> ScanIterator<K> scanParallel(RedisAdvancedClusterCommands<K, V> commands, ScanArgs scanArgs,
+            int parallelism) {
+
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+
+        return scanParallel(commands, Optional.of(scanArgs), parallelism);
+    }
+
+    private static <K, V> ScanIterator<K> scanParallel(RedisAdvancedClusterCommands<K, V> commands, Optional<ScanArgs> scanArgs,
+            int parallelism) {
+
+        LettuceAssert.notNull(commands, "RedisAdvancedClusterCommands must not be null");
+        LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater than 0");
+
+        StatefulRedisClusterConnection<K, V> connection = commands.getStatefulConnection();
+
+        return new SyncScanIterator<K>() {
+
+            @Override
+            protected ScanCursor nextScanCursor(ScanCursor scanCursor) {
+
+                RedisFuture<ParallelScanCursor<K>> future = ParallelClusterScan.scan(connection.async(),
+                        scanCursor == null ? ScanCursor.INITIAL : scanCursor, scanArgs.orElse(null), parallelism);
+
+                ParallelScanCursor<K> cursor = LettuceFutures.awaitOrCancel(future, connection.getTimeout().toNanos(),
+                        TimeUnit.NANOSECONDS);
+                chunk = cursor.getKeys().iterator();
+                return cursor;
+            }
+
+        };
+    }
+
     /**
      * Sequentially iterate over entries in a hash identified by {@code key}. This method uses {@code HSCAN} to perform an
      * iterative scan.
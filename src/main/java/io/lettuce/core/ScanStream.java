@@ -30,6 +30,8 @@ import io.lettuce.core.api.reactive.RedisHashReactiveCommands;
 import io.lettuce.core.api.reactive.RedisKeyReactiveCommands;
 import io.lettuce.core.api.reactive.RedisSetReactiveCommands;
 import io.lettuce.core.api.reactive.RedisSortedSetReactiveCommands;
+import io.lettuce.core.cluster.ParallelClusterScan;
+import io.lettuce.core.cluster.api.reactive.RedisAdvancedClusterReactiveCommands;
 import io.lettuce.core.internal.LettuceAssert;
 
 /**
@@ -91,6 +93,45 @@ public abstract class ScanStream {
                 .flatMapIterable(KeyScanCursor::getKeys);
     }
 
+    /**
+     * Iterate over keys in the keyspace of a Redis Cluster scanning up to {@code parallelism} nodes concurrently. This method
+     * uses {@code SCAN} with one cursor per node and merges keys of all nodes into a single stream without a particular order.
+     * Scan pages are requested only on demand.
+     *
+     * @param commands the cluster commands interface, must not be {@code null}.
+     * @param parallelism the maximum number of nodes to scan concurrently. Must be greater than {@code 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.7
+     * @see ParallelClusterScan
+     */
+    public static <K, V> Flux<K> scanParallel(RedisAdvancedClusterReactiveCommands<K, V> commands, int parallelism) {
+        return ParallelClusterScan.scan(commands, null, parallelism);
+    }
+
+    /**
+     * Iterate over keys in the keyspace of a Redis Cluster scanning up to {@code parallelism} nodes concurrently. This method
+     * uses {@code SCAN} with one cursor per node and merges keys of all nodes into a single stream without a particular order.
+     * Scan pages are requested only on demand.
+     *
+     * @param commands the cluster commands interface, must not be {@code null}.
+     * @param scanArgs the scan arguments, must not be {@code null}.
+     * @param parallelism the maximum number of nodes to scan concurrently. Must be greater than {@code 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.7
+     * @see ParallelClusterScan
+     */
+    public static <K, V> Flux<K> scanParallel(RedisAdvancedClusterReactiveCommands<K, V> commands, ScanArgs scanArgs,
+            int parallelism) {
+
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+
+        return ParallelClusterScan.scan(commands, scanArgs, parallelism);
+    }
+
     /**
      * Sequentially iterate over entries in a hash identified by {@code key}. This method uses {@code HSCAN} to perform an
      * iterative scan.
@@ -265,6 +265,22 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
             });
         }
 
+        if (commandType.equals(CLIENT.name()) && command.getArgs() != null) {
+
+            List<ProtocolKeyword> keywords = CommandArgsAccessor.getProtocolKeywords(command.getArgs());
+
+            if (!keywords.isEmpty() && keywords.get(0) == CommandKeyword.TRACKING) {
+                local = attachOnComplete(local, status -> {
+                    if ("OK".equals(status)) {
+                        // REDIRECT refers to a connection id that does not survive a reconnect
+                        boolean restorable = keywords.contains(CommandKeyword.ON)
+                                && !CommandArgsAccessor.getStringArguments(command.getArgs()).contains("REDIRECT");
+                        state.setClientTracking(restorable ? command.getArgs() : null);
+                    }
+                });
+            }
+        }
+
         if (commandType.equals(READWRITE.name())) {
             local = attachOnComplete(local, status -> {
                 if ("OK".equals(status)) {
@@ -26,16 +26,22 @@ public class TimeoutOptions implements Serializable {
 
     public static final boolean DEFAULT_TIMEOUT_COMMANDS = false;
 
+    public static final boolean DEFAULT_DEADLINE_QUEUE = false;
+
     private final boolean timeoutCommands;
 
     private final boolean applyConnectionTimeout;
 
+    private final boolean deadlineQueue;
+
     private final TimeoutSource source;
 
-    private TimeoutOptions(boolean timeoutCommands, boolean applyConnectionTimeout, TimeoutSource source) {
+    private TimeoutOptions(boolean timeoutCommands, boolean applyConnectionTimeout, boolean deadlineQueue,
+            TimeoutSource source) {
 
         this.timeoutCommands = timeoutCommands;
         this.applyConnectionTimeout = applyConnectionTimeout;
+        this.deadlineQueue = deadlineQueue;
         this.source = source;
     }
 
@@ -84,6 +90,8 @@ public class TimeoutOptions implements Serializable {
 
         private boolean applyConnectionTimeout = false;
 
+        private boolean deadlineQueue = DEFAULT_DEADLINE_QUEUE;
+
         private TimeoutSource source;
 
         /**
@@ -145,6 +153,26 @@ public class TimeoutOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Configure whether commands are expired through a per-connection deadline queue instead of scheduling a timer task for
+         * each command. The deadline queue keeps commands in write order along with their deadline and a single sweep expires
+         * commands from the head of the queue. This reduces allocations and timer contention for high command rates as Redis
+         * replies arrive in the order in which commands were written. Commands whose timeout would expire before previously
+         * written commands (e.g. when using a {@link TimeoutSource} with varying timeouts) fall back to a timer task. Completed
+         * commands queued behind a pending command remain referenced until that command completes or expires, at most for about
+         * 100 milliseconds after the last write. Disabled by default, see {@link #DEFAULT_DEADLINE_QUEUE}.
+         *
+         * @param deadlineQueue {@code true} to expire commands through a deadline queue; {@code false} to schedule a timer task
+         *        per command.
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder deadlineQueue(boolean deadlineQueue) {
+
+            this.deadlineQueue = deadlineQueue;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link TimeoutOptions}.
          *
@@ -158,7 +186,7 @@ public class TimeoutOptions implements Serializable {
                 }
             }
 
-            return new TimeoutOptions(timeoutCommands, applyConnectionTimeout, source);
+            return new TimeoutOptions(timeoutCommands, applyConnectionTimeout, deadlineQueue, source);
         }
 
     }
@@ -177,6 +205,14 @@ public class TimeoutOptions implements Serializable {
         return applyConnectionTimeout;
     }
 
+    /**
+     * @return {@code true} to expire commands through a per-connection deadline queue.
+     * @since 6.7
+     */
+    public boolean isDeadlineQueue() {
+        return deadlineQueue;
+    }
+
     /**
      * @return the timeout source to determine the timeout for a {@link RedisCommand}. Can be {@code null} if
      *         {@link #isTimeoutCommands()} is {@code false}.
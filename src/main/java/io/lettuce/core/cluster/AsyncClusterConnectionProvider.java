@@ -23,6 +23,8 @@ import java.io.Closeable;
 import java.util.concurrent.CompletableFuture;
 
 import io.lettuce.core.RedisException;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.protocol.ConnectionIntent;
 
@@ -73,6 +75,59 @@ interface AsyncClusterConnectionProvider extends Closeable {
     <K, V> CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(ConnectionIntent connectionIntent,
             String nodeId);
 
+    /**
+     * Route {@code slot} to the node identified by {@code host} and {@code port} until the next topology update. Subsequent
+     * connection requests for the slot are served by the redirect target so that a {@literal MOVED} redirection applies to
+     * subsequent commands without waiting for a topology refresh. Redirects to nodes that are not part of the cluster are
+     * ignored.
+     *
+     * @param slot the slot-hash, see {@link SlotHash}.
+     * @param host host of the node.
+     * @param port port of the node.
+     * @since 6.7
+     */
+    default void redirectSlot(int slot, String host, int port) {
+    }
+
+    /**
+     * Return an open connection to a node other than {@code exclude} that serves reads for {@code slot} according to the
+     * configured {@link io.lettuce.core.ReadFrom} setting. Only connections that are already established are considered.
+     *
+     * @param slot the slot-hash, see {@link SlotHash}.
+     * @param exclude the connection to exclude.
+     * @return an alternate connection or {@code null} if no other node is available.
+     * @since 6.7
+     */
+    default StatefulRedisConnection<?, ?> getAlternateReadConnection(int slot, StatefulConnection<?, ?> exclude) {
+        return null;
+    }
+
+    /**
+     * Connect to the cluster nodes ahead of their first use and populate the slot routing. Connections to upstream nodes (and
+     * optionally replicas) are established concurrently with at most {@link ClusterWarmUpOptions#getParallelism()} connection
+     * attempts in flight.
+     *
+     * @param warmUpOptions the warm-up options.
+     * @return a future that completes once all slots are routed to a connection. The future completes exceptionally if a node
+     *         connection cannot be established.
+     * @since 6.7
+     */
+    default CompletableFuture<Void> warmUp(ClusterWarmUpOptions warmUpOptions) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Apply {@code CLIENT TRACKING} to all node connections. The setting is applied to open node connections and retained for
+     * node connections that are established later on.
+     *
+     * @param trackingArgs the tracking arguments.
+     * @return a future that completes once tracking was applied to all open node connections.
+     * @since 6.7
+     */
+    default CompletableFuture<Void> setClientTracking(TrackingArgs trackingArgs) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Close the connections and free all resources.
      */
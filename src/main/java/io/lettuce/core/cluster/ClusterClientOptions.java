@@ -24,6 +24,8 @@ import java.time.Duration;
 import java.util.function.Predicate;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.FlushConsolidationOptions;
+import io.lettuce.core.HedgedReadOptions;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.SslOptions;
 import io.lettuce.core.TimeoutOptions;
@@ -57,6 +59,8 @@ public class ClusterClientOptions extends ClientOptions {
 
     public static final Predicate<RedisClusterNode> DEFAULT_NODE_FILTER = node -> true;
 
+    public static final ClusterWarmUpOptions DEFAULT_WARM_UP_OPTIONS = ClusterWarmUpOptions.create();
+
     private final int maxRedirects;
 
     private final ClusterTopologyRefreshOptions topologyRefreshOptions;
@@ -65,6 +69,8 @@ public class ClusterClientOptions extends ClientOptions {
 
     private final Predicate<RedisClusterNode> nodeFilter;
 
+    private final ClusterWarmUpOptions warmUpOptions;
+
     protected ClusterClientOptions(Builder builder) {
 
         super(builder);
@@ -83,6 +89,7 @@ public class ClusterClientOptions extends ClientOptions {
         this.maxRedirects = builder.maxRedirects;
         this.validateClusterNodeMembership = builder.validateClusterNodeMembership;
         this.nodeFilter = builder.nodeFilter;
+        this.warmUpOptions = builder.warmUpOptions;
     }
 
     protected ClusterClientOptions(ClusterClientOptions original) {
@@ -93,6 +100,7 @@ public class ClusterClientOptions extends ClientOptions {
         this.topologyRefreshOptions = original.topologyRefreshOptions;
         this.validateClusterNodeMembership = original.validateClusterNodeMembership;
         this.nodeFilter = original.nodeFilter;
+        this.warmUpOptions = original.warmUpOptions;
     }
 
     /**
@@ -134,6 +142,11 @@ public class ClusterClientOptions extends ClientOptions {
                 .cancelCommandsOnReconnectFailure(clientOptions.isCancelCommandsOnReconnectFailure())
                 .decodeBufferPolicy(clientOptions.getDecodeBufferPolicy())
                 .disconnectedBehavior(clientOptions.getDisconnectedBehavior())
+                .lockFreeSubmission(clientOptions.isLockFreeSubmission())
+                .lockFreeSubmissionBatchSize(clientOptions.getLockFreeSubmissionBatchSize())
+                .flushConsolidationOptions(clientOptions.getFlushConsolidationOptions())
+                .gatheringWriteThreshold(clientOptions.getGatheringWriteThreshold())
+                .hedgedReadOptions(clientOptions.getHedgedReadOptions())
                 .reauthenticateBehavior(clientOptions.getReauthenticateBehaviour())
                 .pingBeforeActivateConnection(clientOptions.isPingBeforeActivateConnection())
                 .publishOnScheduler(clientOptions.isPublishOnScheduler())
@@ -170,6 +183,8 @@ public class ClusterClientOptions extends ClientOptions {
 
         private ClusterTopologyRefreshOptions topologyRefreshOptions = null;
 
+        private ClusterWarmUpOptions warmUpOptions = DEFAULT_WARM_UP_OPTIONS;
+
         protected Builder() {
             readOnlyCommands(DEFAULT_READ_ONLY_COMMANDS);
         }
@@ -219,6 +234,36 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder lockFreeSubmission(boolean lockFreeSubmission) {
+            super.lockFreeSubmission(lockFreeSubmission);
+            return this;
+        }
+
+        @Override
+        public Builder lockFreeSubmissionBatchSize(int lockFreeSubmissionBatchSize) {
+            super.lockFreeSubmissionBatchSize(lockFreeSubmissionBatchSize);
+            return this;
+        }
+
+        @Override
+        public Builder flushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+            super.flushConsolidationOptions(flushConsolidationOptions);
+            return this;
+        }
+
+        @Override
+        public Builder hedgedReadOptions(HedgedReadOptions hedgedReadOptions) {
+            super.hedgedReadOptions(hedgedReadOptions);
+            return this;
+        }
+
+        @Override
+        public Builder gatheringWriteThreshold(int gatheringWriteThreshold) {
+            super.gatheringWriteThreshold(gatheringWriteThreshold);
+            return this;
+        }
+
         @Override
         public Builder reauthenticateBehavior(ReauthenticateBehavior reauthenticateBehavior) {
             super.reauthenticateBehavior(reauthenticateBehavior);
@@ -309,6 +354,20 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        /**
+         * Sets the {@link ClusterWarmUpOptions} to warm up node connections. See {@link #DEFAULT_WARM_UP_OPTIONS}.
+         *
+         * @param warmUpOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder warmUpOptions(ClusterWarmUpOptions warmUpOptions) {
+
+            LettuceAssert.notNull(warmUpOptions, "ClusterWarmUpOptions must not be null");
+            this.warmUpOptions = warmUpOptions;
+            return this;
+        }
+
         /**
          * Validate the cluster node membership before allowing connections to a cluster node. Defaults to {@code true}. See
          * {@link ClusterClientOptions#DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP}.
@@ -362,13 +421,17 @@ public class ClusterClientOptions extends ClientOptions {
 
         builder.autoReconnect(isAutoReconnect()).cancelCommandsOnReconnectFailure(isCancelCommandsOnReconnectFailure())
                 .decodeBufferPolicy(getDecodeBufferPolicy()).disconnectedBehavior(getDisconnectedBehavior())
-                .reauthenticateBehavior(getReauthenticateBehaviour()).maxRedirects(getMaxRedirects())
-                .publishOnScheduler(isPublishOnScheduler()).pingBeforeActivateConnection(isPingBeforeActivateConnection())
-                .protocolVersion(getConfiguredProtocolVersion()).readOnlyCommands(getReadOnlyCommands())
-                .requestQueueSize(getRequestQueueSize()).scriptCharset(getScriptCharset()).socketOptions(getSocketOptions())
-                .sslOptions(getSslOptions()).suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure())
-                .timeoutOptions(getTimeoutOptions()).topologyRefreshOptions(getTopologyRefreshOptions())
-                .validateClusterNodeMembership(isValidateClusterNodeMembership()).nodeFilter(getNodeFilter());
+                .lockFreeSubmission(isLockFreeSubmission()).lockFreeSubmissionBatchSize(getLockFreeSubmissionBatchSize())
+                .flushConsolidationOptions(getFlushConsolidationOptions()).gatheringWriteThreshold(getGatheringWriteThreshold())
+                .hedgedReadOptions(getHedgedReadOptions()).reauthenticateBehavior(getReauthenticateBehaviour())
+                .maxRedirects(getMaxRedirects()).publishOnScheduler(isPublishOnScheduler())
+                .pingBeforeActivateConnection(isPingBeforeActivateConnection()).protocolVersion(getConfiguredProtocolVersion())
+                .readOnlyCommands(getReadOnlyCommands()).requestQueueSize(getRequestQueueSize())
+                .scriptCharset(getScriptCharset()).socketOptions(getSocketOptions()).sslOptions(getSslOptions())
+                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
+                .topologyRefreshOptions(getTopologyRefreshOptions())
+                .validateClusterNodeMembership(isValidateClusterNodeMembership()).nodeFilter(getNodeFilter())
+                .warmUpOptions(getWarmUpOptions());
 
         return builder;
     }
@@ -445,4 +508,14 @@ public class ClusterClientOptions extends ClientOptions {
         return nodeFilter;
     }
 
+    /**
+     * The {@link ClusterWarmUpOptions} to warm up node connections.
+     *
+     * @return the {@link ClusterWarmUpOptions}.
+     * @since 6.7
+     */
+    public ClusterWarmUpOptions getWarmUpOptions() {
+        return warmUpOptions;
+    }
+
 }
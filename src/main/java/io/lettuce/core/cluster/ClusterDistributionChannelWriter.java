@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -57,6 +58,7 @@ import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.ConnectionFacade;
 import io.lettuce.core.protocol.ConnectionIntent;
 import io.lettuce.core.protocol.DefaultEndpoint;
+import io.lettuce.core.protocol.HedgedReads;
 import io.lettuce.core.protocol.ReadOnlyCommands;
 import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.resource.ClientResources;
@@ -80,6 +82,8 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
 
     private final int executionLimit;
 
+    private final HedgedReads hedgedReads;
+
     private ClusterConnectionProvider clusterConnectionProvider;
 
     private AsyncClusterConnectionProvider asyncClusterConnectionProvider;
@@ -101,6 +105,8 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         this.clientOptions = clientOptions;
         this.readOnlyCommands = clientOptions.getReadOnlyCommands();
         this.clusterEventListener = clusterEventListener;
+        this.hedgedReads = new HedgedReads(clientOptions.getHedgedReadOptions(),
+                defaultWriter != null ? defaultWriter.getClientResources() : null);
     }
 
     @Override
@@ -138,6 +144,7 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
                 if (clusterCommand.isMoved()) {
 
                     target = getMoveTarget(partitions, clusterCommand.getError());
+                    redirectSlot(clusterCommand.getError(), target);
                     clusterEventListener.onMovedRedirection();
                     asking = false;
 
@@ -182,10 +189,11 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
                         .getConnectionAsync(connectionIntent, hash);
 
                 if (isSuccessfullyCompleted(connectFuture)) {
-                    writeCommand(commandToSend, false, connectFuture.join(), null);
+                    StatefulRedisConnection<K, V> connection = connectFuture.join();
+                    writeCommand(hedge(commandToSend, connectionIntent, hash, connection), false, connection, null);
                 } else {
-                    connectFuture
-                            .whenComplete((connection, throwable) -> writeCommand(commandToSend, false, connection, throwable));
+                    connectFuture.whenComplete((connection, throwable) -> writeCommand(
+                            hedge(commandToSend, connectionIntent, hash, connection), false, connection, throwable));
                 }
 
                 return commandToSend;
@@ -197,6 +205,32 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         return commandToSend;
     }
 
+    /**
+     * Prepare a read for {@link HedgedReads hedging} to another node that serves reads for the same slot.
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V, T> RedisCommand<K, V, T> hedge(RedisCommand<K, V, T> command, ConnectionIntent connectionIntent, int slot,
+            StatefulRedisConnection<K, V> connection) {
+
+        if (connectionIntent != ConnectionIntent.READ || connection == null || !hedgedReads.isHedgeable(command)) {
+            return command;
+        }
+
+        // the alternate node is resolved once the hedge delay has elapsed
+        return hedgedReads.hedge(command, hedge -> {
+
+            StatefulRedisConnection<K, V> alternate = (StatefulRedisConnection<K, V>) asyncClusterConnectionProvider
+                    .getAlternateReadConnection(slot, connection);
+
+            if (alternate == null) {
+                return false;
+            }
+
+            writeCommand(hedge, false, alternate, null);
+            return true;
+        });
+    }
+
     private void publish(Event event) {
 
         ClientResources clientResources = getClientResources();
@@ -315,29 +349,61 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
             commandPartition.add(new ClusterCommand<>(cmd, this, executionLimit));
         }
 
+        // commands for slots served by the same node are written as a single batch
+        Map<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> nodeBatches = new LinkedHashMap<>();
+
         for (Map.Entry<SlotIntent, List<ClusterCommand<K, V, ?>>> entry : partitions.entrySet()) {
 
             SlotIntent slotIntent = entry.getKey();
-            RedisChannelHandler<K, V> connection = (RedisChannelHandler<K, V>) clusterConnectionProvider
-                    .getConnection(slotIntent.connectionIntent, slotIntent.slotHash);
+            List<ClusterCommand<K, V, ?>> commandPartition = entry.getValue();
+            CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = asyncClusterConnectionProvider
+                    .getConnectionAsync(slotIntent.connectionIntent, slotIntent.slotHash);
 
-            RedisChannelWriter channelWriter = connection.getChannelWriter();
-            if (channelWriter instanceof ClusterDistributionChannelWriter) {
-                ClusterDistributionChannelWriter writer = (ClusterDistributionChannelWriter) channelWriter;
-                channelWriter = writer.defaultWriter;
-            }
+            if (isSuccessfullyCompleted(connectFuture)) {
+
+                RedisChannelWriter channelWriter = getNodeWriter(connectFuture.join());
+
+                if (channelWriter != null) {
+                    nodeBatches.computeIfAbsent(channelWriter, it -> new ArrayList<>()).addAll(commandPartition);
+                }
+            } else {
+                connectFuture.whenComplete((connection, throwable) -> {
+
+                    if (throwable != null) {
+                        commandPartition.forEach(command -> command.completeExceptionally(throwable));
+                        return;
+                    }
+
+                    RedisChannelWriter channelWriter = getNodeWriter(connection);
 
-            if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
-                channelWriter.write(entry.getValue());
+                    if (channelWriter != null) {
+                        writeCommands((List) commandPartition, channelWriter);
+                    }
+                });
             }
         }
 
+        for (Map.Entry<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> entry : nodeBatches.entrySet()) {
+            writeCommands((List) entry.getValue(), entry.getKey());
+        }
+
         clusterCommands.forEach(this::write);
         defaultCommands.forEach(defaultWriter::write);
 
         return (Collection) commands;
     }
 
+    private RedisChannelWriter getNodeWriter(StatefulRedisConnection<?, ?> connection) {
+
+        RedisChannelWriter channelWriter = getWriterToUse(((RedisChannelHandler<?, ?>) connection).getChannelWriter());
+
+        if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
+            return channelWriter;
+        }
+
+        return null;
+    }
+
     /**
      * Optimization: Determine command intents and optimize for bulk execution preferring one node.
      * <p>
@@ -401,6 +467,31 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         return HostAndPort.parseCompat(redirectTarget);
     }
 
+    /**
+     * Route the slot of a {@literal MOVED} redirection to its new owner right away. The next topology refresh reconciles the
+     * routing with the actual cluster topology.
+     */
+    private void redirectSlot(String errorMessage, HostAndPort target) {
+
+        int slot = getMovedSlot(errorMessage);
+
+        if (slot != -1) {
+            asyncClusterConnectionProvider.redirectSlot(slot, target.getHostText(), target.getPort());
+        }
+    }
+
+    static int getMovedSlot(String errorMessage) {
+
+        String[] movedMessageParts = errorMessage.split(" ");
+
+        try {
+            int slot = Integer.parseInt(movedMessageParts[1]);
+            return slot >= 0 && slot < SlotHash.SLOT_COUNT ? slot : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     static HostAndPort getAskTarget(String errorMessage) {
 
         LettuceAssert.notEmpty(errorMessage, "ErrorMessage must not be empty");
@@ -131,7 +131,7 @@ class ClusterScanSupport {
      * @param connection
      * @return
      */
-    private static List<String> getNodeIds(StatefulRedisClusterConnection<?, ?> connection) {
+    static List<String> getNodeIds(StatefulRedisClusterConnection<?, ?> connection) {
         List<String> nodeIds = new ArrayList<>();
 
         PartitionAccessor partitionAccessor = new PartitionAccessor(connection.getPartitions());
@@ -60,6 +60,10 @@ public class ClusterTopologyRefreshOptions {
 
     public static final int DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS = 5;
 
+    public static final boolean DEFAULT_USE_CLUSTER_SHARDS = false;
+
+    public static final int DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE = 0;
+
     private final Set<RefreshTrigger> adaptiveRefreshTriggers;
 
     private final Duration adaptiveRefreshTimeout;
@@ -74,6 +78,10 @@ public class ClusterTopologyRefreshOptions {
 
     private final int refreshTriggersReconnectAttempts;
 
+    private final boolean useClusterShards;
+
+    private final int refreshSourcesSampleSize;
+
     protected ClusterTopologyRefreshOptions(Builder builder) {
 
         this.adaptiveRefreshTriggers = Collections.unmodifiableSet(new HashSet<>(builder.adaptiveRefreshTriggers));
@@ -83,6 +91,8 @@ public class ClusterTopologyRefreshOptions {
         this.periodicRefreshEnabled = builder.periodicRefreshEnabled;
         this.refreshPeriod = builder.refreshPeriod;
         this.refreshTriggersReconnectAttempts = builder.refreshTriggersReconnectAttempts;
+        this.useClusterShards = builder.useClusterShards;
+        this.refreshSourcesSampleSize = builder.refreshSourcesSampleSize;
     }
 
     protected ClusterTopologyRefreshOptions(ClusterTopologyRefreshOptions original) {
@@ -94,6 +104,8 @@ public class ClusterTopologyRefreshOptions {
         this.periodicRefreshEnabled = original.periodicRefreshEnabled;
         this.refreshPeriod = original.refreshPeriod;
         this.refreshTriggersReconnectAttempts = original.refreshTriggersReconnectAttempts;
+        this.useClusterShards = original.useClusterShards;
+        this.refreshSourcesSampleSize = original.refreshSourcesSampleSize;
     }
 
     /**
@@ -152,6 +164,10 @@ public class ClusterTopologyRefreshOptions {
 
         private int refreshTriggersReconnectAttempts = DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS;
 
+        private boolean useClusterShards = DEFAULT_USE_CLUSTER_SHARDS;
+
+        private int refreshSourcesSampleSize = DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE;
+
         private Builder() {
         }
 
@@ -354,6 +370,43 @@ public class ClusterTopologyRefreshOptions {
             return this;
         }
 
+        /**
+         * Use {@code CLUSTER SHARDS} instead of {@code CLUSTER NODES} to obtain the cluster topology. {@code CLUSTER SHARDS}
+         * returns a structured reply that does not require parsing the textual {@code CLUSTER NODES} format. This can be useful
+         * when using Redis Cluster with many nodes. Requires Redis 7.0 or newer. Defaults to {@code false}. See
+         * {@link #DEFAULT_USE_CLUSTER_SHARDS}.
+         *
+         * @param useClusterShards {@code true} to use {@code CLUSTER SHARDS} for obtaining the cluster topology
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder useClusterShards(boolean useClusterShards) {
+            this.useClusterShards = useClusterShards;
+            return this;
+        }
+
+        /**
+         * Query only a sample of {@code refreshSourcesSampleSize} nodes per topology refresh instead of all known nodes. Comes
+         * only into effect if {@link #dynamicRefreshSources(boolean) dynamic refresh sources} are enabled. Each refresh queries
+         * the next nodes of the known topology, starting at a random node, so that the load of topology refreshes of many
+         * clients spreads across the cluster and each node is queried over the course of multiple refreshes. If the sampled
+         * nodes report different topology views or a sampled node cannot be queried, the refresh falls back to query all known
+         * nodes. Using a sample keeps the cost of a topology refresh constant with a growing cluster size. Latency and client
+         * count statistics are only obtained for the sampled nodes. Defaults to {@code 0} (query all nodes). See
+         * {@link #DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE}.
+         *
+         * @param refreshSourcesSampleSize number of nodes to query per topology refresh, {@code 0} to query all nodes.
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder refreshSourcesSampleSize(int refreshSourcesSampleSize) {
+
+            LettuceAssert.isTrue(refreshSourcesSampleSize >= 0, "Refresh sources sample size must not be negative");
+
+            this.refreshSourcesSampleSize = refreshSourcesSampleSize;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterTopologyRefreshOptions}
          *
@@ -440,6 +493,28 @@ public class ClusterTopologyRefreshOptions {
         return refreshTriggersReconnectAttempts;
     }
 
+    /**
+     * Flag, whether to use {@code CLUSTER SHARDS} instead of {@code CLUSTER NODES} to obtain the cluster topology. Defaults to
+     * {@code false}. See {@link #DEFAULT_USE_CLUSTER_SHARDS}.
+     *
+     * @return {@code true} if the cluster topology is obtained using {@code CLUSTER SHARDS}
+     * @since 6.7
+     */
+    public boolean useClusterShards() {
+        return useClusterShards;
+    }
+
+    /**
+     * Number of nodes to query per topology refresh if {@link #useDynamicRefreshSources() dynamic refresh sources} are enabled.
+     * {@code 0} queries all known nodes. Defaults to {@code 0}. See {@link #DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE}.
+     *
+     * @return number of nodes to query per topology refresh, {@code 0} to query all nodes.
+     * @since 6.7
+     */
+    public int getRefreshSourcesSampleSize() {
+        return refreshSourcesSampleSize;
+    }
+
     /**
      * Available refresh triggers to signal early topology refreshing.
      */
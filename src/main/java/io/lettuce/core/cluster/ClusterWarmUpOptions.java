@@ -0,0 +1,207 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.io.Serializable;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to warm up the node connections of a {@link io.lettuce.core.cluster.api.StatefulRedisClusterConnection}. Cluster
+ * connections connect to nodes lazily on first use of a slot. A warm-up opens the connections to all nodes in parallel ahead of
+ * the first command so that the first commands do not pay for connection setup (TCP, TLS, authentication and the {@code HELLO}
+ * handshake).
+ *
+ * @since 6.7
+ * @see io.lettuce.core.cluster.api.StatefulRedisClusterConnection#warmUp(ClusterWarmUpOptions)
+ */
+@SuppressWarnings("serial")
+public class ClusterWarmUpOptions implements Serializable {
+
+    public static final boolean DEFAULT_WARM_UP_ON_CONNECT = false;
+
+    public static final boolean DEFAULT_REPLICAS = false;
+
+    public static final int DEFAULT_PARALLELISM = 16;
+
+    private final boolean warmUpOnConnect;
+
+    private final boolean replicas;
+
+    private final int parallelism;
+
+    private ClusterWarmUpOptions(Builder builder) {
+
+        this.warmUpOnConnect = builder.warmUpOnConnect;
+        this.replicas = builder.replicas;
+        this.parallelism = builder.parallelism;
+    }
+
+    /**
+     * Returns a new {@link ClusterWarmUpOptions.Builder} to construct {@link ClusterWarmUpOptions}.
+     *
+     * @return a new {@link ClusterWarmUpOptions.Builder} to construct {@link ClusterWarmUpOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link ClusterWarmUpOptions} with default settings (no warm-up on connect).
+     *
+     * @return a new instance of {@link ClusterWarmUpOptions} with default settings.
+     */
+    public static ClusterWarmUpOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link ClusterWarmUpOptions} that warms up upstream connections on connect.
+     *
+     * @return a new instance of {@link ClusterWarmUpOptions} with enabled warm-up on connect.
+     */
+    public static ClusterWarmUpOptions enabled() {
+        return builder().warmUpOnConnect().build();
+    }
+
+    /**
+     * Returns a builder to create new {@link ClusterWarmUpOptions} whose settings are replicated from the current
+     * {@link ClusterWarmUpOptions}.
+     *
+     * @return a {@link ClusterWarmUpOptions.Builder} to create new {@link ClusterWarmUpOptions} whose settings are replicated
+     *         from the current {@link ClusterWarmUpOptions}.
+     */
+    public Builder mutate() {
+
+        Builder builder = new Builder();
+        builder.warmUpOnConnect(isWarmUpOnConnect()).replicas(isReplicas()).parallelism(getParallelism());
+
+        return builder;
+    }
+
+    /**
+     * Builder for {@link ClusterWarmUpOptions}.
+     */
+    public static class Builder {
+
+        private boolean warmUpOnConnect = DEFAULT_WARM_UP_ON_CONNECT;
+
+        private boolean replicas = DEFAULT_REPLICAS;
+
+        private int parallelism = DEFAULT_PARALLELISM;
+
+        private Builder() {
+        }
+
+        /**
+         * Warm up node connections when connecting to the cluster. The connect future completes once the warm-up has finished.
+         * Failures to connect to individual nodes do not fail the connect. Disabled by default, see
+         * {@link #DEFAULT_WARM_UP_ON_CONNECT}.
+         *
+         * @return {@code this}
+         */
+        public Builder warmUpOnConnect() {
+            return warmUpOnConnect(true);
+        }
+
+        /**
+         * Configure whether to warm up node connections when connecting to the cluster. Disabled by default, see
+         * {@link #DEFAULT_WARM_UP_ON_CONNECT}.
+         *
+         * @param warmUpOnConnect {@code true} to warm up node connections on connect.
+         * @return {@code this}
+         */
+        public Builder warmUpOnConnect(boolean warmUpOnConnect) {
+
+            this.warmUpOnConnect = warmUpOnConnect;
+            return this;
+        }
+
+        /**
+         * Also open read connections to replicas. Disabled by default, see {@link #DEFAULT_REPLICAS}.
+         *
+         * @return {@code this}
+         */
+        public Builder replicas() {
+            return replicas(true);
+        }
+
+        /**
+         * Configure whether to open read connections to replicas. Read routing is populated for the
+         * {@link io.lettuce.core.ReadFrom} setting that is active when the warm-up completes. Disabled by default, see
+         * {@link #DEFAULT_REPLICAS}.
+         *
+         * @param replicas {@code true} to open read connections to replicas.
+         * @return {@code this}
+         */
+        public Builder replicas(boolean replicas) {
+
+            this.replicas = replicas;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of node connections that are established concurrently. Defaults to {@code 16}, see
+         * {@link #DEFAULT_PARALLELISM}.
+         *
+         * @param parallelism the maximum number of concurrent connection attempts. Must be greater than {@code 0}.
+         * @return {@code this}
+         */
+        public Builder parallelism(int parallelism) {
+
+            LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater than 0");
+
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link ClusterWarmUpOptions}.
+         *
+         * @return new instance of {@link ClusterWarmUpOptions}
+         */
+        public ClusterWarmUpOptions build() {
+            return new ClusterWarmUpOptions(this);
+        }
+
+    }
+
+    /**
+     * @return {@code true} if node connections are warmed up when connecting to the cluster.
+     */
+    public boolean isWarmUpOnConnect() {
+        return warmUpOnConnect;
+    }
+
+    /**
+     * @return {@code true} if read connections to replicas are opened as well.
+     */
+    public boolean isReplicas() {
+        return replicas;
+    }
+
+    /**
+     * @return the maximum number of node connections that are established concurrently.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+}
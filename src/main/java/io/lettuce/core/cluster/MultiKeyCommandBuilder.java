@@ -0,0 +1,108 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static io.lettuce.core.protocol.CommandType.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.json.JsonParser;
+import io.lettuce.core.json.JsonPath;
+import io.lettuce.core.json.JsonValue;
+import io.lettuce.core.output.BooleanOutput;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.output.JsonValueListOutput;
+import io.lettuce.core.output.KeyValueListOutput;
+import io.lettuce.core.output.KeyValueStreamingChannel;
+import io.lettuce.core.output.KeyValueStreamingOutput;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.BaseRedisCommandBuilder;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+
+/**
+ * Command builder for the per-slot sub-commands of cross-slot multi-key commands executed through {@link MultiKeyExecution}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ */
+class MultiKeyCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
+
+    private final Supplier<JsonParser> parser;
+
+    MultiKeyCommandBuilder(RedisCodec<K, V> codec, Supplier<JsonParser> parser) {
+        super(codec);
+        this.parser = parser;
+    }
+
+    Command<K, V, List<KeyValue<K, V>>> mget(List<K> keys) {
+        return createCommand(MGET, new KeyValueListOutput<>(codec, keys), new CommandArgs<>(codec).addKeys(keys));
+    }
+
+    Command<K, V, Long> mget(KeyValueStreamingChannel<K, V> channel, List<K> keys) {
+        return createCommand(MGET, new KeyValueStreamingOutput<>(codec, channel, keys), new CommandArgs<>(codec).addKeys(keys));
+    }
+
+    Command<K, V, String> mset(List<K> keys, Map<K, V> map) {
+        return createCommand(MSET, new StatusOutput<>(codec), keyValueArgs(keys, map));
+    }
+
+    Command<K, V, Boolean> msetnx(List<K> keys, Map<K, V> map) {
+        return createCommand(MSETNX, new BooleanOutput<>(codec), keyValueArgs(keys, map));
+    }
+
+    Command<K, V, Long> keyCount(CommandType type, List<K> keys) {
+        return createCommand(type, new IntegerOutput<>(codec), new CommandArgs<>(codec).addKeys(keys));
+    }
+
+    Command<K, V, List<JsonValue>> jsonMGet(JsonPath jsonPath, List<K> keys) {
+
+        LettuceAssert.isTrue(!keys.isEmpty(), "Keys " + MUST_NOT_BE_EMPTY);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKeys(keys);
+
+        if (jsonPath != null) {
+            args.add(jsonPath.toString());
+        }
+
+        return createCommand(JSON_MGET, new JsonValueListOutput<>(codec, parser.get()), args);
+    }
+
+    private CommandArgs<K, V> keyValueArgs(List<K> keys, Map<K, V> map) {
+
+        LettuceAssert.isTrue(!keys.isEmpty(), "Map " + MUST_NOT_BE_EMPTY);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+
+        for (K key : keys) {
+            args.addKey(key).addValue(map.get(key));
+        }
+
+        return args;
+    }
+
+}
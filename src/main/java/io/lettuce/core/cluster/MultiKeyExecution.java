@@ -0,0 +1,228 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.internal.LettuceLists;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Scatter-gather execution of multi-key commands on a Redis Cluster. Keys are partitioned by their slot and a sub-command is
+ * created for each slot through a command factory. All sub-commands are dispatched as a single batch so that sub-commands
+ * targeting the same node are written and flushed together. Results are reassembled by key position.
+ * <p>
+ * The command factory is not limited to built-in commands. Any command that accepts a list of keys with the same slot, such as
+ * {@code JSON.MGET}, or a command for a single key, such as {@code HGETALL}, can be executed across slots:
+ *
+ * <pre class="code">
+ * 
+ * MultiKeyExecution&lt;String, String&gt; execution = MultiKeyExecution.create(connection);
+ *
+ * RedisFuture&lt;List&lt;Map&lt;String, String&gt;&gt;&gt; hashes = execution.gatherPerKey(keys,
+ *         key -&gt; new Command&lt;&gt;(CommandType.HGETALL, new MapOutput&lt;&gt;(codec), new CommandArgs&lt;&gt;(codec).addKey(key)));
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ */
+public class MultiKeyExecution<K, V> {
+
+    private final StatefulRedisClusterConnection<K, V> connection;
+
+    private final RedisCodec<K, V> codec;
+
+    MultiKeyExecution(StatefulRedisClusterConnection<K, V> connection, RedisCodec<K, V> codec) {
+        this.connection = connection;
+        this.codec = codec;
+    }
+
+    /**
+     * Create a new {@link MultiKeyExecution} for the given {@link StatefulRedisClusterConnection}.
+     *
+     * @param connection the cluster connection, must not be {@code null}.
+     * @return the {@link MultiKeyExecution}.
+     */
+    public static <K, V> MultiKeyExecution<K, V> create(StatefulRedisClusterConnection<K, V> connection) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.isTrue(connection instanceof StatefulRedisClusterConnectionImpl,
+                "Connection must be a StatefulRedisClusterConnectionImpl");
+
+        return new MultiKeyExecution<>(connection, ((StatefulRedisClusterConnectionImpl<K, V>) connection).codec);
+    }
+
+    /**
+     * Execute a multi-key command that returns one element per key (such as {@code MGET}). The {@code commandFactory} is
+     * invoked with the keys of each slot and the resulting elements are reassembled in the order of {@code keys}.
+     *
+     * @param keys the keys.
+     * @param commandFactory factory to create a command for keys that map to the same slot.
+     * @param <T> element type.
+     * @return future completing with one element per key.
+     */
+    public <T> RedisFuture<List<T>> gather(Iterable<K> keys,
+            Function<List<K>, ? extends RedisCommand<K, V, List<T>>> commandFactory) {
+
+        LettuceAssert.notNull(keys, "Keys must not be null");
+        LettuceAssert.notNull(commandFactory, "Command factory must not be null");
+
+        List<K> keyList = LettuceLists.newList(keys);
+        SlotPartitioning<K> partitioning = SlotPartitioning.of(codec, keyList);
+
+        if (partitioning.getGroupCount() < 2) {
+            return dispatch(commandFactory.apply(keyList));
+        }
+
+        List<AsyncCommand<K, V, List<T>>> commands = dispatch(partitioning, commandFactory);
+
+        return new PipelinedRedisFuture<>(allOf(commands).thenApply(ignore -> {
+
+            List<T> result = new ArrayList<>(Collections.nCopies(partitioning.size(), null));
+
+            for (int group = 0; group < commands.size(); group++) {
+
+                List<T> elements = commands.get(group).join();
+
+                for (int i = 0; i < partitioning.getGroupSize(group); i++) {
+                    result.set(partitioning.getPosition(group, i), elements.get(i));
+                }
+            }
+
+            return result;
+        }));
+    }
+
+    /**
+     * Execute a multi-key command that returns a single result (such as {@code DEL}). The {@code commandFactory} is invoked
+     * with the keys of each slot and the results are combined using {@code reducer}.
+     *
+     * @param keys the keys.
+     * @param commandFactory factory to create a command for keys that map to the same slot.
+     * @param reducer function to combine the results of two sub-commands.
+     * @param <T> result type.
+     * @return future completing with the combined result.
+     */
+    public <T> RedisFuture<T> reduce(Iterable<K> keys, Function<List<K>, ? extends RedisCommand<K, V, T>> commandFactory,
+            BinaryOperator<T> reducer) {
+
+        LettuceAssert.notNull(keys, "Keys must not be null");
+        LettuceAssert.notNull(commandFactory, "Command factory must not be null");
+        LettuceAssert.notNull(reducer, "Reducer must not be null");
+
+        List<K> keyList = LettuceLists.newList(keys);
+        SlotPartitioning<K> partitioning = SlotPartitioning.of(codec, keyList);
+
+        if (partitioning.getGroupCount() < 2) {
+            return dispatch(commandFactory.apply(keyList));
+        }
+
+        List<AsyncCommand<K, V, T>> commands = dispatch(partitioning, commandFactory);
+
+        return new PipelinedRedisFuture<>(allOf(commands).thenApply(ignore -> {
+
+            T result = commands.get(0).join();
+
+            for (int group = 1; group < commands.size(); group++) {
+                result = reducer.apply(result, commands.get(group).join());
+            }
+
+            return result;
+        }));
+    }
+
+    /**
+     * Execute a single-key command (such as {@code HGETALL}) for each of the given {@code keys}. Commands are dispatched as a
+     * single batch and the results are returned in the order of {@code keys}.
+     *
+     * @param keys the keys.
+     * @param commandFactory factory to create a command for a single key.
+     * @param <T> result type.
+     * @return future completing with one result per key.
+     */
+    public <T> RedisFuture<List<T>> gatherPerKey(Iterable<K> keys,
+            Function<K, ? extends RedisCommand<K, V, T>> commandFactory) {
+
+        LettuceAssert.notNull(keys, "Keys must not be null");
+        LettuceAssert.notNull(commandFactory, "Command factory must not be null");
+
+        List<AsyncCommand<K, V, T>> commands = new ArrayList<>();
+
+        for (K key : keys) {
+            commands.add(new AsyncCommand<>(commandFactory.apply(key)));
+        }
+
+        connection.dispatch(commands);
+
+        return new PipelinedRedisFuture<>(allOf(commands).thenApply(ignore -> {
+
+            List<T> result = new ArrayList<>(commands.size());
+
+            for (AsyncCommand<K, V, T> command : commands) {
+                result.add(command.join());
+            }
+
+            return result;
+        }));
+    }
+
+    private <T> AsyncCommand<K, V, T> dispatch(RedisCommand<K, V, T> command) {
+
+        AsyncCommand<K, V, T> asyncCommand = new AsyncCommand<>(command);
+        RedisCommand<K, V, T> dispatched = connection.dispatch(asyncCommand);
+
+        if (dispatched instanceof AsyncCommand) {
+            return (AsyncCommand<K, V, T>) dispatched;
+        }
+
+        return asyncCommand;
+    }
+
+    private <T> List<AsyncCommand<K, V, T>> dispatch(SlotPartitioning<K> partitioning,
+            Function<List<K>, ? extends RedisCommand<K, V, T>> commandFactory) {
+
+        List<AsyncCommand<K, V, T>> commands = new ArrayList<>(partitioning.getGroupCount());
+
+        for (int group = 0; group < partitioning.getGroupCount(); group++) {
+            commands.add(new AsyncCommand<>(commandFactory.apply(partitioning.getKeys(group))));
+        }
+
+        connection.dispatch(commands);
+
+        return commands;
+    }
+
+    private static CompletableFuture<Void> allOf(Collection<? extends CompletableFuture<?>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+}
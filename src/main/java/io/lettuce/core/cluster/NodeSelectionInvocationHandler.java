@@ -2,6 +2,7 @@ package io.lettuce.core.cluster;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -20,6 +21,9 @@ import java.util.stream.Collectors;
 
 import org.reactivestreams.Publisher;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import io.lettuce.core.RedisCommandExecutionException;
 import io.lettuce.core.RedisCommandTimeoutException;
 import io.lettuce.core.api.StatefulRedisConnection;
@@ -32,6 +36,8 @@ import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.TimeoutProvider;
 import io.lettuce.core.output.CommandOutput;
 import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.Timeout;
 
 /**
  * Invocation handler to trigger commands on multiple connections and return a holder for the values.
@@ -55,6 +61,8 @@ class NodeSelectionInvocationHandler extends AbstractInvocationHandler {
 
     private final TimeoutProvider timeoutProvider;
 
+    private final NodeSelectionOptions options;
+
     static {
         try {
             NULL_MARKER_METHOD = NodeSelectionInvocationHandler.class.getDeclaredMethod("handleInvocation", Object.class,
@@ -76,6 +84,11 @@ class NodeSelectionInvocationHandler extends AbstractInvocationHandler {
 
     private NodeSelectionInvocationHandler(AbstractNodeSelection<?, ?, ?, ?> selection, Class<?> commandsInterface,
             TimeoutProvider timeoutProvider, ExecutionModel executionModel) {
+        this(selection, commandsInterface, timeoutProvider, executionModel, null);
+    }
+
+    private NodeSelectionInvocationHandler(AbstractNodeSelection<?, ?, ?, ?> selection, Class<?> commandsInterface,
+            TimeoutProvider timeoutProvider, ExecutionModel executionModel, NodeSelectionOptions options) {
 
         if (executionModel == ExecutionModel.SYNC) {
             LettuceAssert.notNull(timeoutProvider, "TimeoutProvider must not be null");
@@ -87,6 +100,7 @@ class NodeSelectionInvocationHandler extends AbstractInvocationHandler {
         this.commandsInterface = commandsInterface;
         this.timeoutProvider = timeoutProvider;
         this.executionModel = executionModel;
+        this.options = options;
     }
 
     @Override
@@ -99,6 +113,11 @@ class NodeSelectionInvocationHandler extends AbstractInvocationHandler {
                 return proxy;
             }
 
+            if (method.getName().equals("withOptions") && args.length == 1
+                    && method.getParameterTypes()[0] == NodeSelectionOptions.class) {
+                return withOptions(proxy, (NodeSelectionOptions) args[0]);
+            }
+
             Method targetMethod = findMethod(commandsInterface, method, connectionMethod);
 
             if (targetMethod == null) {
@@ -107,53 +126,123 @@ class NodeSelectionInvocationHandler extends AbstractInvocationHandler {
                 return nodeSelectionMethod.invoke(selection, args);
             }
 
+            if (options != null) {
+                return getExecutions(executeBounded(targetMethod, args), 0);
+            }
+
             Map<RedisClusterNode, CompletableFuture<? extends StatefulRedisConnection<?, ?>>> connections = new LinkedHashMap<>(
                     selection.size(), 1);
             connections.putAll(selection.statefulMap());
+
             Map<RedisClusterNode, Object> executions = new LinkedHashMap<>(selection.size(), 1);
 
             AtomicLong timeout = new AtomicLong();
 
             for (Map.Entry<RedisClusterNode, CompletableFuture<? extends StatefulRedisConnection<?, ?>>> entry : connections
                     .entrySet()) {
+                executions.put(entry.getKey(), execute(entry.getValue(), targetMethod, args, timeout));
+            }
 
-                CompletableFuture<? extends StatefulRedisConnection<?, ?>> connection = entry.getValue();
+            return getExecutions(executions, timeout.get());
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
 
-                CompletableFuture<Object> result = connection.thenCompose(it -> {
+    private Object withOptions(Object proxy, NodeSelectionOptions options) {
 
-                    try {
+        LettuceAssert.notNull(options, "NodeSelectionOptions must not be null");
 
-                        Object resultValue = doInvoke(args, targetMethod, it);
+        return Proxy.newProxyInstance(proxy.getClass().getClassLoader(), proxy.getClass().getInterfaces(),
+                new NodeSelectionInvocationHandler(selection, commandsInterface, timeoutProvider, executionModel, options));
+    }
 
-                        if (timeoutProvider != null && resultValue instanceof RedisCommand && timeout.get() == 0) {
-                            timeout.set(timeoutProvider.getTimeoutNs((RedisCommand) resultValue));
-                        }
+    /**
+     * Execute the command on all nodes while limiting the number of concurrent node executions to
+     * {@link NodeSelectionOptions#getParallelism()}. Node connections are obtained when the node execution starts. Results are
+     * registered upfront and completed as node executions complete.
+     */
+    private Map<RedisClusterNode, Object> executeBounded(Method targetMethod, Object[] args) {
 
-                        if (resultValue instanceof CompletionStage<?>) {
-                            return (CompletionStage<Object>) resultValue;
-                        }
+        List<RedisClusterNode> nodes = new ArrayList<>(selection.nodes());
+        Map<RedisClusterNode, Object> executions = new LinkedHashMap<>(nodes.size(), 1);
+        Duration nodeTimeout = options.getNodeTimeout();
 
-                        return CompletableFuture.completedFuture(resultValue);
-                    } catch (InvocationTargetException e) {
+        for (RedisClusterNode node : nodes) {
+            executions.put(node, new CompletableFuture<>());
+        }
 
-                        CompletableFuture<Object> future = new CompletableFuture<>();
-                        future.completeExceptionally(e.getTargetException());
-                        return future;
-                    } catch (Exception e) {
+        Flux.fromIterable(nodes).flatMap(node -> {
 
-                        CompletableFuture<Object> future = new CompletableFuture<>();
-                        future.completeExceptionally(e);
-                        return future;
-                    }
-                });
+            @SuppressWarnings("unchecked")
+            CompletableFuture<Object> result = (CompletableFuture<Object>) executions.get(node);
+            Mono<Object> execution = Mono.defer(() -> {
+
+                CompletableFuture<? extends StatefulRedisConnection<?, ?>> connection = selection.getConnection(node);
+
+                if (nodeTimeout != null) {
+                    connection.thenAccept(it -> scheduleNodeTimeout(it, node, result, nodeTimeout));
+                }
+
+                return Mono.fromCompletionStage(() -> execute(connection, targetMethod, args, null));
+            });
 
-                executions.put(entry.getKey(), result);
+            return execution.doOnSuccess(result::complete).doOnError(result::completeExceptionally)
+                    .onErrorResume(e -> Mono.empty());
+        }, options.getParallelism()).subscribe();
+
+        return executions;
+    }
+
+    /**
+     * Fail the node {@code result} if it does not complete within {@code nodeTimeout}. The node execution keeps its slot until
+     * the command completes on the node.
+     */
+    private void scheduleNodeTimeout(StatefulRedisConnection<?, ?> connection, RedisClusterNode node,
+            CompletableFuture<Object> result, Duration nodeTimeout) {
+
+        ClientResources resources = connection.getResources();
+        Timeout timeout = resources.timer().newTimeout(t -> {
+            if (!result.isDone()) {
+                resources.eventExecutorGroup().submit(() -> result.completeExceptionally(ExceptionFactory
+                        .createTimeoutException("Command timed out for node: " + getDescriptor(node), nodeTimeout)));
             }
+        }, nodeTimeout.toNanos(), TimeUnit.NANOSECONDS);
 
-            return getExecutions(executions, timeout.get());
-        } catch (InvocationTargetException e) {
-            throw e.getTargetException();
-        }
+        result.whenComplete((value, throwable) -> timeout.cancel());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private CompletableFuture<Object> execute(CompletableFuture<? extends StatefulRedisConnection<?, ?>> connection,
+            Method targetMethod, Object[] args, AtomicLong timeout) {
+
+        return connection.thenCompose(it -> {
+
+            try {
+
+                Object resultValue = doInvoke(args, targetMethod, it);
+
+                if (timeout != null && timeoutProvider != null && resultValue instanceof RedisCommand && timeout.get() == 0) {
+                    timeout.set(timeoutProvider.getTimeoutNs((RedisCommand) resultValue));
+                }
+
+                if (resultValue instanceof CompletionStage<?>) {
+                    return (CompletionStage<Object>) resultValue;
+                }
+
+                return CompletableFuture.completedFuture(resultValue);
+            } catch (InvocationTargetException e) {
+
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                future.completeExceptionally(e.getTargetException());
+                return future;
+            } catch (Exception e) {
+
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+                return future;
+            }
+        });
     }
 
     private Object doInvoke(Object[] args, Method targetMethod, StatefulRedisConnection<?, ?> it)
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to control how commands are executed on a {@link io.lettuce.core.cluster.api.async.AsyncNodeSelection}. By default, a
+ * command is sent to all selected nodes at once. Large fan-outs (e.g. {@code KEYS}, {@code SCRIPT LOAD} or {@code FLUSHDB}
+ * across hundreds of nodes) can limit the number of nodes that execute the command concurrently and fail executions of
+ * individual nodes that do not complete within a timeout.
+ *
+ * @since 6.7
+ * @see io.lettuce.core.cluster.api.async.AsyncNodeSelection#withOptions(NodeSelectionOptions)
+ */
+public class NodeSelectionOptions {
+
+    public static final int DEFAULT_PARALLELISM = Integer.MAX_VALUE;
+
+    private final int parallelism;
+
+    private final Duration nodeTimeout;
+
+    private NodeSelectionOptions(Builder builder) {
+
+        this.parallelism = builder.parallelism;
+        this.nodeTimeout = builder.nodeTimeout;
+    }
+
+    /**
+     * Returns a new {@link NodeSelectionOptions.Builder} to construct {@link NodeSelectionOptions}.
+     *
+     * @return a new {@link NodeSelectionOptions.Builder} to construct {@link NodeSelectionOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link NodeSelectionOptions} with default settings (unbounded parallelism, no node timeout).
+     *
+     * @return a new instance of {@link NodeSelectionOptions} with default settings.
+     */
+    public static NodeSelectionOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link NodeSelectionOptions} that executes commands on at most {@code parallelism} nodes
+     * concurrently.
+     *
+     * @param parallelism the maximum number of nodes that execute a command concurrently. Must be greater than {@code 0}.
+     * @return a new instance of {@link NodeSelectionOptions}.
+     */
+    public static NodeSelectionOptions parallelism(int parallelism) {
+        return builder().parallelism(parallelism).build();
+    }
+
+    /**
+     * Returns a builder to create new {@link NodeSelectionOptions} whose settings are replicated from the current
+     * {@link NodeSelectionOptions}.
+     *
+     * @return a {@link NodeSelectionOptions.Builder} to create new {@link NodeSelectionOptions} whose settings are replicated
+     *         from the current {@link NodeSelectionOptions}.
+     */
+    public Builder mutate() {
+
+        Builder builder = new Builder();
+        builder.parallelism(getParallelism());
+        builder.nodeTimeout = getNodeTimeout();
+
+        return builder;
+    }
+
+    /**
+     * Builder for {@link NodeSelectionOptions}.
+     */
+    public static class Builder {
+
+        private int parallelism = DEFAULT_PARALLELISM;
+
+        private Duration nodeTimeout;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the maximum number of nodes that execute a command concurrently. Commands for the remaining nodes are sent as
+         * soon as an execution completes. Unbounded by default, see {@link #DEFAULT_PARALLELISM}.
+         *
+         * @param parallelism the maximum number of nodes that execute a command concurrently. Must be greater than {@code 0}.
+         * @return {@code this}
+         */
+        public Builder parallelism(int parallelism) {
+
+            LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater than 0");
+
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Set the timeout for the execution on a single node. The timeout starts when the command is sent to the node. A node
+         * execution that does not complete in time fails with {@link io.lettuce.core.RedisCommandTimeoutException}. The node
+         * keeps its slot until the command completes on the node so that commands that timed out still count towards the
+         * parallelism. No node timeout is applied by default, commands are subject to the regular command timeout.
+         *
+         * @param nodeTimeout the node timeout. Must not be {@code null} and must be positive.
+         * @return {@code this}
+         */
+        public Builder nodeTimeout(Duration nodeTimeout) {
+
+            LettuceAssert.notNull(nodeTimeout, "Node timeout must not be null");
+            LettuceAssert.isTrue(!nodeTimeout.isNegative() && !nodeTimeout.isZero(), "Node timeout must be positive");
+
+            this.nodeTimeout = nodeTimeout;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link NodeSelectionOptions}.
+         *
+         * @return new instance of {@link NodeSelectionOptions}
+         */
+        public NodeSelectionOptions build() {
+            return new NodeSelectionOptions(this);
+        }
+
+    }
+
+    /**
+     * @return the maximum number of nodes that execute a command concurrently.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return the timeout for the execution on a single node, {@code null} if no node timeout is applied.
+     */
+    public Duration getNodeTimeout() {
+        return nodeTimeout;
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.ScanIterator;
+import io.lettuce.core.ScanStream;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.reactive.RedisAdvancedClusterReactiveCommands;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Cluster-wide {@code SCAN} that scans multiple nodes concurrently. The regular cluster {@code SCAN} iterates nodes one after
+ * another. A parallel scan runs one cursor per node and scans up to {@code parallelism} nodes at the same time. Nodes are
+ * selected according to the {@link io.lettuce.core.ReadFrom} setting of the connection, the same way as for the regular
+ * cluster-wide {@code SCAN}.
+ * <p>
+ * The asynchronous variant performs one scan step per invocation and returns a {@link ParallelScanCursor} that records the
+ * position of each node so the scan can be resumed. The reactive variant streams keys of all nodes and requests further scan
+ * pages only on demand. See also {@link ScanStream#scanParallel} and {@link ScanIterator#scanParallel}.
+ * <p>
+ * Keys are returned in no particular order. A scan step fails if the scan of any of its nodes fails; the previous cursor can be
+ * used to retry the step.
+ *
+ * @since 6.7
+ */
+public abstract class ParallelClusterScan {
+
+    private ParallelClusterScan() {
+    }
+
+    /**
+     * Perform a scan step on up to {@code parallelism} nodes concurrently.
+     *
+     * @param commands the cluster commands, must not be {@code null}.
+     * @param scanCursor the cursor to continue from. Use {@link ScanCursor#INITIAL} to start a new scan.
+     * @param parallelism the maximum number of nodes to scan concurrently. Must be greater than {@code 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link ParallelScanCursor} holding the keys of this step.
+     */
+    public static <K, V> RedisFuture<ParallelScanCursor<K>> scan(RedisAdvancedClusterAsyncCommands<K, V> commands,
+            ScanCursor scanCursor, int parallelism) {
+        return scan(commands, scanCursor, null, parallelism);
+    }
+
+    /**
+     * Perform a scan step on up to {@code parallelism} nodes concurrently.
+     *
+     * @param commands the cluster commands, must not be {@code null}.
+     * @param scanCursor the cursor to continue from. Use {@link ScanCursor#INITIAL} to start a new scan.
+     * @param scanArgs scan arguments, can be {@code null}.
+     * @param parallelism the maximum number of nodes to scan concurrently. Must be greater than {@code 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link ParallelScanCursor} holding the keys of this step.
+     */
+    public static <K, V> RedisFuture<ParallelScanCursor<K>> scan(RedisAdvancedClusterAsyncCommands<K, V> commands,
+            ScanCursor scanCursor, ScanArgs scanArgs, int parallelism) {
+
+        LettuceAssert.notNull(commands, "RedisAdvancedClusterAsyncCommands must not be null");
+        LettuceAssert.notNull(scanCursor, "ScanCursor must not be null");
+        LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater than 0");
+
+        StatefulRedisClusterConnection<K, V> connection = commands.getStatefulConnection();
+        Map<String, String> nodeCursors = getNodeCursors(connection, scanCursor);
+
+        List<String> nodeIds = new ArrayList<>(Math.min(parallelism, nodeCursors.size()));
+        List<CompletableFuture<KeyScanCursor<K>>> steps = new ArrayList<>(nodeIds.size());
+
+        for (Map.Entry<String, String> entry : nodeCursors.entrySet()) {
+
+            if (nodeIds.size() == parallelism) {
+                break;
+            }
+
+            ScanCursor nodeCursor = ScanCursor.of(entry.getValue());
+
+            nodeIds.add(entry.getKey());
+            steps.add(connection.getConnectionAsync(entry.getKey())
+                    .thenCompose(c -> scanArgs != null ? c.async().scan(nodeCursor, scanArgs) : c.async().scan(nodeCursor)));
+        }
+
+        return new PipelinedRedisFuture<>(CompletableFuture.allOf(steps.toArray(new CompletableFuture[0])).thenApply(v -> {
+
+            Map<String, String> next = new LinkedHashMap<>(nodeCursors);
+            List<K> keys = new ArrayList<>();
+
+            for (int i = 0; i < steps.size(); i++) {
+
+                KeyScanCursor<K> result = steps.get(i).join();
+                keys.addAll(result.getKeys());
+
+                if (result.isFinished()) {
+                    next.remove(nodeIds.get(i));
+                } else {
+                    next.put(nodeIds.get(i), result.getCursor());
+                }
+            }
+
+            ParallelScanCursor<K> cursor = new ParallelScanCursor<>(next);
+            cursor.getKeys().addAll(keys);
+            return cursor;
+        }));
+    }
+
+    /**
+     * Stream keys of all nodes, scanning up to {@code parallelism} nodes concurrently. Scan pages are requested on demand.
+     *
+     * @param commands the cluster commands, must not be {@code null}.
+     * @param scanArgs scan arguments, can be {@code null}.
+     * @param parallelism the maximum number of nodes to scan concurrently. Must be greater than {@code 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the keys.
+     */
+    public static <K, V> Flux<K> scan(RedisAdvancedClusterReactiveCommands<K, V> commands, ScanArgs scanArgs, int parallelism) {
+
+        LettuceAssert.notNull(commands, "RedisAdvancedClusterReactiveCommands must not be null");
+        LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater than 0");
+
+        StatefulRedisClusterConnection<K, V> connection = commands.getStatefulConnection();
+
+        return Flux.defer(() -> Flux.fromIterable(getNodeIds(connection)))
+                .flatMap(nodeId -> Mono.fromCompletionStage(connection.getConnectionAsync(nodeId))
+                        .flatMapMany(nodeConnection -> scan(nodeConnection, scanArgs)), parallelism);
+    }
+
+    private static <K, V> Flux<K> scan(StatefulRedisConnection<K, V> connection, ScanArgs scanArgs) {
+
+        return (scanArgs != null ? ScanStream.scan(connection.reactive(), scanArgs) : ScanStream.scan(connection.reactive()));
+    }
+
+    private static Map<String, String> getNodeCursors(StatefulRedisClusterConnection<?, ?> connection, ScanCursor scanCursor) {
+
+        if (isInitial(scanCursor)) {
+
+            Map<String, String> nodeCursors = new LinkedHashMap<>();
+
+            for (String nodeId : getNodeIds(connection)) {
+                nodeCursors.put(nodeId, ScanCursor.INITIAL.getCursor());
+            }
+
+            return nodeCursors;
+        }
+
+        ParallelScanCursor<?> cursor = ParallelScanCursor.from(scanCursor);
+
+        if (cursor.isFinished()) {
+            throw new IllegalStateException("Cluster scan is finished");
+        }
+
+        return cursor.getNodeCursors();
+    }
+
+    private static boolean isInitial(ScanCursor scanCursor) {
+        return ScanCursor.INITIAL.equals(scanCursor) || (!(scanCursor instanceof ParallelScanCursor)
+                && ScanCursor.INITIAL.getCursor().equals(scanCursor.getCursor()));
+    }
+
+    private static List<String> getNodeIds(StatefulRedisClusterConnection<?, ?> connection) {
+
+        List<String> nodeIds = ClusterScanSupport.getNodeIds(connection);
+
+        if (nodeIds.isEmpty()) {
+            throw new RedisException("No available nodes for a scan");
+        }
+
+        return nodeIds;
+    }
+
+}
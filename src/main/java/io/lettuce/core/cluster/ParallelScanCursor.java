@@ -0,0 +1,120 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Composite cursor for a {@link ParallelClusterScan parallel cluster-wide SCAN}. The cursor records the scan position for each
+ * node that has not yet been scanned completely and holds the keys returned by the last scan step.
+ * <p>
+ * {@link #getCursor()} returns a textual representation of all node positions so that a scan can be resumed later on, for
+ * example after a failure or in a different process, by passing {@code ScanCursor.of(cursor.getCursor())} to
+ * {@link ParallelClusterScan}. A finished cursor reports {@code 0}, like a finished {@code SCAN}.
+ *
+ * @param <K> Key type.
+ * @since 6.7
+ */
+public class ParallelScanCursor<K> extends KeyScanCursor<K> {
+
+    private static final String NODE_SEPARATOR = ",";
+
+    private static final String POSITION_SEPARATOR = ":";
+
+    private final Map<String, String> nodeCursors;
+
+    ParallelScanCursor(Map<String, String> nodeCursors) {
+
+        this.nodeCursors = Collections.unmodifiableMap(new LinkedHashMap<>(nodeCursors));
+
+        setCursor(nodeCursors.isEmpty() ? ScanCursor.INITIAL.getCursor() : encode(nodeCursors));
+        setFinished(nodeCursors.isEmpty());
+    }
+
+    /**
+     * Create a {@link ParallelScanCursor} from a {@link ScanCursor}. Accepts a {@link ParallelScanCursor} or a cursor that was
+     * created from {@link #getCursor()}.
+     *
+     * @param cursor the cursor, must not be {@code null}.
+     * @return the {@link ParallelScanCursor}.
+     */
+    static <K> ParallelScanCursor<K> from(ScanCursor cursor) {
+
+        LettuceAssert.notNull(cursor, "ScanCursor must not be null");
+
+        if (cursor instanceof ParallelScanCursor) {
+            return (ParallelScanCursor<K>) cursor;
+        }
+
+        return new ParallelScanCursor<>(decode(cursor.getCursor()));
+    }
+
+    /**
+     * @return the scan position per node id for all nodes whose scan is not yet finished.
+     */
+    public Map<String, String> getNodeCursors() {
+        return nodeCursors;
+    }
+
+    private static String encode(Map<String, String> nodeCursors) {
+
+        StringBuilder builder = new StringBuilder();
+
+        for (Map.Entry<String, String> entry : nodeCursors.entrySet()) {
+
+            if (builder.length() != 0) {
+                builder.append(NODE_SEPARATOR);
+            }
+
+            builder.append(entry.getKey()).append(POSITION_SEPARATOR).append(entry.getValue());
+        }
+
+        return builder.toString();
+    }
+
+    private static Map<String, String> decode(String cursor) {
+
+        Map<String, String> nodeCursors = new LinkedHashMap<>();
+
+        if (cursor == null || cursor.isEmpty()) {
+            return nodeCursors;
+        }
+
+        for (String node : cursor.split(NODE_SEPARATOR)) {
+
+            int index = node.lastIndexOf(POSITION_SEPARATOR);
+
+            if (index < 1 || index == node.length() - 1) {
+                throw new IllegalArgumentException("Cursor " + cursor + " is not a parallel cluster scan cursor");
+            }
+
+            nodeCursors.put(node.substring(0, index), node.substring(index + 1));
+        }
+
+        return nodeCursors;
+    }
+
+}
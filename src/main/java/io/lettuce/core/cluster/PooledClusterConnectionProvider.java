@@ -19,28 +19,36 @@
  */
 package io.lettuce.core.cluster;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import io.lettuce.core.ConnectionFuture;
+import io.lettuce.core.LoadBalancingReadFromAccessor;
 import io.lettuce.core.OrderingReadFromAccessor;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisConnectionStateListener;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.push.PushMessage;
@@ -49,15 +57,21 @@ import io.lettuce.core.cluster.api.push.RedisClusterPushListener;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.AsyncConnectionProvider;
 import io.lettuce.core.internal.Exceptions;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandArgsAccessor;
+import io.lettuce.core.protocol.CommandKeyword;
 import io.lettuce.core.protocol.ConnectionIntent;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Connection provider with built-in connection caching.
@@ -81,10 +95,6 @@ class PooledClusterConnectionProvider<K, V>
 
     private final List<RedisClusterPushListener> pushListeners = new CopyOnWriteArrayList<>();
 
-    private final CompletableFuture<StatefulRedisConnection<K, V>> writers[] = new CompletableFuture[SlotHash.SLOT_COUNT];
-
-    private final CompletableFuture<StatefulRedisConnection<K, V>> readers[][] = new CompletableFuture[SlotHash.SLOT_COUNT][];
-
     private final RedisClusterClient redisClusterClient;
 
     private final ClusterClientOptions options;
@@ -103,7 +113,20 @@ class PooledClusterConnectionProvider<K, V>
 
     private boolean autoFlushCommands = true;
 
-    private ReadFrom readFrom;
+    private volatile TrackingArgs clientTracking;
+
+    private volatile boolean clientTrackingEnabled;
+
+    private final RedisConnectionStateListener trackingStateListener = new RedisConnectionStateListener() {
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+            onTrackingConnectionDisconnected(connection);
+        }
+
+    };
+
+    private volatile SlotRouting<K, V> routing = new SlotRouting<>(null, null);
 
     public PooledClusterConnectionProvider(RedisClusterClient redisClusterClient, RedisChannelWriter clusterWriter,
             RedisCodec<K, V> redisCodec, ClusterEventListener clusterEventListener) {
@@ -149,26 +172,25 @@ class PooledClusterConnectionProvider<K, V>
             logger.debug("getConnection(" + connectionIntent + ", " + slot + ")");
         }
 
+        // read the routing snapshot only once to avoid races when reconfiguring partitions.
+        SlotRouting<K, V> routing = this.routing;
+        ReadFrom readFrom = routing.readFrom;
+
         if (connectionIntent == ConnectionIntent.READ && readFrom != null && readFrom != ReadFrom.UPSTREAM) {
-            return getReadConnection(slot);
+            return getReadConnection(routing, slot);
         }
 
-        return getWriteConnection(slot).toCompletableFuture();
+        return getWriteConnection(routing, slot).toCompletableFuture();
     }
 
-    private CompletableFuture<StatefulRedisConnection<K, V>> getWriteConnection(int slot) {
+    private CompletableFuture<StatefulRedisConnection<K, V>> getWriteConnection(SlotRouting<K, V> routing, int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> writer;// avoid races when reconfiguring partitions.
-
-        stateLock.lock();
-        try {
-            writer = writers[slot];
-        } finally {
-            stateLock.unlock();
-        }
+        CompletableFuture<StatefulRedisConnection<K, V>> writer = routing.writers.get(slot);
 
         if (writer == null) {
-            RedisClusterNode master = partitions.getMasterBySlot(slot);
+
+            Partitions partitions = routing.partitions;
+            RedisClusterNode master = routing.getMasterBySlot(slot);
             if (master == null) {
                 clusterEventListener.onUncoveredSlot(slot);
                 return Futures.failed(new PartitionSelectorException("Cannot determine a partition for slot " + slot + ".",
@@ -184,13 +206,9 @@ class PooledClusterConnectionProvider<K, V>
 
             return future.thenApply(connection -> {
 
-                stateLock.lock();
-                try {
-                    if (writers[slot] == null) {
-                        writers[slot] = CompletableFuture.completedFuture(connection);
-                    }
-                } finally {
-                    stateLock.unlock();
+                // do not cache connections to the previous owner of a slot that was redirected in the meantime
+                if (routing.getMasterBySlot(slot) == master) {
+                    routing.writers.compareAndSet(slot, null, CompletableFuture.completedFuture(connection));
                 }
 
                 return connection;
@@ -200,29 +218,26 @@ class PooledClusterConnectionProvider<K, V>
         return writer;
     }
 
-    private CompletableFuture<StatefulRedisConnection<K, V>> getReadConnection(int slot) {
+    private CompletableFuture<StatefulRedisConnection<K, V>> getReadConnection(SlotRouting<K, V> routing, int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[];// avoid races when reconfiguring partitions.
+        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[] = routing.readers.get(slot);
+        RedisClusterNode redirect = routing.redirects.get(slot);
+        ReadFrom readFrom = routing.readFrom;
 
         boolean cached = true;
 
-        stateLock.lock();
-        try {
-            readerCandidates = readers[slot];
-        } finally {
-            stateLock.unlock();
-        }
-
         if (readerCandidates == null) {
 
-            RedisClusterNode master = partitions.getMasterBySlot(slot);
+            Partitions partitions = routing.partitions;
+
+            RedisClusterNode master = routing.getMasterBySlot(slot);
             if (master == null) {
                 clusterEventListener.onUncoveredSlot(slot);
                 return Futures.failed(new PartitionSelectorException(
                         String.format("Cannot determine a partition to read for slot %d.", slot), partitions.clone()));
             }
 
-            List<RedisNodeDescription> candidates = getReadCandidates(master);
+            List<RedisNodeDescription> candidates = getReadCandidates(partitions, master);
             List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
 
                 @Override
@@ -254,7 +269,16 @@ class PooledClusterConnectionProvider<K, V>
 
             return CompletableFuture.allOf(readerCandidates).thenCompose(v -> {
 
-                boolean orderSensitive = isOrderSensitive(selectedReaderCandidates);
+                boolean orderSensitive = isOrderSensitive(readFrom, selectedReaderCandidates);
+
+                if (!orderSensitive && LoadBalancingReadFromAccessor.isLoadBalancing(readFrom)) {
+
+                    StatefulRedisConnection<K, V> candidate = findLeastLoadedConnection(readFrom, selectedReaderCandidates);
+
+                    if (candidate != null) {
+                        return CompletableFuture.completedFuture(candidate);
+                    }
+                }
 
                 if (!orderSensitive) {
 
@@ -299,7 +323,7 @@ class PooledClusterConnectionProvider<K, V>
 
         return filteredReaderCandidates.thenApply(statefulRedisConnections -> {
 
-            boolean orderSensitive = isOrderSensitive(statefulRedisConnections);
+            boolean orderSensitive = isOrderSensitive(readFrom, statefulRedisConnections);
 
             CompletableFuture<StatefulRedisConnection<K, V>> toCache[] = new CompletableFuture[statefulRedisConnections.length];
 
@@ -307,11 +331,17 @@ class PooledClusterConnectionProvider<K, V>
                 toCache[i] = CompletableFuture.completedFuture(statefulRedisConnections[i]);
             }
 
-            stateLock.lock();
-            try {
-                readers[slot] = toCache;
-            } finally {
-                stateLock.unlock();
+            if (routing.redirects.get(slot) == redirect) {
+                routing.readers.set(slot, toCache);
+            }
+
+            if (!orderSensitive && LoadBalancingReadFromAccessor.isLoadBalancing(readFrom)) {
+
+                StatefulRedisConnection<K, V> candidate = findLeastLoadedConnection(readFrom, selectedReaderCandidates);
+
+                if (candidate != null) {
+                    return candidate;
+                }
             }
 
             if (!orderSensitive) {
@@ -334,10 +364,30 @@ class PooledClusterConnectionProvider<K, V>
         });
     }
 
-    private boolean isOrderSensitive(Object[] connections) {
+    private static boolean isOrderSensitive(ReadFrom readFrom, Object[] connections) {
         return OrderingReadFromAccessor.isOrderSensitive(readFrom) || connections.length == 1;
     }
 
+    private static <E extends StatefulConnection<?, ?>> E findLeastLoadedConnection(ReadFrom readFrom,
+            CompletableFuture<E>[] selectedReaderCandidates) {
+
+        List<E> active = new ArrayList<>(selectedReaderCandidates.length);
+
+        for (CompletableFuture<E> candidateFuture : selectedReaderCandidates) {
+
+            if (candidateFuture.isDone() && !candidateFuture.isCompletedExceptionally()) {
+
+                E candidate = candidateFuture.join();
+
+                if (candidate.isOpen()) {
+                    active.add(candidate);
+                }
+            }
+        }
+
+        return active.isEmpty() ? null : LoadBalancingReadFromAccessor.choose(readFrom, active);
+    }
+
     private static <T, E extends StatefulConnection<?, ?>> T findRandomActiveConnection(
             CompletableFuture<E>[] selectedReaderCandidates, Function<CompletableFuture<E>, T> mappingFunction) {
 
@@ -399,7 +449,7 @@ class PooledClusterConnectionProvider<K, V>
         return readerCandidates;
     }
 
-    private List<RedisNodeDescription> getReadCandidates(RedisClusterNode upstream) {
+    private static List<RedisNodeDescription> getReadCandidates(Partitions partitions, RedisClusterNode upstream) {
 
         return partitions.stream() //
                 .filter(partition -> isReadCandidate(upstream, partition)) //
@@ -488,6 +538,181 @@ class PooledClusterConnectionProvider<K, V>
         }
     }
 
+    @Override
+    public CompletableFuture<Void> warmUp(ClusterWarmUpOptions warmUpOptions) {
+
+        LettuceAssert.notNull(warmUpOptions, "ClusterWarmUpOptions must not be null");
+
+        Partitions partitions = this.routing.partitions;
+
+        if (partitions == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Set<ConnectionKey> keys = new LinkedHashSet<>();
+
+        for (RedisClusterNode node : partitions) {
+
+            RedisURI uri = node.getUri();
+
+            if (node.is(RedisClusterNode.NodeFlag.UPSTREAM) && !node.getSlots().isEmpty()) {
+                keys.add(new ConnectionKey(ConnectionIntent.WRITE, uri.getHost(), uri.getPort()));
+            } else if (warmUpOptions.isReplicas() && node.is(RedisClusterNode.NodeFlag.REPLICA) && isReachable(node)) {
+                keys.add(new ConnectionKey(ConnectionIntent.READ, uri.getHost(), uri.getPort()));
+            }
+        }
+
+        if (debugEnabled) {
+            logger.debug("Warming up " + keys.size() + " node connections");
+        }
+
+        return Flux.fromIterable(keys)
+                .flatMapDelayError(key -> Mono.fromCompletionStage(getConnectionAsync(key)), warmUpOptions.getParallelism(), 1)
+                .then(Mono.defer(() -> Mono.fromCompletionStage(populateRouting(warmUpOptions.isReplicas())))).toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> setClientTracking(TrackingArgs trackingArgs) {
+
+        LettuceAssert.notNull(trackingArgs, "TrackingArgs must not be null");
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+        trackingArgs.build(args);
+
+        this.clientTracking = trackingArgs;
+        this.clientTrackingEnabled = CommandArgsAccessor.getProtocolKeywords(args).contains(CommandKeyword.ON);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        connectionProvider
+                .forEach(connection -> futures.add(connection.async().clientTracking(trackingArgs).toCompletableFuture()));
+
+        return Futures.allOf(futures);
+    }
+
+    /**
+     * Register the listener that detects lost invalidations once per node connection. The listener is registered regardless of
+     * the tracking state as tracking can be enabled after the connection was established.
+     */
+    private void addTrackingStateListener(StatefulRedisConnection<K, V> connection) {
+
+        if (connection instanceof RedisChannelHandler) {
+            ((RedisChannelHandler<?, ?>) connection).addListener(trackingStateListener);
+        }
+    }
+
+    /**
+     * Invalidations sent while a node connection is disconnected are lost. Notify push listeners that all keys tracked through
+     * the node connection must be considered invalid.
+     */
+    private void onTrackingConnectionDisconnected(RedisChannelHandler<?, ?> connection) {
+
+        if (!clientTrackingEnabled) {
+            return;
+        }
+
+        connectionProvider.forEach((key, nodeConnection) -> {
+
+            if (nodeConnection != connection) {
+                return;
+            }
+
+            RedisClusterNode node = key.nodeId != null ? getPartitions().getPartitionByNodeId(key.nodeId)
+                    : getPartitions().getPartition(key.host, key.port);
+
+            if (node != null) {
+                onPushMessage(node, InvalidateAllMessage.INSTANCE);
+            }
+        });
+    }
+
+    private static boolean isReachable(RedisClusterNode node) {
+        return !node.is(RedisClusterNode.NodeFlag.FAIL) && !node.is(RedisClusterNode.NodeFlag.EVENTUAL_FAIL)
+                && !node.is(RedisClusterNode.NodeFlag.NOADDR);
+    }
+
+    /**
+     * Route all covered slots to their connections. Node connections are expected to be established so that routing entries
+     * resolve without connecting.
+     */
+    private CompletableFuture<Void> populateRouting(boolean replicas) {
+
+        SlotRouting<K, V> routing = this.routing;
+        ReadFrom readFrom = routing.readFrom;
+        boolean readers = replicas && readFrom != null && readFrom != ReadFrom.UPSTREAM;
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+
+            if (routing.getMasterBySlot(slot) == null) {
+                continue;
+            }
+
+            if (routing.writers.get(slot) == null) {
+                futures.add(getWriteConnection(routing, slot));
+            }
+
+            if (readers && routing.readers.get(slot) == null) {
+                futures.add(getReadConnection(routing, slot));
+            }
+        }
+
+        return Futures.allOf(futures);
+    }
+
+    @Override
+    public StatefulRedisConnection<K, V> getAlternateReadConnection(int slot, StatefulConnection<?, ?> exclude) {
+
+        CompletableFuture<StatefulRedisConnection<K, V>>[] readerCandidates = this.routing.readers.get(slot);
+
+        if (readerCandidates == null || readerCandidates.length < 2) {
+            return null;
+        }
+
+        int offset = ThreadLocalRandom.current().nextInt(readerCandidates.length);
+
+        for (int i = 0; i < readerCandidates.length; i++) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> candidateFuture = readerCandidates[(offset + i)
+                    % readerCandidates.length];
+
+            if (candidateFuture.isDone() && !candidateFuture.isCompletedExceptionally()) {
+
+                StatefulRedisConnection<K, V> candidate = candidateFuture.join();
+
+                if (candidate != exclude && candidate.isOpen()) {
+                    return candidate;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void redirectSlot(int slot, String host, int port) {
+
+        SlotRouting<K, V> routing = this.routing;
+        Partitions partitions = routing.partitions;
+
+        if (partitions == null) {
+            return;
+        }
+
+        RedisClusterNode node = partitions.getPartition(host, port);
+
+        // unknown nodes are picked up by the next topology refresh
+        if (node == null) {
+            return;
+        }
+
+        if (debugEnabled) {
+            logger.debug("Redirecting slot " + slot + " to " + host + ":" + port);
+        }
+
+        routing.redirect(slot, node);
+    }
+
     @Override
     public CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(ConnectionIntent connectionIntent, String host,
             int port) {
@@ -540,7 +765,7 @@ class PooledClusterConnectionProvider<K, V>
     }
 
     /**
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * Synchronize on {@code stateLock} to serialize reconfiguration and publish a new {@link SlotRouting routing snapshot}.
      *
      * @param partitions the new partitions.
      */
@@ -556,6 +781,7 @@ class PooledClusterConnectionProvider<K, V>
             }
             this.partitions = partitions;
             this.connectionFactory.setPartitions(partitions);
+            this.routing = new SlotRouting<>(partitions, routing.readFrom);
         } finally {
             stateLock.unlock();
         }
@@ -571,8 +797,6 @@ class PooledClusterConnectionProvider<K, V>
 
     private void reconfigurePartitions() {
 
-        resetFastConnectionCache();
-
         if (expireStaleConnections()) {
             closeStaleConnections();
         }
@@ -641,8 +865,7 @@ class PooledClusterConnectionProvider<K, V>
 
         stateLock.lock();
         try {
-            this.readFrom = readFrom;
-            Arrays.fill(readers, null);
+            this.routing = new SlotRouting<>(routing.partitions, readFrom);
         } finally {
             stateLock.unlock();
         }
@@ -650,7 +873,7 @@ class PooledClusterConnectionProvider<K, V>
 
     @Override
     public ReadFrom getReadFrom() {
-        return this.readFrom;
+        return this.routing.readFrom;
     }
 
     /**
@@ -665,14 +888,15 @@ class PooledClusterConnectionProvider<K, V>
      * Reset the internal connection cache. This is necessary because the {@link Partitions} have no reference to the connection
      * cache.
      *
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * Publishes a new, empty {@link SlotRouting routing snapshot}. Threads that still operate on the previous snapshot complete
+     * their lookup against it without affecting the new one.
      */
     private void resetFastConnectionCache() {
 
         stateLock.lock();
         try {
-            Arrays.fill(writers, null);
-            Arrays.fill(readers, null);
+            SlotRouting<K, V> routing = this.routing;
+            this.routing = new SlotRouting<>(routing.partitions, routing.readFrom);
         } finally {
             stateLock.unlock();
         }
@@ -746,12 +970,28 @@ class PooledClusterConnectionProvider<K, V>
                 });
             }
 
+            connection = connection.thenCompose(c -> {
+
+                TrackingArgs trackingArgs = clientTracking;
+
+                if (trackingArgs == null) {
+                    return CompletableFuture.completedFuture(c);
+                }
+
+                return c.async().clientTracking(trackingArgs).thenApply(s -> c).whenCompleteAsync((s, throwable) -> {
+                    if (throwable != null) {
+                        c.close();
+                    }
+                });
+            });
+
             RedisClusterNode actualNode = targetNode;
             connection = connection.thenApply(c -> {
                 stateLock.lock();
                 try {
                     c.setAutoFlushCommands(autoFlushCommands);
                     c.addListener(message -> onPushMessage(actualNode, message));
+                    addTrackingStateListener(c);
                 } finally {
                     stateLock.unlock();
                 }
@@ -763,6 +1003,33 @@ class PooledClusterConnectionProvider<K, V>
 
     }
 
+    /**
+     * {@code invalidate} message without keys signalling that all keys tracked by a node connection are invalid. Redis sends
+     * the same message on {@code FLUSHALL} and {@code FLUSHDB}.
+     */
+    static class InvalidateAllMessage implements PushMessage {
+
+        static final InvalidateAllMessage INSTANCE = new InvalidateAllMessage();
+
+        private static final String TYPE = "invalidate";
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+
+        @Override
+        public List<Object> getContent() {
+            return getContent(it -> it);
+        }
+
+        @Override
+        public List<Object> getContent(Function<ByteBuffer, Object> decodeFunction) {
+            return Arrays.asList(decodeFunction.apply(StringCodec.ASCII.encodeKey(TYPE)), null);
+        }
+
+    }
+
     static class DefaultClusterNodeConnectionFactory<K, V> extends AbstractClusterNodeConnectionFactory<K, V> {
 
         private final RedisClusterClient redisClusterClient;
@@ -795,4 +1062,52 @@ class PooledClusterConnectionProvider<K, V>
 
     }
 
+    /**
+     * Immutable routing snapshot mapping slots to resolved connections. A snapshot captures the {@link Partitions} and
+     * {@link ReadFrom} setting it was created for and is replaced as a whole when either of them changes so that the routing
+     * hot path requires only a volatile read and an array lookup. Slot entries are resolved lazily on first use and cached
+     * within the snapshot; entries resolved against an outdated snapshot are discarded along with it. Slots can be
+     * {@link #redirect(int, RedisClusterNode) redirected} to a different node until the next snapshot replaces the routing.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @since 6.7
+     */
+    static class SlotRouting<K, V> {
+
+        final Partitions partitions;
+
+        final ReadFrom readFrom;
+
+        final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers = new AtomicReferenceArray<>(
+                SlotHash.SLOT_COUNT);
+
+        final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>[]> readers = new AtomicReferenceArray<>(
+                SlotHash.SLOT_COUNT);
+
+        final AtomicReferenceArray<RedisClusterNode> redirects = new AtomicReferenceArray<>(SlotHash.SLOT_COUNT);
+
+        SlotRouting(Partitions partitions, ReadFrom readFrom) {
+            this.partitions = partitions;
+            this.readFrom = readFrom;
+        }
+
+        RedisClusterNode getMasterBySlot(int slot) {
+
+            RedisClusterNode redirect = redirects.get(slot);
+            return redirect != null ? redirect : partitions.getMasterBySlot(slot);
+        }
+
+        /**
+         * Route {@code slot} to {@code node} and discard the connections cached for the slot.
+         */
+        void redirect(int slot, RedisClusterNode node) {
+
+            redirects.set(slot, node);
+            writers.set(slot, null);
+            readers.set(slot, null);
+        }
+
+    }
+
 }
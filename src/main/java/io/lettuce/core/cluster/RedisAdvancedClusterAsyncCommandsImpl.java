@@ -81,6 +81,10 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     private final RedisCodec<K, V> codec;
 
+    private final MultiKeyExecution<K, V> multiKeyExecution;
+
+    private final MultiKeyCommandBuilder<K, V> multiKeyCommandBuilder;
+
     /**
      * Initialize a new connection.
      *
@@ -95,6 +99,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             Supplier<JsonParser> parser) {
         super(connection, codec, parser);
         this.codec = codec;
+        this.multiKeyExecution = new MultiKeyExecution<>(connection, codec);
+        this.multiKeyCommandBuilder = new MultiKeyCommandBuilder<>(codec, parser);
     }
 
     /**
@@ -109,6 +115,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     public RedisAdvancedClusterAsyncCommandsImpl(StatefulRedisClusterConnectionImpl<K, V> connection, RedisCodec<K, V> codec) {
         super(connection, codec);
         this.codec = codec;
+        this.multiKeyExecution = new MultiKeyExecution<>(connection, codec);
+        this.multiKeyCommandBuilder = new MultiKeyCommandBuilder<>(codec, ClientOptions.DEFAULT_JSON_PARSER);
     }
 
     /**
@@ -122,6 +130,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             Supplier<JsonParser> parser) {
         super(connection, codec, parser);
         this.codec = codec;
+        this.multiKeyExecution = new MultiKeyExecution<>(connection, codec);
+        this.multiKeyCommandBuilder = new MultiKeyCommandBuilder<>(codec, parser);
     }
 
     /**
@@ -133,6 +143,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     public RedisAdvancedClusterAsyncCommandsImpl(StatefulRedisClusterConnection<K, V> connection, RedisCodec<K, V> codec) {
         super(connection, codec);
         this.codec = codec;
+        this.multiKeyExecution = new MultiKeyExecution<>(connection, codec);
+        this.multiKeyCommandBuilder = new MultiKeyCommandBuilder<>(codec, ClientOptions.DEFAULT_JSON_PARSER);
     }
 
     @Override
@@ -208,21 +220,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<Long> del(Iterable<K> keys) {
-
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
-
-        if (partitioned.size() < 2) {
-            return super.del(keys);
-        }
-
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.del(entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return multiKeyExecution.reduce(keys, it -> multiKeyCommandBuilder.keyCount(CommandType.DEL, it), Long::sum);
     }
 
     @Override
@@ -231,21 +229,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     }
 
     public RedisFuture<Long> exists(Iterable<K> keys) {
-
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
-
-        if (partitioned.size() < 2) {
-            return super.exists(keys);
-        }
-
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> exists = super.exists(entry.getValue());
-            executions.put(entry.getKey(), exists);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return multiKeyExecution.reduce(keys, it -> multiKeyCommandBuilder.keyCount(CommandType.EXISTS, it), Long::sum);
     }
 
     @Override
@@ -298,50 +282,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<List<JsonValue>> jsonMGet(JsonPath jsonPath, K... keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, Arrays.asList(keys));
-
-        if (partitioned.size() < 2) {
-            return super.jsonMGet(jsonPath, keys);
-        }
-
-        // For a given partition, maps the key to its index within the List<K> in partitioned for faster lookups below
-        Map<Integer, Map<K, Integer>> keysToIndexes = mapKeyToIndex(partitioned);
-        Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<JsonValue>>> executions = new HashMap<>(partitioned.size());
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            K[] partitionKeys = entry.getValue().toArray((K[]) new Object[entry.getValue().size()]);
-            RedisFuture<List<JsonValue>> jsonMget = super.jsonMGet(jsonPath, partitionKeys);
-            executions.put(entry.getKey(), jsonMget);
-        }
-
-        // restore order of key
-        return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<JsonValue> result = new ArrayList<>(slots.size());
-            for (K opKey : keys) {
-                int slot = slots.get(opKey);
-
-                int position = keysToIndexes.get(slot).get(opKey);
-                RedisFuture<List<JsonValue>> listRedisFuture = executions.get(slot);
-                result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
-            }
-
-            return result;
-        });
-    }
-
-    private Map<Integer, Map<K, Integer>> mapKeyToIndex(Map<Integer, List<K>> partitioned) {
-        Map<Integer, Map<K, Integer>> result = new HashMap<>(partitioned.size());
-        for (Integer partition : partitioned.keySet()) {
-            List<K> keysForPartition = partitioned.get(partition);
-            Map<K, Integer> keysToIndexes = new HashMap<>(keysForPartition.size());
-            for (int i = 0; i < keysForPartition.size(); i++) {
-                keysToIndexes.put(keysForPartition.get(i), i);
-            }
-            result.put(partition, keysToIndexes);
-        }
-
-        return result;
+        return multiKeyExecution.gather(Arrays.asList(keys), it -> multiKeyCommandBuilder.jsonMGet(jsonPath, it));
     }
 
     @Override
@@ -351,35 +292,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<List<KeyValue<K, V>>> mget(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
-
-        if (partitioned.size() < 2) {
-            return super.mget(keys);
-        }
-
-        // For a given partition, maps the key to its index within the List<K> in partitioned for faster lookups below
-        Map<Integer, Map<K, Integer>> partitionedKeysToIndexes = mapKeyToIndex(partitioned);
-        Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<KeyValue<K, V>>>> executions = new HashMap<>(partitioned.size());
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<KeyValue<K, V>>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
-        }
-
-        // restore order of key
-        return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<KeyValue<K, V>> result = new ArrayList<>(slots.size());
-            for (K opKey : keys) {
-                int slot = slots.get(opKey);
-
-                int position = partitionedKeysToIndexes.get(slot).get(opKey);
-                RedisFuture<List<KeyValue<K, V>>> listRedisFuture = executions.get(slot);
-                result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
-            }
-
-            return result;
-        });
+        return multiKeyExecution.gather(keys, multiKeyCommandBuilder::mget);
     }
 
     @Override
@@ -389,20 +302,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<Long> mget(KeyValueStreamingChannel<K, V> channel, Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
-
-        if (partitioned.size() < 2) {
-            return super.mget(channel, keys);
-        }
-
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.mget(channel, entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return multiKeyExecution.reduce(keys, it -> multiKeyCommandBuilder.mget(channel, it), Long::sum);
     }
 
     @Override
@@ -431,58 +331,12 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<String> mset(Map<K, V> map) {
-
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
-
-        if (partitioned.size() < 2) {
-            return super.mset(map);
-        }
-
-        Map<Integer, RedisFuture<String>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<String> mset = super.mset(op);
-            executions.put(entry.getKey(), mset);
-        }
-
-        return MultiNodeExecution.firstOfAsync(executions);
+        return multiKeyExecution.reduce(map.keySet(), it -> multiKeyCommandBuilder.mset(it, map), (a, b) -> a);
     }
 
     @Override
     public RedisFuture<Boolean> msetnx(Map<K, V> map) {
-
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
-
-        if (partitioned.size() < 2) {
-            return super.msetnx(map);
-        }
-
-        Map<Integer, RedisFuture<Boolean>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<Boolean> msetnx = super.msetnx(op);
-            executions.put(entry.getKey(), msetnx);
-        }
-
-        return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-
-            for (RedisFuture<Boolean> listRedisFuture : executions.values()) {
-                Boolean b = MultiNodeExecution.execute(() -> listRedisFuture.get());
-                if (b == null || !b) {
-                    return false;
-                }
-            }
-
-            return !executions.isEmpty();
-        });
+        return multiKeyExecution.reduce(map.keySet(), it -> multiKeyCommandBuilder.msetnx(it, map), (a, b) -> a && b);
     }
 
     @Override
@@ -546,20 +400,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     }
 
     public RedisFuture<Long> touch(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
-
-        if (partitioned.size() < 2) {
-            return super.touch(keys);
-        }
-
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> touch = super.touch(entry.getValue());
-            executions.put(entry.getKey(), touch);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return multiKeyExecution.reduce(keys, it -> multiKeyCommandBuilder.keyCount(CommandType.TOUCH, it), Long::sum);
     }
 
     @Override
@@ -569,21 +410,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<Long> unlink(Iterable<K> keys) {
-
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
-
-        if (partitioned.size() < 2) {
-            return super.unlink(keys);
-        }
-
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> unlink = super.unlink(entry.getValue());
-            executions.put(entry.getKey(), unlink);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return multiKeyExecution.reduce(keys, it -> multiKeyCommandBuilder.keyCount(CommandType.UNLINK, it), Long::sum);
     }
 
     @Override
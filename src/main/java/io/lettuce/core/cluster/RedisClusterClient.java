@@ -32,7 +32,9 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -168,6 +170,8 @@ public class RedisClusterClient extends AbstractRedisClient {
 
     private volatile Partitions partitions;
 
+    private final AtomicInteger refreshSampleOffset = new AtomicInteger(ThreadLocalRandom.current().nextInt(1 << 16));
+
     /**
      * Non-private constructor to make {@link RedisClusterClient} proxyable.
      */
@@ -715,7 +719,26 @@ public class RedisClusterClient extends AbstractRedisClient {
         return connectionMono
                 .doOnNext(
                         c -> connection.registerCloseables(closeableResources, clusterWriter, pooledClusterConnectionProvider))
-                .map(it -> (StatefulRedisClusterConnection<K, V>) it).toFuture();
+                .flatMap(this::warmUpOnConnect).map(it -> (StatefulRedisClusterConnection<K, V>) it).toFuture();
+    }
+
+    /**
+     * Warm up node connections if {@link ClusterWarmUpOptions#isWarmUpOnConnect() configured}. Warm-up failures do not fail the
+     * connect as the affected nodes are connected on first use.
+     */
+    private <K, V> Mono<StatefulRedisClusterConnectionImpl<K, V>> warmUpOnConnect(
+            StatefulRedisClusterConnectionImpl<K, V> connection) {
+
+        ClusterWarmUpOptions warmUpOptions = getClusterClientOptions().getWarmUpOptions();
+
+        if (!warmUpOptions.isWarmUpOnConnect()) {
+            return Mono.just(connection);
+        }
+
+        return Mono.fromCompletionStage(() -> connection.warmUp(warmUpOptions)).onErrorResume(e -> {
+            logger.warn("Cannot warm up cluster node connections: " + e.toString());
+            return Mono.empty();
+        }).thenReturn(connection);
     }
 
     /**
@@ -957,7 +980,7 @@ public class RedisClusterClient extends AbstractRedisClient {
                 getResources().eventBus().publish(new ClusterTopologyChangedEvent(before, after));
             }
 
-            this.partitions.reload(loadedPartitions.getPartitions());
+            this.partitions.update(loadedPartitions.getPartitions());
             updatePartitionsInConnections();
         }).whenComplete((unused, throwable) -> event.record());
     }
@@ -1039,7 +1062,7 @@ public class RedisClusterClient extends AbstractRedisClient {
         Iterable<RedisURI> topologyRefreshSource = getTopologyRefreshSource();
         CompletableFuture<Partitions> future = new CompletableFuture<>();
 
-        fetchPartitions(topologyRefreshSource).whenComplete((nodes, throwable) -> {
+        fetchSampledPartitions(topologyRefreshSource).whenComplete((nodes, throwable) -> {
 
             if (throwable == null) {
                 future.complete(nodes);
@@ -1085,32 +1108,128 @@ public class RedisClusterClient extends AbstractRedisClient {
         return future;
     }
 
+    /**
+     * Fetch partitions from a {@link #getTopologyRefreshSample() sample} of nodes if configured. Falls back to fetch partitions
+     * from {@code topologyRefreshSource} if the sampled nodes report different topology views or if a sampled node cannot be
+     * queried.
+     */
+    private CompletionStage<Partitions> fetchSampledPartitions(Iterable<RedisURI> topologyRefreshSource) {
+
+        List<RedisURI> sample = getTopologyRefreshSample();
+
+        if (sample == null) {
+            return fetchPartitions(topologyRefreshSource);
+        }
+
+        CompletionStage<Map<RedisURI, Partitions>> topology = refresh.loadViews(sample,
+                getClusterClientOptions().getSocketOptions().getConnectTimeout(), false);
+
+        return topology.handle((views, throwable) -> throwable == null && isConsistent(sample, views) ? views : null)
+                .thenCompose(views -> {
+
+                    if (views == null) {
+                        logger.debug("Sampled topology views differ, querying all known nodes");
+                        return fetchPartitions(topologyRefreshSource);
+                    }
+
+                    return CompletableFuture.completedFuture(getPartitions(sample, views));
+                });
+    }
+
     private CompletionStage<Partitions> fetchPartitions(Iterable<RedisURI> topologyRefreshSource) {
 
         CompletionStage<Map<RedisURI, Partitions>> topology = refresh.loadViews(topologyRefreshSource,
                 getClusterClientOptions().getSocketOptions().getConnectTimeout(), useDynamicRefreshSources());
 
-        return topology.thenApply(partitions -> {
+        return topology.thenApply(partitions -> getPartitions(topologyRefreshSource, partitions));
+    }
 
-            if (partitions.isEmpty()) {
-                throw new RedisException(String.format("Cannot retrieve initial cluster partitions from initial URIs %s",
-                        topologyRefreshSource));
+    private Partitions getPartitions(Iterable<RedisURI> topologyRefreshSource, Map<RedisURI, Partitions> partitions) {
+
+        if (partitions.isEmpty()) {
+            throw new RedisException(
+                    String.format("Cannot retrieve initial cluster partitions from initial URIs %s", topologyRefreshSource));
+        }
+
+        Partitions loadedPartitions = determinePartitions(this.partitions, partitions);
+        RedisURI viewedBy = getViewedBy(partitions, loadedPartitions);
+
+        for (RedisClusterNode partition : loadedPartitions) {
+            if (viewedBy != null) {
+                RedisURI uri = partition.getUri();
+                RedisClusterURIUtil.applyUriConnectionSettings(viewedBy, uri);
             }
+        }
 
-            Partitions loadedPartitions = determinePartitions(this.partitions, partitions);
-            RedisURI viewedBy = getViewedBy(partitions, loadedPartitions);
+        topologyRefreshScheduler.activateTopologyRefreshIfNeeded();
 
-            for (RedisClusterNode partition : loadedPartitions) {
-                if (viewedBy != null) {
-                    RedisURI uri = partition.getUri();
-                    RedisClusterURIUtil.applyUriConnectionSettings(viewedBy, uri);
-                }
+        return loadedPartitions;
+    }
+
+    /**
+     * Returns the nodes to query for a sampled topology refresh or {@code null} if the topology refresh should query all
+     * {@link #getTopologyRefreshSource() refresh sources}. Samples are taken from the known healthy nodes ordered by their
+     * {@link RedisURI} and rotate with each refresh.
+     *
+     * @return the sampled nodes or {@code null} if sampling does not apply.
+     */
+    private List<RedisURI> getTopologyRefreshSample() {
+
+        int sampleSize = getClusterClientOptions().getTopologyRefreshOptions().getRefreshSourcesSampleSize();
+        Partitions partitions = this.partitions;
+
+        if (sampleSize == 0 || partitions == null || !useDynamicRefreshSources()) {
+            return null;
+        }
+
+        List<RedisClusterNode> candidates = new ArrayList<>(partitions.size());
+
+        for (RedisClusterNode node : TopologyComparators.sortByUri(partitions)) {
+
+            if (node.is(RedisClusterNode.NodeFlag.FAIL) || node.is(RedisClusterNode.NodeFlag.EVENTUAL_FAIL)
+                    || node.is(RedisClusterNode.NodeFlag.NOADDR)) {
+                continue;
             }
 
-            topologyRefreshScheduler.activateTopologyRefreshIfNeeded();
+            candidates.add(node);
+        }
 
-            return loadedPartitions;
-        });
+        if (candidates.size() <= sampleSize) {
+            return null;
+        }
+
+        int offset = refreshSampleOffset.getAndAdd(sampleSize);
+        List<RedisURI> sample = new ArrayList<>(sampleSize);
+
+        for (int i = 0; i < sampleSize; i++) {
+            sample.add(candidates.get(Math.floorMod(offset + i, candidates.size())).getUri());
+        }
+
+        return sample;
+    }
+
+    /**
+     * Sampled topology views are consistent if all sampled nodes reported a view and the views do not differ in their
+     * {@link TopologyComparators#isChanged(Partitions, Partitions) essential} topology details.
+     */
+    private static boolean isConsistent(List<RedisURI> sample, Map<RedisURI, Partitions> views) {
+
+        if (views.size() < sample.size()) {
+            return false;
+        }
+
+        Partitions reference = null;
+
+        for (Partitions view : views.values()) {
+
+            if (reference == null) {
+                reference = view;
+            } else if (TopologyComparators.isChanged(reference, view)) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -1249,7 +1368,8 @@ public class RedisClusterClient extends AbstractRedisClient {
      * @since 6.0.3
      */
     protected ClusterTopologyRefresh createTopologyRefresh() {
-        return ClusterTopologyRefresh.create(new NodeConnectionFactoryImpl(), getResources());
+        return ClusterTopologyRefresh.create(new NodeConnectionFactoryImpl(), getResources(),
+                () -> getClusterClientOptions().getTopologyRefreshOptions().useClusterShards());
     }
 
     /**
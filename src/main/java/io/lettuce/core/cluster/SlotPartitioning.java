@@ -0,0 +1,191 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * Partitioning of keys by their slot. Keys are ordered by slot using a single primitive sort so that keys mapping to the same
+ * slot form a contiguous group that retains the order in which the keys were provided. Results of per-group commands are mapped
+ * back to the original key position through {@link #getPosition(int, int)} without the need for per-key lookup maps.
+ *
+ * @param <K> Key type.
+ * @since 6.7
+ */
+final class SlotPartitioning<K> {
+
+    private final List<K> keys;
+
+    /**
+     * Original key positions ordered by slot.
+     */
+    private final int[] positions;
+
+    /**
+     * Start offset of each group within {@link #positions}, terminated by the number of keys.
+     */
+    private final int[] groupOffsets;
+
+    private final int[] groupSlots;
+
+    private SlotPartitioning(List<K> keys, int[] positions, int[] groupOffsets, int[] groupSlots) {
+        this.keys = keys;
+        this.positions = positions;
+        this.groupOffsets = groupOffsets;
+        this.groupSlots = groupSlots;
+    }
+
+    /**
+     * Partition {@code keys} by their slot.
+     *
+     * @param codec the codec to encode keys.
+     * @param keys the keys to partition.
+     * @return the {@link SlotPartitioning}.
+     */
+    static <K> SlotPartitioning<K> of(RedisCodec<K, ?> codec, List<K> keys) {
+
+        int size = keys.size();
+        int[] slots = new int[size];
+        boolean singleSlot = true;
+
+        for (int i = 0; i < size; i++) {
+
+            slots[i] = SlotHash.getSlot(codec.encodeKey(keys.get(i)));
+
+            if (slots[i] != slots[0]) {
+                singleSlot = false;
+            }
+        }
+
+        if (size == 0) {
+            return new SlotPartitioning<>(keys, new int[0], new int[] { 0 }, new int[0]);
+        }
+
+        if (singleSlot) {
+
+            int[] positions = new int[size];
+            for (int i = 0; i < size; i++) {
+                positions[i] = i;
+            }
+
+            return new SlotPartitioning<>(keys, positions, new int[] { 0, size }, new int[] { slots[0] });
+        }
+
+        // slot in the upper, position in the lower 32 bits: sorting orders by slot and retains the key order within a slot.
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = ((long) slots[i] << Integer.SIZE) | i;
+        }
+
+        Arrays.sort(sorted);
+
+        int groups = 1;
+        for (int i = 1; i < size; i++) {
+            if (slot(sorted[i]) != slot(sorted[i - 1])) {
+                groups++;
+            }
+        }
+
+        int[] positions = new int[size];
+        int[] groupOffsets = new int[groups + 1];
+        int[] groupSlots = new int[groups];
+        int group = 0;
+
+        for (int i = 0; i < size; i++) {
+
+            positions[i] = (int) sorted[i];
+
+            if (i == 0 || slot(sorted[i]) != slot(sorted[i - 1])) {
+                groupOffsets[group] = i;
+                groupSlots[group] = slot(sorted[i]);
+                group++;
+            }
+        }
+
+        groupOffsets[groups] = size;
+
+        return new SlotPartitioning<>(keys, positions, groupOffsets, groupSlots);
+    }
+
+    private static int slot(long value) {
+        return (int) (value >>> Integer.SIZE);
+    }
+
+    /**
+     * @return the total number of keys.
+     */
+    int size() {
+        return positions.length;
+    }
+
+    /**
+     * @return the number of slot groups.
+     */
+    int getGroupCount() {
+        return groupSlots.length;
+    }
+
+    /**
+     * @param group the group index.
+     * @return the slot of the group.
+     */
+    int getSlot(int group) {
+        return groupSlots[group];
+    }
+
+    /**
+     * @param group the group index.
+     * @return the number of keys within the group.
+     */
+    int getGroupSize(int group) {
+        return groupOffsets[group + 1] - groupOffsets[group];
+    }
+
+    /**
+     * @param group the group index.
+     * @return the keys of the group in the order they were provided.
+     */
+    List<K> getKeys(int group) {
+
+        int offset = groupOffsets[group];
+        int groupSize = getGroupSize(group);
+        List<K> result = new ArrayList<>(groupSize);
+
+        for (int i = 0; i < groupSize; i++) {
+            result.add(keys.get(positions[offset + i]));
+        }
+
+        return result;
+    }
+
+    /**
+     * @param group the group index.
+     * @param index the index of the key within the group.
+     * @return the position of the key within the originally provided keys.
+     */
+    int getPosition(int group, int index) {
+        return positions[groupOffsets[group] + index];
+    }
+
+}
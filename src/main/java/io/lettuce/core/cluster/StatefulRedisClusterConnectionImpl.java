@@ -41,6 +41,7 @@ import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
@@ -142,6 +143,10 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return new RedisAdvancedClusterAsyncCommandsImpl((StatefulRedisClusterConnection<K, V>) this, codec, parser);
     }
 
+    public RedisCodec<K, V> getCodec() {
+        return codec;
+    }
+
     @Override
     public RedisAdvancedClusterCommands<K, V> sync() {
         return sync;
@@ -322,6 +327,35 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return partitions;
     }
 
+    @Override
+    public CompletableFuture<Void> warmUp() {
+
+        ClusterClientOptions options = getClusterClientOptions();
+        return warmUp(options != null ? options.getWarmUpOptions() : ClusterClientOptions.DEFAULT_WARM_UP_OPTIONS);
+    }
+
+    @Override
+    public CompletableFuture<Void> warmUp(ClusterWarmUpOptions warmUpOptions) {
+
+        LettuceAssert.notNull(warmUpOptions, "ClusterWarmUpOptions must not be null");
+
+        AsyncClusterConnectionProvider provider = (AsyncClusterConnectionProvider) getClusterDistributionChannelWriter()
+                .getClusterConnectionProvider();
+
+        return provider.warmUp(warmUpOptions);
+    }
+
+    @Override
+    public CompletableFuture<Void> setClientTracking(TrackingArgs trackingArgs) {
+
+        LettuceAssert.notNull(trackingArgs, "TrackingArgs must not be null");
+
+        AsyncClusterConnectionProvider provider = (AsyncClusterConnectionProvider) getClusterDistributionChannelWriter()
+                .getClusterConnectionProvider();
+
+        return provider.setClientTracking(trackingArgs);
+    }
+
     @Override
     public void setReadFrom(ReadFrom readFrom) {
         LettuceAssert.notNull(readFrom, "ReadFrom must not be null");
@@ -24,9 +24,11 @@ import java.util.concurrent.CompletableFuture;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.TrackingArgs;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterWarmUpOptions;
 import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
 import io.lettuce.core.cluster.api.push.RedisClusterPushListener;
 import io.lettuce.core.cluster.api.reactive.RedisAdvancedClusterReactiveCommands;
@@ -244,6 +246,46 @@ public interface StatefulRedisClusterConnection<K, V> extends StatefulConnection
     CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(String host, int port,
             ConnectionIntent connectionIntent);
 
+    /**
+     * Warm up node connections using the {@link ClusterClientOptions#getWarmUpOptions() configured}
+     * {@link ClusterWarmUpOptions}. Node connections are otherwise established lazily on first use of a slot.
+     *
+     * @return {@link CompletableFuture} that completes once all slots are routed to a node connection. The future completes
+     *         exceptionally if a node connection cannot be established.
+     * @since 6.7
+     * @see #warmUp(ClusterWarmUpOptions)
+     */
+    CompletableFuture<Void> warmUp();
+
+    /**
+     * Warm up node connections ahead of their first use. Connections to all upstream nodes (and replicas if
+     * {@link ClusterWarmUpOptions#isReplicas() configured}) are established in parallel with at most
+     * {@link ClusterWarmUpOptions#getParallelism()} concurrent connection attempts. Once connected, the slot routing of this
+     * connection is populated so that commands are dispatched without connecting.
+     *
+     * @param warmUpOptions the warm-up options, must not be {@code null}.
+     * @return {@link CompletableFuture} that completes once all slots are routed to a node connection. The future completes
+     *         exceptionally if a node connection cannot be established.
+     * @since 6.7
+     */
+    CompletableFuture<Void> warmUp(ClusterWarmUpOptions warmUpOptions);
+
+    /**
+     * Enable or disable server-assisted client-side caching ({@code CLIENT TRACKING}) on all node connections of this cluster
+     * connection. Unlike {@code CLIENT TRACKING} issued through the command API, which is sent to the default connection only,
+     * this setting is applied to all open node connections and to node connections that are established later on, for example
+     * after a topology change. Node connections restore tracking when reconnecting. Invalidation messages are delivered to
+     * {@link #addListener(RedisClusterPushListener) cluster push listeners}.
+     * <p>
+     * Tracking requires RESP3 as invalidations are sent to the tracking connection itself. {@link TrackingArgs#redirect(long)
+     * Redirection} is not supported.
+     *
+     * @param trackingArgs the tracking arguments, must not be {@code null}.
+     * @return {@link CompletableFuture} that completes once tracking was applied to all open node connections.
+     * @since 6.7
+     */
+    CompletableFuture<Void> setClientTracking(TrackingArgs trackingArgs);
+
     /**
      * Set from which nodes data is read. The setting is used as default for read operations on this connection. See the
      * documentation for {@link ReadFrom} for more information.
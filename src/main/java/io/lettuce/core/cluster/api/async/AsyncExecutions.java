@@ -9,6 +9,9 @@ import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import io.lettuce.core.KeyValue;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 
 /**
@@ -55,6 +58,25 @@ public interface AsyncExecutions<T> extends Iterable<CompletableFuture<T>>, Comp
      */
     <R, A> CompletionStage<R> thenCollect(Collector<? super T, A, R> collector);
 
+    /**
+     * Return a {@link Flux} that emits the result of each node as soon as the node execution completes. {@code null} results
+     * are represented as {@link KeyValue#empty(Object) empty} {@link KeyValue}. Failed node executions do not terminate the
+     * stream early: the {@link Flux} emits the results of all successful node executions and terminates with the error(s) of
+     * failed node executions.
+     *
+     * @return a {@link Flux} of node results in completion order.
+     * @since 6.7
+     */
+    default Flux<KeyValue<RedisClusterNode, T>> flux() {
+
+        Map<RedisClusterNode, CompletableFuture<T>> executions = asMap();
+
+        return Flux.fromIterable(executions.entrySet())
+                .flatMapDelayError(entry -> Mono.fromCompletionStage(entry.getValue())
+                        .map(value -> KeyValue.just(entry.getKey(), value)).defaultIfEmpty(KeyValue.empty(entry.getKey())),
+                        Math.max(1, executions.size()), 1);
+    }
+
     /**
      * @return a sequential {@code Stream} over the {@link CompletionStage CompletionStages} in this collection
      */
@@ -1,6 +1,7 @@
 package io.lettuce.core.cluster.api.async;
 
 import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.cluster.NodeSelectionOptions;
 import io.lettuce.core.cluster.api.NodeSelectionSupport;
 
 /**
@@ -12,4 +13,15 @@ import io.lettuce.core.cluster.api.NodeSelectionSupport;
 public interface AsyncNodeSelection<K, V>
         extends NodeSelectionSupport<RedisAsyncCommands<K, V>, NodeSelectionAsyncCommands<K, V>> {
 
+    /**
+     * Return a view of this node selection that executes commands according to {@link NodeSelectionOptions}. Commands invoked
+     * through the returned selection are sent to at most {@link NodeSelectionOptions#getParallelism()} nodes concurrently. Node
+     * results can be consumed as they complete through {@link AsyncExecutions#flux()}.
+     *
+     * @param options the execution options, must not be {@code null}.
+     * @return a view of this node selection using {@link NodeSelectionOptions}.
+     * @since 6.7
+     */
+    AsyncNodeSelection<K, V> withOptions(NodeSelectionOptions options);
+
 }
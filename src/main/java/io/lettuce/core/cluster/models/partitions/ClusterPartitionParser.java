@@ -35,6 +35,7 @@ public class ClusterPartitionParser {
         map.put("replica", RedisClusterNode.NodeFlag.REPLICA);
         map.put("fail?", RedisClusterNode.NodeFlag.EVENTUAL_FAIL);
         map.put("fail", RedisClusterNode.NodeFlag.FAIL);
+        map.put("failed", RedisClusterNode.NodeFlag.FAIL);
         map.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
         map.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
         map.put("loading", RedisClusterNode.NodeFlag.LOADING);
@@ -22,8 +22,11 @@ package io.lettuce.core.cluster.models.partitions;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -74,6 +77,8 @@ public class Partitions implements Collection<RedisClusterNode> {
 
     private volatile Collection<RedisClusterNode> nodeReadView = Collections.emptyList();
 
+    private boolean overlappingSlots;
+
     /**
      * Create a deep copy of this {@link Partitions} object.
      *
@@ -181,6 +186,8 @@ public class Partitions implements Collection<RedisClusterNode> {
             RedisClusterNode[] masterCache = new RedisClusterNode[SlotHash.SLOT_COUNT];
             List<RedisClusterNode> readView = new ArrayList<>(partitions.size());
 
+            overlappingSlots = false;
+
             for (RedisClusterNode partition : partitions) {
 
                 readView.add(partition);
@@ -188,7 +195,14 @@ public class Partitions implements Collection<RedisClusterNode> {
                     partition.forEachSlot(i -> masterCache[i] = partition);
                 }
 
-                partition.forEachSlot(i -> slotCache[i] = partition);
+                partition.forEachSlot(i -> {
+
+                    if (slotCache[i] != null) {
+                        overlappingSlots = true;
+                    }
+
+                    slotCache[i] = partition;
+                });
             }
 
             this.slotCache = slotCache;
@@ -200,6 +214,7 @@ public class Partitions implements Collection<RedisClusterNode> {
     }
 
     private void invalidateCache() {
+        this.overlappingSlots = false;
         this.slotCache = EMPTY;
         this.masterCache = EMPTY;
         this.nodeReadView = Collections.emptyList();
@@ -284,6 +299,133 @@ public class Partitions implements Collection<RedisClusterNode> {
         }
     }
 
+    /**
+     * Update partitions by applying only the differences between the current nodes and {@code partitions}. Nodes are matched by
+     * their {@link RedisClusterNode#getNodeId() nodeId}. Nodes whose connection point, flags, replication source and slots did
+     * not change are retained (including their identity) and receive the new {@link RedisURI}, replication offset and ping/pong
+     * timestamps. Only slots of added, changed and removed nodes are updated in the slot cache. The order of nodes follows
+     * {@code partitions}.
+     * <p>
+     * Falls back to {@link #reload(List)} if the caches require a full rebuild, for example if multiple nodes claim the same
+     * slot.
+     *
+     * @param partitions list of new partitions
+     * @return {@code true} if nodes were added, changed, or removed; {@code false} if the topology remained unchanged.
+     * @since 6.7
+     */
+    public boolean update(List<RedisClusterNode> partitions) {
+
+        LettuceAssert.noNullElements(partitions, "Partitions must not contain null elements");
+
+        lock.lock();
+        try {
+
+            if (this.partitions.isEmpty() || slotCache == EMPTY || overlappingSlots) {
+                reload(partitions);
+                return true;
+            }
+
+            Map<String, RedisClusterNode> previous = new HashMap<>(this.partitions.size() * 2);
+            for (RedisClusterNode partition : this.partitions) {
+                previous.put(partition.getNodeId(), partition);
+            }
+
+            List<RedisClusterNode> nodes = new ArrayList<>(partitions.size());
+            List<RedisClusterNode> added = new ArrayList<>();
+
+            for (RedisClusterNode partition : partitions) {
+
+                RedisClusterNode existing = previous.get(partition.getNodeId());
+
+                if (existing != null && hasSameTopology(existing, partition)) {
+
+                    previous.remove(partition.getNodeId());
+                    existing.setUri(partition.getUri());
+                    existing.setReplOffset(partition.getReplOffset());
+                    existing.setPingSentTimestamp(partition.getPingSentTimestamp());
+                    existing.setPongReceivedTimestamp(partition.getPongReceivedTimestamp());
+                    nodes.add(existing);
+                } else {
+                    added.add(partition);
+                    nodes.add(partition);
+                }
+            }
+
+            if (added.isEmpty() && previous.isEmpty()) {
+
+                this.partitions.clear();
+                this.partitions.addAll(nodes);
+                this.nodeReadView = Collections.unmodifiableCollection(new ArrayList<>(nodes));
+                return false;
+            }
+
+            RedisClusterNode[] slotCache = this.slotCache.clone();
+            RedisClusterNode[] masterCache = this.masterCache.clone();
+
+            for (RedisClusterNode removed : previous.values()) {
+                removed.forEachSlot(i -> {
+
+                    if (slotCache[i] == removed) {
+                        slotCache[i] = null;
+                    }
+
+                    if (masterCache[i] == removed) {
+                        masterCache[i] = null;
+                    }
+                });
+            }
+
+            for (RedisClusterNode partition : added) {
+
+                boolean upstream = partition.is(RedisClusterNode.NodeFlag.UPSTREAM);
+
+                partition.forEachSlot(i -> {
+
+                    if (slotCache[i] != null) {
+                        overlappingSlots = true;
+                    }
+
+                    slotCache[i] = partition;
+
+                    if (upstream) {
+                        masterCache[i] = partition;
+                    }
+                });
+            }
+
+            this.partitions.clear();
+            this.partitions.addAll(nodes);
+
+            if (overlappingSlots) {
+                updateCache();
+                return true;
+            }
+
+            this.slotCache = slotCache;
+            this.masterCache = masterCache;
+            this.nodeReadView = Collections.unmodifiableCollection(new ArrayList<>(nodes));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean hasSameTopology(RedisClusterNode current, RedisClusterNode update) {
+
+        if (!Objects.equals(current.getUri(), update.getUri()) || !current.getFlags().equals(update.getFlags())
+                || !Objects.equals(current.getSlaveOf(), update.getSlaveOf())
+                || current.getConfigEpoch() != update.getConfigEpoch() || current.isConnected() != update.isConnected()
+                || !current.getAliases().equals(update.getAliases())) {
+            return false;
+        }
+
+        if (current.hasNoSlots() || update.hasNoSlots()) {
+            return current.hasNoSlots() && update.hasNoSlots();
+        }
+
+        return current.hasSameSlotsAs(update);
+    }
+
     /**
      * Returns {@code true} if this {@link Partitions} contains no elements using the read-view.
      *
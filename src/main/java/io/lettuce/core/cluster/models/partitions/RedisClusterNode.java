@@ -318,12 +318,8 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
             return;
         }
 
-        int length = this.slots.length();
-        for (int i = 0; i < length; i++) {
-
-            if (this.slots.get(i)) {
-                consumer.accept(i);
-            }
+        for (int i = this.slots.nextSetBit(0); i >= 0; i = this.slots.nextSetBit(i + 1)) {
+            consumer.accept(i);
         }
     }
 
@@ -3,6 +3,7 @@ package io.lettuce.core.cluster.topology;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BooleanSupplier;
 
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.cluster.models.partitions.Partitions;
@@ -27,6 +28,21 @@ public interface ClusterTopologyRefresh {
         return new DefaultClusterTopologyRefresh(nodeConnectionFactory, clientResources);
     }
 
+    /**
+     * Create a new {@link ClusterTopologyRefresh} instance.
+     *
+     * @param nodeConnectionFactory the connection factory to open connections to specific cluster nodes
+     * @param clientResources shared client resources
+     * @param useClusterShards supplier whether to obtain the topology using {@code CLUSTER SHARDS} instead of
+     *        {@code CLUSTER NODES}. Evaluated for each topology load.
+     * @return a new {@link ClusterTopologyRefresh} instance.
+     * @since 6.7
+     */
+    static ClusterTopologyRefresh create(NodeConnectionFactory nodeConnectionFactory, ClientResources clientResources,
+            BooleanSupplier useClusterShards) {
+        return new DefaultClusterTopologyRefresh(nodeConnectionFactory, clientResources, useClusterShards);
+    }
+
     /**
      * Load topology views from a collection of {@link RedisURI}s and return the view per {@link RedisURI}. Partitions contain
      * an ordered list of {@link RedisClusterNode}s. The sort key is latency. Nodes with lower latency come first.
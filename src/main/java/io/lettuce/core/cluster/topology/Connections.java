@@ -2,6 +2,7 @@ package io.lettuce.core.cluster.topology;
 
 import java.time.Duration;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -13,7 +14,9 @@ import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.ExceptionFactory;
+import io.lettuce.core.output.ArrayOutput;
 import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandKeyword;
@@ -111,6 +114,39 @@ class Connections {
         }, timeout, timeUnit);
     }
 
+    /*
+     * Initiate {@code CLUSTER MYID} and {@code CLUSTER SHARDS} on all connections and return the {@link Requests}.
+     * @return the {@link Requests}.
+     */
+    public Requests requestShards(long timeout, TimeUnit timeUnit) {
+
+        Requests requests = new Requests();
+
+        try {
+            lock.lock();
+            for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : this.connections.entrySet()) {
+
+                Command<String, String, String> myId = new Command<>(CommandType.CLUSTER, new StatusOutput<>(StringCodec.UTF8),
+                        new CommandArgs<>(StringCodec.UTF8).add(CommandType.MYID));
+                Command<String, String, List<Object>> shards = new Command<>(CommandType.CLUSTER,
+                        new ArrayOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.SHARDS));
+
+                AsyncCommand<String, String, String> myIdCommand = new AsyncCommand<>(myId);
+                TimedAsyncCommand<String, String, List<Object>> shardsCommand = new TimedAsyncCommand<>(shards);
+
+                dispatch(entry.getValue(), myIdCommand, timeout, timeUnit);
+                dispatch(entry.getValue(), shardsCommand, timeout, timeUnit);
+
+                requests.addNodeIdRequest(entry.getKey(), myIdCommand);
+                requests.addRequest(entry.getKey(), shardsCommand);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return requests;
+    }
+
     /*
      * Initiate {@code CLUSTER NODES} on all connections and return the {@link Requests}.
      * @return the {@link Requests}.
@@ -119,19 +155,13 @@ class Connections {
             TimeUnit timeUnit) {
 
         Requests requests = new Requests();
-        Duration timeoutDuration = Duration.ofNanos(timeUnit.toNanos(timeout));
 
         try {
             lock.lock();
             for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : this.connections.entrySet()) {
-
                 TimedAsyncCommand<String, String, String> timedCommand = commandFactory.get();
 
-                clientResources.timer().newTimeout(it -> {
-                    timedCommand.completeExceptionally(ExceptionFactory.createTimeoutException(timeoutDuration));
-                }, timeout, timeUnit);
-
-                entry.getValue().dispatch(timedCommand);
+                dispatch(entry.getValue(), timedCommand, timeout, timeUnit);
                 requests.addRequest(entry.getKey(), timedCommand);
             }
         } finally {
@@ -141,6 +171,18 @@ class Connections {
         return requests;
     }
 
+    private void dispatch(StatefulRedisConnection<String, String> connection, AsyncCommand<String, String, ?> command,
+            long timeout, TimeUnit timeUnit) {
+
+        Duration timeoutDuration = Duration.ofNanos(timeUnit.toNanos(timeout));
+
+        clientResources.timer().newTimeout(it -> {
+            command.completeExceptionally(ExceptionFactory.createTimeoutException(timeoutDuration));
+        }, timeout, timeUnit);
+
+        connection.dispatch(command);
+    }
+
     public Connections retainAll(Set<RedisURI> connectionsToRetain) {
 
         Set<RedisURI> keys = new LinkedHashSet<>(connections.keySet());
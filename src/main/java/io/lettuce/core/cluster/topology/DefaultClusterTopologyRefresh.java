@@ -38,6 +38,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -75,9 +76,17 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
 
     private final ClientResources clientResources;
 
+    private final BooleanSupplier useClusterShards;
+
     public DefaultClusterTopologyRefresh(NodeConnectionFactory nodeConnectionFactory, ClientResources clientResources) {
+        this(nodeConnectionFactory, clientResources, () -> false);
+    }
+
+    public DefaultClusterTopologyRefresh(NodeConnectionFactory nodeConnectionFactory, ClientResources clientResources,
+            BooleanSupplier useClusterShards) {
         this.nodeConnectionFactory = nodeConnectionFactory;
         this.clientResources = clientResources;
+        this.useClusterShards = useClusterShards;
     }
 
     /**
@@ -98,6 +107,7 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
         }
 
         long commandTimeoutNs = getCommandTimeoutNs(seed);
+        boolean shards = useClusterShards.getAsBoolean();
         ConnectionTracker tracker = new ConnectionTracker();
         long connectionTimeout = commandTimeoutNs + connectTimeout.toNanos();
         openConnections(tracker, seed, connectionTimeout, TimeUnit.NANOSECONDS);
@@ -106,7 +116,7 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
             return new Connections(clientResources, map);
         }).thenCompose(connections -> {
 
-            Requests requestedTopology = connections.requestTopology(commandTimeoutNs, TimeUnit.NANOSECONDS);
+            Requests requestedTopology = requestTopology(connections, shards, commandTimeoutNs);
             Requests requestedInfo = connections.requestInfo(commandTimeoutNs, TimeUnit.NANOSECONDS);
             return CompletableFuture.allOf(requestedTopology.allCompleted(), requestedInfo.allCompleted())
                     .thenApplyAsync(ignore -> getNodeSpecificViews(requestedTopology, requestedInfo),
@@ -127,8 +137,8 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
                                 return new Connections(clientResources, map).retainAll(discoveredNodes);
                             }).thenCompose(newConnections -> {
 
-                                Requests additionalTopology = newConnections
-                                        .requestTopology(commandTimeoutNs, TimeUnit.NANOSECONDS).mergeWith(requestedTopology);
+                                Requests additionalTopology = requestTopology(newConnections, shards, commandTimeoutNs)
+                                        .mergeWith(requestedTopology);
                                 Requests additionalInfo = newConnections.requestInfo(commandTimeoutNs, TimeUnit.NANOSECONDS)
                                         .mergeWith(requestedInfo);
                                 return CompletableFuture.allOf(additionalTopology.allCompleted(), additionalInfo.allCompleted())
@@ -161,6 +171,15 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
         return composition.thenApply(NodeTopologyViews::toMap);
     }
 
+    private static Requests requestTopology(Connections connections, boolean shards, long commandTimeoutNs) {
+
+        if (shards) {
+            return connections.requestShards(commandTimeoutNs, TimeUnit.NANOSECONDS);
+        }
+
+        return connections.requestTopology(commandTimeoutNs, TimeUnit.NANOSECONDS);
+    }
+
     private Exception tryFail(Requests requestedTopology, ConnectionTracker tracker, Iterable<RedisURI> seed) {
 
         Map<RedisURI, String> failures = new LinkedHashMap<>();
@@ -168,7 +187,7 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
 
         for (RedisURI node : requestedTopology.nodes()) {
 
-            TimedAsyncCommand<String, String, String> request = requestedTopology.getRequest(node);
+            TimedAsyncCommand<String, String, Object> request = requestedTopology.getRequest(node);
             if (request == null || !request.isCompletedExceptionally()) {
                 continue;
             }
@@ -19,6 +19,10 @@
  */
 package io.lettuce.core.cluster.topology;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -29,6 +33,7 @@ import io.lettuce.core.cluster.models.partitions.ClusterPartitionParser;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.internal.LettuceStrings;
+import io.lettuce.core.protocol.AsyncCommand;
 
 /**
  * @author Mark Paluch
@@ -69,11 +74,15 @@ class NodeTopologyView {
     }
 
     NodeTopologyView(RedisURI redisURI, String clusterNodes, String info, long latency) {
+        this(redisURI, ClusterPartitionParser.parse(clusterNodes), clusterNodes, info, latency);
+    }
+
+    private NodeTopologyView(RedisURI redisURI, Partitions partitions, String clusterNodes, String info, long latency) {
 
         this.available = true;
         this.redisURI = redisURI;
 
-        this.partitions = ClusterPartitionParser.parse(clusterNodes);
+        this.partitions = partitions;
         this.connectedClients = getClientCount(info);
         this.replicationOffset = getReplicationOffset(info);
         this.clusterNodes = clusterNodes;
@@ -110,15 +119,63 @@ class NodeTopologyView {
 
     static NodeTopologyView from(RedisURI redisURI, Requests clusterNodesRequests, Requests infoRequests) {
 
-        TimedAsyncCommand<String, String, String> nodes = clusterNodesRequests.getRequest(redisURI);
+        TimedAsyncCommand<String, String, Object> nodes = clusterNodesRequests.getRequest(redisURI);
         TimedAsyncCommand<String, String, String> info = infoRequests.getRequest(redisURI);
 
         if (resultAvailable(nodes) && !nodes.isCompletedExceptionally() && resultAvailable(info)) {
-            return new NodeTopologyView(redisURI, nodes.join(), optionallyGet(info), nodes.duration());
+
+            Object topology = nodes.join();
+
+            if (topology instanceof List) {
+
+                AsyncCommand<String, String, String> nodeId = clusterNodesRequests.getNodeIdRequest(redisURI);
+
+                if (!resultAvailable(nodeId) || nodeId.isCompletedExceptionally()) {
+                    return new NodeTopologyView(redisURI);
+                }
+
+                return new NodeTopologyView(redisURI, parseShards(nodeId.join(), (List<Object>) topology), null,
+                        optionallyGet(info), nodes.duration());
+            }
+
+            return new NodeTopologyView(redisURI, (String) topology, optionallyGet(info), nodes.duration());
         }
         return new NodeTopologyView(redisURI);
     }
 
+    /**
+     * Parse a {@code CLUSTER SHARDS} reply into {@link Partitions} that follow the {@code CLUSTER NODES} conventions: The node
+     * with {@code nodeId} is flagged with {@link RedisClusterNode.NodeFlag#MYSELF} and only upstream nodes hold slots.
+     *
+     * @param nodeId the id of the node that replied.
+     * @param shards the {@code CLUSTER SHARDS} reply.
+     * @return the parsed {@link Partitions}.
+     */
+    static Partitions parseShards(String nodeId, List<Object> shards) {
+
+        Partitions partitions = ClusterPartitionParser.parse(shards);
+
+        for (RedisClusterNode node : partitions) {
+
+            node.setConnected(!node.is(RedisClusterNode.NodeFlag.FAIL));
+
+            if (!node.is(RedisClusterNode.NodeFlag.UPSTREAM)) {
+                node.setSlots(Collections.emptyList());
+            }
+
+            if (node.getNodeId().equals(nodeId)) {
+
+                Set<RedisClusterNode.NodeFlag> flags = EnumSet.copyOf(node.getFlags());
+                flags.add(RedisClusterNode.NodeFlag.MYSELF);
+                node.setFlags(flags);
+            }
+        }
+
+        partitions.updateCache();
+
+        return partitions;
+    }
+
     private static <T> T optionallyGet(TimedAsyncCommand<?, ?, T> command) {
 
         if (command.isCompletedExceptionally()) {
@@ -4,8 +4,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.protocol.AsyncCommand;
 
 /**
  * Encapsulates asynchronously executed commands to multiple {@link RedisURI nodes}.
@@ -14,20 +16,36 @@ import io.lettuce.core.RedisURI;
  */
 class Requests {
 
-    private final Map<RedisURI, TimedAsyncCommand<String, String, String>> rawViews;
+    private final Map<RedisURI, TimedAsyncCommand<String, String, ?>> rawViews;
+
+    private final Map<RedisURI, AsyncCommand<String, String, String>> nodeIds;
 
     protected Requests() {
         rawViews = new TreeMap<>(TopologyComparators.RedisURIComparator.INSTANCE);
+        nodeIds = new TreeMap<>(TopologyComparators.RedisURIComparator.INSTANCE);
     }
 
-    private Requests(Map<RedisURI, TimedAsyncCommand<String, String, String>> rawViews) {
+    private Requests(Map<RedisURI, TimedAsyncCommand<String, String, ?>> rawViews,
+            Map<RedisURI, AsyncCommand<String, String, String>> nodeIds) {
         this.rawViews = rawViews;
+        this.nodeIds = nodeIds;
     }
 
-    protected void addRequest(RedisURI redisURI, TimedAsyncCommand<String, String, String> command) {
+    protected void addRequest(RedisURI redisURI, TimedAsyncCommand<String, String, ?> command) {
         rawViews.put(redisURI, command);
     }
 
+    /**
+     * Add a {@code CLUSTER MYID} request for a {@link RedisURI}. Used to identify the own node for topology replies that do not
+     * mark the node itself, such as {@code CLUSTER SHARDS}.
+     *
+     * @param redisURI the node.
+     * @param command the {@code CLUSTER MYID} command.
+     */
+    protected void addNodeIdRequest(RedisURI redisURI, AsyncCommand<String, String, String> command) {
+        nodeIds.put(redisURI, command);
+    }
+
     /**
      * Returns a marker future that completes when all of the futures in this {@link Requests} complete. The marker never fails
      * exceptionally but signals completion only.
@@ -35,26 +53,36 @@ class Requests {
      * @return
      */
     public CompletableFuture<Void> allCompleted() {
-        return CompletableFuture.allOf(rawViews.values().stream().map(it -> it.exceptionally(throwable -> "ignore"))
-                .toArray(CompletableFuture[]::new));
+        return CompletableFuture.allOf(Stream.concat(rawViews.values().stream(), nodeIds.values().stream())
+                .map(it -> it.exceptionally(throwable -> null)).toArray(CompletableFuture[]::new));
     }
 
     protected Set<RedisURI> nodes() {
         return rawViews.keySet();
     }
 
-    protected TimedAsyncCommand<String, String, String> getRequest(RedisURI redisURI) {
-        return rawViews.get(redisURI);
+    @SuppressWarnings("unchecked")
+    protected <T> TimedAsyncCommand<String, String, T> getRequest(RedisURI redisURI) {
+        return (TimedAsyncCommand<String, String, T>) rawViews.get(redisURI);
+    }
+
+    protected AsyncCommand<String, String, String> getNodeIdRequest(RedisURI redisURI) {
+        return nodeIds.get(redisURI);
     }
 
     protected Requests mergeWith(Requests requests) {
 
-        Map<RedisURI, TimedAsyncCommand<String, String, String>> result = new TreeMap<>(
+        Map<RedisURI, TimedAsyncCommand<String, String, ?>> result = new TreeMap<>(
                 TopologyComparators.RedisURIComparator.INSTANCE);
         result.putAll(this.rawViews);
         result.putAll(requests.rawViews);
 
-        return new Requests(result);
+        Map<RedisURI, AsyncCommand<String, String, String>> nodeIds = new TreeMap<>(
+                TopologyComparators.RedisURIComparator.INSTANCE);
+        nodeIds.putAll(this.nodeIds);
+        nodeIds.putAll(requests.nodeIds);
+
+        return new Requests(result, nodeIds);
     }
 
 }
@@ -30,7 +30,8 @@ import io.netty.buffer.ByteBuf;
  * @author shikharid
  * @since 3.3
  */
-public class ByteArrayCodec implements RedisCodec<byte[], byte[]>, ToByteBufEncoder<byte[], byte[]> {
+public class ByteArrayCodec
+        implements RedisCodec<byte[], byte[]>, ToByteBufEncoder<byte[], byte[]>, ToByteBufDecoder<byte[], byte[]> {
 
     public static final ByteArrayCodec INSTANCE = new ByteArrayCodec();
 
@@ -74,6 +75,16 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]>, ToByteBufEnco
         return getBytes(bytes);
     }
 
+    @Override
+    public byte[] decodeKeyFrom(ByteBuf source) {
+        return getBytes(source);
+    }
+
+    @Override
+    public byte[] decodeValueFrom(ByteBuf source) {
+        return getBytes(source);
+    }
+
     @Override
     public ByteBuffer encodeKey(byte[] key) {
 
@@ -104,4 +115,16 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]>, ToByteBufEnco
         return b;
     }
 
+    private static byte[] getBytes(ByteBuf buffer) {
+
+        int readable = buffer.readableBytes();
+        if (readable == 0) {
+            return EMPTY;
+        }
+
+        byte[] b = new byte[readable];
+        buffer.getBytes(buffer.readerIndex(), b);
+        return b;
+    }
+
 }
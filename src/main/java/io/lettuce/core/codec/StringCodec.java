@@ -41,7 +41,8 @@ import io.netty.util.CharsetUtil;
  * @author Dimitris Mandalidis
  * @since 4.3
  */
-public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder<String, String> {
+public class StringCodec
+        implements RedisCodec<String, String>, ToByteBufEncoder<String, String>, ToByteBufDecoder<String, String> {
 
     public static final StringCodec UTF8 = new StringCodec(StandardCharsets.UTF_8);
 
@@ -133,6 +134,16 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
         return Unpooled.wrappedBuffer(bytes).toString(charset);
     }
 
+    @Override
+    public String decodeKeyFrom(ByteBuf source) {
+        return source.toString(charset);
+    }
+
+    @Override
+    public String decodeValueFrom(ByteBuf source) {
+        return source.toString(charset);
+    }
+
     @Override
     public ByteBuffer encodeKey(String key) {
         return encodeAndAllocateBuffer(key);
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Optimized decoder that decodes keys and values directly from a {@link ByteBuf}. This decoder reads from the connection read
+ * buffer without materializing an intermediate {@link java.nio.ByteBuffer} view.
+ * <p>
+ * Classes implementing {@link ToByteBufDecoder} are required to implement {@link RedisCodec} as well. You should implement also
+ * the {@link RedisCodec#decodeKey(java.nio.ByteBuffer)} and {@link RedisCodec#decodeValue(java.nio.ByteBuffer)} methods to
+ * ensure compatibility for outputs that do not support {@link ByteBuf} decoding.
+ * </p>
+ * <p>
+ * The {@code source} buffer is a slice of the connection read buffer whose readable bytes represent the response value. The
+ * buffer is only valid for the duration of the decode call as the read buffer gets released or compacted afterwards.
+ * Implementations must neither keep a reference to the buffer nor modify its content.
+ * </p>
+ *
+ * @since 6.7
+ * @see ToByteBufEncoder
+ */
+public interface ToByteBufDecoder<K, V> {
+
+    /**
+     * Decode the key output by redis.
+     *
+     * @param source the source buffer containing the raw bytes of the key, must not be {@code null}.
+     * @return The decoded key, may be {@code null}.
+     */
+    K decodeKeyFrom(ByteBuf source);
+
+    /**
+     * Decode the value output by redis.
+     *
+     * @param source the source buffer containing the raw bytes of the value, must not be {@code null}.
+     * @return The decoded value, may be {@code null}.
+     */
+    V decodeValueFrom(ByteBuf source);
+
+}
@@ -30,6 +30,7 @@ import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.protocol.ConnectionFacade;
 import io.lettuce.core.protocol.ConnectionIntent;
+import io.lettuce.core.protocol.HedgedReads;
 import io.lettuce.core.protocol.ProtocolKeyword;
 import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.resource.ClientResources;
@@ -50,6 +51,8 @@ class MasterReplicaChannelWriter implements RedisChannelWriter {
 
     private final io.lettuce.core.protocol.ReadOnlyCommands.ReadOnlyPredicate readOnlyCommands;
 
+    private final HedgedReads hedgedReads;
+
     private boolean closed = false;
 
     private boolean inTransaction;
@@ -60,6 +63,7 @@ class MasterReplicaChannelWriter implements RedisChannelWriter {
         this.clientResources = clientResources;
         this.clientOptions = clientOptions;
         this.readOnlyCommands = clientOptions.getReadOnlyCommands();
+        this.hedgedReads = new HedgedReads(clientOptions.getHedgedReadOptions(), clientResources);
     }
 
     @Override
@@ -86,14 +90,46 @@ class MasterReplicaChannelWriter implements RedisChannelWriter {
         }
 
         if (isSuccessfullyCompleted(future)) {
-            writeCommand(command, future.join(), null);
+            StatefulRedisConnection<K, V> connection = future.join();
+            writeCommand(hedge(command, connectionIntent, connection), connection, null);
         } else {
-            future.whenComplete((c, t) -> writeCommand(command, c, t));
+            future.whenComplete((c, t) -> writeCommand(hedge(command, connectionIntent, c), c, t));
         }
 
         return command;
     }
 
+    /**
+     * Prepare a read for {@link HedgedReads hedging} to another read candidate.
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V, T> RedisCommand<K, V, T> hedge(RedisCommand<K, V, T> command, ConnectionIntent connectionIntent,
+            StatefulRedisConnection<K, V> connection) {
+
+        if (connectionIntent != ConnectionIntent.READ || connection == null || !hedgedReads.isHedgeable(command)) {
+            return command;
+        }
+
+        MasterReplicaConnectionProvider<K, V> provider = (MasterReplicaConnectionProvider<K, V>) masterReplicaConnectionProvider;
+
+        if (provider == null) {
+            return command;
+        }
+
+        // the alternate node is resolved once the hedge delay has elapsed
+        return hedgedReads.hedge(command, hedge -> {
+
+            StatefulRedisConnection<K, V> alternate = provider.getAlternateReadConnection(connection);
+
+            if (alternate == null) {
+                return false;
+            }
+
+            writeCommand(hedge, alternate, null);
+            return true;
+        });
+    }
+
     @SuppressWarnings("unchecked")
     private static <K, V> void writeCommand(RedisCommand<K, V, ?> command, StatefulRedisConnection<K, V> connection,
             Throwable throwable) {
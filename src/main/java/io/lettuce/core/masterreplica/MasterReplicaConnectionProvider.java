@@ -20,6 +20,7 @@ import java.util.function.Function;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.lettuce.core.ConnectionFuture;
+import io.lettuce.core.LoadBalancingReadFromAccessor;
 import io.lettuce.core.OrderingReadFromAccessor;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisClient;
@@ -112,19 +113,7 @@ class MasterReplicaConnectionProvider<K, V> {
         }
 
         if (readFrom != null && intent == ConnectionIntent.READ) {
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
-
-                @Override
-                public List<RedisNodeDescription> getNodes() {
-                    return knownNodes;
-                }
-
-                @Override
-                public Iterator<RedisNodeDescription> iterator() {
-                    return knownNodes.iterator();
-                }
-
-            });
+            List<RedisNodeDescription> selection = selectReadCandidates();
 
             if (selection.isEmpty()) {
                 throw new RedisException(String.format("Cannot determine a node to read (Known nodes: %s) with setting %s",
@@ -143,6 +132,12 @@ class MasterReplicaConnectionProvider<K, V> {
                     return connections.filter(StatefulConnection::isOpen).next().switchIfEmpty(connections.next()).toFuture();
                 }
 
+                if (LoadBalancingReadFromAccessor.isLoadBalancing(readFrom)) {
+                    return connections.filter(StatefulConnection::isOpen).collectList().filter(it -> !it.isEmpty())
+                            .map(it -> LoadBalancingReadFromAccessor.choose(readFrom, it)).switchIfEmpty(connections.next())
+                            .toFuture();
+                }
+
                 return connections.filter(StatefulConnection::isOpen).collectList().filter(it -> !it.isEmpty()).map(it -> {
                     int index = ThreadLocalRandom.current().nextInt(it.size());
                     return it.get(index);
@@ -155,6 +150,63 @@ class MasterReplicaConnectionProvider<K, V> {
         return getConnection(getMaster());
     }
 
+    /**
+     * Return an open connection to a read candidate other than {@code exclude} according to the {@link ReadFrom} setting. Only
+     * connections that are already established are considered, this method does not open new connections.
+     *
+     * @param exclude the connection to exclude.
+     * @return an alternate connection or {@code null} if no other read candidate is available.
+     * @since 6.7
+     */
+    public StatefulRedisConnection<K, V> getAlternateReadConnection(StatefulConnection<?, ?> exclude) {
+
+        if (readFrom == null) {
+            return null;
+        }
+
+        List<RedisNodeDescription> selection = selectReadCandidates();
+
+        if (selection.size() < 2) {
+            return null;
+        }
+
+        Map<ConnectionKey, StatefulRedisConnection<K, V>> connections = new ConcurrentHashMap<>();
+        connectionProvider.forEach(connections::put);
+
+        int offset = ThreadLocalRandom.current().nextInt(selection.size());
+
+        for (int i = 0; i < selection.size(); i++) {
+
+            StatefulRedisConnection<K, V> candidate = connections
+                    .get(toConnectionKey(selection.get((offset + i) % selection.size()).getUri()));
+
+            if (candidate != null && candidate != exclude && candidate.isOpen()) {
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    private List<RedisNodeDescription> selectReadCandidates() {
+
+        List<RedisNodeDescription> knownNodes = this.knownNodes;
+
+        return readFrom.select(new ReadFrom.Nodes() {
+
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return knownNodes;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return knownNodes.iterator();
+            }
+
+        });
+    }
+
     protected CompletableFuture<StatefulRedisConnection<K, V>> getConnection(RedisNodeDescription redisNodeDescription) {
 
         RedisURI uri = redisNodeDescription.getUri();
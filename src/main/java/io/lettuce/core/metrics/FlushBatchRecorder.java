@@ -0,0 +1,73 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import java.net.SocketAddress;
+
+/**
+ * Interface defining a method to record the number of commands that were written to the transport with a single flush. Flush
+ * batches are recorded per connection (identified by local/remote tuples of {@link SocketAddress}es).
+ *
+ * @since 6.7
+ * @see io.lettuce.core.FlushConsolidationOptions
+ */
+@FunctionalInterface
+public interface FlushBatchRecorder {
+
+    /**
+     * Returns a disabled no-op {@link FlushBatchRecorder}.
+     *
+     * @return a disabled {@link FlushBatchRecorder}.
+     */
+    static FlushBatchRecorder disabled() {
+
+        return new FlushBatchRecorder() {
+
+            @Override
+            public void recordFlushBatch(SocketAddress local, SocketAddress remote, int commands) {
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+
+        };
+    }
+
+    /**
+     * Record the number of commands that were flushed with a single flush.
+     *
+     * @param local the local address
+     * @param remote the remote address
+     * @param commands number of commands written since the previous flush
+     */
+    void recordFlushBatch(SocketAddress local, SocketAddress remote, int commands);
+
+    /**
+     * Returns {@code true} if the recorder is enabled.
+     *
+     * @return {@code true} if the recorder is enabled.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.local.LocalAddress;
+
+/**
+ * Micrometer implementation of {@link FlushBatchRecorder} recording flush batch sizes as {@link DistributionSummary}.
+ *
+ * @since 6.7
+ */
+public class MicrometerFlushBatchRecorder implements FlushBatchRecorder {
+
+    static final String METRIC_FLUSH_BATCH = "lettuce.command.flush.batch";
+
+    private final MeterRegistry meterRegistry;
+
+    private final MicrometerOptions options;
+
+    private final Map<ConnectionId, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new {@link MicrometerFlushBatchRecorder} instance given {@link MeterRegistry} and {@link MicrometerOptions}.
+     *
+     * @param meterRegistry
+     * @param options
+     */
+    public MicrometerFlushBatchRecorder(MeterRegistry meterRegistry, MicrometerOptions options) {
+
+        LettuceAssert.notNull(meterRegistry, "MeterRegistry must not be null");
+        LettuceAssert.notNull(options, "MicrometerOptions must not be null");
+
+        this.meterRegistry = meterRegistry;
+        this.options = options;
+    }
+
+    @Override
+    public void recordFlushBatch(SocketAddress local, SocketAddress remote, int commands) {
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        ConnectionId id = new ConnectionId(options.localDistinction() ? local : LocalAddress.ANY, remote);
+        summaries.computeIfAbsent(id, this::flushBatchSummary).record(commands);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return options.isEnabled();
+    }
+
+    protected DistributionSummary flushBatchSummary(ConnectionId connectionId) {
+
+        return DistributionSummary.builder(METRIC_FLUSH_BATCH).description("Number of commands written with a single flush")
+                .baseUnit("commands").tag(MicrometerCommandLatencyRecorder.LABEL_LOCAL, connectionId.local.toString())
+                .tag(MicrometerCommandLatencyRecorder.LABEL_REMOTE, connectionId.remote.toString()).tags(options.tags())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Identifier for a connection consisting of the local and remote {@link SocketAddress}.
+     */
+    protected static class ConnectionId {
+
+        private final SocketAddress local;
+
+        private final SocketAddress remote;
+
+        ConnectionId(SocketAddress local, SocketAddress remote) {
+
+            LettuceAssert.notNull(local, "Local address must not be null");
+            LettuceAssert.notNull(remote, "Remote address must not be null");
+
+            this.local = local;
+            this.remote = remote;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConnectionId)) {
+                return false;
+            }
+
+            ConnectionId that = (ConnectionId) o;
+            return local.equals(that.local) && remote.equals(that.remote);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * local.hashCode() + remote.hashCode();
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Streaming API for large binary values. You can implement this interface in order to receive {@code bulk} values in chunks as
+ * they arrive from the transport instead of materializing the full value in memory. Each value is delivered as a call to
+ * {@code onStart}, any number of {@code onChunk} calls and a final {@code onComplete} call.
+ * <p>
+ * Callbacks are invoked on the I/O thread. Chunks are backed by the connection read buffer and are only valid for the duration
+ * of the {@code onChunk} call. Implementations must consume the chunk before returning and must not keep a reference to it.
+ *
+ * @since 6.7
+ * @see ByteStreamingOutput
+ */
+@FunctionalInterface
+public interface ByteStreamingChannel extends StreamingChannel {
+
+    /**
+     * Create a {@link ByteStreamingChannel} that writes chunks to a {@link WritableByteChannel}, e.g. a
+     * {@link java.nio.channels.FileChannel}.
+     *
+     * @param target the target channel, must not be {@code null}.
+     * @return the {@link ByteStreamingChannel}.
+     */
+    static ByteStreamingChannel to(WritableByteChannel target) {
+
+        LettuceAssert.notNull(target, "WritableByteChannel must not be null");
+
+        return chunk -> {
+            try {
+                while (chunk.hasRemaining()) {
+                    target.write(chunk);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * Create a {@link ByteStreamingChannel} that writes chunks to an {@link OutputStream}.
+     *
+     * @param target the target stream, must not be {@code null}.
+     * @return the {@link ByteStreamingChannel}.
+     */
+    static ByteStreamingChannel to(OutputStream target) {
+
+        LettuceAssert.notNull(target, "OutputStream must not be null");
+
+        return chunk -> {
+            try {
+                if (chunk.hasArray()) {
+                    target.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+                    chunk.position(chunk.limit());
+                } else {
+                    byte[] bytes = new byte[chunk.remaining()];
+                    chunk.get(bytes);
+                    target.write(bytes);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * Called before the first chunk of a value.
+     *
+     * @param length total length of the value in bytes.
+     */
+    default void onStart(int length) {
+    }
+
+    /**
+     * Called on every chunk of a value.
+     *
+     * @param chunk the chunk, only valid for the duration of this call.
+     */
+    void onChunk(ByteBuffer chunk);
+
+    /**
+     * Called after the last chunk of a value.
+     */
+    default void onComplete() {
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Streaming-Output of {@code bulk} values delivering values in chunks to a {@link ByteStreamingChannel}. Values are not
+ * aggregated in memory; chunks are passed to the channel as they arrive from the transport. Returns the number of bytes
+ * streamed or {@code null} if the value does not exist.
+ * <p>
+ * Use this output with {@link io.lettuce.core.api.async.BaseRedisAsyncCommands#dispatch} to stream large values:
+ *
+ * <pre class="code">
+ * try (FileChannel file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+ *     connection.async().dispatch(CommandType.GET, new ByteStreamingOutput&lt;&gt;(codec, ByteStreamingChannel.to(file)),
+ *             new CommandArgs&lt;&gt;(codec).addKey(key)).get();
+ * }
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ */
+public class ByteStreamingOutput<K, V> extends CommandOutput<K, V, Long> {
+
+    private final ByteStreamingChannel channel;
+
+    public ByteStreamingOutput(RedisCodec<K, V> codec, ByteStreamingChannel channel) {
+
+        super(codec, null);
+
+        LettuceAssert.notNull(channel, "ByteStreamingChannel must not be null");
+        this.channel = channel;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (bytes == null) {
+            return;
+        }
+
+        int length = bytes.remaining();
+
+        startChunkedBulk(length);
+        channel.onChunk(bytes);
+        output += length;
+        endChunkedBulk();
+    }
+
+    @Override
+    public boolean isChunkedBulkSupported() {
+        return true;
+    }
+
+    @Override
+    public void startChunkedBulk(int length) {
+
+        if (output == null) {
+            output = 0L;
+        }
+
+        channel.onStart(length);
+    }
+
+    @Override
+    public void setChunk(ByteBuf chunk) {
+
+        int length = chunk.readableBytes();
+
+        if (chunk.nioBufferCount() == 1) {
+            channel.onChunk(chunk.nioBuffer());
+        } else {
+            for (ByteBuffer buffer : chunk.nioBuffers()) {
+                channel.onChunk(buffer);
+            }
+        }
+
+        output += length;
+    }
+
+    @Override
+    public void endChunkedBulk() {
+        channel.onComplete();
+    }
+
+}
@@ -22,8 +22,12 @@ package io.lettuce.core.output;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
+import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.codec.ToByteBufDecoder;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Base class for Redis command outputs.
@@ -81,6 +85,76 @@ public abstract class CommandOutput<K, V, T> {
         throw new UnsupportedOperationException(getClass().getName() + " does not support set(ByteBuffer)");
     }
 
+    /**
+     * Update the command output with a sequence of bytes backed by the connection read buffer. This method is only called if
+     * {@link #isByteBufSupported()} returns {@code true} and allows decoding {@code bulk} response values without copying them
+     * into an intermediate {@link ByteBuffer}. The buffer is a slice of the read buffer that is only valid for the duration of
+     * this call. Implementations must not keep a reference to it.
+     * <p>
+     * The default implementation falls back to {@link #set(ByteBuffer)}.
+     *
+     * @param bytes The command output, must not be {@code null}.
+     * @since 6.7
+     * @see ToByteBufDecoder
+     */
+    public void setByteBuf(ByteBuf bytes) {
+        set(bytes.nioBuffer());
+    }
+
+    /**
+     * Returns {@code true} if this output consumes {@code bulk} response values through {@link #setByteBuf(ByteBuf)}. Outputs
+     * typically return {@code true} if their codec implements {@link ToByteBufDecoder}.
+     *
+     * @return {@code true} if this output supports {@link #setByteBuf(ByteBuf)}.
+     * @since 6.7
+     */
+    public boolean isByteBufSupported() {
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if this output consumes {@code bulk} response values in chunks as they arrive from the transport
+     * instead of awaiting the complete value. Chunked outputs receive {@link #startChunkedBulk(int)}, any number of
+     * {@link #setChunk(ByteBuf)} calls and {@link #endChunkedBulk()} for each non-null {@code bulk} value. Chunked consumption
+     * bounds the memory required to decode large values to the size of the read buffer.
+     *
+     * @return {@code true} if this output supports chunked {@code bulk} values.
+     * @since 6.7
+     */
+    public boolean isChunkedBulkSupported() {
+        return false;
+    }
+
+    /**
+     * Start of a chunked {@code bulk} value. Only called if {@link #isChunkedBulkSupported()} returns {@code true}.
+     *
+     * @param length total length of the value in bytes.
+     * @since 6.7
+     */
+    public void startChunkedBulk(int length) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support startChunkedBulk(int)");
+    }
+
+    /**
+     * Update the command output with the next chunk of a {@code bulk} value. The buffer is a slice of the read buffer that is
+     * only valid for the duration of this call. Implementations must not keep a reference to it.
+     *
+     * @param chunk the next chunk, must not be {@code null}.
+     * @since 6.7
+     */
+    public void setChunk(ByteBuf chunk) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support setChunk(ByteBuf)");
+    }
+
+    /**
+     * End of a chunked {@code bulk} value.
+     *
+     * @since 6.7
+     */
+    public void endChunkedBulk() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support endChunkedBulk()");
+    }
+
     /**
      * Update the command output with a sequence of bytes, or {@code null} representing a simple string. Concrete
      * {@link CommandOutput} implementations must override this method to decode {@code single}/bytes response values.
@@ -184,6 +258,31 @@ public abstract class CommandOutput<K, V, T> {
         return bytes == null ? null : StandardCharsets.UTF_8.decode(bytes).toString();
     }
 
+    /**
+     * Returns {@code true} if values of {@code codec} can be decoded through {@link ToByteBufDecoder}. Subclasses of
+     * {@link StringCodec} and {@link ByteArrayCodec} may override {@link RedisCodec#decodeKey(ByteBuffer)} or
+     * {@link RedisCodec#decodeValue(ByteBuffer)} and are therefore decoded through {@link RedisCodec}.
+     *
+     * @param codec the codec.
+     * @return {@code true} if {@code codec} decodes from {@link ByteBuf}.
+     */
+    static boolean isByteBufDecoder(RedisCodec<?, ?> codec) {
+
+        if (!(codec instanceof ToByteBufDecoder)) {
+            return false;
+        }
+
+        if (codec instanceof StringCodec) {
+            return codec.getClass() == StringCodec.class;
+        }
+
+        if (codec instanceof ByteArrayCodec) {
+            return codec.getClass() == ByteArrayCodec.class;
+        }
+
+        return true;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
@@ -24,7 +24,9 @@ import java.util.Collections;
 import java.util.List;
 
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufDecoder;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link List} of keys output.
@@ -55,6 +57,17 @@ public class KeyListOutput<K, V> extends CommandOutput<K, V, List<K>> implements
         subscriber.onNext(output, bytes == null ? null : codec.decodeKey(bytes));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+        subscriber.onNext(output, ((ToByteBufDecoder<K, V>) codec).decodeKeyFrom(bytes));
+    }
+
+    @Override
+    public boolean isByteBufSupported() {
+        return isByteBufDecoder(codec);
+    }
+
     @Override
     public void multi(int count) {
 
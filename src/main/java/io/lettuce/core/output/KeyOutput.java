@@ -22,6 +22,8 @@ package io.lettuce.core.output;
 import java.nio.ByteBuffer;
 
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufDecoder;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Key output.
@@ -43,4 +45,15 @@ public class KeyOutput<K, V> extends CommandOutput<K, V, K> {
         output = (bytes == null) ? null : codec.decodeKey(bytes);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+        output = ((ToByteBufDecoder<K, V>) codec).decodeKeyFrom(bytes);
+    }
+
+    @Override
+    public boolean isByteBufSupported() {
+        return isByteBufDecoder(codec);
+    }
+
 }
@@ -28,11 +28,31 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
         output.add(new BulkString(bytes));
     }
 
+    @Override
+    public void setSingle(ByteBuffer bytes) {
+        output.add(new SingleString(bytes));
+    }
+
+    @Override
+    public void setBigNumber(ByteBuffer bytes) {
+        output.add(new BigNumber(bytes));
+    }
+
     @Override
     public void set(long integer) {
         output.add(new Integer(integer));
     }
 
+    @Override
+    public void set(double number) {
+        output.add(new Double(number));
+    }
+
+    @Override
+    public void set(boolean value) {
+        output.add(new Boolean(value));
+    }
+
     @Override
     public void setError(ByteBuffer error) {
         error.mark();
@@ -57,6 +77,26 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
         output.add(new Multi(count));
     }
 
+    @Override
+    public void multiArray(int count) {
+        output.add(new MultiArray(count));
+    }
+
+    @Override
+    public void multiPush(int count) {
+        output.add(new MultiPush(count));
+    }
+
+    @Override
+    public void multiMap(int count) {
+        output.add(new MultiMap(count));
+    }
+
+    @Override
+    public void multiSet(int count) {
+        output.add(new MultiSet(count));
+    }
+
     /**
      * Replay all captured signals on a {@link CommandOutput}.
      *
@@ -115,6 +155,32 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
 
     }
 
+    static class SingleString extends BulkStringSupport {
+
+        SingleString(ByteBuffer message) {
+            super(message);
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.setSingle(message);
+        }
+
+    }
+
+    static class BigNumber extends BulkStringSupport {
+
+        BigNumber(ByteBuffer message) {
+            super(message);
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.setBigNumber(message);
+        }
+
+    }
+
     static class Integer extends Signal {
 
         final long message;
@@ -130,6 +196,36 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
 
     }
 
+    static class Double extends Signal {
+
+        final double message;
+
+        Double(double message) {
+            this.message = message;
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.set(message);
+        }
+
+    }
+
+    static class Boolean extends Signal {
+
+        final boolean message;
+
+        Boolean(boolean message) {
+            this.message = message;
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.set(message);
+        }
+
+    }
+
     public static class ErrorBytes extends BulkStringSupport {
 
         ErrorBytes(ByteBuffer message) {
@@ -173,6 +269,58 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
 
     }
 
+    static class MultiArray extends Multi {
+
+        MultiArray(int count) {
+            super(count);
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.multiArray(count);
+        }
+
+    }
+
+    static class MultiPush extends Multi {
+
+        MultiPush(int count) {
+            super(count);
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.multiPush(count);
+        }
+
+    }
+
+    static class MultiMap extends Multi {
+
+        MultiMap(int count) {
+            super(count);
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.multiMap(count);
+        }
+
+    }
+
+    static class MultiSet extends Multi {
+
+        MultiSet(int count) {
+            super(count);
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.multiSet(count);
+        }
+
+    }
+
     static class Complete extends Signal {
 
         final int depth;
@@ -24,7 +24,9 @@ import java.util.Collections;
 import java.util.List;
 
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufDecoder;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link List} of values output.
@@ -56,6 +58,17 @@ public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implemen
         subscriber.onNext(output, bytes == null ? null : codec.decodeValue(bytes));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+        subscriber.onNext(output, ((ToByteBufDecoder<K, V>) codec).decodeValueFrom(bytes));
+    }
+
+    @Override
+    public boolean isByteBufSupported() {
+        return isByteBufDecoder(codec);
+    }
+
     @Override
     public void multi(int count) {
 
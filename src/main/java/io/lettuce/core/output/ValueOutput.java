@@ -22,6 +22,8 @@ package io.lettuce.core.output;
 import java.nio.ByteBuffer;
 
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufDecoder;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Value output.
@@ -43,4 +45,15 @@ public class ValueOutput<K, V> extends CommandOutput<K, V, V> {
         output = (bytes == null) ? null : codec.decodeValue(bytes);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+        output = ((ToByteBufDecoder<K, V>) codec).decodeValueFrom(bytes);
+    }
+
+    @Override
+    public boolean isByteBufSupported() {
+        return isByteBufDecoder(codec);
+    }
+
 }
@@ -0,0 +1,216 @@
+package io.lettuce.core.protocol;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Adaptive discard policy that learns from the reply sizes observed on a connection. The policy records reply sizes in a
+ * logarithmic histogram that decays over a moving window and derives the typical ({@literal p90}) and large ({@literal p99})
+ * reply size from it:
+ * <ul>
+ * <li>Read bytes are discarded only if the remaining writable space cannot hold a typical reply, or if the buffer is mostly
+ * consumed. This avoids memory moves after each reply on connections with small replies.</li>
+ * <li>When a {@code bulk} header announces a value that does not fit into the buffer, the buffer is sized for the value in a
+ * single step instead of growing repeatedly.</li>
+ * <li>Once the buffer is empty and has grown well beyond the size required by recent replies, it is shrunk back so that an
+ * occasional large reply does not pin memory for the lifetime of the connection.</li>
+ * </ul>
+ * Instances keep per-connection state and are obtained through {@link #forConnection()}.
+ *
+ * @since 6.7
+ */
+class AdaptiveDecodeBufferPolicy implements DecodeBufferPolicy {
+
+    private static final int BUCKETS = 32;
+
+    private static final int SAMPLE_WINDOW = 256;
+
+    private static final int UPDATE_INTERVAL = 32;
+
+    private static final float DISCARD_RATIO = 0.9f;
+
+    private final int minCapacity;
+
+    private final int[] histogram = new int[BUCKETS];
+
+    private int samples;
+
+    private int totalSamples;
+
+    private int typicalReplySize;
+
+    private int largeReplySize;
+
+    private int lastReaderIndex;
+
+    /**
+     * Create a new {@link AdaptiveDecodeBufferPolicy} using {@code minCapacity}.
+     *
+     * @param minCapacity the capacity below which the aggregation buffer is not shrunk. Must be greater than {@code 0}.
+     */
+    AdaptiveDecodeBufferPolicy(int minCapacity) {
+
+        LettuceAssert.isTrue(minCapacity > 0, "Minimum capacity must be greater than 0");
+
+        this.minCapacity = minCapacity;
+    }
+
+    @Override
+    public DecodeBufferPolicy forConnection() {
+        return new AdaptiveDecodeBufferPolicy(minCapacity);
+    }
+
+    @Override
+    public void afterPartialDecode(ByteBuf buffer) {
+        discardReadBytesIfNecessary(buffer);
+    }
+
+    @Override
+    public void afterPartialDecode(ByteBuf buffer, int pendingBytes) {
+
+        int missing = pendingBytes - buffer.readableBytes();
+
+        if (missing <= buffer.writableBytes()) {
+            discardReadBytesIfNecessary(buffer);
+            return;
+        }
+
+        if (buffer.readerIndex() > 0) {
+            discardReadBytes(buffer);
+        }
+
+        if (missing > buffer.writableBytes()) {
+            buffer.ensureWritable(missing);
+        }
+    }
+
+    @Override
+    public void afterCommandDecoded(ByteBuf buffer) {
+
+        int replySize = buffer.readerIndex() - lastReaderIndex;
+
+        if (replySize > 0) {
+            record(replySize);
+        }
+
+        lastReaderIndex = buffer.readerIndex();
+        discardReadBytesIfNecessary(buffer);
+    }
+
+    @Override
+    public void afterDecoding(ByteBuf buffer) {
+
+        if (buffer.isReadable()) {
+            discardReadBytesIfNecessary(buffer);
+            return;
+        }
+
+        discardReadBytes(buffer);
+        shrinkIfNecessary(buffer);
+    }
+
+    int getTypicalReplySize() {
+        return typicalReplySize;
+    }
+
+    int getLargeReplySize() {
+        return largeReplySize;
+    }
+
+    private void discardReadBytesIfNecessary(ByteBuf buffer) {
+
+        if (buffer.readerIndex() == 0) {
+            return;
+        }
+
+        if (!buffer.isReadable() || buffer.writableBytes() < typicalReplySize
+                || (float) buffer.readerIndex() / buffer.capacity() >= DISCARD_RATIO) {
+            discardReadBytes(buffer);
+        }
+    }
+
+    private void discardReadBytes(ByteBuf buffer) {
+
+        lastReaderIndex = Math.max(0, lastReaderIndex - buffer.readerIndex());
+        buffer.discardReadBytes();
+    }
+
+    private void shrinkIfNecessary(ByteBuf buffer) {
+
+        if (totalSamples < SAMPLE_WINDOW) {
+            return;
+        }
+
+        long targetCapacity = Math.max(minCapacity, 2L * nextPowerOfTwo(largeReplySize));
+
+        if (buffer.capacity() > targetCapacity * 2 && buffer.writerIndex() == 0) {
+            buffer.capacity((int) targetCapacity);
+        }
+    }
+
+    private void record(int replySize) {
+
+        // bucket i holds sizes in [2^(i-1), 2^i)
+        histogram[Integer.SIZE - Integer.numberOfLeadingZeros(replySize)]++;
+        samples++;
+        totalSamples++;
+
+        if (samples % UPDATE_INTERVAL == 0) {
+            updateEstimates();
+        }
+
+        if (samples >= SAMPLE_WINDOW) {
+            decay();
+        }
+    }
+
+    private void updateEstimates() {
+
+        int count = 0;
+        for (int bucketCount : histogram) {
+            count += bucketCount;
+        }
+
+        typicalReplySize = percentile(count, 0.9f);
+        largeReplySize = percentile(count, 0.99f);
+    }
+
+    private int percentile(int count, float percentile) {
+
+        int threshold = (int) Math.ceil(count * percentile);
+        int cumulative = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+
+            cumulative += histogram[i];
+
+            if (cumulative >= threshold) {
+                return i >= 31 ? Integer.MAX_VALUE : (1 << i);
+            }
+        }
+
+        return 0;
+    }
+
+    private void decay() {
+
+        int remaining = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] >>= 1;
+            remaining += histogram[i];
+        }
+
+        samples = remaining;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+
+        if (value <= 1) {
+            return 1;
+        }
+
+        int highestOneBit = Integer.highestOneBit(value - 1);
+        return highestOneBit >= (1 << 30) ? (1 << 30) : highestOneBit << 1;
+    }
+
+}
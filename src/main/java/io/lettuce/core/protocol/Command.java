@@ -119,12 +119,8 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
     public void encode(ByteBuf buf) {
 
         buf.touch("Command.encode(…)");
-        buf.writeByte('*');
-        CommandArgs.IntegerArgument.writeInteger(buf, 1 + (args != null ? args.count() : 0));
-
-        buf.writeBytes(CommandArgs.CRLF);
-
-        CommandArgs.BytesArgument.writeBytes(buf, type.getBytes());
+        CommandArgs.ArrayHeaderCache.writeArrayHeader(buf, 1 + (args != null ? args.count() : 0));
+        CommandArgs.ProtocolKeywordArgument.writeKeyword(buf, type);
 
         if (args != null) {
             args.encode(buf);
@@ -407,7 +407,11 @@ public class CommandArgs<K, V> {
             IntegerArgument.writeInteger(buffer, value.length);
             buffer.writeBytes(CRLF);
 
-            buffer.writeBytes(value);
+            if (GatheringByteBuf.isGathering(buffer, value.length)) {
+                ((GatheringByteBuf) buffer).addPayload(value);
+            } else {
+                buffer.writeBytes(value);
+            }
             buffer.writeBytes(CRLF);
         }
 
@@ -420,11 +424,20 @@ public class CommandArgs<K, V> {
 
     static class ProtocolKeywordArgument extends BytesArgument {
 
-        private final ProtocolKeyword protocolKeyword;
+        final ProtocolKeyword protocolKeyword;
+
+        // pre-encoded bulk string: $<length>\r\n<keyword>\r\n
+        private final byte[] encoded;
 
         private ProtocolKeywordArgument(ProtocolKeyword protocolKeyword) {
             super(protocolKeyword.getBytes());
             this.protocolKeyword = protocolKeyword;
+
+            byte[] length = ("$" + val.length + "\r\n").getBytes(StandardCharsets.US_ASCII);
+            this.encoded = new byte[length.length + val.length + CRLF.length];
+            System.arraycopy(length, 0, encoded, 0, length.length);
+            System.arraycopy(val, 0, encoded, length.length, val.length);
+            System.arraycopy(CRLF, 0, encoded, length.length + val.length, CRLF.length);
         }
 
         static BytesArgument of(ProtocolKeyword protocolKeyword) {
@@ -440,6 +453,29 @@ public class CommandArgs<K, V> {
             return ProtocolKeywordArgument.of(protocolKeyword.getBytes());
         }
 
+        /**
+         * Write the {@link ProtocolKeyword} as bulk string. Uses the pre-encoded representation for {@link CommandType} and
+         * {@link CommandKeyword}.
+         *
+         * @param target the target buffer.
+         * @param protocolKeyword the keyword to write.
+         */
+        static void writeKeyword(ByteBuf target, ProtocolKeyword protocolKeyword) {
+
+            if (protocolKeyword instanceof CommandType) {
+                CommandTypeCache.cache[((Enum) protocolKeyword).ordinal()].encode(target);
+            } else if (protocolKeyword instanceof CommandKeyword) {
+                CommandKeywordCache.cache[((Enum) protocolKeyword).ordinal()].encode(target);
+            } else {
+                writeBytes(target, protocolKeyword.getBytes());
+            }
+        }
+
+        @Override
+        void encode(ByteBuf buffer) {
+            buffer.writeBytes(encoded);
+        }
+
         @Override
         public String toString() {
             return protocolKeyword.toString();
@@ -462,6 +498,34 @@ public class CommandArgs<K, V> {
 
     }
 
+    /**
+     * Pre-encoded array headers ({@code *<count>\r\n}) for commands with a small number of arguments.
+     */
+    static class ArrayHeaderCache {
+
+        static final byte[][] cache = new byte[128][];
+
+        static {
+
+            for (int i = 0; i < cache.length; i++) {
+                cache[i] = ("*" + i + "\r\n").getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+
+        static void writeArrayHeader(ByteBuf target, int count) {
+
+            if (count >= 0 && count < cache.length) {
+                target.writeBytes(cache[count]);
+                return;
+            }
+
+            target.writeByte('*');
+            IntegerArgument.writeInteger(target, count);
+            target.writeBytes(CRLF);
+        }
+
+    }
+
     static class CommandKeywordCache {
 
         static final ProtocolKeywordArgument cache[];
@@ -486,7 +550,11 @@ public class CommandArgs<K, V> {
             IntegerArgument.writeInteger(target, value.remaining());
             target.writeBytes(CRLF);
 
-            target.writeBytes(value);
+            if (GatheringByteBuf.isGathering(target, value.remaining())) {
+                ((GatheringByteBuf) target).addPayload(value);
+            } else {
+                target.writeBytes(value);
+            }
             target.writeBytes(CRLF);
         }
 
@@ -497,7 +565,11 @@ public class CommandArgs<K, V> {
             IntegerArgument.writeInteger(target, value.readableBytes());
             target.writeBytes(CRLF);
 
-            target.writeBytes(value);
+            if (GatheringByteBuf.isGathering(target, value.readableBytes())) {
+                ((GatheringByteBuf) target).addPayload(value.retain());
+            } else {
+                target.writeBytes(value);
+            }
             target.writeBytes(CRLF);
         }
 
@@ -726,11 +798,28 @@ public class CommandArgs<K, V> {
 
         if (encoder.isEstimateExact()) {
 
+            int size = encoder.estimateSize(item);
+
             target.writeByte('$');
-            IntegerArgument.writeInteger(target, encoder.estimateSize(item));
+            IntegerArgument.writeInteger(target, size);
             target.writeBytes(CRLF);
 
-            encodeFunction.encode(encoder, item, target);
+            if (GatheringByteBuf.isGathering(target, size)) {
+
+                GatheringByteBuf gathering = (GatheringByteBuf) target;
+                ByteBuf payload = gathering.allocatePayload(size);
+
+                try {
+                    encodeFunction.encode(encoder, item, payload);
+                } catch (RuntimeException e) {
+                    payload.release();
+                    throw e;
+                }
+
+                gathering.addPayload(payload);
+            } else {
+                encodeFunction.encode(encoder, item, target);
+            }
             target.writeBytes(CRLF);
         } else {
 
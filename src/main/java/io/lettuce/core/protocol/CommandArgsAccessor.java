@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import io.lettuce.core.protocol.CommandArgs.CharArrayArgument;
+import io.lettuce.core.protocol.CommandArgs.ProtocolKeywordArgument;
 import io.lettuce.core.protocol.CommandArgs.SingularArgument;
 import io.lettuce.core.protocol.CommandArgs.StringArgument;
 
@@ -36,6 +37,28 @@ public class CommandArgsAccessor {
         return null;
     }
 
+    /**
+     * Get all key arguments.
+     *
+     * @param commandArgs must not be null.
+     * @return the keys in the order of their occurrence.
+     * @since 6.7
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> List<K> getKeys(CommandArgs<K, V> commandArgs) {
+
+        List<K> keys = new ArrayList<>();
+
+        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+
+            if (singularArgument instanceof CommandArgs.KeyArgument) {
+                keys.add(((CommandArgs.KeyArgument<K, V>) singularArgument).key);
+            }
+        }
+
+        return keys;
+    }
+
     /**
      * Get the first {@link String} argument.
      *
@@ -120,6 +143,27 @@ public class CommandArgsAccessor {
         return args;
     }
 
+    /**
+     * Get the all {@link ProtocolKeyword} arguments.
+     *
+     * @param commandArgs must not be null.
+     * @return the {@link ProtocolKeyword} arguments in the order of their occurrence.
+     * @since 6.7
+     */
+    public static <K, V> List<ProtocolKeyword> getProtocolKeywords(CommandArgs<K, V> commandArgs) {
+
+        List<ProtocolKeyword> keywords = new ArrayList<>();
+
+        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+
+            if (singularArgument instanceof ProtocolKeywordArgument) {
+                keywords.add(((ProtocolKeywordArgument) singularArgument).protocolKeyword);
+            }
+        }
+
+        return keywords;
+    }
+
     /**
      * Get the first {@link Long integer} argument.
      *
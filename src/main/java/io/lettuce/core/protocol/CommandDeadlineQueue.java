@@ -0,0 +1,211 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.lettuce.core.internal.ExceptionFactory;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+
+/**
+ * Per-connection queue of command deadlines. Commands are registered in write order along with their deadline. A single
+ * {@link TimerTask sweep} removes completed commands from the head of the queue and expires commands whose deadline has passed.
+ * Since Redis replies arrive in write order, commands at the head of the queue are the ones that complete (or expire) first so
+ * the sweep does not need to inspect the entire queue.
+ * <p>
+ * The queue accepts only commands whose deadline is not earlier than the deadline of previously registered commands.
+ * {@link #offer(RedisCommand, long, TimeUnit)} returns {@code false} for commands that would expire out of order so that the
+ * caller can expire these commands individually. The ordering check and the enqueue happen atomically so that concurrently
+ * registered commands cannot end up behind a command with a later deadline.
+ * <p>
+ * Completed commands at the head of the queue are removed when registering a new command and during each sweep. Completed
+ * commands behind a pending head are retained until the head completes or expires, at most for {@link #MAX_SWEEP_INTERVAL} once
+ * registrations stop.
+ * <p>
+ * Commands can be registered from multiple threads. The sweep runs on the {@link Timer} thread.
+ *
+ * @since 6.7
+ */
+class CommandDeadlineQueue implements TimerTask {
+
+    /**
+     * Upper bound for the sweep interval to release completed commands from the queue while the head is not yet expired.
+     */
+    static final long MAX_SWEEP_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Lock lock = new ReentrantLock();
+
+    private final ArrayDeque<Deadline> queue = new ArrayDeque<>();
+
+    private final Timer timer;
+
+    private final ScheduledExecutorService executorService;
+
+    // guarded by lock
+    private long lastDeadline = Long.MIN_VALUE;
+
+    // guarded by lock
+    private boolean scheduled;
+
+    /**
+     * Create a new {@link CommandDeadlineQueue}.
+     *
+     * @param timer the timer to run sweeps.
+     * @param executorService the executor to complete expired commands.
+     */
+    CommandDeadlineQueue(Timer timer, ScheduledExecutorService executorService) {
+        this.timer = timer;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Register a {@link RedisCommand} to expire after {@code timeout}.
+     *
+     * @param command the command.
+     * @param timeout the timeout.
+     * @param timeUnit unit of {@code timeout}.
+     * @return {@code true} if the command was registered; {@code false} if the command would expire before previously
+     *         registered commands.
+     */
+    boolean offer(RedisCommand<?, ?, ?> command, long timeout, TimeUnit timeUnit) {
+
+        long timeoutNanos = timeUnit.toNanos(timeout);
+
+        lock.lock();
+        try {
+
+            long deadline = System.nanoTime() + timeoutNanos;
+
+            if (lastDeadline != Long.MIN_VALUE && deadline - lastDeadline < 0) {
+                return false;
+            }
+
+            lastDeadline = deadline;
+            removeCompletedHead();
+            queue.offer(new Deadline(command, deadline, timeoutNanos));
+
+            if (!scheduled) {
+                scheduled = true;
+                schedule(Math.min(timeoutNanos, MAX_SWEEP_INTERVAL));
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the number of registered commands that were not yet removed.
+     */
+    int size() {
+
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void run(Timeout timeout) {
+
+        List<Deadline> expired = new ArrayList<>();
+
+        lock.lock();
+        try {
+
+            long now = System.nanoTime();
+            Deadline head;
+
+            while ((head = queue.peek()) != null) {
+
+                if (head.command.isDone()) {
+                    queue.poll();
+                    continue;
+                }
+
+                if (head.deadline - now > 0) {
+                    break;
+                }
+
+                expired.add(queue.poll());
+            }
+
+            if (head != null) {
+                schedule(Math.min(head.deadline - now, MAX_SWEEP_INTERVAL));
+            } else {
+                scheduled = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Deadline deadline : expired) {
+            expire(deadline);
+        }
+    }
+
+    private void removeCompletedHead() {
+
+        Deadline head;
+        while ((head = queue.peek()) != null && head.command.isDone()) {
+            queue.poll();
+        }
+    }
+
+    private void schedule(long delayNanos) {
+        timer.newTimeout(this, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void expire(Deadline deadline) {
+
+        RedisCommand<?, ?, ?> command = deadline.command;
+        executorService.submit(() -> command
+                .completeExceptionally(ExceptionFactory.createTimeoutException(Duration.ofNanos(deadline.timeoutNanos))));
+    }
+
+    static class Deadline {
+
+        final RedisCommand<?, ?, ?> command;
+
+        final long deadline;
+
+        final long timeoutNanos;
+
+        Deadline(RedisCommand<?, ?, ?> command, long deadline, long timeoutNanos) {
+            this.command = command;
+            this.deadline = deadline;
+            this.timeoutNanos = timeoutNanos;
+        }
+
+    }
+
+}
@@ -26,17 +26,39 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
 
     private final boolean debugEnabled = logger.isDebugEnabled();
 
+    private final int gatheringWriteThreshold;
+
     public CommandEncoder() {
         this(PlatformDependent.directBufferPreferred());
     }
 
     public CommandEncoder(boolean preferDirect) {
+        this(preferDirect, 0);
+    }
+
+    /**
+     * Create a new {@link CommandEncoder} that performs gathering writes for arguments whose size reaches
+     * {@code gatheringWriteThreshold}.
+     *
+     * @param preferDirect {@code true} to prefer direct buffers.
+     * @param gatheringWriteThreshold minimum argument size in bytes to add arguments as separate buffer component instead of
+     *        copying these into the command buffer. Zero disables gathering writes.
+     * @since 6.7
+     */
+    public CommandEncoder(boolean preferDirect, int gatheringWriteThreshold) {
         super(preferDirect);
+        this.gatheringWriteThreshold = gatheringWriteThreshold;
     }
 
     @Override
     protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) throws Exception {
 
+        if (gatheringWriteThreshold > 0) {
+
+            int initialCapacity = msg instanceof Collection ? ((Collection) msg).size() * 16 : 256;
+            return new GatheringByteBuf(ctx.alloc(), preferDirect, initialCapacity, gatheringWriteThreshold);
+        }
+
         if (msg instanceof Collection) {
 
             if (preferDirect) {
@@ -39,6 +39,9 @@ import io.netty.util.Timer;
 /**
  * Extension to {@link RedisChannelWriter} that expires commands. Command timeout starts at the time the command is written
  * regardless to {@link #setAutoFlushCommands(boolean) flushing mode} (user-controlled batching).
+ * <p>
+ * Commands are expired either through a timer task per command or, if {@link TimeoutOptions#isDeadlineQueue() enabled}, through
+ * a per-connection {@link CommandDeadlineQueue deadline queue}.
  *
  * @author Mark Paluch
  * @author Tianyi Yang
@@ -59,6 +62,8 @@ public class CommandExpiryWriter implements RedisChannelWriter {
 
     private final boolean applyConnectionTimeout;
 
+    private final CommandDeadlineQueue deadlineQueue;
+
     private volatile long timeout = -1;
 
     /**
@@ -81,6 +86,7 @@ public class CommandExpiryWriter implements RedisChannelWriter {
         this.timeUnit = source.getTimeUnit();
         this.executorService = clientResources.eventExecutorGroup();
         this.timer = clientResources.timer();
+        this.deadlineQueue = timeoutOptions.isDeadlineQueue() ? new CommandDeadlineQueue(timer, executorService) : null;
     }
 
     /**
@@ -177,6 +183,10 @@ public class CommandExpiryWriter implements RedisChannelWriter {
             return;
         }
 
+        if (deadlineQueue != null && deadlineQueue.offer(command, timeout, timeUnit)) {
+            return;
+        }
+
         Timeout commandTimeout = timer.newTimeout(t -> {
             if (!command.isDone()) {
                 executors.submit(() -> command.completeExceptionally(
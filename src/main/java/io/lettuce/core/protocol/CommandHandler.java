@@ -109,6 +109,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private final CommandLatencyRecorder commandLatencyRecorder;
 
+    private final CommandLoad commandLoad;
+
     private final boolean latencyMetricsEnabled;
 
     private final boolean tracingEnabled;
@@ -155,6 +157,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         this.clientOptions = clientOptions;
         this.clientResources = clientResources;
         this.endpoint = endpoint;
+        CommandLoad commandLoad = endpoint instanceof DefaultEndpoint ? ((DefaultEndpoint) endpoint).getCommandLoad() : null;
+        this.commandLoad = commandLoad != null ? commandLoad : new CommandLoad();
         this.commandLatencyRecorder = clientResources.commandLatencyRecorder();
         this.latencyMetricsEnabled = commandLatencyRecorder.isEnabled();
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
@@ -164,7 +168,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         this.tracingEnabled = tracing.isEnabled();
 
-        this.decodeBufferPolicy = clientOptions.getDecodeBufferPolicy();
+        this.decodeBufferPolicy = clientOptions.getDecodeBufferPolicy().forConnection();
     }
 
     public Endpoint getEndpoint() {
@@ -282,6 +286,9 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         if (!stack.isEmpty()) {
             RedisCommand<?, ?, ?> command = stack.poll();
+            if (commandLoad.isEnabled()) {
+                commandLoad.onComplete(command, stack.size());
+            }
             if (debugEnabled) {
                 logger.debug("{} Storing exception in {}", logPrefix(), command);
             }
@@ -371,6 +378,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         endpoint.notifyChannelInactive(ctx.channel());
         endpoint.notifyDrainQueuedCommands(this);
+        commandLoad.reset();
 
         setState(LifecycleState.DEACTIVATED);
 
@@ -514,6 +522,12 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private void addToStack(RedisCommand<?, ?, ?> command, ChannelPromise promise) {
 
+        if (NoReplyCommand.isNoReply(command)) {
+            // replies are suppressed through CLIENT REPLY OFF/SKIP so the command never enters the stack
+            completeOnWrite(command, promise);
+            return;
+        }
+
         try {
 
             if (!ActivationCommand.isActivationCommand(command)) {
@@ -528,8 +542,11 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             RedisCommand<?, ?, ?> redisCommand = potentiallyWrapLatencyCommand(command);
 
             stack.add(redisCommand);
+            if (commandLoad.isEnabled()) {
+                commandLoad.onWrite(redisCommand, stack.size());
+            }
             if (!promise.isVoid()) {
-                promise.addListener(AddToStack.newInstance(stack, redisCommand));
+                promise.addListener(AddToStack.newInstance(stack, redisCommand, commandLoad));
             }
         } catch (Exception e) {
             command.completeExceptionally(e);
@@ -537,6 +554,20 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         }
     }
 
+    private static void completeOnWrite(RedisCommand<?, ?, ?> command, ChannelPromise promise) {
+
+        if (promise.isVoid()) {
+            command.complete();
+            return;
+        }
+
+        promise.addListener(future -> {
+            if (future.isSuccess()) {
+                command.complete();
+            }
+        });
+    }
+
     private void validateWrite(int commands) {
 
         if (usesBoundedQueues()) {
@@ -653,7 +684,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
                 try {
                     if (!decode(ctx, buffer, pushOutput)) {
                         hasDecodeProgress = true;
-                        decodeBufferPolicy.afterPartialDecode(buffer);
+                        afterPartialDecode(buffer);
                         return;
                     }
 
@@ -680,7 +711,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
                     if (!decode(ctx, buffer, command)) {
                         hasDecodeProgress = true;
-                        decodeBufferPolicy.afterPartialDecode(buffer);
+                        afterPartialDecode(buffer);
                         return;
                     }
                 } catch (Exception e) {
@@ -696,6 +727,9 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
                     if (canComplete(command)) {
                         stack.poll();
+                        if (commandLoad.isEnabled()) {
+                            commandLoad.onComplete(command, stack.size());
+                        }
 
                         try {
                             if (debugEnabled) {
@@ -714,6 +748,17 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         decodeBufferPolicy.afterDecoding(buffer);
     }
 
+    private void afterPartialDecode(ByteBuf buffer) {
+
+        int pendingBytes = rsm != null ? rsm.getPendingBulkLength() : 0;
+
+        if (pendingBytes > 0) {
+            decodeBufferPolicy.afterPartialDecode(buffer, pendingBytes);
+        } else {
+            decodeBufferPolicy.afterPartialDecode(buffer);
+        }
+    }
+
     protected void notifyPushListeners(PushMessage notification) {
 
         Collection<PushListener> pushListeners = endpoint.getPushListeners();
@@ -910,6 +955,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         stack.forEach(cmd -> cmd.completeExceptionally(exception));
         stack.clear();
+        commandLoad.reset();
 
         if (channel != null) {
             channel.disconnect();
@@ -957,6 +1003,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         resetInternals();
         cancelCommands("Reset", drainCommands(stack));
+        commandLoad.reset();
     }
 
     private void resetInternals() {
@@ -1052,6 +1099,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         private RedisCommand<?, ?, ?> command;
 
+        private CommandLoad commandLoad;
+
         AddToStack(Recycler.Handle<AddToStack> handle) {
             this.handle = handle;
         }
@@ -1061,15 +1110,18 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
          *
          * @param stack
          * @param command
+         * @param commandLoad
          * @return
          */
         @SuppressWarnings("unchecked")
-        static AddToStack newInstance(Queue<RedisCommand<?, ?, ?>> stack, RedisCommand<?, ?, ?> command) {
+        static AddToStack newInstance(Queue<RedisCommand<?, ?, ?>> stack, RedisCommand<?, ?, ?> command,
+                CommandLoad commandLoad) {
 
             AddToStack entry = RECYCLER.get();
 
             entry.stack = stack;
             entry.command = command;
+            entry.commandLoad = commandLoad;
 
             return entry;
         }
@@ -1081,6 +1133,10 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             try {
                 if (!future.isSuccess()) {
                     stack.remove(command);
+
+                    if (commandLoad.isEnabled()) {
+                        commandLoad.onWriteFailed(command, stack.size());
+                    }
                 }
             } finally {
                 recycle();
@@ -1091,6 +1147,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
             this.stack = null;
             this.command = null;
+            this.commandLoad = null;
 
             handle.recycle(this);
         }
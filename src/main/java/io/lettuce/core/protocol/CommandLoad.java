@@ -0,0 +1,239 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import io.lettuce.core.CommandListenerWriter;
+import io.lettuce.core.RedisChannelWriter;
+
+/**
+ * Live load signals of a connection that allow routing commands away from busy or slow nodes. {@link CommandHandler} reports
+ * the number of in-flight commands (commands written to the connection and awaiting their reply) and maintains an exponentially
+ * weighted moving average (EWMA) of the command latency.
+ * <p>
+ * Latency is sampled from one in-flight command at a time to avoid per-command timestamps. The latency average decays while no
+ * samples arrive so that a node that was slow recovers once it becomes idle. {@link #getLatency(long)} considers the age of the
+ * pending sample so that a node that is stuck on a slow command is reported as slow right away.
+ * <p>
+ * Load signals are updated by the I/O thread and can be read from any thread. Tracking is disabled until {@link #enable()
+ * enabled} by a load-balancing {@link io.lettuce.core.ReadFrom} so that connections that do not route by load do not pay for
+ * the bookkeeping.
+ *
+ * @since 6.7
+ */
+public final class CommandLoad {
+
+    /**
+     * Time after which the latency average is halved when no new samples arrive.
+     */
+    private static final long DECAY_HALF_LIFE = 1_000_000_000L;
+
+    /**
+     * Weight of a new sample as power of two ({@code 1/4}).
+     */
+    private static final int EWMA_SHIFT = 2;
+
+    private static final AtomicIntegerFieldUpdater<CommandLoad> IN_FLIGHT = AtomicIntegerFieldUpdater
+            .newUpdater(CommandLoad.class, "inFlight");
+
+    private static final AtomicLongFieldUpdater<CommandLoad> SAMPLE_SENT = AtomicLongFieldUpdater.newUpdater(CommandLoad.class,
+            "sampleSent");
+
+    private volatile boolean enabled;
+
+    private volatile int inFlight;
+
+    private volatile long latency;
+
+    private volatile long latencyUpdated;
+
+    // nano time at which the sample command was written, 0 if there is no pending sample
+    private volatile long sampleSent;
+
+    // accessed only by the I/O thread
+    private RedisCommand<?, ?, ?> sample;
+
+    CommandLoad() {
+    }
+
+    /**
+     * Obtain the {@link CommandLoad} of a {@link RedisChannelWriter}.
+     *
+     * @param writer the channel writer of a connection.
+     * @return the {@link CommandLoad} or {@code null} if the writer does not track load signals.
+     */
+    public static CommandLoad from(RedisChannelWriter writer) {
+
+        while (!(writer instanceof DefaultEndpoint)) {
+
+            if (writer instanceof CommandListenerWriter) {
+                writer = ((CommandListenerWriter) writer).getDelegate();
+                continue;
+            }
+
+            if (writer instanceof CommandExpiryWriter) {
+                writer = ((CommandExpiryWriter) writer).getDelegate();
+                continue;
+            }
+
+            return null;
+        }
+
+        return ((DefaultEndpoint) writer).getCommandLoad();
+    }
+
+    /**
+     * Enable load tracking. Load signals are reported from the next written command on.
+     */
+    public void enable() {
+
+        if (!enabled) {
+            enabled = true;
+        }
+    }
+
+    /**
+     * @return {@code true} if load tracking is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the number of commands written to the connection that await their reply.
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Return the estimated command latency in nanoseconds. The estimate is the moving average of sampled latencies decayed by
+     * the time since the last sample, or the age of the pending sample if that is greater.
+     *
+     * @param nanoTime the current {@link System#nanoTime() nano time}.
+     * @return the estimated command latency in nanoseconds, {@code 0} if no latency was sampled yet.
+     */
+    public long getLatency(long nanoTime) {
+
+        long estimate = getDecayedLatency(nanoTime);
+        long sampleSent = this.sampleSent;
+        if (sampleSent != 0) {
+            estimate = Math.max(estimate, nanoTime - sampleSent);
+        }
+
+        return estimate;
+    }
+
+    /**
+     * Record a command written to the connection.
+     *
+     * @param command the written command.
+     * @param inFlight the number of in-flight commands.
+     */
+    void onWrite(RedisCommand<?, ?, ?> command, int inFlight) {
+
+        IN_FLIGHT.lazySet(this, inFlight);
+
+        if (sample == null) {
+
+            long now = System.nanoTime();
+
+            if (now != 0) {
+                sample = command;
+                SAMPLE_SENT.lazySet(this, now);
+            }
+        }
+    }
+
+    /**
+     * Record a completed command.
+     *
+     * @param command the completed command.
+     * @param inFlight the number of remaining in-flight commands.
+     */
+    void onComplete(RedisCommand<?, ?, ?> command, int inFlight) {
+
+        IN_FLIGHT.lazySet(this, inFlight);
+
+        if (command == sample) {
+
+            long now = System.nanoTime();
+            record(now - sampleSent, now);
+
+            sample = null;
+            SAMPLE_SENT.lazySet(this, 0);
+        }
+    }
+
+    /**
+     * Record a command that was removed from the connection because it could not be written. A pending latency sample of the
+     * command is discarded.
+     *
+     * @param command the command that could not be written.
+     * @param inFlight the number of remaining in-flight commands.
+     */
+    void onWriteFailed(RedisCommand<?, ?, ?> command, int inFlight) {
+
+        IN_FLIGHT.lazySet(this, inFlight);
+
+        if (command == sample) {
+            sample = null;
+            SAMPLE_SENT.lazySet(this, 0);
+        }
+    }
+
+    /**
+     * Reset in-flight tracking after the connection was disconnected or reset. The latency average is retained.
+     */
+    void reset() {
+
+        sample = null;
+        SAMPLE_SENT.lazySet(this, 0);
+        IN_FLIGHT.lazySet(this, 0);
+    }
+
+    private void record(long sampleLatency, long nanoTime) {
+
+        long current = latency == 0 ? sampleLatency : getDecayedLatency(nanoTime);
+
+        this.latency = current + ((sampleLatency - current) >> EWMA_SHIFT);
+        this.latencyUpdated = nanoTime;
+    }
+
+    private long getDecayedLatency(long nanoTime) {
+
+        long latency = this.latency;
+
+        if (latency == 0) {
+            return 0;
+        }
+
+        long halvings = (nanoTime - latencyUpdated) / DECAY_HALF_LIFE;
+        return halvings >= Long.SIZE ? 0 : latency >> halvings;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [inFlight=" + inFlight + ", latency=" + getLatency(System.nanoTime()) + "ns]";
+    }
+
+}
@@ -88,4 +88,30 @@ public abstract class DecodeBufferPolicies {
         return ALWAYS_SOME;
     }
 
+    /**
+     * Adaptive {@link DecodeBufferPolicy} that tracks the reply sizes of each connection and discards read bytes only if the
+     * remaining buffer space cannot hold a typical reply. Large {@code bulk} replies are pre-sized from their announced length
+     * and the buffer is shrunk back to {@code 64 KiB} (or the size required by recent large replies) once it is drained. This
+     * strategy suits workloads that mix small replies with occasional large values.
+     *
+     * @return the new strategy object.
+     * @since 6.7
+     */
+    public static DecodeBufferPolicy adaptive() {
+        return adaptive(64 * 1024);
+    }
+
+    /**
+     * Adaptive {@link DecodeBufferPolicy} that tracks the reply sizes of each connection and discards read bytes only if the
+     * remaining buffer space cannot hold a typical reply. Large {@code bulk} replies are pre-sized from their announced length
+     * and the buffer is shrunk back to {@code minCapacity} (or the size required by recent large replies) once it is drained.
+     *
+     * @param minCapacity the capacity below which the aggregation buffer is not shrunk. Must be greater than {@code 0}.
+     * @return the new strategy object.
+     * @since 6.7
+     */
+    public static DecodeBufferPolicy adaptive(int minCapacity) {
+        return new AdaptiveDecodeBufferPolicy(minCapacity);
+    }
+
 }
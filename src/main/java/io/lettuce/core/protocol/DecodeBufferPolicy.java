@@ -23,6 +23,20 @@ public interface DecodeBufferPolicy {
 
     }
 
+    /**
+     * Callback that is invoked after partially decoding a command while the decoder awaits a {@code bulk} value of a known
+     * length. Policies can use the announced length to size the aggregation buffer upfront. Defaults to
+     * {@link #afterPartialDecode(ByteBuf)}.
+     *
+     * @param buffer aggregation buffer
+     * @param pendingBytes number of bytes starting at the reader index that are required to complete the current {@code bulk}
+     *        value.
+     * @since 6.7
+     */
+    default void afterPartialDecode(ByteBuf buffer, int pendingBytes) {
+        afterPartialDecode(buffer);
+    }
+
     /**
      * Callback that is invoked after a command has been fully decoded.
      *
@@ -41,4 +55,15 @@ public interface DecodeBufferPolicy {
         buffer.discardSomeReadBytes();
     }
 
+    /**
+     * Obtain the {@link DecodeBufferPolicy} to use for a single connection. Stateful policies that adapt to the traffic of a
+     * connection return a new instance. Stateless policies can be shared across connections and return {@code this}.
+     *
+     * @return the {@link DecodeBufferPolicy} to use for a single connection.
+     * @since 6.7
+     */
+    default DecodeBufferPolicy forConnection() {
+        return this;
+    }
+
 }
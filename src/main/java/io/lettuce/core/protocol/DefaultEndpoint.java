@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -44,14 +45,18 @@ import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceFactories;
+import io.lettuce.core.metrics.FlushBatchRecorder;
 import io.lettuce.core.resource.ClientResources;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.EncoderException;
+import io.netty.util.AttributeKey;
 import io.netty.util.Recycler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.internal.PlatformDependent;
 import io.netty.util.internal.logging.InternalLogLevel;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -77,6 +82,9 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     private static final int ST_CLOSED = 1;
 
+    private static final AttributeKey<SubmissionQueue> SUBMISSION_QUEUE = AttributeKey
+            .valueOf(DefaultEndpoint.class.getName() + ".SUBMISSION_QUEUE");
+
     protected volatile Channel channel;
 
     private final Reliability reliability;
@@ -85,6 +93,8 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     private final ClientResources clientResources;
 
+    private final CommandLoad commandLoad = new CommandLoad();
+
     private final Queue<RedisCommand<?, ?, ?>> disconnectedBuffer;
 
     private final Queue<RedisCommand<?, ?, ?>> commandBuffer;
@@ -93,6 +103,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     private final boolean rejectCommandsWhileDisconnected;
 
+    private final FlushConsolidator flushConsolidator;
+
+    private final boolean lockFreeSubmission;
+
+    private final int maxCommandsPerFlush;
+
+    private final FlushBatchRecorder flushBatchRecorder;
+
     private final long endpointId = ENDPOINT_COUNTER.incrementAndGet();
 
     private final List<PushListener> pushListeners = new CopyOnWriteArrayList<>();
@@ -115,6 +133,9 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     private volatile Throwable connectionError;
 
+    // true once the channel is active and buffered commands were written, guards lock-free submission
+    private volatile boolean activated;
+
     // access via QUEUE_SIZE
     @SuppressWarnings("unused")
     private volatile int queueSize = 0;
@@ -143,6 +164,12 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         this.commandBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
         this.rejectCommandsWhileDisconnected = isRejectCommand(clientOptions);
+        this.flushConsolidator = clientOptions.getFlushConsolidationOptions().isConsolidateFlushes()
+                ? new FlushConsolidator(clientOptions.getFlushConsolidationOptions())
+                : null;
+        this.lockFreeSubmission = clientOptions.isLockFreeSubmission() && !boundedQueues;
+        this.maxCommandsPerFlush = clientOptions.getLockFreeSubmissionBatchSize();
+        this.flushBatchRecorder = clientOptions.getFlushConsolidationOptions().getFlushBatchRecorder();
         this.cachedEndpointId = "0x" + Long.toHexString(endpointId);
     }
 
@@ -187,6 +214,15 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             return command;
         }
 
+        if (lockFreeSubmission && autoFlushCommands) {
+
+            Channel channel = this.channel;
+            if (activated && isConnected(channel)) {
+                submit(channel, command);
+                return command;
+            }
+        }
+
         try {
             sharedLock.incrementWriters();
 
@@ -228,6 +264,28 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             return (Collection<RedisCommand<K, V, ?>>) commands;
         }
 
+        if (lockFreeSubmission && autoFlushCommands) {
+
+            Channel channel = this.channel;
+            if (activated && isConnected(channel)) {
+                submit(channel, commands);
+                return (Collection<RedisCommand<K, V, ?>>) commands;
+            }
+        }
+
+        if (NoReplyCommand.containsNoReply(commands)) {
+
+            // CLIENT REPLY OFF/SKIP windows must not interleave with commands of concurrent writers
+            Collection<? extends RedisCommand<K, V, ?>> batch = commands;
+            return sharedLock.doExclusive(() -> doWrite(batch));
+        }
+
+        return doWrite(commands);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> Collection<RedisCommand<K, V, ?>> doWrite(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
         try {
             sharedLock.incrementWriters();
 
@@ -373,7 +431,13 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
         QUEUE_SIZE.incrementAndGet(this);
 
-        ChannelFuture channelFuture = channelWriteAndFlush(channel, command);
+        ChannelFuture channelFuture = flushConsolidator != null ? channelWriteAndConsolidateFlush(channel, command)
+                : channelWriteAndFlush(channel, command);
+
+        addWriteListener(channelFuture, command);
+    }
+
+    private void addWriteListener(ChannelFuture channelFuture, RedisCommand<?, ?, ?> command) {
 
         if (reliability == Reliability.AT_MOST_ONCE) {
             // cancel on exceptions and remove from queue, because there is no housekeeping
@@ -388,8 +452,34 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     private void writeToChannelAndFlush(Channel channel, Collection<? extends RedisCommand<?, ?, ?>> commands) {
 
+        writeToChannel(channel, commands);
+
+        if (flushConsolidator != null) {
+            flushConsolidator.written(channel, commands.size());
+        } else {
+            channelFlush(channel);
+        }
+    }
+
+    private void writeToChannel(Channel channel, Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
         QUEUE_SIZE.addAndGet(this, commands.size());
 
+        if (NoReplyCommand.containsNoReply(commands)) {
+
+            // write CLIENT REPLY batches as a single message to keep them contiguous on the transport
+            ChannelFuture channelFuture = channelWrite(channel, commands);
+
+            if (reliability == Reliability.AT_MOST_ONCE) {
+                channelFuture.addListener(AtMostOnceWriteListener.newInstance(this, commands));
+            }
+
+            if (reliability == Reliability.AT_LEAST_ONCE) {
+                channelFuture.addListener(RetryListener.newInstance(this, commands));
+            }
+            return;
+        }
+
         if (reliability == Reliability.AT_MOST_ONCE) {
 
             // cancel on exceptions and remove from queue, because there is no housekeeping
@@ -405,8 +495,42 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
                 channelWrite(channel, command).addListener(RetryListener.newInstance(this, command));
             }
         }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int writeToChannel(Channel channel, Object commandOrCommands) {
+
+        if (commandOrCommands instanceof RedisCommand) {
+
+            RedisCommand<?, ?, ?> command = (RedisCommand<?, ?, ?>) commandOrCommands;
+
+            QUEUE_SIZE.incrementAndGet(this);
+            addWriteListener(channelWrite(channel, command), command);
+            return 1;
+        }
+
+        Collection<? extends RedisCommand<?, ?, ?>> commands = (Collection<? extends RedisCommand<?, ?, ?>>) commandOrCommands;
+        writeToChannel(channel, commands);
+        return commands.size();
+    }
+
+    private void submit(Channel channel, Object commandOrCommands) {
+
+        if (debugEnabled) {
+            logger.debug("{} write() submit {}", logPrefix(), commandOrCommands);
+        }
+
+        SubmissionQueue submissionQueue = channel.attr(SUBMISSION_QUEUE).get();
+
+        if (submissionQueue == null) {
+            SubmissionQueue newQueue = new SubmissionQueue(this, channel);
+            submissionQueue = channel.attr(SUBMISSION_QUEUE).setIfAbsent(newQueue);
+            if (submissionQueue == null) {
+                submissionQueue = newQueue;
+            }
+        }
 
-        channelFlush(channel);
+        submissionQueue.submit(commandOrCommands);
     }
 
     private void channelFlush(Channel channel) {
@@ -427,6 +551,15 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         return channel.write(command);
     }
 
+    private ChannelFuture channelWrite(Channel channel, Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
+        if (debugEnabled) {
+            logger.debug("{} write() channelWrite commands {}", logPrefix(), commands);
+        }
+
+        return channel.write(commands instanceof List ? commands : new ArrayList<>(commands));
+    }
+
     private ChannelFuture channelWriteAndFlush(Channel channel, RedisCommand<?, ?, ?> command) {
 
         if (debugEnabled) {
@@ -436,6 +569,17 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         return channel.writeAndFlush(command);
     }
 
+    private ChannelFuture channelWriteAndConsolidateFlush(Channel channel, RedisCommand<?, ?, ?> command) {
+
+        if (debugEnabled) {
+            logger.debug("{} write() writeAndConsolidateFlush command {}", logPrefix(), command);
+        }
+
+        ChannelPromise promise = channel.newPromise();
+        flushConsolidator.write(channel, command, promise);
+        return promise;
+    }
+
     @Override
     public void notifyChannelActive(Channel channel) {
 
@@ -455,6 +599,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
         sharedLock.doExclusive(() -> {
             this.channel = channel;
+            this.activated = false;
 
             try {
                 // Move queued commands to buffer before issuing any commands because of connection activation.
@@ -478,6 +623,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
                 }
 
                 flushCommands(channel, disconnectedBuffer);
+                this.activated = true;
             } catch (Exception e) {
 
                 if (debugEnabled) {
@@ -496,6 +642,8 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
     @Override
     public void notifyChannelInactive(Channel channel) {
 
+        this.activated = false;
+
         if (isClosed()) {
             Lazy<RedisException> lazy = Lazy.of(() -> new RedisException("Connection closed"));
             cancelCommands("Connection closed", drainCommands(), it -> it.completeExceptionally(lazy.get()));
@@ -689,6 +837,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         sharedLock.doExclusive(() -> {
 
             Collection<RedisCommand<?, ?, ?>> commands = queuedCommands.drainQueue();
+            NoReplyCommand.failUnacknowledged(commands);
 
             if (debugEnabled) {
                 logger.debug("{} notifyQueuedCommands adding {} command(s) to buffer", logPrefix(), commands.size());
@@ -823,6 +972,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         return cachedEndpointId;
     }
 
+    /**
+     * @return the {@link CommandLoad} reported by the {@link CommandHandler} of this endpoint.
+     * @since 6.7
+     */
+    public CommandLoad getCommandLoad() {
+        return commandLoad;
+    }
+
     private static boolean isRejectCommand(ClientOptions clientOptions) {
 
         switch (clientOptions.getDisconnectedBehavior()) {
@@ -842,6 +999,88 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         }
     }
 
+    /**
+     * Lock-free multi-producer queue of commands for a single {@link Channel}. Producers enqueue commands and the first
+     * producer that finds the queue idle schedules a drain on the channel's event loop. The drain writes all queued commands
+     * and flushes once (or every {@link ClientOptions#getLockFreeSubmissionBatchSize()} commands).
+     */
+    static class SubmissionQueue implements Runnable {
+
+        private static final AtomicIntegerFieldUpdater<SubmissionQueue> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(SubmissionQueue.class, "wip");
+
+        private final DefaultEndpoint endpoint;
+
+        private final Channel channel;
+
+        private final Queue<Object> queue = PlatformDependent.newMpscQueue();
+
+        // access via WIP
+        @SuppressWarnings("unused")
+        private volatile int wip;
+
+        SubmissionQueue(DefaultEndpoint endpoint, Channel channel) {
+            this.endpoint = endpoint;
+            this.channel = channel;
+        }
+
+        void submit(Object commandOrCommands) {
+
+            queue.offer(commandOrCommands);
+
+            if (WIP.getAndIncrement(this) == 0) {
+                try {
+                    channel.eventLoop().execute(this);
+                } catch (RejectedExecutionException e) {
+                    // event loop is shutting down, writes fail and get handled by the write listeners
+                    run();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+
+            int missed = 1;
+            int written = 0;
+
+            for (;;) {
+
+                Object commandOrCommands;
+                while ((commandOrCommands = queue.poll()) != null) {
+
+                    written += endpoint.writeToChannel(channel, commandOrCommands);
+
+                    if (written >= endpoint.maxCommandsPerFlush) {
+                        flush(written);
+                        written = 0;
+                    }
+                }
+
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+
+            flush(written);
+        }
+
+        private void flush(int commands) {
+
+            if (commands == 0) {
+                return;
+            }
+
+            endpoint.channelFlush(channel);
+
+            if (endpoint.flushBatchRecorder.isEnabled()) {
+                endpoint.flushBatchRecorder.recordFlushBatch(channel.localAddress(), channel.remoteAddress(), commands);
+            }
+        }
+
+    }
+
     static class ListenerSupport {
 
         Collection<? extends RedisCommand<?, ?, ?>> sentCommands;
@@ -859,6 +1098,10 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             }
         }
 
+        boolean containsNoReply() {
+            return sentCommand != null ? NoReplyCommand.isNoReply(sentCommand) : NoReplyCommand.containsNoReply(sentCommands);
+        }
+
         protected void complete(Throwable t) {
 
             if (sentCommand != null) {
@@ -1003,6 +1246,13 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
                 return;
             }
 
+            if (containsNoReply()) {
+
+                // re-sending without the CLIENT REPLY prefix would desynchronize the command stack
+                complete(cause);
+                return;
+            }
+
             Channel channel = endpoint.channel;
 
             // Capture values before recycler clears these.
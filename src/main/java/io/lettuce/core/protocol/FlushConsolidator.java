@@ -0,0 +1,190 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.FlushConsolidationOptions;
+import io.lettuce.core.metrics.FlushBatchRecorder;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+import io.netty.util.AttributeKey;
+
+/**
+ * Consolidates flushes of commands written to a {@link Channel}. Instead of flushing each command individually, commands are
+ * written to the channel and a single flush is scheduled on the channel's {@link EventLoop}. All commands written until the
+ * flush task runs are flushed together. A flush is enforced once {@link FlushConsolidationOptions#getMaxCommandsPerFlush()}
+ * commands await a flush.
+ * <p>
+ * Flush state is kept per {@link Channel} and is only accessed from the channel's {@link EventLoop} so that writes issued from
+ * other threads cannot race with a flush that is in progress.
+ *
+ * @since 6.7
+ * @see FlushConsolidationOptions
+ */
+class FlushConsolidator {
+
+    private static final AttributeKey<PendingFlush> PENDING_FLUSH = AttributeKey
+            .valueOf(FlushConsolidator.class.getName() + ".PENDING_FLUSH");
+
+    private final int maxCommandsPerFlush;
+
+    private final long flushDelayNanos;
+
+    private final FlushBatchRecorder flushBatchRecorder;
+
+    FlushConsolidator(FlushConsolidationOptions options) {
+
+        this.maxCommandsPerFlush = options.getMaxCommandsPerFlush();
+        this.flushDelayNanos = options.getFlushDelay().toNanos();
+        this.flushBatchRecorder = options.getFlushBatchRecorder();
+    }
+
+    /**
+     * Write a single {@code command} to the {@link Channel} and schedule a consolidated flush.
+     *
+     * @param channel the channel.
+     * @param command the command to write.
+     * @param promise the promise to notify once the write completes.
+     */
+    void write(Channel channel, RedisCommand<?, ?, ?> command, ChannelPromise promise) {
+
+        PendingFlush pendingFlush = getPendingFlush(channel);
+        EventLoop eventLoop = channel.eventLoop();
+
+        if (eventLoop.inEventLoop()) {
+            pendingFlush.write(command, promise);
+            return;
+        }
+
+        try {
+            eventLoop.execute(() -> pendingFlush.write(command, promise));
+        } catch (RejectedExecutionException e) {
+            promise.tryFailure(e);
+        }
+    }
+
+    /**
+     * Schedule a consolidated flush for {@code commands} that were written to the {@link Channel} before calling this method.
+     *
+     * @param channel the channel.
+     * @param commands number of written commands.
+     */
+    void written(Channel channel, int commands) {
+
+        PendingFlush pendingFlush = getPendingFlush(channel);
+        EventLoop eventLoop = channel.eventLoop();
+
+        if (eventLoop.inEventLoop()) {
+            pendingFlush.written(commands);
+            return;
+        }
+
+        try {
+            eventLoop.execute(() -> pendingFlush.written(commands));
+        } catch (RejectedExecutionException e) {
+            // channel is shutting down, writes fail on their own
+        }
+    }
+
+    private PendingFlush getPendingFlush(Channel channel) {
+
+        PendingFlush pendingFlush = channel.attr(PENDING_FLUSH).get();
+
+        if (pendingFlush == null) {
+            PendingFlush newPendingFlush = new PendingFlush(channel);
+            pendingFlush = channel.attr(PENDING_FLUSH).setIfAbsent(newPendingFlush);
+            if (pendingFlush == null) {
+                pendingFlush = newPendingFlush;
+            }
+        }
+
+        return pendingFlush;
+    }
+
+    /**
+     * Per-channel flush state. Must only be accessed from the channel's {@link EventLoop}.
+     */
+    class PendingFlush implements Runnable {
+
+        private final Channel channel;
+
+        private int commands;
+
+        private boolean scheduled;
+
+        PendingFlush(Channel channel) {
+            this.channel = channel;
+        }
+
+        void write(RedisCommand<?, ?, ?> command, ChannelPromise promise) {
+
+            channel.write(command, promise);
+            written(1);
+        }
+
+        void written(int count) {
+
+            commands += count;
+
+            if (commands >= maxCommandsPerFlush) {
+                flush();
+                return;
+            }
+
+            if (!scheduled) {
+
+                scheduled = true;
+
+                if (flushDelayNanos > 0) {
+                    channel.eventLoop().schedule(this, flushDelayNanos, TimeUnit.NANOSECONDS);
+                } else {
+                    channel.eventLoop().execute(this);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+
+            scheduled = false;
+            flush();
+        }
+
+        private void flush() {
+
+            if (commands == 0) {
+                return;
+            }
+
+            int batch = commands;
+            commands = 0;
+            channel.flush();
+
+            if (flushBatchRecorder.isEnabled()) {
+                flushBatchRecorder.recordFlushBatch(channel.localAddress(), channel.remoteAddress(), batch);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * {@link CompositeByteBuf} used by {@link CommandEncoder} to perform gathering writes. Small arguments are packed into pooled
+ * chunks while arguments whose size reaches the configured threshold are added as individual components. Large arguments are
+ * therefore not copied into a continuously growing command buffer but handed to the transport as separate buffers.
+ * <p>
+ * Direct payloads are added as-is. Heap payloads are copied once into an exactly-sized buffer when the encoder prefers direct
+ * buffers as transports would otherwise copy the entire composite into a direct buffer.
+ *
+ * @since 6.7
+ */
+class GatheringByteBuf extends CompositeByteBuf {
+
+    private static final int CHUNK_SIZE = 256;
+
+    private final boolean preferDirect;
+
+    private final int threshold;
+
+    GatheringByteBuf(ByteBufAllocator alloc, boolean preferDirect, int initialCapacity, int threshold) {
+
+        super(alloc, preferDirect, Integer.MAX_VALUE);
+
+        this.preferDirect = preferDirect;
+        this.threshold = threshold;
+
+        addChunk(initialCapacity);
+    }
+
+    /**
+     * Returns {@code true} if {@code target} is a {@link GatheringByteBuf} and a payload of {@code length} bytes should be
+     * added as component instead of being copied.
+     *
+     * @param target the target buffer.
+     * @param length payload length in bytes.
+     * @return {@code true} if the payload should be added as component.
+     */
+    static boolean isGathering(ByteBuf target, int length) {
+        return target instanceof GatheringByteBuf && length >= ((GatheringByteBuf) target).threshold;
+    }
+
+    /**
+     * Allocate a buffer for a payload of {@code length} bytes that is to be added through {@link #addPayload(ByteBuf)}.
+     *
+     * @param length payload length in bytes.
+     * @return the allocated buffer.
+     */
+    ByteBuf allocatePayload(int length) {
+        return preferDirect ? alloc().directBuffer(length, length) : alloc().heapBuffer(length, length);
+    }
+
+    /**
+     * Add the readable bytes of {@code payload} as component directly after the bytes written so far. Transfers ownership of
+     * {@code payload} to this buffer.
+     *
+     * @param payload the payload.
+     */
+    void addPayload(ByteBuf payload) {
+
+        // drop unused capacity so the payload directly follows the bytes written so far
+        capacity(writerIndex());
+        addComponent(true, payload);
+        addChunk(CHUNK_SIZE);
+    }
+
+    void addPayload(byte[] payload) {
+
+        if (preferDirect) {
+            addPayload(allocatePayload(payload.length).writeBytes(payload));
+        } else {
+            addPayload(Unpooled.wrappedBuffer(payload));
+        }
+    }
+
+    void addPayload(ByteBuffer payload) {
+
+        if (payload.isDirect() == preferDirect) {
+            addPayload(Unpooled.wrappedBuffer(payload));
+        } else {
+            addPayload(allocatePayload(payload.remaining()).writeBytes(payload.duplicate()));
+        }
+    }
+
+    private void addChunk(int size) {
+
+        ByteBuf chunk = preferDirect ? alloc().directBuffer(size) : alloc().heapBuffer(size);
+
+        // expose the chunk as writable capacity, the composite writer index remains unchanged
+        addComponent(false, chunk.setIndex(0, chunk.capacity()));
+    }
+
+}
@@ -0,0 +1,596 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import io.lettuce.core.HedgedReadOptions;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.ReplayOutput;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * Hedging policy for read-only commands. A {@link #hedge(RedisCommand, HedgeTarget) hedged} command that has not completed
+ * within the hedge delay is duplicated and sent through a {@link HedgeTarget} to a second node. Whichever reply arrives first
+ * completes the command, the other reply is discarded.
+ * <p>
+ * The hedge delay is either fixed or derived from a percentile of the latency of recent reads. Latencies of the original
+ * replies are recorded in a logarithmic histogram that decays over a moving window. Hedge replies are not recorded as they
+ * would bias the percentile towards the hedge delay. Hedges are paid from a token budget that is refilled by each hedged read
+ * proportional to the {@link HedgedReadOptions#getBudget() budget ratio} so that hedging cannot multiply the load when a whole
+ * cluster slows down.
+ * <p>
+ * Only commands listed in {@link ReadOnlyCommands} are hedged. {@code XREAD} is excluded as it may block.
+ *
+ * @since 6.7
+ * @see HedgedReadOptions
+ */
+public class HedgedReads {
+
+    /**
+     * Tokens withdrawn per hedge. Each hedged read deposits {@code budget * HEDGE_COST} tokens.
+     */
+    private static final int HEDGE_COST = 1000;
+
+    /**
+     * Maximum number of hedges that can be saved up.
+     */
+    private static final int MAX_TOKENS = 10 * HEDGE_COST;
+
+    private static final int BUCKETS = 32;
+
+    private static final int MIN_SAMPLES = 64;
+
+    private static final int UPDATE_INTERVAL = 64;
+
+    private static final int SAMPLE_WINDOW = 4096;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<HedgedCommand> STATE = AtomicIntegerFieldUpdater
+            .newUpdater(HedgedCommand.class, "state");
+
+    private final EventExecutorGroup executor;
+
+    private final boolean enabled;
+
+    private final long fixedDelay;
+
+    private final double delayPercentile;
+
+    private final int deposit;
+
+    private final AtomicInteger tokens = new AtomicInteger();
+
+    private final AtomicIntegerArray histogram = new AtomicIntegerArray(BUCKETS);
+
+    private final AtomicInteger samples = new AtomicInteger();
+
+    private volatile long percentileDelay = -1;
+
+    /**
+     * Create a new {@link HedgedReads} instance.
+     *
+     * @param options the hedge options, must not be {@code null}.
+     * @param clientResources the client resources to schedule hedges, may be {@code null} to disable hedging.
+     */
+    public HedgedReads(HedgedReadOptions options, ClientResources clientResources) {
+        this(options, clientResources != null ? clientResources.eventExecutorGroup() : null);
+    }
+
+    HedgedReads(HedgedReadOptions options, EventExecutorGroup executor) {
+
+        LettuceAssert.notNull(options, "HedgedReadOptions must not be null");
+
+        this.executor = executor;
+        this.enabled = options.isHedgeReads() && executor != null;
+        this.fixedDelay = options.getDelay().toNanos();
+        this.delayPercentile = options.getDelayPercentile() / 100;
+        this.deposit = Math.max(1, (int) (options.getBudget() * HEDGE_COST));
+    }
+
+    /**
+     * @return {@code true} if hedging is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check whether the {@link RedisCommand} can be hedged.
+     *
+     * @param command the command.
+     * @return {@code true} if hedging is enabled and the {@code command} is a read-only command that can be hedged.
+     */
+    public boolean isHedgeable(RedisCommand<?, ?, ?> command) {
+
+        if (!enabled || command.getType() == CommandType.XREAD || !ReadOnlyCommands.isReadOnlyCommand(command.getType())) {
+            return false;
+        }
+
+        CommandOutput<?, ?, ?> output = command.getOutput();
+        return output != null && !output.isChunkedBulkSupported();
+    }
+
+    /**
+     * Prepare a read for hedging. The returned command must be written instead of {@code command}. If the returned command does
+     * not complete within the hedge delay, a copy of the command is handed to {@link HedgeTarget#dispatch(RedisCommand)}.
+     *
+     * @param command the read-only command.
+     * @param target the target that dispatches hedges to an alternate node.
+     * @return the command to write. Can be {@code command} itself if the command is not hedged.
+     */
+    public <K, V, T> RedisCommand<K, V, T> hedge(RedisCommand<K, V, T> command, HedgeTarget<K, V> target) {
+
+        if (!isHedgeable(command)) {
+            return command;
+        }
+
+        deposit();
+
+        boolean schedule = tokens.get() >= HEDGE_COST;
+        if (!schedule && delayPercentile == 0) {
+            return command;
+        }
+
+        HedgedCommand<K, V, T> hedged = new HedgedCommand<>(command, target, System.nanoTime());
+
+        if (schedule) {
+            hedged.timeout = executor.schedule(hedged::onDelayElapsed, getDelay(), TimeUnit.NANOSECONDS);
+        }
+
+        return hedged;
+    }
+
+    /**
+     * @return the current hedge delay in nanoseconds.
+     */
+    long getDelay() {
+
+        long percentileDelay = this.percentileDelay;
+        return percentileDelay >= 0 ? percentileDelay : fixedDelay;
+    }
+
+    int getTokens() {
+        return tokens.get();
+    }
+
+    int getSamples() {
+        return samples.get();
+    }
+
+    private void deposit() {
+
+        int current;
+        do {
+            current = tokens.get();
+            if (current >= MAX_TOKENS) {
+                return;
+            }
+        } while (!tokens.compareAndSet(current, Math.min(MAX_TOKENS, current + deposit)));
+    }
+
+    private boolean withdraw() {
+
+        int current;
+        do {
+            current = tokens.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - HEDGE_COST));
+
+        return true;
+    }
+
+    private void refund() {
+        tokens.addAndGet(HEDGE_COST);
+    }
+
+    void record(long latency) {
+
+        if (delayPercentile == 0) {
+            return;
+        }
+
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latency));
+
+        // bucket i holds latencies in [2^(i-1), 2^i) microseconds
+        histogram.incrementAndGet(Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(micros)));
+        int count = samples.incrementAndGet();
+
+        if (count % UPDATE_INTERVAL == 0 && count >= MIN_SAMPLES) {
+            updateDelay();
+        }
+
+        if (count >= SAMPLE_WINDOW && samples.compareAndSet(count, count / 2)) {
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram.set(i, histogram.get(i) / 2);
+            }
+        }
+    }
+
+    private void updateDelay() {
+
+        int[] counts = new int[BUCKETS];
+        long total = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram.get(i);
+            total += counts[i];
+        }
+
+        double threshold = total * delayPercentile;
+        long cumulative = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+
+            if (counts[i] == 0) {
+                continue;
+            }
+
+            if (cumulative + counts[i] >= threshold) {
+
+                // interpolate within [2^(i-1), 2^i)
+                long lower = i == 0 ? 0 : 1L << (i - 1);
+                long upper = 1L << i;
+                double fraction = (threshold - cumulative) / counts[i];
+
+                percentileDelay = TimeUnit.MICROSECONDS.toNanos(lower + (long) ((upper - lower) * fraction));
+                return;
+            }
+
+            cumulative += counts[i];
+        }
+    }
+
+    /**
+     * Target to dispatch hedges to an alternate node.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     */
+    @FunctionalInterface
+    public interface HedgeTarget<K, V> {
+
+        /**
+         * Dispatch a hedge to a node other than the one serving the original command.
+         *
+         * @param hedge the hedge command.
+         * @return {@code true} if the hedge was dispatched, {@code false} if no alternate node is available.
+         */
+        boolean dispatch(RedisCommand<K, V, ?> hedge);
+
+    }
+
+    /**
+     * Wrapper for the original command. The output is gated so that only the first reply (from the original node or from the
+     * hedge) is applied to the command output.
+     */
+    class HedgedCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+        static final int NONE = 0;
+
+        static final int PRIMARY = 1;
+
+        static final int HEDGE = 2;
+
+        private final HedgeTarget<K, V> target;
+
+        private final long start;
+
+        private final GatedOutput<K, V, T> output;
+
+        volatile ScheduledFuture<?> timeout;
+
+        // accessed via AtomicIntegerFieldUpdater.
+        volatile int state = NONE;
+
+        HedgedCommand(RedisCommand<K, V, T> command, HedgeTarget<K, V> target, long start) {
+
+            super(command);
+            this.target = target;
+            this.start = start;
+            this.output = new GatedOutput<>(this, command.getOutput());
+        }
+
+        @Override
+        public CommandOutput<K, V, T> getOutput() {
+            return output;
+        }
+
+        @Override
+        public void complete() {
+
+            if (!acquire()) {
+
+                // the hedge won, still record the latency of the original reply
+                record(System.nanoTime() - start);
+                return;
+            }
+
+            super.complete();
+            onFinish(true);
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable throwable) {
+
+            if (!acquire()) {
+                return false;
+            }
+
+            onFinish(false);
+            return super.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void cancel() {
+
+            if (!acquire()) {
+                return;
+            }
+
+            onFinish(false);
+            super.cancel();
+        }
+
+        int getState() {
+            return state;
+        }
+
+        /**
+         * Claim the command output for the original reply.
+         *
+         * @return {@code true} if the original reply owns the command output.
+         */
+        boolean acquire() {
+            return state == PRIMARY || STATE.compareAndSet(this, NONE, PRIMARY);
+        }
+
+        void onDelayElapsed() {
+
+            if (state != NONE || isDone() || !withdraw()) {
+                return;
+            }
+
+            HedgeCommand hedge = new HedgeCommand(this);
+
+            boolean dispatched;
+            try {
+                dispatched = target.dispatch(hedge);
+            } catch (RuntimeException e) {
+                dispatched = false;
+            }
+
+            if (!dispatched) {
+                refund();
+            }
+        }
+
+        void onHedgeComplete(HedgeCommand hedge) {
+
+            if (hedge.getOutput().hasError() || !STATE.compareAndSet(this, NONE, HEDGE)) {
+                return;
+            }
+
+            CommandOutput<K, V, T> target = command.getOutput();
+
+            try {
+                ((ReplayOutput<K, V>) hedge.getOutput()).replay(target);
+            } catch (RuntimeException e) {
+                super.completeExceptionally(e);
+                return;
+            }
+
+            super.complete();
+        }
+
+        private void onFinish(boolean success) {
+
+            ScheduledFuture<?> timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+
+            if (success) {
+                record(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Copy of the original command that captures its reply for replay.
+         */
+        class HedgeCommand extends Command<K, V, List<ReplayOutput.Signal>> {
+
+            HedgeCommand(HedgedCommand<K, V, T> original) {
+                super(original.getType(), new ReplayOutput<>(), original.getArgs());
+            }
+
+            @Override
+            public void complete() {
+
+                super.complete();
+                onHedgeComplete(this);
+            }
+
+        }
+
+    }
+
+    /**
+     * {@link CommandOutput} that forwards signals to the original output as long as the original reply owns the output.
+     */
+    static class GatedOutput<K, V, T> extends CommandOutput<K, V, T> {
+
+        private final HedgedCommand<K, V, T> command;
+
+        private final CommandOutput<K, V, T> target;
+
+        @SuppressWarnings("unchecked")
+        GatedOutput(HedgedCommand<K, V, T> command, CommandOutput<K, V, T> target) {
+            super((RedisCodec) StringCodec.ASCII, null);
+            this.command = command;
+            this.target = target;
+        }
+
+        @Override
+        public T get() {
+            return target.get();
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+            if (command.acquire()) {
+                target.set(bytes);
+            }
+        }
+
+        @Override
+        public void setByteBuf(ByteBuf bytes) {
+            if (command.acquire()) {
+                target.setByteBuf(bytes);
+            }
+        }
+
+        @Override
+        public boolean isByteBufSupported() {
+            return target.isByteBufSupported();
+        }
+
+        @Override
+        public void setSingle(ByteBuffer bytes) {
+            if (command.acquire()) {
+                target.setSingle(bytes);
+            }
+        }
+
+        @Override
+        public void setBigNumber(ByteBuffer bytes) {
+            if (command.acquire()) {
+                target.setBigNumber(bytes);
+            }
+        }
+
+        @Override
+        public void set(long integer) {
+            if (command.acquire()) {
+                target.set(integer);
+            }
+        }
+
+        @Override
+        public void set(double number) {
+            if (command.acquire()) {
+                target.set(number);
+            }
+        }
+
+        @Override
+        public void set(boolean value) {
+            if (command.acquire()) {
+                target.set(value);
+            }
+        }
+
+        @Override
+        public void setError(ByteBuffer error) {
+            if (command.acquire()) {
+                target.setError(error);
+            }
+        }
+
+        @Override
+        public void setError(String error) {
+            if (command.acquire()) {
+                target.setError(error);
+            }
+        }
+
+        @Override
+        public boolean hasError() {
+            return command.getState() == HedgedCommand.PRIMARY && target.hasError();
+        }
+
+        @Override
+        public String getError() {
+            return command.getState() == HedgedCommand.PRIMARY ? target.getError() : null;
+        }
+
+        @Override
+        public void complete(int depth) {
+            if (command.acquire()) {
+                target.complete(depth);
+            }
+        }
+
+        @Override
+        public void multi(int count) {
+            if (command.acquire()) {
+                target.multi(count);
+            }
+        }
+
+        @Override
+        public void multiArray(int count) {
+            if (command.acquire()) {
+                target.multiArray(count);
+            }
+        }
+
+        @Override
+        public void multiPush(int count) {
+            if (command.acquire()) {
+                target.multiPush(count);
+            }
+        }
+
+        @Override
+        public void multiMap(int count) {
+            if (command.acquire()) {
+                target.multiMap(count);
+            }
+        }
+
+        @Override
+        public void multiSet(int count) {
+            if (command.acquire()) {
+                target.multiSet(count);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return target.toString();
+        }
+
+    }
+
+}
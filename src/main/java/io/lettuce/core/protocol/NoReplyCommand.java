@@ -0,0 +1,156 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+import io.lettuce.core.RedisException;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.VoidOutput;
+
+/**
+ * Wrapper for a {@link RedisCommand} whose reply is suppressed by the server through {@code CLIENT REPLY OFF} or
+ * {@code CLIENT REPLY SKIP}. No-reply commands are not placed on the {@link CommandHandler} stack as the server does not send a
+ * reply. The command completes once it was written to the transport. Errors raised by the server are not reported.
+ * <p>
+ * Batches containing no-reply commands are written as a single unit so that commands of concurrent writers cannot interleave
+ * with the {@code CLIENT REPLY} window. No-reply commands are never retried: written commands are considered complete and
+ * commands whose write failed are completed exceptionally as re-sending them without their {@code CLIENT REPLY} prefix would
+ * desynchronize the command stack. A batch of no-reply commands can be followed by a {@link #replyOn(RedisCodec) CLIENT REPLY
+ * ON} acknowledgement that completes once the server has processed the batch. The acknowledgement fails instead of being
+ * retried if the connection is lost before the server has acknowledged the batch.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @param <T> Command output type.
+ * @since 6.7
+ */
+public class NoReplyCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+    /**
+     * Create a new {@link NoReplyCommand} wrapping {@code command}.
+     *
+     * @param command the command to wrap, must not be {@code null}.
+     */
+    public NoReplyCommand(RedisCommand<K, V, T> command) {
+        super(command);
+    }
+
+    /**
+     * Create a {@code CLIENT REPLY OFF} command that suppresses replies for all subsequent commands.
+     *
+     * @param codec the codec.
+     * @return the no-reply command.
+     */
+    public static <K, V> RedisCommand<K, V, Void> replyOff(RedisCodec<K, V> codec) {
+        return new NoReplyCommand<>(new Command<>(CommandType.CLIENT, null,
+                new CommandArgs<>(codec).add(CommandKeyword.REPLY).add(CommandKeyword.OFF)));
+    }
+
+    /**
+     * Create a {@code CLIENT REPLY SKIP} command that suppresses the reply for the next command.
+     *
+     * @param codec the codec.
+     * @return the no-reply command.
+     */
+    public static <K, V> RedisCommand<K, V, Void> replySkip(RedisCodec<K, V> codec) {
+        return new NoReplyCommand<>(new Command<>(CommandType.CLIENT, null,
+                new CommandArgs<>(codec).add(CommandKeyword.REPLY).add(CommandKeyword.SKIP)));
+    }
+
+    /**
+     * Create a {@code CLIENT REPLY ON} command that re-enables replies and acknowledges preceding no-reply commands.
+     *
+     * @param codec the codec.
+     * @return the acknowledgement command.
+     */
+    public static <K, V> AsyncCommand<K, V, Void> replyOn(RedisCodec<K, V> codec) {
+        return new AsyncCommand<>(new Acknowledgement<>(new Command<>(CommandType.CLIENT, new VoidOutput<>(codec),
+                new CommandArgs<>(codec).add(CommandKeyword.REPLY).add(CommandKeyword.ON))));
+    }
+
+    /**
+     * Check whether {@code command} is a {@link NoReplyCommand}.
+     *
+     * @param command the command.
+     * @return {@code true} if the server does not reply to {@code command}.
+     */
+    public static boolean isNoReply(RedisCommand<?, ?, ?> command) {
+        return command instanceof NoReplyCommand
+                || (command instanceof DecoratedCommand && CommandWrapper.unwrap(command, NoReplyCommand.class) != null);
+    }
+
+    /**
+     * Check whether {@code commands} contains at least one {@link NoReplyCommand}.
+     *
+     * @param commands the commands.
+     * @return {@code true} if the server does not reply to at least one of {@code commands}.
+     */
+    static boolean containsNoReply(Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+            if (isNoReply(command)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Remove {@link #replyOn(RedisCodec) acknowledgements} from {@code commands} that were written but not yet acknowledged and
+     * complete these exceptionally.
+     *
+     * @param commands the commands to retry after reconnect.
+     */
+    static void failUnacknowledged(Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
+        RedisException exception = null;
+
+        for (Iterator<? extends RedisCommand<?, ?, ?>> iterator = commands.iterator(); iterator.hasNext();) {
+
+            RedisCommand<?, ?, ?> command = iterator.next();
+
+            if (CommandWrapper.unwrap(command, Acknowledgement.class) == null) {
+                continue;
+            }
+
+            if (exception == null) {
+                exception = new RedisException("Connection lost before the server acknowledged the no-reply commands");
+            }
+
+            iterator.remove();
+            command.completeExceptionally(exception);
+        }
+    }
+
+    /**
+     * Marker for {@code CLIENT REPLY ON} acknowledgements.
+     */
+    static class Acknowledgement<K, V, T> extends CommandWrapper<K, V, T> {
+
+        Acknowledgement(RedisCommand<K, V, T> command) {
+            super(command);
+        }
+
+    }
+
+}
@@ -220,6 +220,8 @@ public class RedisStateMachine {
 
         int count = NOT_FOUND;
 
+        boolean chunked = false;
+
         @Override
         public String toString() {
             final StringBuffer sb = new StringBuffer();
@@ -233,6 +235,7 @@ public class RedisStateMachine {
         void reset() {
             this.type = null;
             this.count = NOT_FOUND;
+            this.chunked = false;
         }
 
         /**
@@ -593,6 +596,15 @@ public class RedisStateMachine {
 
     static State.Result handleBytes(RedisStateMachine rsm, State state, ByteBuf buffer, CommandOutput<?, ?, ?> output,
             Consumer<Exception> errorHandler) {
+
+        if (output.isChunkedBulkSupported()) {
+            return handleChunkedBytes(rsm, state, buffer, output, errorHandler);
+        }
+
+        if (output.isByteBufSupported()) {
+            return handleByteBuf(rsm, state, buffer, output, errorHandler);
+        }
+
         ByteBuffer bytes;
 
         if ((bytes = rsm.readBytes(buffer, state.count)) == null) {
@@ -602,11 +614,78 @@ public class RedisStateMachine {
         return State.Result.NORMAL_END;
     }
 
+    private static State.Result handleByteBuf(RedisStateMachine rsm, State state, ByteBuf buffer, CommandOutput<?, ?, ?> output,
+            Consumer<Exception> errorHandler) {
+
+        if (buffer.readableBytes() < state.count) {
+            return State.Result.BREAK_LOOP;
+        }
+
+        ByteBuf bytes = buffer.readSlice(state.count - TERMINATOR_LENGTH);
+        buffer.skipBytes(TERMINATOR_LENGTH);
+        buffer.markReaderIndex();
+        rsm.safeSetByteBuf(output, bytes, errorHandler);
+
+        return State.Result.NORMAL_END;
+    }
+
+    private static State.Result handleChunkedBytes(RedisStateMachine rsm, State state, ByteBuf buffer,
+            CommandOutput<?, ?, ?> output, Consumer<Exception> errorHandler) {
+
+        if (!state.chunked) {
+            state.chunked = true;
+            rsm.safeStartChunkedBulk(output, state.count - TERMINATOR_LENGTH, errorHandler);
+        }
+
+        int remaining = state.count - TERMINATOR_LENGTH;
+        int length = Math.min(remaining, buffer.readableBytes());
+
+        if (length > 0) {
+
+            rsm.safeSetChunk(output, buffer.readSlice(length), errorHandler);
+            state.count -= length;
+            buffer.markReaderIndex();
+        }
+
+        if (state.count > TERMINATOR_LENGTH || buffer.readableBytes() < TERMINATOR_LENGTH) {
+            return State.Result.BREAK_LOOP;
+        }
+
+        buffer.skipBytes(TERMINATOR_LENGTH);
+        buffer.markReaderIndex();
+        rsm.safeEndChunkedBulk(output, errorHandler);
+
+        return State.Result.NORMAL_END;
+    }
+
     private static State.Result handleAttribute(RedisStateMachine rsm, State state, ByteBuf buffer,
             CommandOutput<?, ?, ?> output, Consumer<Exception> errorHandler) {
         throw new RedisProtocolException("Not implemented");
     }
 
+    /**
+     * Returns the number of bytes starting at the current reader index that are required to complete the {@code bulk} value
+     * that is currently being decoded. Returns {@code 0} if the decoder does not await a {@code bulk} value or the value is
+     * consumed in chunks.
+     *
+     * @return the number of bytes required to complete the current {@code bulk} value.
+     * @since 6.7
+     */
+    public int getPendingBulkLength() {
+
+        if (isEmpty(stack)) {
+            return 0;
+        }
+
+        State state = peek(stack);
+
+        if ((state.type == BYTES || state.type == VERBATIM_STRING) && !state.chunked && state.count > 0) {
+            return state.count;
+        }
+
+        return 0;
+    }
+
     /**
      * Reset the state machine.
      */
@@ -817,6 +896,73 @@ public class RedisStateMachine {
         }
     }
 
+    /**
+     * Safely sets {@link CommandOutput#setByteBuf(ByteBuf)}. Notifies the {@code errorHandler} if an exception occurs.
+     *
+     * @param output
+     * @param bytes
+     * @param errorHandler
+     * @since 6.7
+     */
+    protected void safeSetByteBuf(CommandOutput<?, ?, ?> output, ByteBuf bytes, Consumer<Exception> errorHandler) {
+
+        try {
+            output.setByteBuf(bytes);
+        } catch (Exception e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Safely calls {@link CommandOutput#startChunkedBulk(int)}. Notifies the {@code errorHandler} if an exception occurs.
+     *
+     * @param output
+     * @param length
+     * @param errorHandler
+     * @since 6.7
+     */
+    protected void safeStartChunkedBulk(CommandOutput<?, ?, ?> output, int length, Consumer<Exception> errorHandler) {
+
+        try {
+            output.startChunkedBulk(length);
+        } catch (Exception e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Safely sets {@link CommandOutput#setChunk(ByteBuf)}. Notifies the {@code errorHandler} if an exception occurs.
+     *
+     * @param output
+     * @param chunk
+     * @param errorHandler
+     * @since 6.7
+     */
+    protected void safeSetChunk(CommandOutput<?, ?, ?> output, ByteBuf chunk, Consumer<Exception> errorHandler) {
+
+        try {
+            output.setChunk(chunk);
+        } catch (Exception e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Safely calls {@link CommandOutput#endChunkedBulk()}. Notifies the {@code errorHandler} if an exception occurs.
+     *
+     * @param output
+     * @param errorHandler
+     * @since 6.7
+     */
+    protected void safeEndChunkedBulk(CommandOutput<?, ?, ?> output, Consumer<Exception> errorHandler) {
+
+        try {
+            output.endChunkedBulk();
+        } catch (Exception e) {
+            errorHandler.accept(e);
+        }
+    }
+
     /**
      * Safely sets {@link CommandOutput#set(ByteBuffer)}. Notifies the {@code errorHandler} if an exception occurs.
      *
@@ -321,6 +321,16 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
             super.multi(count);
         }
 
+        @Override
+        public void multiArray(int count) {
+
+            if (multiCount == null) {
+                multiCount = count;
+            }
+
+            super.multiArray(count);
+        }
+
     }
 
 }
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.striped;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CompleteableCommand;
+import io.lettuce.core.protocol.ConnectionFacade;
+import io.lettuce.core.protocol.NoReplyCommand;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Channel writer that distributes commands across multiple connections (stripes) to the same Redis node.
+ * <p>
+ * Commands declaring a key are routed by their key hash slot if {@link StripingOptions#isKeyOrdering() key ordering} is
+ * enabled. Other commands are distributed using the configured {@link StripingOptions.StripeSelection}. Batches containing
+ * {@link NoReplyCommand no-reply commands} are written to a single stripe. Transactions ({@code WATCH}/{@code MULTI} until
+ * {@code EXEC}/{@code DISCARD}) are pinned to a single stripe. Commands that change the connection state are rejected as they
+ * would apply only to a single stripe.
+ *
+ * @since 6.7
+ */
+class StripedChannelWriter implements RedisChannelWriter {
+
+    private static final Set<String> CONNECTION_STATE_COMMANDS = new HashSet<>(
+            Arrays.asList("AUTH", "HELLO", "READONLY", "READWRITE", "RESET", "SELECT"));
+
+    private static final int NOT_PINNED = -1;
+
+    private final List<? extends StatefulRedisConnection<?, ?>> stripes;
+
+    private final ClientResources clientResources;
+
+    private final StripingOptions.StripeSelection stripeSelection;
+
+    private final boolean keyOrdering;
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private final AtomicIntegerArray inFlight;
+
+    private volatile int pinned = NOT_PINNED;
+
+    private volatile boolean inTransaction;
+
+    private volatile boolean closed = false;
+
+    StripedChannelWriter(List<? extends StatefulRedisConnection<?, ?>> stripes, ClientResources clientResources,
+            StripingOptions stripingOptions) {
+
+        LettuceAssert.isTrue(!stripes.isEmpty(), "Stripes must not be empty");
+
+        this.stripes = stripes;
+        this.clientResources = clientResources;
+        this.stripeSelection = stripingOptions.getStripeSelection();
+        this.keyOrdering = stripingOptions.isKeyOrdering();
+        this.inFlight = new AtomicIntegerArray(stripes.size());
+    }
+
+    @Override
+    public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
+
+        LettuceAssert.notNull(command, "Command must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        String type = command.getType().toString();
+
+        if (CONNECTION_STATE_COMMANDS.contains(type)) {
+            command.completeExceptionally(unsupported(type));
+            return command;
+        }
+
+        int stripe = pinned;
+
+        if (stripe == NOT_PINNED) {
+            stripe = selectStripe(command);
+        }
+
+        updateTransactionState(type, stripe);
+        writeCommand(command, stripe);
+
+        return command;
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <K, V> Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        List<RedisCommand<K, V, ?>>[] partitions = new List[stripes.size()];
+        int stripe = pinned != NOT_PINNED ? pinned : selectStripe(null);
+        boolean partition = !containsNoReply(commands);
+
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            String type = command.getType().toString();
+
+            if (CONNECTION_STATE_COMMANDS.contains(type)) {
+                command.completeExceptionally(unsupported(type));
+                continue;
+            }
+
+            int target = stripe;
+
+            if (partition && pinned == NOT_PINNED && !isStartTransaction(type)) {
+                int keyStripe = getKeyStripe(command);
+                target = keyStripe != NOT_PINNED ? keyStripe : stripe;
+            }
+
+            updateTransactionState(type, target);
+
+            if (partitions[target] == null) {
+                partitions[target] = new ArrayList<>();
+            }
+
+            partitions[target].add(command);
+        }
+
+        for (int i = 0; i < partitions.length; i++) {
+            if (partitions[i] != null) {
+                writeCommands(partitions[i], i);
+            }
+        }
+
+        return (Collection) commands;
+    }
+
+    /**
+     * Select the stripe for a {@link RedisCommand}. Uses the key hash slot if key ordering is enabled and the command declares
+     * a key, otherwise uses {@link StripingOptions.StripeSelection}.
+     *
+     * @param command the command, can be {@code null}.
+     * @return the stripe index.
+     */
+    int selectStripe(RedisCommand<?, ?, ?> command) {
+
+        int keyStripe = command != null ? getKeyStripe(command) : NOT_PINNED;
+
+        if (keyStripe != NOT_PINNED) {
+            return keyStripe;
+        }
+
+        int offset = (counter.getAndIncrement() & Integer.MAX_VALUE) % stripes.size();
+
+        if (stripeSelection == StripingOptions.StripeSelection.ROUND_ROBIN) {
+            return offset;
+        }
+
+        int selected = offset;
+        int least = Integer.MAX_VALUE;
+
+        for (int i = 0; i < stripes.size(); i++) {
+
+            int index = (offset + i) % stripes.size();
+            int count = inFlight.get(index);
+
+            if (count < least) {
+                least = count;
+                selected = index;
+            }
+        }
+
+        return selected;
+    }
+
+    private int getKeyStripe(RedisCommand<?, ?, ?> command) {
+
+        if (!keyOrdering) {
+            return NOT_PINNED;
+        }
+
+        CommandArgs<?, ?> args = command.getArgs();
+        ByteBuffer encodedKey = args != null ? args.getFirstEncodedKey() : null;
+
+        if (encodedKey == null) {
+            return NOT_PINNED;
+        }
+
+        return SlotHash.getSlot(encodedKey) % stripes.size();
+    }
+
+    private void updateTransactionState(String type, int stripe) {
+
+        if (type.equals("WATCH")) {
+            pinned = stripe;
+        }
+
+        if (type.equals("MULTI")) {
+            pinned = stripe;
+            inTransaction = true;
+        }
+
+        if (type.equals("EXEC") || type.equals("DISCARD") || (type.equals("UNWATCH") && !inTransaction)) {
+            pinned = NOT_PINNED;
+            inTransaction = false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> void writeCommand(RedisCommand<K, V, ?> command, int stripe) {
+
+        track(command, stripe);
+
+        try {
+            ((StatefulRedisConnection<K, V>) stripes.get(stripe)).dispatch(command);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> void writeCommands(List<RedisCommand<K, V, ?>> commands, int stripe) {
+
+        for (RedisCommand<K, V, ?> command : commands) {
+            track(command, stripe);
+        }
+
+        try {
+            ((StatefulRedisConnection<K, V>) stripes.get(stripe)).dispatch(commands);
+        } catch (Exception e) {
+            commands.forEach(c -> c.completeExceptionally(e));
+        }
+    }
+
+    private void track(RedisCommand<?, ?, ?> command, int stripe) {
+
+        if (stripeSelection != StripingOptions.StripeSelection.LEAST_IN_FLIGHT || !(command instanceof CompleteableCommand)) {
+            return;
+        }
+
+        inFlight.incrementAndGet(stripe);
+        ((CompleteableCommand<?>) command).onComplete((o, throwable) -> inFlight.decrementAndGet(stripe));
+    }
+
+    int getInFlight(int stripe) {
+        return inFlight.get(stripe);
+    }
+
+    @Override
+    public void close() {
+        closeAsync().join();
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+
+        if (closed) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        closed = true;
+
+        CompletableFuture<?>[] futures = new CompletableFuture[stripes.size()];
+
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = stripes.get(i).closeAsync();
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    @Override
+    public void setConnectionFacade(ConnectionFacade connection) {
+    }
+
+    @Override
+    public ClientResources getClientResources() {
+        return clientResources;
+    }
+
+    @Override
+    public void setAutoFlushCommands(boolean autoFlush) {
+        stripes.forEach(stripe -> stripe.setAutoFlushCommands(autoFlush));
+    }
+
+    @Override
+    public void flushCommands() {
+        stripes.forEach(StatefulRedisConnection::flushCommands);
+    }
+
+    @Override
+    public void reset() {
+        stripes.forEach(StatefulRedisConnection::reset);
+    }
+
+    List<? extends StatefulRedisConnection<?, ?>> getStripes() {
+        return stripes;
+    }
+
+    private static boolean containsNoReply(Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
+        // CLIENT REPLY OFF/SKIP applies to the connection it was sent on
+        for (RedisCommand<?, ?, ?> command : commands) {
+            if (NoReplyCommand.isNoReply(command)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isStartTransaction(String type) {
+        return type.equals("MULTI") || type.equals("WATCH");
+    }
+
+    private static RedisException unsupported(String type) {
+        return new RedisException(String.format(
+                "%s is not supported on striped connections. Configure the connection state through RedisURI instead.", type));
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.striped;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.Exceptions;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Striped connection API. A striped connection is a single logical {@link StatefulRedisConnection} that owns multiple
+ * connections (stripes) to the same Redis node and spreads commands across them. Each stripe uses its own channel and I/O
+ * thread so that a single shared connection can scale encoding and decoding across cores without the acquire/release overhead
+ * of a connection pool.
+ * <p>
+ * Commands declaring a key are routed by the key hash slot if {@link StripingOptions#isKeyOrdering() key ordering} is enabled
+ * so that commands for the same key (or hash tag) retain their order. Commands without a key are distributed using the
+ * configured {@link StripingOptions.StripeSelection}; no ordering is guaranteed across stripes for these commands.
+ * <p>
+ * Transactions ({@code WATCH}/{@code MULTI} until {@code EXEC}/{@code DISCARD}) are pinned to a single stripe. Commands that
+ * change the connection state ({@code AUTH}, {@code HELLO}, {@code SELECT}, {@code READONLY}, {@code READWRITE}, {@code RESET})
+ * are not supported as they would apply only to a single stripe. Configure credentials, database and protocol version through
+ * {@link RedisURI} and {@link io.lettuce.core.ClientOptions} instead. Blocking commands and Pub/Sub are not supported as well.
+ *
+ * @since 6.7
+ */
+public class StripedConnection {
+
+    private StripedConnection() {
+    }
+
+    /**
+     * Open a new striped connection to a Redis server using the supplied {@link RedisURI} and {@link RedisCodec codec} with
+     * default {@link StripingOptions}.
+     *
+     * @param redisClient the Redis client.
+     * @param codec Use this codec to encode/decode keys and values, must not be {@code null}.
+     * @param redisURI the Redis server to connect to, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new connection.
+     */
+    public static <K, V> StatefulRedisConnection<K, V> connect(RedisClient redisClient, RedisCodec<K, V> codec,
+            RedisURI redisURI) {
+        return connect(redisClient, codec, redisURI, StripingOptions.create());
+    }
+
+    /**
+     * Open a new striped connection to a Redis server using the supplied {@link RedisURI} and {@link RedisCodec codec}.
+     *
+     * @param redisClient the Redis client.
+     * @param codec Use this codec to encode/decode keys and values, must not be {@code null}.
+     * @param redisURI the Redis server to connect to, must not be {@code null}.
+     * @param stripingOptions the striping options, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new connection.
+     */
+    public static <K, V> StatefulRedisConnection<K, V> connect(RedisClient redisClient, RedisCodec<K, V> codec,
+            RedisURI redisURI, StripingOptions stripingOptions) {
+
+        try {
+            return connectAsync(redisClient, codec, redisURI, stripingOptions).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw RedisConnectionException.create(redisURI.toString(), e);
+        } catch (ExecutionException e) {
+
+            if (e.getCause() instanceof RedisConnectionException) {
+                throw (RedisConnectionException) e.getCause();
+            }
+
+            throw RedisConnectionException.create(redisURI.toString(), e.getCause());
+        }
+    }
+
+    /**
+     * Open asynchronously a new striped connection to a Redis server using the supplied {@link RedisURI} and {@link RedisCodec
+     * codec} with default {@link StripingOptions}.
+     *
+     * @param redisClient the Redis client.
+     * @param codec Use this codec to encode/decode keys and values, must not be {@code null}.
+     * @param redisURI the Redis server to connect to, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return {@link CompletableFuture} that is notified once the connect is finished.
+     */
+    public static <K, V> CompletableFuture<StatefulRedisConnection<K, V>> connectAsync(RedisClient redisClient,
+            RedisCodec<K, V> codec, RedisURI redisURI) {
+        return connectAsync(redisClient, codec, redisURI, StripingOptions.create());
+    }
+
+    /**
+     * Open asynchronously a new striped connection to a Redis server using the supplied {@link RedisURI} and {@link RedisCodec
+     * codec}. The connection is established once all stripes are connected. If any stripe fails to connect, already connected
+     * stripes are closed.
+     *
+     * @param redisClient the Redis client.
+     * @param codec Use this codec to encode/decode keys and values, must not be {@code null}.
+     * @param redisURI the Redis server to connect to, must not be {@code null}.
+     * @param stripingOptions the striping options, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return {@link CompletableFuture} that is notified once the connect is finished.
+     */
+    public static <K, V> CompletableFuture<StatefulRedisConnection<K, V>> connectAsync(RedisClient redisClient,
+            RedisCodec<K, V> codec, RedisURI redisURI, StripingOptions stripingOptions) {
+
+        LettuceAssert.notNull(redisClient, "RedisClient must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+        LettuceAssert.notNull(redisURI, "RedisURI must not be null");
+        LettuceAssert.notNull(stripingOptions, "StripingOptions must not be null");
+
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> futures = new ArrayList<>(stripingOptions.getStripes());
+
+        for (int i = 0; i < stripingOptions.getStripes(); i++) {
+            futures.add(redisClient.connectAsync(codec, redisURI).toCompletableFuture());
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).handle((v, throwable) -> {
+
+            List<StatefulRedisConnection<K, V>> stripes = new ArrayList<>(futures.size());
+
+            for (CompletableFuture<StatefulRedisConnection<K, V>> future : futures) {
+                if (future.isDone() && !future.isCompletedExceptionally()) {
+                    stripes.add(future.join());
+                }
+            }
+
+            if (throwable != null) {
+                stripes.forEach(StatefulRedisConnection::closeAsync);
+                return Futures.<StatefulRedisConnection<K, V>> failed(Exceptions.unwrap(throwable));
+            }
+
+            StripedChannelWriter writer = new StripedChannelWriter(stripes, redisClient.getResources(), stripingOptions);
+            StatefulRedisConnectionImpl<K, V> connection = new StatefulRedisConnectionImpl<>(writer,
+                    new StripedPushHandler(stripes), codec, redisURI.getTimeout(), redisClient.getOptions().getJsonParser());
+            connection.setOptions(redisClient.getOptions());
+
+            return CompletableFuture.<StatefulRedisConnection<K, V>> completedFuture(connection);
+        }).thenCompose(it -> it);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.striped;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.PushHandler;
+
+/**
+ * {@link PushHandler} that registers {@link PushListener listeners} with all stripes of a striped connection.
+ *
+ * @since 6.7
+ */
+class StripedPushHandler implements PushHandler {
+
+    private final List<PushListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final List<? extends StatefulRedisConnection<?, ?>> stripes;
+
+    StripedPushHandler(List<? extends StatefulRedisConnection<?, ?>> stripes) {
+        this.stripes = stripes;
+    }
+
+    @Override
+    public void addListener(PushListener listener) {
+
+        LettuceAssert.notNull(listener, "PushListener must not be null");
+
+        listeners.add(listener);
+        stripes.forEach(stripe -> stripe.addListener(listener));
+    }
+
+    @Override
+    public void removeListener(PushListener listener) {
+
+        LettuceAssert.notNull(listener, "PushListener must not be null");
+
+        listeners.remove(listener);
+        stripes.forEach(stripe -> stripe.removeListener(listener));
+    }
+
+    @Override
+    public Collection<PushListener> getPushListeners() {
+        return listeners;
+    }
+
+}
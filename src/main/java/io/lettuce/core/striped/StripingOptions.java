@@ -0,0 +1,194 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.striped;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for {@link StripedConnection striped connections}.
+ *
+ * @since 6.7
+ * @see StripedConnection
+ */
+public class StripingOptions {
+
+    public static final int DEFAULT_STRIPES = 4;
+
+    public static final StripeSelection DEFAULT_STRIPE_SELECTION = StripeSelection.ROUND_ROBIN;
+
+    public static final boolean DEFAULT_KEY_ORDERING = true;
+
+    private final int stripes;
+
+    private final StripeSelection stripeSelection;
+
+    private final boolean keyOrdering;
+
+    protected StripingOptions(Builder builder) {
+        this.stripes = builder.stripes;
+        this.stripeSelection = builder.stripeSelection;
+        this.keyOrdering = builder.keyOrdering;
+    }
+
+    /**
+     * Returns a new {@link StripingOptions.Builder} to construct {@link StripingOptions}.
+     *
+     * @return a new {@link StripingOptions.Builder} to construct {@link StripingOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link StripingOptions} with default settings.
+     *
+     * @return a new instance of {@link StripingOptions} with default settings.
+     */
+    public static StripingOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a builder to create new {@link StripingOptions} whose settings are replicated from the current
+     * {@link StripingOptions}.
+     *
+     * @return a {@link StripingOptions.Builder} to create new {@link StripingOptions} whose settings are replicated from the
+     *         current {@link StripingOptions}.
+     */
+    public Builder mutate() {
+
+        Builder builder = new Builder();
+        builder.stripes(getStripes()).stripeSelection(getStripeSelection()).keyOrdering(isKeyOrdering());
+        return builder;
+    }
+
+    /**
+     * Builder for {@link StripingOptions}.
+     */
+    public static class Builder {
+
+        private int stripes = DEFAULT_STRIPES;
+
+        private StripeSelection stripeSelection = DEFAULT_STRIPE_SELECTION;
+
+        private boolean keyOrdering = DEFAULT_KEY_ORDERING;
+
+        protected Builder() {
+        }
+
+        /**
+         * Number of connections (stripes) to open to the Redis node. Defaults to {@literal 4}. See {@link #DEFAULT_STRIPES}.
+         *
+         * @param stripes number of stripes, must be greater than {@code 0}.
+         * @return {@code this}
+         */
+        public Builder stripes(int stripes) {
+
+            LettuceAssert.isTrue(stripes > 0, "Stripes must be greater than 0");
+
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * Configure how commands are distributed across stripes. Defaults to {@link StripeSelection#ROUND_ROBIN}. See
+         * {@link #DEFAULT_STRIPE_SELECTION}.
+         *
+         * @param stripeSelection the stripe selection, must not be {@code null}.
+         * @return {@code this}
+         */
+        public Builder stripeSelection(StripeSelection stripeSelection) {
+
+            LettuceAssert.notNull(stripeSelection, "StripeSelection must not be null");
+
+            this.stripeSelection = stripeSelection;
+            return this;
+        }
+
+        /**
+         * Configure whether commands that declare a key are routed to a stripe determined by the key hash slot. Commands for
+         * the same key (or hash tag) are executed in the order they were issued. Disabling key ordering distributes keyed
+         * commands using {@link StripeSelection} so commands for the same key may be executed out of order. Defaults to
+         * {@code true}. See {@link #DEFAULT_KEY_ORDERING}.
+         *
+         * @param keyOrdering {@code true} to retain ordering per key.
+         * @return {@code this}
+         */
+        public Builder keyOrdering(boolean keyOrdering) {
+
+            this.keyOrdering = keyOrdering;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link StripingOptions}
+         *
+         * @return new instance of {@link StripingOptions}
+         */
+        public StripingOptions build() {
+            return new StripingOptions(this);
+        }
+
+    }
+
+    /**
+     * Number of connections (stripes) to open to the Redis node.
+     *
+     * @return number of stripes.
+     */
+    public int getStripes() {
+        return stripes;
+    }
+
+    /**
+     * Strategy to distribute commands across stripes.
+     *
+     * @return the {@link StripeSelection}.
+     */
+    public StripeSelection getStripeSelection() {
+        return stripeSelection;
+    }
+
+    /**
+     * Whether commands that declare a key are routed to a stripe determined by the key hash slot.
+     *
+     * @return {@code true} if ordering is retained per key.
+     */
+    public boolean isKeyOrdering() {
+        return keyOrdering;
+    }
+
+    /**
+     * Strategy to distribute commands across stripes.
+     */
+    public enum StripeSelection {
+
+        /**
+         * Select stripes in round-robin order.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Select the stripe with the least number of commands awaiting a reply.
+         */
+        LEAST_IN_FLIGHT;
+    }
+
+}
@@ -0,0 +1,21 @@
+/**
+ * Client support for striped connections. A striped connection is a single logical
+ * {@link io.lettuce.core.api.StatefulRedisConnection} that spreads commands across multiple connections to the same Redis node.
+ * Each stripe uses its own channel and I/O thread so that encoding and decoding of a single shared connection can scale across
+ * cores.
+ *
+ * Connections can be obtained by providing the {@link io.lettuce.core.RedisClient}, a {@link io.lettuce.core.RedisURI} and a
+ * {@link io.lettuce.core.codec.RedisCodec}.
+ *
+ * <pre class="code">
+ *
+ * RedisClient client = RedisClient.create();
+ * StatefulRedisConnection<String, String> connection = StripedConnection.connect(client, StringCodec.UTF8,
+ *         RedisURI.create("redis://localhost"), StripingOptions.builder().stripes(4).build());
+ * // ...
+ *
+ * connection.close();
+ * client.shutdown();
+ * </pre>
+ */
+package io.lettuce.core.striped;
@@ -0,0 +1,736 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Bounded, concurrent {@link CacheAccessor} using a Window TinyLFU eviction policy. The cache is bounded either by the number
+ * of entries or by the total weight of its entries, for example the encoded size of keys and values.
+ * <p>
+ * New entries enter a small admission window (1% of the capacity) that is managed in LRU order. Entries leaving the window
+ * compete with the eviction candidate of the main space and are only admitted if their access frequency, estimated by a
+ * {@link FrequencySketch Count-Min sketch}, is higher. The main space is a segmented LRU with a probation and a protected
+ * segment (80% of the main space). This keeps frequently used keys cached while one-hit wonders and scans pass through the
+ * window without displacing them.
+ * <p>
+ * Reads are lock-free: accesses are recorded in lossy, striped buffers and replayed against the policy in batches under a lock.
+ * Writes and evictions are serialized through the same lock. An optional time-to-live acts as a safety net for entries whose
+ * invalidation message got lost. Expired entries are no longer returned and are removed when they are accessed or evicted.
+ *
+ * <pre class="code">
+ * 
+ * CacheAccessor&lt;String, String&gt; accessor = BoundedCacheAccessor.&lt;String, String&gt; builder().maximumWeight(256 * 1024 * 1024)
+ *         .weighByEncodedSize(StringCodec.UTF8).timeToLive(Duration.ofMinutes(10)).build();
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ */
+public class BoundedCacheAccessor<K, V> implements CacheAccessor<K, V> {
+
+    private static final int WINDOW = 0;
+
+    private static final int PROBATION = 1;
+
+    private static final int PROTECTED = 2;
+
+    private static final int RETIRED = 3;
+
+    private static final double WINDOW_PERCENTAGE = 0.01;
+
+    private static final double PROTECTED_PERCENTAGE = 0.8;
+
+    private static final int STRIPES = nextPowerOfTwo(Runtime.getRuntime().availableProcessors());
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    @SuppressWarnings("unchecked")
+    private final ReadBuffer<K, V>[] readBuffers = new ReadBuffer[STRIPES];
+
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+
+    private final AccessOrderDeque<K, V> protectedDeque = new AccessOrderDeque<>();
+
+    private final FrequencySketch sketch;
+
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+
+    private final boolean weighted;
+
+    private final long maximum;
+
+    private final long windowMaximum;
+
+    private final long protectedMaximum;
+
+    private final long timeToLiveNanos;
+
+    private final LongSupplier ticker;
+
+    private long weightedSize;
+
+    private long windowWeightedSize;
+
+    private long protectedWeightedSize;
+
+    private BoundedCacheAccessor(Builder<K, V> builder) {
+
+        this.weighted = builder.weigher != null;
+        this.weigher = weighted ? builder.weigher : (k, v) -> 1;
+        this.maximum = weighted ? builder.maximumWeight : builder.maximumSize;
+        this.windowMaximum = Math.min(maximum, Math.max(1, (long) (maximum * WINDOW_PERCENTAGE)));
+        this.protectedMaximum = (long) ((maximum - windowMaximum) * PROTECTED_PERCENTAGE);
+        this.timeToLiveNanos = builder.timeToLive != null ? builder.timeToLive.toNanos() : 0;
+        this.ticker = builder.ticker;
+        this.sketch = new FrequencySketch(weighted ? 0 : maximum);
+
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    /**
+     * Returns a new {@link BoundedCacheAccessor.Builder} to construct a {@link BoundedCacheAccessor}.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link BoundedCacheAccessor.Builder}.
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Create a new {@link BoundedCacheAccessor} holding at most {@code maximumSize} entries.
+     *
+     * @param maximumSize the maximum number of entries. Must be greater than {@code 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link BoundedCacheAccessor}.
+     */
+    public static <K, V> BoundedCacheAccessor<K, V> create(long maximumSize) {
+        return BoundedCacheAccessor.<K, V> builder().maximumSize(maximumSize).build();
+    }
+
+    @Override
+    public V get(K key) {
+
+        Node<K, V> node = data.get(key);
+
+        if (node == null) {
+            return null;
+        }
+
+        if (isExpired(node)) {
+            removeExpired(node);
+            return null;
+        }
+
+        afterRead(node);
+        return node.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+
+        LettuceAssert.notNull(key, "Key must not be null");
+        LettuceAssert.notNull(value, "Value must not be null");
+
+        int weight = weigher.applyAsInt(key, value);
+        LettuceAssert.isTrue(weight >= 0, "Weight must not be negative");
+
+        long expiresAt = timeToLiveNanos > 0 ? ticker.getAsLong() + timeToLiveNanos : 0;
+
+        evictionLock.lock();
+        try {
+
+            drainReadBuffers();
+
+            Node<K, V> node = data.get(key);
+
+            if (node != null) {
+
+                node.value = value;
+                node.expiresAt = expiresAt;
+                setWeight(node, weight);
+                onAccess(node);
+                demoteFromProtected();
+            } else {
+
+                node = new Node<>(key, value, weight, expiresAt);
+                data.put(key, node);
+
+                if (weighted && data.size() > sketch.capacity()) {
+                    sketch.ensureCapacity(data.size() * 2L);
+                }
+
+                sketch.increment(key.hashCode());
+                node.queue = WINDOW;
+                window.addLast(node);
+                windowWeightedSize += weight;
+                weightedSize += weight;
+            }
+
+            evictEntries();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(K key) {
+
+        if (!data.containsKey(key)) {
+            return;
+        }
+
+        evictionLock.lock();
+        try {
+
+            Node<K, V> node = data.get(key);
+
+            if (node != null) {
+                remove(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+
+        evictionLock.lock();
+        try {
+
+            drainReadBuffers();
+
+            for (Node<K, V> node : data.values()) {
+                remove(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return the approximate number of entries in this cache.
+     */
+    public long estimatedSize() {
+        return data.size();
+    }
+
+    /**
+     * @return the total weight of the entries in this cache. Equals the number of entries if the cache is bounded by entry
+     *         count.
+     */
+    public long weightedSize() {
+
+        evictionLock.lock();
+        try {
+            return weightedSize;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Replay buffered reads against the eviction policy and evict entries if necessary.
+     */
+    public void cleanUp() {
+
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            evictEntries();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean isExpired(Node<K, V> node) {
+
+        long expiresAt = node.expiresAt;
+        return expiresAt != 0 && ticker.getAsLong() - expiresAt >= 0;
+    }
+
+    private void removeExpired(Node<K, V> node) {
+
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            if (node.queue != RETIRED && isExpired(node)) {
+                remove(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterRead(Node<K, V> node) {
+
+        ReadBuffer<K, V> buffer = readBuffers[spread(System.identityHashCode(Thread.currentThread())) & (STRIPES - 1)];
+
+        if (!buffer.offer(node) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffers() {
+
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            buffer.drain(this);
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+
+        if (node.queue == RETIRED) {
+            return;
+        }
+
+        sketch.increment(node.key.hashCode());
+
+        if (node.queue == WINDOW) {
+            window.moveToLast(node);
+        } else if (node.queue == PROBATION) {
+
+            probation.remove(node);
+            protectedDeque.addLast(node);
+            node.queue = PROTECTED;
+            protectedWeightedSize += node.weight;
+            demoteFromProtected();
+        } else {
+            protectedDeque.moveToLast(node);
+        }
+    }
+
+    private void setWeight(Node<K, V> node, int weight) {
+
+        int delta = weight - node.weight;
+        node.weight = weight;
+        weightedSize += delta;
+
+        if (node.queue == WINDOW) {
+            windowWeightedSize += delta;
+        } else if (node.queue == PROTECTED) {
+            protectedWeightedSize += delta;
+        }
+    }
+
+    private void demoteFromProtected() {
+
+        while (protectedWeightedSize > protectedMaximum) {
+
+            Node<K, V> node = protectedDeque.first;
+            if (node == null) {
+                return;
+            }
+
+            protectedDeque.remove(node);
+            probation.addLast(node);
+            node.queue = PROBATION;
+            protectedWeightedSize -= node.weight;
+        }
+    }
+
+    private void evictEntries() {
+
+        Node<K, V> candidate = evictFromWindow();
+        evictFromMain(candidate);
+    }
+
+    /**
+     * Move entries that exceed the window capacity to the probation segment.
+     *
+     * @return the first entry that was moved, {@code null} if no entry was moved.
+     */
+    private Node<K, V> evictFromWindow() {
+
+        Node<K, V> first = null;
+
+        while (windowWeightedSize > windowMaximum) {
+
+            Node<K, V> node = window.first;
+            if (node == null) {
+                break;
+            }
+
+            window.remove(node);
+            probation.addLast(node);
+            node.queue = PROBATION;
+            windowWeightedSize -= node.weight;
+
+            if (first == null) {
+                first = node;
+            }
+        }
+
+        return first;
+    }
+
+    /**
+     * Evict entries until the cache fits its maximum. Candidates leaving the window compete with the victim at the head of the
+     * probation segment.
+     */
+    private void evictFromMain(Node<K, V> candidate) {
+
+        while (weightedSize > maximum) {
+
+            Node<K, V> victim = probation.first;
+
+            if (victim == null) {
+                victim = protectedDeque.first;
+            }
+
+            if (victim == null) {
+                victim = window.first;
+            }
+
+            if (victim == null) {
+                return;
+            }
+
+            if (candidate == null || candidate == victim || candidate.queue != PROBATION) {
+
+                if (candidate == victim) {
+                    candidate = victim.next;
+                }
+
+                remove(victim);
+                continue;
+            }
+
+            Node<K, V> next = candidate.next;
+
+            if (candidate.weight > maximum || !admit(candidate, victim)) {
+                remove(candidate);
+                candidate = next;
+            } else {
+                remove(victim);
+            }
+        }
+    }
+
+    private boolean admit(Node<K, V> candidate, Node<K, V> victim) {
+        return sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode());
+    }
+
+    private void remove(Node<K, V> node) {
+
+        data.remove(node.key, node);
+
+        if (node.queue == WINDOW) {
+            window.remove(node);
+            windowWeightedSize -= node.weight;
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+        } else if (node.queue == PROTECTED) {
+            protectedDeque.remove(node);
+            protectedWeightedSize -= node.weight;
+        } else {
+            return;
+        }
+
+        weightedSize -= node.weight;
+        node.queue = RETIRED;
+    }
+
+    private static int spread(int x) {
+
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * Builder for {@link BoundedCacheAccessor}.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     */
+    public static class Builder<K, V> {
+
+        private long maximumSize = -1;
+
+        private long maximumWeight = -1;
+
+        private ToIntBiFunction<? super K, ? super V> weigher;
+
+        private Duration timeToLive;
+
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Bound the cache by the number of entries.
+         *
+         * @param maximumSize the maximum number of entries. Must be greater than {@code 0}.
+         * @return {@code this}
+         */
+        public Builder<K, V> maximumSize(long maximumSize) {
+
+            LettuceAssert.isTrue(maximumSize > 0, "Maximum size must be greater than 0");
+
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Bound the cache by the total weight of its entries. Requires a {@link #weigher(ToIntBiFunction) weigher}.
+         *
+         * @param maximumWeight the maximum total weight. Must be greater than {@code 0}.
+         * @return {@code this}
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight) {
+
+            LettuceAssert.isTrue(maximumWeight > 0, "Maximum weight must be greater than 0");
+
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * Set the function to compute the weight of an entry. The weight is computed when the entry is stored.
+         *
+         * @param weigher the weigher, must not be {@code null}. The weigher must return a non-negative weight.
+         * @return {@code this}
+         */
+        public Builder<K, V> weigher(ToIntBiFunction<? super K, ? super V> weigher) {
+
+            LettuceAssert.notNull(weigher, "Weigher must not be null");
+
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Weigh entries by the number of bytes of their encoded key and value using the given {@link RedisCodec}.
+         *
+         * @param codec the codec to encode keys and values, must not be {@code null}.
+         * @return {@code this}
+         */
+        public Builder<K, V> weighByEncodedSize(RedisCodec<K, V> codec) {
+
+            LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+            return weigher((key, value) -> codec.encodeKey(key).remaining() + codec.encodeValue(value).remaining());
+        }
+
+        /**
+         * Expire entries after the given duration since they were stored. Expiry is a safety net in case invalidation messages
+         * get lost, entries are not expired by default.
+         *
+         * @param timeToLive the time to live, must not be {@code null} and must be positive.
+         * @return {@code this}
+         */
+        public Builder<K, V> timeToLive(Duration timeToLive) {
+
+            LettuceAssert.notNull(timeToLive, "Time to live must not be null");
+            LettuceAssert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        Builder<K, V> ticker(LongSupplier ticker) {
+
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Create a new {@link BoundedCacheAccessor}.
+         *
+         * @return a new {@link BoundedCacheAccessor}.
+         */
+        public BoundedCacheAccessor<K, V> build() {
+
+            LettuceAssert.assertState(maximumSize > 0 ^ maximumWeight > 0,
+                    "Either maximum size or maximum weight must be configured");
+            LettuceAssert.assertState((maximumWeight > 0) == (weigher != null),
+                    "Maximum weight and weigher must be configured together");
+
+            return new BoundedCacheAccessor<>(this);
+        }
+
+    }
+
+    static final class Node<K, V> {
+
+        final K key;
+
+        volatile V value;
+
+        volatile long expiresAt;
+
+        // guarded by evictionLock
+        int weight;
+
+        int queue;
+
+        Node<K, V> prev;
+
+        Node<K, V> next;
+
+        Node(K key, V value, int weight, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+    /**
+     * Intrusive doubly-linked list of {@link Node nodes} in access order. Not thread-safe.
+     */
+    static final class AccessOrderDeque<K, V> {
+
+        Node<K, V> first;
+
+        Node<K, V> last;
+
+        void addLast(Node<K, V> node) {
+
+            node.prev = last;
+            node.next = null;
+
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+
+            last = node;
+        }
+
+        void remove(Node<K, V> node) {
+
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToLast(Node<K, V> node) {
+
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+    }
+
+    /**
+     * Lossy single-producer-per-slot ring buffer recording reads. Reads are dropped if the buffer is full or under contention,
+     * which only affects the precision of the eviction policy.
+     */
+    static final class ReadBuffer<K, V> {
+
+        private static final int SIZE = 64;
+
+        private static final int MASK = SIZE - 1;
+
+        private final AtomicReferenceArray<Node<K, V>> elements = new AtomicReferenceArray<>(SIZE);
+
+        private final AtomicLong writeCounter = new AtomicLong();
+
+        private volatile long readCounter;
+
+        /**
+         * @return {@code false} if the buffer is full.
+         */
+        boolean offer(Node<K, V> node) {
+
+            long tail = writeCounter.get();
+
+            if (tail - readCounter >= SIZE) {
+                return false;
+            }
+
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                elements.lazySet((int) (tail & MASK), node);
+            }
+
+            return true;
+        }
+
+        void drain(BoundedCacheAccessor<K, V> accessor) {
+
+            long head = readCounter;
+            long tail = writeCounter.get();
+
+            for (; head < tail; head++) {
+
+                int index = (int) (head & MASK);
+                Node<K, V> node = elements.get(index);
+
+                if (node == null) {
+                    break;
+                }
+
+                elements.lazySet(index, null);
+                accessor.onAccess(node);
+            }
+
+            readCounter = head;
+        }
+
+    }
+
+}
@@ -10,6 +10,7 @@ import java.util.Map;
  * @param <V> Value type.
  * @author Mark Paluch
  * @since 6.0
+ * @see BoundedCacheAccessor
  */
 public interface CacheAccessor<K, V> {
 
@@ -59,4 +60,14 @@ public interface CacheAccessor<K, V> {
      */
     void evict(K key);
 
+    /**
+     * Remove all mappings from this cache. Called when Redis signals that all tracked keys were invalidated, for example on
+     * {@code FLUSHALL} or after the tracking connection was disconnected. The default implementation does not remove any
+     * entries. Implementations should override this method as cached values may otherwise outlive their invalidation.
+     *
+     * @since 6.7
+     */
+    default void clear() {
+    }
+
 }
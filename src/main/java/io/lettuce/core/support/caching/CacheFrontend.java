@@ -1,8 +1,14 @@
 package io.lettuce.core.support.caching;
 
 import java.io.Closeable;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
+import reactor.core.publisher.Mono;
 import io.lettuce.core.RedisException;
 
 /**
@@ -28,6 +34,64 @@ public interface CacheFrontend<K, V> extends Closeable {
      */
     V get(K key);
 
+    /**
+     * Return the value to which this cache maps the specified key without blocking the calling thread. Concurrent cache misses
+     * for the same key may share a single request to Redis.
+     * <p>
+     * The default implementation calls {@link #get(Object)} and is therefore blocking. Implementations should override this
+     * method.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return a {@link CompletionStage} emitting the value to which this cache maps the specified key, or {@code null} if
+     *         neither the client-side cache nor Redis contain a mapping for this key.
+     * @since 6.7
+     * @see RedisCache#getAsync(Object)
+     */
+    default CompletionStage<V> getAsync(K key) {
+        return CompletableFuture.completedFuture(get(key));
+    }
+
+    /**
+     * Return a {@link Mono} emitting the value to which this cache maps the specified key. The {@link Mono} completes empty if
+     * neither the client-side cache nor Redis contain a mapping for this key. The lookup is deferred until subscription.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return a {@link Mono} emitting the value to which this cache maps the specified key.
+     * @since 6.7
+     * @see #getAsync(Object)
+     */
+    default Mono<V> getReactive(K key) {
+        return Mono.fromCompletionStage(() -> getAsync(key));
+    }
+
+    /**
+     * Return the values to which this cache maps the specified keys. Keys without a mapping in the client-side cache and in
+     * Redis are not contained in the resulting {@link Map}.
+     * <p>
+     * The default implementation calls {@link #get(Object)} for each key. Implementations should override this method to fetch
+     * cache misses with a single request.
+     *
+     * @param keys the keys whose associated values are to be returned.
+     * @return a {@link Map} of keys to their values in the iteration order of {@code keys}.
+     * @since 6.7
+     * @see RedisCache#getAll(Collection)
+     */
+    default Map<K, V> getAll(Collection<K> keys) {
+
+        Map<K, V> result = new LinkedHashMap<>();
+
+        for (K key : keys) {
+
+            V value = get(key);
+
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Return the value to which this cache maps the specified key, obtaining that value from {@code valueLoader} if necessary.
      * This method provides a simple substitute for the conventional "if cached, return; otherwise create, cache and return"
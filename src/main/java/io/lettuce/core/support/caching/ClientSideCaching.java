@@ -1,18 +1,52 @@
 package io.lettuce.core.support.caching;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import io.lettuce.core.StatefulRedisConnectionImpl;
 import io.lettuce.core.TrackingArgs;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.StatefulRedisClusterConnectionImpl;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.ExceptionFactory;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.MapOutput;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandArgsAccessor;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.ReadOnlyCommands;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 /**
  * Utility to provide server-side assistance for client-side caches. This is a {@link CacheFrontend} that represents a two-level
  * cache backed by a client-side and a Redis cache.
+ * <p>
+ * Values read from Redis are written to the client-side cache only if no invalidation arrived for their key while the value was
+ * read. Invalidations are tracked as epochs per hash bucket of keys, so a fill started before an invalidation is discarded and
+ * stale values do not outlive the invalidation.
+ * <p>
+ * Redis Cluster connections enable tracking on all node connections and read cache misses from the node serving the key's slot.
+ * Invalidations of all keys (on {@code FLUSHALL} or when a tracking connection disconnects) clear the client-side cache.
  *
  * For example:
  *
@@ -28,6 +62,9 @@ import io.lettuce.core.codec.RedisCodec;
  * String value = frontend.get(key);
  * </pre>
  *
+ * Besides plain values, {@link ClientSideCaching} caches hashes and results of read-only commands, see
+ * {@link #hget(Object, Object)} and {@link #execute(ProtocolKeyword, Object, Function, Consumer)}.
+ *
  * @param <K> Key type.
  * @param <V> Value type.
  * @author Mark Paluch
@@ -35,13 +72,32 @@ import io.lettuce.core.codec.RedisCodec;
  */
 public class ClientSideCaching<K, V> implements CacheFrontend<K, V> {
 
+    private static final int EPOCH_BUCKETS = 4096;
+
+    private static final int MAXIMUM_COMMAND_RESULTS = 10_000;
+
     private final CacheAccessor<K, V> cacheAccessor;
 
-    private final RedisCache<K, V> redisCache;
+    private final DispatchingRedisCache<K, V> redisCache;
 
     private final List<Consumer<K>> invalidationListeners = new CopyOnWriteArrayList<>();
 
-    private ClientSideCaching(CacheAccessor<K, V> cacheAccessor, RedisCache<K, V> redisCache) {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Invalidation epochs per hash bucket of keys. A cache fill captures the epoch of its key before reading from Redis and is
+     * discarded if an invalidation for a key of the same bucket arrived in the meantime.
+     */
+    private final AtomicLongArray epochs = new AtomicLongArray(EPOCH_BUCKETS);
+
+    /**
+     * Results of {@link #execute(ProtocolKeyword, Object, Function, Consumer) commands} grouped by the key they read so that a
+     * key invalidation evicts all of its results at once. Bounded by the total number of results.
+     */
+    private final BoundedCacheAccessor<K, CommandResults> commandCache = BoundedCacheAccessor.<K, CommandResults> builder()
+            .maximumWeight(MAXIMUM_COMMAND_RESULTS).weigher((key, results) -> results.size()).build();
+
+    private ClientSideCaching(CacheAccessor<K, V> cacheAccessor, DispatchingRedisCache<K, V> redisCache) {
         this.cacheAccessor = cacheAccessor;
         this.redisCache = redisCache;
     }
@@ -58,10 +114,10 @@ public class ClientSideCaching<K, V> implements CacheFrontend<K, V> {
      * @param tracking the tracking parameters.
      * @param <K> Key type.
      * @param <V> Value type.
-     * @return the {@link CacheFrontend} for value retrieval.
+     * @return the {@link ClientSideCaching} frontend for value retrieval.
      */
-    public static <K, V> CacheFrontend<K, V> enable(CacheAccessor<K, V> cacheAccessor, StatefulRedisConnection<K, V> connection,
-            TrackingArgs tracking) {
+    public static <K, V> ClientSideCaching<K, V> enable(CacheAccessor<K, V> cacheAccessor,
+            StatefulRedisConnection<K, V> connection, TrackingArgs tracking) {
 
         connection.sync().clientTracking(tracking);
 
@@ -80,24 +136,83 @@ public class ClientSideCaching<K, V> implements CacheFrontend<K, V> {
      *        closed through {@link CacheFrontend#close()}.
      * @param <K> Key type.
      * @param <V> Value type.
-     * @return the {@link CacheFrontend} for value retrieval.
+     * @return the {@link ClientSideCaching} frontend for value retrieval.
      */
-    public static <K, V> CacheFrontend<K, V> create(CacheAccessor<K, V> cacheAccessor,
+    public static <K, V> ClientSideCaching<K, V> create(CacheAccessor<K, V> cacheAccessor,
             StatefulRedisConnection<K, V> connection) {
 
         StatefulRedisConnectionImpl<K, V> connectionImpl = (StatefulRedisConnectionImpl) connection;
         RedisCodec<K, V> codec = connectionImpl.getCodec();
-        RedisCache<K, V> redisCache = new DefaultRedisCache<>(connection, codec);
+        DispatchingRedisCache<K, V> redisCache = new DefaultRedisCache<>(connection, codec);
+
+        return create(cacheAccessor, redisCache);
+    }
+
+    /**
+     * Enable server-assisted Client side caching for the given {@link CacheAccessor} and
+     * {@link StatefulRedisClusterConnection}. Tracking is {@link StatefulRedisClusterConnection#setClientTracking(TrackingArgs)
+     * enabled} on all node connections, including node connections that are established after topology changes. Cache misses
+     * are read from the node serving the key's slot and invalidations are accepted from any node.
+     * <p>
+     * Note that the {@link CacheFrontend} is associated with a Redis Cluster connection. Make sure to
+     * {@link CacheFrontend#close() close} the frontend object to release the Redis connection after use.
+     *
+     * @param cacheAccessor the accessor used to interact with the client-side cache.
+     * @param connection the Redis Cluster connection to use. The connection will be associated with {@link CacheFrontend} and
+     *        must be closed through {@link CacheFrontend#close()}.
+     * @param tracking the tracking parameters.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link ClientSideCaching} frontend for value retrieval.
+     * @since 6.7
+     */
+    public static <K, V> ClientSideCaching<K, V> enable(CacheAccessor<K, V> cacheAccessor,
+            StatefulRedisClusterConnection<K, V> connection, TrackingArgs tracking) {
+
+        if (!Futures.await(connection.getTimeout(), connection.setClientTracking(tracking))) {
+            throw ExceptionFactory.createTimeoutException("Cannot enable tracking on all node connections",
+                    connection.getTimeout());
+        }
+
+        return create(cacheAccessor, connection);
+    }
+
+    /**
+     * Create a server-assisted Client side caching for the given {@link CacheAccessor} and
+     * {@link StatefulRedisClusterConnection}. This method expects that client key tracking is already
+     * {@link StatefulRedisClusterConnection#setClientTracking(TrackingArgs) configured} for all node connections.
+     * <p>
+     * Note that the {@link CacheFrontend} is associated with a Redis Cluster connection. Make sure to
+     * {@link CacheFrontend#close() close} the frontend object to release the Redis connection after use.
+     *
+     * @param cacheAccessor the accessor used to interact with the client-side cache.
+     * @param connection the Redis Cluster connection to use. The connection will be associated with {@link CacheFrontend} and
+     *        must be closed through {@link CacheFrontend#close()}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link ClientSideCaching} frontend for value retrieval.
+     * @since 6.7
+     */
+    public static <K, V> ClientSideCaching<K, V> create(CacheAccessor<K, V> cacheAccessor,
+            StatefulRedisClusterConnection<K, V> connection) {
+
+        StatefulRedisClusterConnectionImpl<K, V> connectionImpl = (StatefulRedisClusterConnectionImpl) connection;
+        RedisCodec<K, V> codec = connectionImpl.getCodec();
+        DispatchingRedisCache<K, V> redisCache = new ClusterRedisCache<>(connection, codec);
 
         return create(cacheAccessor, redisCache);
     }
 
-    private static <K, V> CacheFrontend<K, V> create(CacheAccessor<K, V> cacheAccessor, RedisCache<K, V> redisCache) {
+    static <K, V> ClientSideCaching<K, V> create(CacheAccessor<K, V> cacheAccessor, DispatchingRedisCache<K, V> redisCache) {
 
         ClientSideCaching<K, V> caching = new ClientSideCaching<>(cacheAccessor, redisCache);
 
         redisCache.addInvalidationListener(caching::notifyInvalidate);
+        caching.addInvalidationListener(caching::advanceEpoch);
+        caching.addInvalidationListener(caching.inFlight::remove);
         caching.addInvalidationListener(cacheAccessor::evict);
+        caching.addInvalidationListener(caching.commandCache::evict);
+        redisCache.addFlushListener(caching::invalidateAll);
 
         return caching;
     }
@@ -109,6 +224,52 @@ public class ClientSideCaching<K, V> implements CacheFrontend<K, V> {
         }
     }
 
+    private void advanceEpoch(K key) {
+        epochs.incrementAndGet(bucket(key));
+    }
+
+    /**
+     * Invalidate all keys. Advancing all epochs discards fills that are in flight before the client-side cache is cleared.
+     */
+    private void invalidateAll() {
+
+        for (int i = 0; i < EPOCH_BUCKETS; i++) {
+            epochs.incrementAndGet(i);
+        }
+
+        inFlight.clear();
+        cacheAccessor.clear();
+        commandCache.clear();
+    }
+
+    private long epoch(K key) {
+        return epochs.get(bucket(key));
+    }
+
+    private static int bucket(Object key) {
+
+        int h = key == null ? 0 : key.hashCode();
+        return (h ^ (h >>> 16)) & (EPOCH_BUCKETS - 1);
+    }
+
+    /**
+     * Write a value read from Redis to the client-side cache unless its key was invalidated since {@code epoch}. The epoch is
+     * checked again after the write: an invalidation that advanced the epoch before the write may have evicted the key before
+     * the value was written.
+     */
+    private void fill(K key, V value, long epoch) {
+
+        if (epoch(key) != epoch) {
+            return;
+        }
+
+        cacheAccessor.put(key, value);
+
+        if (epoch(key) != epoch) {
+            cacheAccessor.evict(key);
+        }
+    }
+
     @Override
     public void close() {
         redisCache.close();
@@ -124,22 +285,306 @@ public class ClientSideCaching<K, V> implements CacheFrontend<K, V> {
         V value = cacheAccessor.get(key);
 
         if (value == null) {
+
+            long epoch = epoch(key);
             value = redisCache.get(key);
 
             if (value != null) {
-                cacheAccessor.put(key, value);
+                fill(key, value, epoch);
             }
         }
 
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Concurrent cache misses for the same key share a single in-flight {@code GET}. The value is written to the client-side
+     * cache from the thread completing the Redis response, which must not block. A key invalidation while a {@code GET} is in
+     * flight detaches the request: its value is still returned to its callers, but it is not cached and subsequent callers
+     * issue a new {@code GET}.
+     */
+    @Override
+    public CompletionStage<V> getAsync(K key) {
+
+        V value = cacheAccessor.get(key);
+
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+
+        CompletableFuture<V> future = inFlight.get(key);
+
+        if (future == null) {
+
+            CompletableFuture<V> request = new CompletableFuture<>();
+            future = inFlight.putIfAbsent(key, request);
+
+            if (future == null) {
+                future = request;
+                load(key, request);
+            }
+        }
+
+        // protect the shared future from being completed by callers
+        return future.thenApply(it -> it);
+    }
+
+    private void load(K key, CompletableFuture<V> request) {
+
+        long epoch = epoch(key);
+        CompletionStage<V> response;
+
+        try {
+            response = redisCache.getAsync(key);
+        } catch (RuntimeException e) {
+            inFlight.remove(key, request);
+            request.completeExceptionally(e);
+            return;
+        }
+
+        response.whenComplete((value, throwable) -> {
+
+            if (inFlight.remove(key, request) && throwable == null && value != null) {
+                fill(key, value, epoch);
+            }
+
+            if (throwable != null) {
+                request.completeExceptionally(throwable);
+            } else {
+                request.complete(value);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cache misses are fetched with a single {@code MGET}. Redis Cluster connections split the {@code MGET} by slot.
+     */
+    @Override
+    public Map<K, V> getAll(Collection<K> keys) {
+
+        Map<K, V> values = new HashMap<>();
+        Collection<K> misses = new LinkedHashSet<>();
+
+        for (K key : keys) {
+
+            V value = cacheAccessor.get(key);
+
+            if (value != null) {
+                values.put(key, value);
+            } else {
+                misses.add(key);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+
+            List<K> missedKeys = new ArrayList<>(misses);
+            long[] missedEpochs = new long[missedKeys.size()];
+
+            for (int i = 0; i < missedEpochs.length; i++) {
+                missedEpochs[i] = epoch(missedKeys.get(i));
+            }
+
+            Map<K, V> loaded = redisCache.getAll(missedKeys);
+
+            for (int i = 0; i < missedEpochs.length; i++) {
+
+                K key = missedKeys.get(i);
+                V value = loaded.get(key);
+
+                if (value != null) {
+                    fill(key, value, missedEpochs[i]);
+                    values.put(key, value);
+                }
+            }
+        }
+
+        Map<K, V> result = new LinkedHashMap<>();
+
+        for (K key : keys) {
+
+            V value = values.get(key);
+
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the value of {@code field} in the hash stored at {@code key}. The result is cached until {@code key} is
+     * invalidated.
+     *
+     * @param key the key of the hash.
+     * @param field the field whose value is to be returned.
+     * @return the value of {@code field} or {@code null} if the hash or the field does not exist.
+     * @since 6.7
+     * @see #execute(ProtocolKeyword, Object, Function, Consumer)
+     */
+    public V hget(K key, K field) {
+        return execute(CommandType.HGET, key, ValueOutput::new, args -> args.addKey(field));
+    }
+
+    /**
+     * Return all fields and values of the hash stored at {@code key}. The result is cached until {@code key} is invalidated.
+     *
+     * @param key the key of the hash.
+     * @return the fields and values of the hash. An empty {@link Map} if the hash does not exist.
+     * @since 6.7
+     * @see #execute(ProtocolKeyword, Object, Function, Consumer)
+     */
+    public Map<K, V> hgetall(K key) {
+        return execute(CommandType.HGETALL, key, MapOutput::new, args -> {
+        });
+    }
+
+    /**
+     * Execute a read-only command against {@code key} and cache its result. Results are cached per command type and arguments.
+     * A result is evicted once {@code key} or any other key added by {@code arguments} is invalidated. {@code null} results are
+     * not cached. Up to 10000 results are retained. Cached results are shared across callers and must not be modified.
+     *
+     * @param type the read-only command type, for example {@link CommandType#HMGET}.
+     * @param key the key the command reads. It is added as first command argument.
+     * @param output factory for the {@link CommandOutput} decoding the command result.
+     * @param arguments callback to add arguments following {@code key}.
+     * @param <T> result type.
+     * @return the command result.
+     * @throws IllegalArgumentException if {@code type} is not a read-only command.
+     * @since 6.7
+     * @see io.lettuce.core.protocol.ReadOnlyCommands
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(ProtocolKeyword type, K key, Function<RedisCodec<K, V>, CommandOutput<K, V, T>> output,
+            Consumer<CommandArgs<K, V>> arguments) {
+
+        LettuceAssert.notNull(type, "Command type must not be null");
+        LettuceAssert.isTrue(ReadOnlyCommands.isReadOnlyCommand(type), () -> type + " is not a read-only command");
+        LettuceAssert.notNull(output, "Output factory must not be null");
+        LettuceAssert.notNull(arguments, "Arguments callback must not be null");
+
+        RedisCodec<K, V> codec = redisCache.getCodec();
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKey(key);
+        arguments.accept(args);
+
+        // arguments may add keys, the result is valid only as long as none of its keys is invalidated
+        List<K> keys = new ArrayList<>(new LinkedHashSet<>(CommandArgsAccessor.getKeys(args)));
+        ByteBuffer command = encode(type, args);
+        Object cached = getResult(keys, command);
+
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        long[] epochs = new long[keys.size()];
+        for (int i = 0; i < epochs.length; i++) {
+            epochs[i] = epoch(keys.get(i));
+        }
+
+        T result = redisCache.dispatch(type, output.apply(codec), args);
+
+        if (result != null) {
+            fill(keys, command, result, epochs);
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the cached result of {@code command} if it is present under all of its {@code keys}. A result that was evicted for
+     * one of its keys is stale.
+     */
+    private Object getResult(List<K> keys, ByteBuffer command) {
+
+        Object result = null;
+
+        for (K key : keys) {
+
+            CommandResults results = commandCache.get(key);
+            Object candidate = results != null ? results.get(command) : null;
+
+            if (candidate == null || (result != null && candidate != result)) {
+                return null;
+            }
+
+            result = candidate;
+        }
+
+        return result;
+    }
+
+    private static ByteBuffer encode(ProtocolKeyword type, CommandArgs<?, ?> args) {
+
+        ByteBuf buffer = Unpooled.buffer();
+
+        try {
+            buffer.writeBytes(type.getBytes());
+            args.encode(buffer);
+
+            byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+
+            return ByteBuffer.wrap(bytes);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Write a command result to the command cache under each of its {@code keys} unless one of the keys was invalidated since
+     * its epoch was captured.
+     *
+     * @see #fill(Object, Object, long)
+     */
+    private void fill(List<K> keys, ByteBuffer command, Object result, long[] epochs) {
+
+        if (!isCurrent(keys, epochs)) {
+            return;
+        }
+
+        for (K key : keys) {
+
+            CommandResults results = commandCache.get(key);
+
+            if (results == null) {
+                results = new CommandResults();
+            }
+
+            results.put(command, result);
+
+            // update the weight of the key
+            commandCache.put(key, results);
+        }
+
+        if (!isCurrent(keys, epochs)) {
+            keys.forEach(commandCache::evict);
+        }
+    }
+
+    private boolean isCurrent(List<K> keys, long[] epochs) {
+
+        for (int i = 0; i < epochs.length; i++) {
+            if (epoch(keys.get(i)) != epochs[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public V get(K key, Callable<V> valueLoader) {
 
         V value = cacheAccessor.get(key);
 
         if (value == null) {
+
+            long epoch = epoch(key);
             value = redisCache.get(key);
 
             if (value == null) {
@@ -157,14 +602,29 @@ public class ClientSideCaching<K, V> implements CacheFrontend<K, V> {
                 }
                 redisCache.put(key, value);
 
-                // register interest in key
-                redisCache.get(key);
+                // register interest in key and cache the value that is tracked
+                epoch = epoch(key);
+                V tracked = redisCache.get(key);
+
+                if (tracked != null) {
+                    fill(key, tracked, epoch);
+                }
+
+                return value;
             }
 
-            cacheAccessor.put(key, value);
+            fill(key, value, epoch);
         }
 
         return value;
     }
 
+    /**
+     * Cached command results of a single key, keyed by the encoded command.
+     */
+    @SuppressWarnings("serial")
+    static class CommandResults extends ConcurrentHashMap<ByteBuffer, Object> {
+
+    }
+
 }
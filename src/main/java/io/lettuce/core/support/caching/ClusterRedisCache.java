@@ -0,0 +1,111 @@
+package io.lettuce.core.support.caching;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.ProtocolKeyword;
+
+/**
+ * {@link RedisCache} implementation for Redis Cluster using {@code GET} and {@code SET} operations to map cache values to
+ * top-level keys. Commands are routed to the node serving the key's slot. Invalidations are received from all node connections
+ * that have {@link StatefulRedisClusterConnection#setClientTracking(io.lettuce.core.TrackingArgs) tracking} enabled.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ */
+class ClusterRedisCache<K, V> implements DispatchingRedisCache<K, V> {
+
+    private final StatefulRedisClusterConnection<K, V> connection;
+
+    private final RedisCodec<K, V> codec;
+
+    public ClusterRedisCache(StatefulRedisClusterConnection<K, V> connection, RedisCodec<K, V> codec) {
+        this.connection = connection;
+        this.codec = codec;
+    }
+
+    @Override
+    public V get(K key) {
+        return connection.sync().get(key);
+    }
+
+    @Override
+    public CompletionStage<V> getAsync(K key) {
+        return connection.async().get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<K, V> getAll(Collection<K> keys) {
+
+        Map<K, V> result = new LinkedHashMap<>();
+
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        for (KeyValue<K, V> keyValue : connection.sync().mget((K[]) keys.toArray())) {
+            if (keyValue.hasValue()) {
+                result.put(keyValue.getKey(), keyValue.getValue());
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public <T> T dispatch(ProtocolKeyword type, CommandOutput<K, V, T> output, CommandArgs<K, V> args) {
+        return connection.sync().dispatch(type, output, args);
+    }
+
+    @Override
+    public RedisCodec<K, V> getCodec() {
+        return codec;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        connection.sync().set(key, value);
+    }
+
+    @Override
+    public void addInvalidationListener(java.util.function.Consumer<? super K> listener) {
+
+        connection.addListener((node, message) -> {
+            if (message.getType().equals("invalidate")) {
+
+                List<Object> content = message.getContent(codec::decodeKey);
+                List<K> keys = (List<K>) content.get(1);
+
+                if (keys != null) {
+                    keys.forEach(listener);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void addFlushListener(Runnable listener) {
+
+        connection.addListener((node, message) -> {
+            if (message.getType().equals("invalidate") && message.getContent().get(1) == null) {
+                listener.run();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        connection.close();
+    }
+
+}
@@ -1,9 +1,19 @@
 package io.lettuce.core.support.caching;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisConnectionStateListener;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.KeyValue;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.ProtocolKeyword;
 
 /**
  * Default {@link RedisCache} implementation using {@code GET} and {@code SET} operations to map cache values to top-level keys.
@@ -11,7 +21,7 @@ import io.lettuce.core.codec.RedisCodec;
  * @param <K> Key type.
  * @param <V> Value type.
  */
-class DefaultRedisCache<K, V> implements RedisCache<K, V> {
+class DefaultRedisCache<K, V> implements DispatchingRedisCache<K, V> {
 
     private final StatefulRedisConnection<K, V> connection;
 
@@ -27,6 +37,40 @@ class DefaultRedisCache<K, V> implements RedisCache<K, V> {
         return connection.sync().get(key);
     }
 
+    @Override
+    public CompletionStage<V> getAsync(K key) {
+        return connection.async().get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<K, V> getAll(Collection<K> keys) {
+
+        Map<K, V> result = new LinkedHashMap<>();
+
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        for (KeyValue<K, V> keyValue : connection.sync().mget((K[]) keys.toArray())) {
+            if (keyValue.hasValue()) {
+                result.put(keyValue.getKey(), keyValue.getValue());
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public <T> T dispatch(ProtocolKeyword type, CommandOutput<K, V, T> output, CommandArgs<K, V> args) {
+        return connection.sync().dispatch(type, output, args);
+    }
+
+    @Override
+    public RedisCodec<K, V> getCodec() {
+        return codec;
+    }
+
     @Override
     public void put(K key, V value) {
         connection.sync().set(key, value);
@@ -40,9 +84,33 @@ class DefaultRedisCache<K, V> implements RedisCache<K, V> {
 
                 List<Object> content = message.getContent(codec::decodeKey);
                 List<K> keys = (List<K>) content.get(1);
-                keys.forEach(listener);
+
+                if (keys != null) {
+                    keys.forEach(listener);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void addFlushListener(Runnable listener) {
+
+        connection.addListener(message -> {
+            if (message.getType().equals("invalidate") && message.getContent().get(1) == null) {
+                listener.run();
             }
         });
+
+        if (connection instanceof RedisChannelHandler) {
+            ((RedisChannelHandler<?, ?>) connection).addListener(new RedisConnectionStateListener() {
+
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+                    listener.run();
+                }
+
+            });
+        }
     }
 
     @Override
@@ -0,0 +1,34 @@
+package io.lettuce.core.support.caching;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.ProtocolKeyword;
+
+/**
+ * {@link RedisCache} that executes arbitrary commands against Redis. Used by {@link ClientSideCaching} to cache hashes and
+ * results of read-only commands.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ */
+interface DispatchingRedisCache<K, V> extends RedisCache<K, V> {
+
+    /**
+     * Execute a command against Redis. The command is routed using the first key of {@code args}.
+     *
+     * @param type the command type.
+     * @param output the command output.
+     * @param args the command arguments.
+     * @param <T> result type.
+     * @return the command result.
+     */
+    <T> T dispatch(ProtocolKeyword type, CommandOutput<K, V, T> output, CommandArgs<K, V> args);
+
+    /**
+     * @return the {@link RedisCodec} used to encode keys and values.
+     */
+    RedisCodec<K, V> getCodec();
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+/**
+ * Probabilistic estimate of the access frequency of keys using a Count-Min sketch with four 4-bit counters per key. Counters
+ * are halved once the number of increments reaches ten times the sketch capacity so that the estimate reflects recent history.
+ * <p>
+ * This class is not thread-safe. Callers must guard access with a lock.
+ *
+ * @since 6.7
+ */
+class FrequencySketch {
+
+    private static final long[] SEED = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private long[] table;
+
+    private int tableMask;
+
+    private int sampleSize;
+
+    private int size;
+
+    /**
+     * Create a new {@link FrequencySketch} sized for {@code expectedKeys} distinct keys.
+     *
+     * @param expectedKeys the expected number of keys.
+     */
+    FrequencySketch(long expectedKeys) {
+        ensureCapacity(expectedKeys);
+    }
+
+    /**
+     * Resize the sketch for {@code expectedKeys} distinct keys if the sketch is smaller. Resizing discards the recorded
+     * frequencies.
+     *
+     * @param expectedKeys the expected number of keys.
+     */
+    void ensureCapacity(long expectedKeys) {
+
+        int capacity = (int) Math.min(Math.max(expectedKeys, 16), MAXIMUM_CAPACITY);
+
+        if (table != null && table.length >= capacity) {
+            return;
+        }
+
+        table = new long[nextPowerOfTwo(capacity)];
+        tableMask = table.length - 1;
+        sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+        size = 0;
+    }
+
+    /**
+     * @return the number of keys the sketch is sized for.
+     */
+    int capacity() {
+        return table.length;
+    }
+
+    /**
+     * Return the estimated number of occurrences of the given key, up to the maximum of {@code 15}.
+     *
+     * @param hashCode the hash code of the key.
+     * @return the estimated number of occurrences.
+     */
+    int frequency(int hashCode) {
+
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+
+        return frequency;
+    }
+
+    /**
+     * Increment the occurrences of the given key if it has not yet reached the maximum.
+     *
+     * @param hashCode the hash code of the key.
+     */
+    void increment(int hashCode) {
+
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Halve all counters to age the recorded frequencies.
+     */
+    private void reset() {
+
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+
+        size = (size - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int i) {
+
+        long h = (hash + SEED[i]) * SEED[i];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(int x) {
+
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+}
@@ -1,5 +1,11 @@
 package io.lettuce.core.support.caching;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * Interface defining common Redis Cache operations.
  *
@@ -19,6 +25,45 @@ public interface RedisCache<K, V> {
      */
     V get(K key);
 
+    /**
+     * Retrieve a {@code value} from Redis for the given cache {@code key} without blocking the calling thread. The default
+     * implementation calls {@link #get(Object)} and is therefore blocking. Implementations should override this method to issue
+     * a non-blocking request.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return a {@link CompletionStage} emitting the value to which this Redis cache value maps the specified key (which may be
+     *         {@code null} itself), or also {@code null} if the Redis cache contains no mapping for this key.
+     * @since 6.7
+     */
+    default CompletionStage<V> getAsync(K key) {
+        return CompletableFuture.completedFuture(get(key));
+    }
+
+    /**
+     * Retrieve the values for the given cache {@code keys}. Keys without a mapping are not contained in the resulting
+     * {@link Map}. The default implementation calls {@link #get(Object)} for each key. Implementations should override this
+     * method to retrieve all values with a single request.
+     *
+     * @param keys the keys whose associated values are to be returned.
+     * @return a {@link Map} of keys to their values.
+     * @since 6.7
+     */
+    default Map<K, V> getAll(Collection<K> keys) {
+
+        Map<K, V> result = new LinkedHashMap<>();
+
+        for (K key : keys) {
+
+            V value = get(key);
+
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Associate the specified value with the specified key in this Redis cache.
      *
@@ -34,6 +79,17 @@ public interface RedisCache<K, V> {
      */
     void addInvalidationListener(java.util.function.Consumer<? super K> listener);
 
+    /**
+     * Register a {@code listener} that is notified if all keys in this Redis cache were invalidated at once, for example on
+     * {@code FLUSHALL} or because invalidations may have been lost while the connection was disconnected. The default
+     * implementation does not notify the listener.
+     *
+     * @param listener the listener to notify.
+     * @since 6.7
+     */
+    default void addFlushListener(Runnable listener) {
+    }
+
     /**
      * Closes this Redis cache and releases any connections associated with it. If the cache is already closed then invoking
      * this method has no effect.
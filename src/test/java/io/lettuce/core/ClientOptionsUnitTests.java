@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 import io.lettuce.core.json.DefaultJsonParser;
 import io.lettuce.core.json.JsonArray;
@@ -53,12 +54,21 @@ class ClientOptionsUnitTests {
     @Test
     void testCopy() {
 
-        ClientOptions original = ClientOptions.builder().scriptCharset(StandardCharsets.US_ASCII).build();
+        ClientOptions original = ClientOptions.builder().scriptCharset(StandardCharsets.US_ASCII).gatheringWriteThreshold(1024)
+                .flushConsolidationOptions(FlushConsolidationOptions.enabled()).lockFreeSubmission(true)
+                .lockFreeSubmissionBatchSize(16)
+                .hedgedReadOptions(HedgedReadOptions.builder().hedgeReads().delay(Duration.ofMillis(5)).build()).build();
         ClientOptions copy = ClientOptions.copyOf(original);
 
         checkAssertions(copy);
         assertThat(copy.getScriptCharset()).isEqualTo(StandardCharsets.US_ASCII);
         assertThat(copy.mutate().build().getScriptCharset()).isEqualTo(StandardCharsets.US_ASCII);
+        assertThat(copy.mutate().build().getGatheringWriteThreshold()).isEqualTo(1024);
+        assertThat(copy.getFlushConsolidationOptions().isConsolidateFlushes()).isTrue();
+        assertThat(copy.isLockFreeSubmission()).isTrue();
+        assertThat(copy.mutate().build().getLockFreeSubmissionBatchSize()).isEqualTo(16);
+        assertThat(copy.getHedgedReadOptions().isHedgeReads()).isTrue();
+        assertThat(copy.mutate().build().getHedgedReadOptions().getDelay()).isEqualTo(Duration.ofMillis(5));
 
         assertThat(original.mutate()).isNotSameAs(copy.mutate());
     }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.NoReplyCommand;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.tracing.Tracing;
+
+/**
+ * Unit tests for {@link FireAndForget}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FireAndForgetUnitTests {
+
+    @Mock
+    StatefulRedisConnectionImpl<String, String> connection;
+
+    @Mock
+    ClientResources clientResources;
+
+    List<List<RedisCommand<String, String, ?>>> dispatched = new ArrayList<>();
+
+    FireAndForget<String, String> fireAndForget;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        when(clientResources.tracing()).thenReturn(Tracing.disabled());
+        when(connection.getResources()).thenReturn(clientResources);
+        when(connection.getCodec()).thenReturn(StringCodec.UTF8);
+        when(connection.getTimeout()).thenReturn(Duration.ofSeconds(1));
+        when(connection.getOptions()).thenReturn(ClientOptions.create());
+        when(connection.dispatch(any(Collection.class))).then(invocation -> {
+            dispatched.add(new ArrayList<>(invocation.getArgument(0)));
+            return invocation.getArgument(0);
+        });
+
+        fireAndForget = FireAndForget.create(connection);
+    }
+
+    @Test
+    void shouldSkipReplyForSingleCommand() {
+
+        CompletableFuture<Void> future = fireAndForget.async(commands -> commands.incrby("key", 1));
+
+        assertThat(dispatched).hasSize(1);
+        List<RedisCommand<String, String, ?>> batch = dispatched.get(0);
+
+        assertThat(batch).hasSize(2);
+        assertThat(batch.get(0).getType()).isEqualTo(CommandType.CLIENT);
+        assertThat(batch.get(0).getArgs().toCommandString()).isEqualTo("REPLY SKIP");
+        assertThat(batch.get(1).getType()).isEqualTo(CommandType.INCRBY);
+        assertThat(batch).allMatch(NoReplyCommand::isNoReply);
+
+        assertThat(future).isNotDone();
+        batch.get(1).complete();
+        assertThat(future).isCompleted();
+    }
+
+    @Test
+    void shouldWrapBatchInReplyOffAndOn() {
+
+        CompletableFuture<Void> future = fireAndForget.async(commands -> {
+            commands.incrby("key", 1);
+            commands.hset("hash", "field", "value");
+        });
+
+        List<RedisCommand<String, String, ?>> batch = dispatched.get(0);
+
+        assertThat(batch).hasSize(4);
+        assertThat(batch.get(0).getArgs().toCommandString()).isEqualTo("REPLY OFF");
+        assertThat(batch.get(1).getType()).isEqualTo(CommandType.INCRBY);
+        assertThat(batch.get(2).getType()).isEqualTo(CommandType.HSET);
+        assertThat(batch.get(3).getArgs().toCommandString()).isEqualTo("REPLY ON");
+        assertThat(batch.subList(0, 3)).allMatch(NoReplyCommand::isNoReply);
+        assertThat(NoReplyCommand.isNoReply(batch.get(3))).isFalse();
+
+        batch.get(1).complete();
+        batch.get(2).complete();
+        assertThat(future).isNotDone();
+
+        batch.get(3).complete();
+        assertThat(future).isCompleted();
+    }
+
+    @Test
+    void shouldCompleteRecordedFuturesOnceWritten() {
+
+        List<RedisFuture<Long>> futures = new ArrayList<>();
+
+        fireAndForget.async(commands -> {
+            futures.add(commands.incrby("key", 1));
+            futures.add(commands.incrby("key", 2));
+        });
+
+        dispatched.get(0).get(1).complete();
+
+        assertThat(futures.get(0).isDone()).isTrue();
+        assertThat(futures.get(1).isDone()).isFalse();
+    }
+
+    @Test
+    void shouldNotDispatchEmptyBatch() {
+
+        CompletableFuture<Void> future = fireAndForget.async(commands -> {
+        });
+
+        assertThat(future).isCompleted();
+        assertThat(dispatched).isEmpty();
+    }
+
+    @Test
+    void shouldRejectTransactions() {
+
+        assertThatThrownBy(() -> fireAndForget.async(RedisAsyncCommands::multi)).isInstanceOf(RedisException.class);
+        assertThat(dispatched).isEmpty();
+
+        when(connection.isMulti()).thenReturn(true);
+
+        assertThat(fireAndForget.async(commands -> commands.incrby("key", 1))).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldRejectCommandsOutsideOfCallback() {
+
+        List<RedisAsyncCommands<String, String>> leaked = new ArrayList<>();
+        fireAndForget.async(leaked::add);
+
+        assertThatThrownBy(() -> leaked.get(0).incrby("key", 1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void syncShouldAwaitAcknowledgement() {
+
+        when(connection.dispatch(any(Collection.class))).then(invocation -> {
+            Collection<RedisCommand<String, String, ?>> commands = invocation.getArgument(0);
+            commands.forEach(RedisCommand::complete);
+            return commands;
+        });
+
+        fireAndForget.sync(commands -> {
+            commands.incrby("key", 1);
+            commands.incrby("key", 2);
+        });
+    }
+
+    @Test
+    void reactiveShouldRecordOnSubscribe() {
+
+        fireAndForget.reactive(commands -> commands.incrby("key", 1));
+
+        assertThat(dispatched).isEmpty();
+    }
+
+}
@@ -15,8 +15,12 @@ import org.junit.jupiter.api.Test;
 
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.CommandOutput;
 import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandKeyword;
+import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.ProtocolVersion;
 import io.netty.channel.embedded.EmbeddedChannel;
 
@@ -110,6 +114,31 @@ class RedisHandshakeUnitTests {
         assertThat(handshakeInit.toCompletableFuture().isCompletedExceptionally()).isFalse();
     }
 
+    @Test
+    void handshakeShouldRestoreClientTracking() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(true, false);
+
+        CommandArgs<String, String> tracking = new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.TRACKING);
+        TrackingArgs.Builder.enabled().bcast().build(tracking);
+
+        ConnectionState state = new ConnectionState();
+        state.setCredentialsProvider(new StaticCredentialsProvider(null, null));
+        state.setClientTracking(tracking);
+        RedisHandshake handshake = new RedisHandshake(ProtocolVersion.RESP3, false, state);
+        handshake.initialize(channel);
+
+        AsyncCommand<String, String, Map<String, String>> hello = channel.readOutbound();
+        helloResponse(hello.getOutput());
+        hello.complete();
+
+        List<AsyncCommand<String, String, String>> postHandshake = channel.readOutbound();
+
+        assertThat(postHandshake).hasSize(1);
+        assertThat(postHandshake.get(0).getType()).isEqualTo(CommandType.CLIENT);
+        assertThat(postHandshake.get(0).getArgs().toCommandString()).isEqualTo("TRACKING ON BCAST");
+    }
+
     @Test
     void handshakeWithInvalidResponseShouldPropagateException() {
 
@@ -47,4 +47,12 @@ class TimeoutOptionsUnitTests {
         assertThat(source.getTimeout(null)).isEqualTo(TimeUnit.MINUTES.toNanos(1));
     }
 
+    @Test
+    void deadlineQueue() {
+
+        assertThat(TimeoutOptions.enabled().isDeadlineQueue()).isFalse();
+        assertThat(TimeoutOptions.builder().fixedTimeout(Duration.ofSeconds(1)).deadlineQueue(true).build().isDeadlineQueue())
+                .isTrue();
+    }
+
 }
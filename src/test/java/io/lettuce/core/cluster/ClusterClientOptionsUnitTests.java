@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.HedgedReadOptions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandType;
@@ -30,7 +31,8 @@ class ClusterClientOptionsUnitTests {
         ClusterClientOptions options = ClusterClientOptions.builder().autoReconnect(false).requestQueueSize(100)
                 .suspendReconnectOnProtocolFailure(true).maxRedirects(1234).validateClusterNodeMembership(false)
                 .readOnlyCommands(command -> command.getType() == CommandType.PING).protocolVersion(ProtocolVersion.RESP2)
-                .nodeFilter(nodeFilter).build();
+                .nodeFilter(nodeFilter).hedgedReadOptions(HedgedReadOptions.enabled())
+                .warmUpOptions(ClusterWarmUpOptions.builder().warmUpOnConnect().parallelism(4).build()).build();
 
         ClusterClientOptions copy = ClusterClientOptions.copyOf(options);
 
@@ -46,6 +48,9 @@ class ClusterClientOptionsUnitTests {
         assertThat(copy.getMaxRedirects()).isEqualTo(options.getMaxRedirects());
         assertThat(copy.getScriptCharset()).isEqualTo(StandardCharsets.UTF_8);
         assertThat(copy.getNodeFilter()).isEqualTo(nodeFilter);
+        assertThat(copy.getHedgedReadOptions().isHedgeReads()).isTrue();
+        assertThat(copy.getWarmUpOptions().isWarmUpOnConnect()).isTrue();
+        assertThat(copy.getWarmUpOptions().getParallelism()).isEqualTo(4);
         assertThat(copy.getReadOnlyCommands().isReadOnly(new Command<>(CommandType.GET, null))).isFalse();
         assertThat(copy.getReadOnlyCommands().isReadOnly(new Command<>(CommandType.PING, null))).isTrue();
     }
@@ -63,7 +68,7 @@ class ClusterClientOptionsUnitTests {
     @Test
     void builderFromDefaultClientOptions() {
 
-        ClientOptions clientOptions = ClientOptions.builder().build();
+        ClientOptions clientOptions = ClientOptions.builder().hedgedReadOptions(HedgedReadOptions.enabled()).build();
         ClusterClientOptions clusterClientOptions = ClusterClientOptions.builder(clientOptions).build();
 
         assertThat(clusterClientOptions.getProtocolVersion()).isEqualTo(clusterClientOptions.getProtocolVersion());
@@ -79,6 +84,7 @@ class ClusterClientOptionsUnitTests {
         assertThat(clusterClientOptions.isSuspendReconnectOnProtocolFailure())
                 .isEqualTo(clusterClientOptions.isSuspendReconnectOnProtocolFailure());
         assertThat(clusterClientOptions.getScriptCharset()).isEqualTo(clusterClientOptions.getScriptCharset());
+        assertThat(clusterClientOptions.getHedgedReadOptions().isHedgeReads()).isTrue();
         assertThat(clusterClientOptions.mutate()).isNotNull();
     }
 
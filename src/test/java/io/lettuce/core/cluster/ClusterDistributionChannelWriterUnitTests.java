@@ -24,9 +24,12 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -40,6 +43,7 @@ import org.mockito.quality.Strictness;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.CommandListenerWriter;
+import io.lettuce.core.HedgedReadOptions;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.StatefulRedisConnectionImpl;
 import io.lettuce.core.TimeoutOptions;
@@ -48,6 +52,7 @@ import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.event.EventBus;
+import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.output.ValueOutput;
 import io.lettuce.core.protocol.AsyncCommand;
@@ -59,6 +64,8 @@ import io.lettuce.core.protocol.ConnectionIntent;
 import io.lettuce.core.protocol.DefaultEndpoint;
 import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.resource.ClientResources;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
 
 /**
  * Unit tests for {@link ClusterDistributionChannelWriter}.
@@ -242,11 +249,122 @@ class ClusterDistributionChannelWriterUnitTests {
         verify(defaultWriter).disconnect();
     }
 
+    @Test
+    void shouldWriteCommandsForSlotsOfSameNodeAsSingleBatch() {
+
+        clusterDistributionChannelWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(any(ConnectionIntent.class), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(connection));
+        when(connection.getChannelWriter()).thenReturn(clusterNodeEndpoint);
+
+        Command<String, String, String> command1 = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("a"));
+        Command<String, String, String> command2 = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("b"));
+
+        clusterDistributionChannelWriter.write(Arrays.asList(command1, command2));
+
+        verify(pooledClusterConnectionProvider, times(2)).getConnectionAsync(any(ConnectionIntent.class), anyInt());
+        verify(clusterNodeEndpoint).write(argThat((List<RedisCommand<String, String, ?>> commands) -> commands.size() == 2));
+    }
+
+    @Test
+    void shouldWriteBatchOnceConnected() {
+
+        CompletableFuture<StatefulRedisConnection<String, String>> future = new CompletableFuture<>();
+
+        clusterDistributionChannelWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(any(ConnectionIntent.class), anyInt())).thenReturn(future);
+        when(connection.getChannelWriter()).thenReturn(clusterNodeEndpoint);
+
+        AsyncCommand<String, String, String> command = new AsyncCommand<>(new Command<>(CommandType.GET,
+                new ValueOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey("a")));
+
+        clusterDistributionChannelWriter.write(Collections.singletonList(command));
+
+        verify(clusterNodeEndpoint, never()).write(anyList());
+
+        future.complete(connection);
+
+        verify(clusterNodeEndpoint).write(anyList());
+    }
+
+    @Test
+    void shouldFailBatchIfConnectionCannotBeObtained() {
+
+        clusterDistributionChannelWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(any(ConnectionIntent.class), anyInt()))
+                .thenReturn(Futures.failed(new PartitionSelectorException("no partition", new Partitions())));
+
+        AsyncCommand<String, String, String> command = new AsyncCommand<>(new Command<>(CommandType.GET,
+                new ValueOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey("a")));
+
+        clusterDistributionChannelWriter.write(Collections.singletonList(command));
+
+        assertThat(command).isCompletedExceptionally();
+    }
+
     @Test
     void shouldWriteOneCommandWhenMoved() {
         verifyWriteCommandCountWhenRedirecting(true);
     }
 
+    @Test
+    void shouldRedirectSlotWhenMoved() {
+
+        verifyWriteCommandCountWhenRedirecting(true);
+
+        verify(pooledClusterConnectionProvider).redirectSlot(1234, "127.0.0.1", 6379);
+    }
+
+    @Test
+    void shouldParseMovedSlot() {
+
+        assertThat(ClusterDistributionChannelWriter.getMovedSlot("MOVED 1234 127.0.0.1:6381")).isEqualTo(1234);
+        assertThat(ClusterDistributionChannelWriter.getMovedSlot("MOVED 1234-2020 127.0.0.1:6381")).isEqualTo(-1);
+        assertThat(ClusterDistributionChannelWriter.getMovedSlot("MOVED 16384 127.0.0.1:6381")).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldHedgeReadToAlternateNode() {
+
+        EventExecutorGroup executor = new DefaultEventExecutorGroup(1);
+        when(clientResources.eventExecutorGroup()).thenReturn(executor);
+
+        ClientOptions options = ClientOptions.builder()
+                .hedgedReadOptions(HedgedReadOptions.builder().hedgeReads().delay(Duration.ofMillis(1)).budget(1).build())
+                .build();
+        ClusterDistributionChannelWriter writer = new ClusterDistributionChannelWriter(defaultWriter, options,
+                clusterEventListener);
+        writer.setClusterConnectionProvider(pooledClusterConnectionProvider);
+
+        StatefulRedisConnectionImpl<String, String> alternate = mock(StatefulRedisConnectionImpl.class);
+        ClusterNodeEndpoint alternateEndpoint = mock(ClusterNodeEndpoint.class);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(any(ConnectionIntent.class), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(connection));
+        doReturn(alternate).when(pooledClusterConnectionProvider).getAlternateReadConnection(anyInt(), eq(connection));
+        when(connection.getChannelWriter()).thenReturn(clusterNodeEndpoint);
+        when(alternate.getChannelWriter()).thenReturn(alternateEndpoint);
+
+        try {
+
+            AsyncCommand<String, String, String> command = new AsyncCommand<>(new Command<>(CommandType.GET,
+                    new ValueOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey("a")));
+
+            writer.write(command);
+
+            verify(clusterNodeEndpoint).write(ArgumentMatchers.<RedisCommand<String, String, String>> any());
+            verify(alternateEndpoint, timeout(1000)).write(
+                    ArgumentMatchers.<RedisCommand<String, String, String>> argThat(it -> it.getType() == CommandType.GET));
+        } finally {
+            executor.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
     private void verifyWriteCommandCountWhenRedirecting(boolean isMoved) {
 
         String outputError = isMoved ? "MOVED 1234 127.0.0.1:6379" : "ASK 1234 127.0.0.1:6379";
@@ -16,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.FlushConsolidationOptions;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.codec.StringCodec;
@@ -58,6 +59,7 @@ class ClusterNodeEndpointUnitTests {
 
         when(clientOptions.getRequestQueueSize()).thenReturn(1000);
         when(clientOptions.getDisconnectedBehavior()).thenReturn(ClientOptions.DisconnectedBehavior.DEFAULT);
+        when(clientOptions.getFlushConsolidationOptions()).thenReturn(FlushConsolidationOptions.create());
 
         prepareNewEndpoint();
     }
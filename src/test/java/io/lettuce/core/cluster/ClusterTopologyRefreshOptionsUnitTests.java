@@ -29,6 +29,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .useClusterShards(true)//
+                .refreshSourcesSampleSize(3)//
                 .build();
 
         assertThat(options.getRefreshPeriod()).isEqualTo(Duration.ofMinutes(10));
@@ -38,6 +40,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
         assertThat(options.getAdaptiveRefreshTimeout()).isEqualTo(Duration.ofMillis(15));
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.useClusterShards()).isTrue();
+        assertThat(options.getRefreshSourcesSampleSize()).isEqualTo(3);
     }
 
     @Test
@@ -50,6 +54,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .useClusterShards(true)//
+                .refreshSourcesSampleSize(3)//
                 .build();
 
         ClusterTopologyRefreshOptions options = ClusterTopologyRefreshOptions.copyOf(master);
@@ -61,6 +67,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
         assertThat(options.getAdaptiveRefreshTimeout()).isEqualTo(Duration.ofMillis(15));
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.useClusterShards()).isTrue();
+        assertThat(options.getRefreshSourcesSampleSize()).isEqualTo(3);
     }
 
     @Test
@@ -80,6 +88,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_ADAPTIVE_REFRESH_TRIGGERS);
         assertThat(options.getRefreshTriggersReconnectAttempts())
                 .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS);
+        assertThat(options.getRefreshSourcesSampleSize())
+                .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE).isZero();
     }
 
     @Test
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Unit tests for {@link MultiKeyExecution}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MultiKeyExecutionUnitTests {
+
+    @Mock
+    StatefulRedisClusterConnectionImpl<String, String> connection;
+
+    List<List<RedisCommand<String, String, ?>>> batches = new ArrayList<>();
+
+    List<RedisCommand<String, String, ?>> singles = new ArrayList<>();
+
+    MultiKeyCommandBuilder<String, String> builder = new MultiKeyCommandBuilder<>(StringCodec.UTF8, null);
+
+    MultiKeyExecution<String, String> sut;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        when(connection.dispatch(any(Collection.class))).then(invocation -> {
+            batches.add(new ArrayList<>(invocation.getArgument(0)));
+            return invocation.getArgument(0);
+        });
+        when(connection.dispatch(any(RedisCommand.class))).then(invocation -> {
+            singles.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        sut = new MultiKeyExecution<>(connection, StringCodec.UTF8);
+    }
+
+    @Test
+    void shouldDispatchSingleCommandForSingleSlot() {
+
+        sut.gather(Arrays.asList("{a}1", "{a}2"), builder::mget);
+
+        assertThat(batches).isEmpty();
+        assertThat(singles).hasSize(1);
+        assertThat(singles.get(0).getArgs().toCommandString()).isEqualTo("key<{a}1> key<{a}2>");
+    }
+
+    @Test
+    void shouldDispatchPerSlotCommandsAsSingleBatch() {
+
+        sut.gather(Arrays.asList("a", "b", "{a}1", "c"), builder::mget);
+
+        assertThat(singles).isEmpty();
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(3).extracting(it -> it.getArgs().toCommandString()).containsExactly("key<b>",
+                "key<c>", "key<a> key<{a}1>");
+    }
+
+    @Test
+    void shouldReassembleResultsByKeyPosition() {
+
+        RedisFuture<List<KeyValue<String, String>>> future = sut.gather(Arrays.asList("a", "b", "{a}1", "c", "b"),
+                builder::mget);
+
+        List<RedisCommand<String, String, ?>> commands = batches.get(0);
+
+        // complete in reverse order: a, {a}1
+        complete(commands.get(2), "1", "3");
+        // c
+        complete(commands.get(1), "4");
+        // b, b
+        complete(commands.get(0), "2", "5");
+
+        assertThat(future.toCompletableFuture().join()).extracting(KeyValue::getValue).containsExactly("1", "2", "3", "4", "5");
+        assertThat(future.toCompletableFuture().join()).extracting(KeyValue::getKey).containsExactly("a", "b", "{a}1", "c",
+                "b");
+    }
+
+    @Test
+    void shouldReduceResults() {
+
+        RedisFuture<Long> future = sut.reduce(Arrays.asList("a", "b", "c"), keys -> builder.keyCount(CommandType.DEL, keys),
+                Long::sum);
+
+        for (RedisCommand<String, String, ?> command : batches.get(0)) {
+            ((RedisCommand<String, String, Long>) command).getOutput().set(1);
+            command.complete();
+        }
+
+        assertThat(future.toCompletableFuture().join()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldFailIfSubCommandFails() {
+
+        RedisFuture<Long> future = sut.reduce(Arrays.asList("a", "b"), keys -> builder.keyCount(CommandType.DEL, keys),
+                Long::sum);
+
+        batches.get(0).get(0).completeExceptionally(new IllegalStateException());
+        batches.get(0).get(1).complete();
+
+        assertThat(future.toCompletableFuture()).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldCreateMsetPerSlot() {
+
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("a", "1");
+        map.put("b", "2");
+
+        sut.reduce(map.keySet(), keys -> builder.mset(keys, map), (a, b) -> a);
+
+        assertThat(batches.get(0)).extracting(it -> it.getArgs().toCommandString()).containsExactly("key<b> value<2>",
+                "key<a> value<1>");
+    }
+
+    @Test
+    void shouldGatherPerKeyCommands() {
+
+        RedisFuture<List<String>> future = sut.gatherPerKey(Arrays.asList("a", "b"), key -> new Command<>(CommandType.GET,
+                new ValueOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey(key)));
+
+        assertThat(batches.get(0)).hasSize(2);
+
+        complete(batches.get(0).get(1), "2");
+        complete(batches.get(0).get(0), "1");
+
+        assertThat(future.toCompletableFuture().join()).containsExactly("1", "2");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void complete(RedisCommand<String, String, ?> command, String... values) {
+
+        command.getOutput().multi(values.length);
+
+        for (String value : values) {
+            command.getOutput().set(StringCodec.UTF8.encodeValue(value));
+        }
+
+        ((AsyncCommand<String, String, ?>) command).complete();
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.cluster.api.NodeSelectionSupport;
+import io.lettuce.core.cluster.api.async.AsyncExecutions;
+import io.lettuce.core.cluster.api.async.AsyncNodeSelection;
+import io.lettuce.core.cluster.api.async.NodeSelectionAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.test.resource.TestClientResources;
+
+/**
+ * Unit tests for {@link NodeSelectionInvocationHandler}.
+ */
+@Tag(UNIT_TEST)
+class NodeSelectionInvocationHandlerUnitTests {
+
+    private final TestNodeSelection selection = new TestNodeSelection();
+
+    private final List<AsyncCommand<String, String, String>> pending = new ArrayList<>();
+
+    private AsyncNodeSelection<String, String> sut;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        for (int i = 1; i <= 4; i++) {
+
+            RedisClusterNode node = new RedisClusterNode();
+            node.setNodeId("" + i);
+            node.setUri(RedisURI.create("localhost", i));
+
+            StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+            RedisAsyncCommands<String, String> async = mock(RedisAsyncCommands.class);
+
+            doReturn(async).when(connection).async();
+            doReturn(TestClientResources.get()).when(connection).getResources();
+            doAnswer(invocation -> {
+
+                AsyncCommand<String, String, String> command = new AsyncCommand<>(
+                        new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+                pending.add(command);
+                return command;
+            }).when(async).ping();
+
+            selection.connections.put(node, connection);
+        }
+
+        sut = (AsyncNodeSelection<String, String>) Proxy.newProxyInstance(NodeSelectionSupport.class.getClassLoader(),
+                new Class<?>[] { NodeSelectionAsyncCommands.class, AsyncNodeSelection.class },
+                new NodeSelectionInvocationHandler(selection, RedisClusterAsyncCommands.class,
+                        NodeSelectionInvocationHandler.ExecutionModel.ASYNC));
+    }
+
+    @Test
+    void shouldExecuteOnAllNodesByDefault() {
+
+        AsyncExecutions<String> executions = sut.commands().ping();
+
+        assertThat(pending).hasSize(4);
+
+        pending.forEach(command -> command.complete("PONG"));
+
+        assertThat(executions.toCompletableFuture().join()).containsExactly("PONG", "PONG", "PONG", "PONG");
+    }
+
+    @Test
+    void shouldLimitParallelism() {
+
+        AsyncNodeSelection<String, String> bounded = sut.withOptions(NodeSelectionOptions.parallelism(2));
+        AsyncExecutions<String> executions = bounded.commands().ping();
+
+        assertThat(pending).hasSize(2);
+        assertThat(executions.toCompletableFuture()).isNotDone();
+
+        pending.get(1).complete("PONG");
+        assertThat(pending).hasSize(3);
+
+        pending.get(0).complete("PONG");
+        pending.get(2).complete("PONG");
+        assertThat(pending).hasSize(4);
+        assertThat(executions.toCompletableFuture()).isNotDone();
+
+        pending.get(3).complete("PONG");
+        assertThat(executions.toCompletableFuture().join()).hasSize(4);
+    }
+
+    @Test
+    void withOptionsShouldNotChangeOriginalSelection() {
+
+        sut.withOptions(NodeSelectionOptions.parallelism(1));
+
+        sut.commands().ping();
+
+        assertThat(pending).hasSize(4);
+    }
+
+    @Test
+    void shouldFailNodeExecutionAfterNodeTimeout() {
+
+        AsyncExecutions<String> executions = sut
+                .withOptions(NodeSelectionOptions.builder().parallelism(2).nodeTimeout(Duration.ofMillis(50)).build())
+                .commands().ping();
+
+        pending.get(0).complete("PONG");
+        pending.get(2).complete("PONG");
+        pending.get(3).complete("PONG");
+
+        assertThatThrownBy(() -> executions.get(selection.node(1)).toCompletableFuture().join())
+                .hasCauseInstanceOf(RedisCommandTimeoutException.class);
+        assertThat(executions.get(selection.node(3)).toCompletableFuture().join()).isEqualTo("PONG");
+        assertThat(pending).hasSize(4);
+    }
+
+    @Test
+    void nodeTimeoutShouldKeepSlotUntilCommandCompletes() {
+
+        AsyncExecutions<String> executions = sut
+                .withOptions(NodeSelectionOptions.builder().parallelism(1).nodeTimeout(Duration.ofMillis(50)).build())
+                .commands().ping();
+
+        assertThatThrownBy(() -> executions.get(selection.node(0)).toCompletableFuture().join())
+                .hasCauseInstanceOf(RedisCommandTimeoutException.class);
+        assertThat(pending).hasSize(1);
+
+        pending.get(0).complete("PONG");
+
+        assertThat(pending).hasSize(2);
+        assertThat(executions.get(selection.node(0)).toCompletableFuture()).isCompletedExceptionally();
+    }
+
+    @Test
+    void fluxShouldEmitNodeResultsInCompletionOrder() {
+
+        AsyncExecutions<String> executions = sut.withOptions(NodeSelectionOptions.parallelism(4)).commands().ping();
+
+        pending.get(2).complete("PONG");
+        pending.get(0).complete(null);
+        pending.get(3).completeExceptionally(new IllegalStateException());
+
+        StepVerifier.create(executions.flux()).expectNext(KeyValue.just(selection.node(2), "PONG"))
+                .expectNext(KeyValue.empty(selection.node(0))).then(() -> pending.get(1).complete("PONG"))
+                .expectNext(KeyValue.just(selection.node(1), "PONG")).verifyError(IllegalStateException.class);
+    }
+
+    static class TestNodeSelection extends AbstractNodeSelection<RedisAsyncCommands<String, String>, Object, String, String> {
+
+        final Map<RedisClusterNode, StatefulRedisConnection<String, String>> connections = new LinkedHashMap<>();
+
+        @Override
+        protected CompletableFuture<StatefulRedisConnection<String, String>> getConnection(RedisClusterNode redisClusterNode) {
+            return CompletableFuture.completedFuture(connections.get(redisClusterNode));
+        }
+
+        @Override
+        protected CompletableFuture<RedisAsyncCommands<String, String>> getApi(RedisClusterNode redisClusterNode) {
+            return getConnection(redisClusterNode).thenApply(StatefulRedisConnection::async);
+        }
+
+        @Override
+        protected List<RedisClusterNode> nodes() {
+            return new ArrayList<>(connections.keySet());
+        }
+
+    }
+
+}
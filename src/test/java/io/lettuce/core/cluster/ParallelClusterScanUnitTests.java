@@ -0,0 +1,206 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.reactive.RedisAdvancedClusterReactiveCommands;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.internal.Futures;
+
+/**
+ * Unit tests for {@link ParallelClusterScan} and {@link ParallelScanCursor}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ParallelClusterScanUnitTests {
+
+    @Mock
+    private StatefulRedisClusterConnection<String, String> connection;
+
+    @Mock
+    private RedisAdvancedClusterAsyncCommands<String, String> commands;
+
+    @Mock
+    private StatefulRedisConnection<String, String> node1;
+
+    @Mock
+    private StatefulRedisConnection<String, String> node2;
+
+    @Mock
+    private RedisAsyncCommands<String, String> async1;
+
+    @Mock
+    private RedisAsyncCommands<String, String> async2;
+
+    @BeforeEach
+    void before() {
+
+        Partitions partitions = new Partitions();
+        partitions.add(upstream("node1"));
+        partitions.add(upstream("node2"));
+        partitions.updateCache();
+
+        when(commands.getStatefulConnection()).thenReturn(connection);
+        when(connection.getPartitions()).thenReturn(partitions);
+        when(connection.getConnectionAsync("node1")).thenReturn(CompletableFuture.completedFuture(node1));
+        when(connection.getConnectionAsync("node2")).thenReturn(CompletableFuture.completedFuture(node2));
+        when(node1.async()).thenReturn(async1);
+        when(node2.async()).thenReturn(async2);
+    }
+
+    @Test
+    void shouldEncodeAndDecodeCursor() {
+
+        ParallelScanCursor<String> cursor = new ParallelScanCursor<>(Collections.singletonMap("a1b2", "17"));
+
+        assertThat(cursor.getCursor()).isEqualTo("a1b2:17");
+        assertThat(cursor.isFinished()).isFalse();
+
+        ParallelScanCursor<String> restored = ParallelScanCursor.from(ScanCursor.of(cursor.getCursor()));
+
+        assertThat(restored.getNodeCursors()).containsEntry("a1b2", "17").hasSize(1);
+        assertThat(new ParallelScanCursor<>(Collections.emptyMap()).isFinished()).isTrue();
+    }
+
+    @Test
+    void shouldRejectForeignCursor() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ParallelScanCursor.from(ScanCursor.of("42")));
+    }
+
+    @Test
+    void shouldScanNodesConcurrently() throws Exception {
+
+        when(async1.scan(any(ScanCursor.class))).thenReturn(result("5", false, "a", "b"));
+        when(async2.scan(any(ScanCursor.class))).thenReturn(result("0", true, "c"));
+
+        ParallelScanCursor<String> cursor = ParallelClusterScan.scan(commands, ScanCursor.INITIAL, 2).get();
+
+        assertThat(cursor.getKeys()).containsExactly("a", "b", "c");
+        assertThat(cursor.getNodeCursors()).containsOnlyKeys("node1").containsEntry("node1", "5");
+        assertThat(cursor.isFinished()).isFalse();
+    }
+
+    @Test
+    void shouldLimitParallelism() throws Exception {
+
+        when(async1.scan(any(ScanCursor.class))).thenReturn(result("0", true, "a"));
+
+        ParallelScanCursor<String> cursor = ParallelClusterScan.scan(commands, ScanCursor.INITIAL, 1).get();
+
+        assertThat(cursor.getKeys()).containsExactly("a");
+        assertThat(cursor.getNodeCursors()).containsOnlyKeys("node2").containsEntry("node2", "0");
+        verifyNoInteractions(async2);
+    }
+
+    @Test
+    void shouldResumeFromEncodedCursor() throws Exception {
+
+        when(async2.scan(any(ScanCursor.class))).thenReturn(result("0", true, "c"));
+
+        ParallelScanCursor<String> cursor = ParallelClusterScan.scan(commands, ScanCursor.of("node2:9"), 4).get();
+
+        verify(async2).scan(argThat((ScanCursor it) -> it.getCursor().equals("9")));
+        assertThat(cursor.getKeys()).containsExactly("c");
+        assertThat(cursor.isFinished()).isTrue();
+        verifyNoInteractions(async1);
+    }
+
+    @Test
+    void shouldFailStepIfNodeScanFails() {
+
+        when(async1.scan(any(ScanCursor.class))).thenReturn(result("5", false, "a"));
+        when(async2.scan(any(ScanCursor.class)))
+                .thenReturn(new PipelinedRedisFuture<>(Futures.failed(new RedisException("node down"))));
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> ParallelClusterScan.scan(commands, ScanCursor.INITIAL, 2).get())
+                .withCauseInstanceOf(RedisException.class);
+    }
+
+    @Test
+    void shouldStreamKeysOfAllNodes() {
+
+        RedisAdvancedClusterReactiveCommands<String, String> reactive = mock(RedisAdvancedClusterReactiveCommands.class);
+        RedisReactiveCommands<String, String> reactive1 = mock(RedisReactiveCommands.class);
+        RedisReactiveCommands<String, String> reactive2 = mock(RedisReactiveCommands.class);
+
+        when(reactive.getStatefulConnection()).thenReturn(connection);
+        when(node1.reactive()).thenReturn(reactive1);
+        when(node2.reactive()).thenReturn(reactive2);
+        when(reactive1.scan()).thenReturn(Mono.just(cursor("5", false, "a")));
+        when(reactive1.scan(any(ScanCursor.class))).thenReturn(Mono.just(cursor("0", true, "b")));
+        when(reactive2.scan()).thenReturn(Mono.just(cursor("0", true, "c")));
+
+        StepVerifier.create(ParallelClusterScan.scan(reactive, null, 2).collectList())
+                .assertNext(keys -> assertThat(keys).containsExactlyInAnyOrder("a", "b", "c")).verifyComplete();
+    }
+
+    private static RedisClusterNode upstream(String nodeId) {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setNodeId(nodeId);
+        node.setFlags(Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM));
+        return node;
+    }
+
+    private static PipelinedRedisFuture<KeyScanCursor<String>> result(String position, boolean finished, String... keys) {
+        return new PipelinedRedisFuture<>(CompletableFuture.completedFuture(cursor(position, finished, keys)));
+    }
+
+    private static KeyScanCursor<String> cursor(String position, boolean finished, String... keys) {
+
+        KeyScanCursor<String> cursor = new KeyScanCursor<>();
+        cursor.setCursor(position);
+        cursor.setFinished(finished);
+        cursor.getKeys().addAll(Arrays.asList(keys));
+        return cursor;
+    }
+
+}
@@ -36,6 +36,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -46,15 +47,19 @@ import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisConnectionStateListener;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.Futures;
 import io.lettuce.core.models.role.RedisNodeDescription;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
@@ -133,6 +138,7 @@ class PooledClusterConnectionProviderUnitTests {
         assertThat(connection).isSameAs(nodeConnectionMock);
         verify(connection).setAutoFlushCommands(true);
         verify(connection).addListener(any(PushListener.class));
+        verify(channelHandlerMock).addListener(any(RedisConnectionStateListener.class));
         verifyNoMoreInteractions(connection);
     }
 
@@ -149,9 +155,95 @@ class PooledClusterConnectionProviderUnitTests {
         assertThat(connection).isSameAs(nodeConnectionMock);
         verify(connection).setAutoFlushCommands(true);
         verify(connection).addListener(any(PushListener.class));
+        verify(channelHandlerMock).addListener(any(RedisConnectionStateListener.class));
         verifyNoMoreInteractions(connection);
     }
 
+    @Test
+    void shouldCacheWriteConnectionPerSlot() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        assertThat(sut.getConnection(ConnectionIntent.WRITE, 1)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getConnection(ConnectionIntent.WRITE, 1)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getConnection(ConnectionIntent.WRITE, 2)).isSameAs(nodeConnectionMock);
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+    }
+
+    @Test
+    void shouldRouteToNewUpstreamAfterPartitionsChange() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), any(), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+        when(channelHandlerMock.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+        sut.getConnection(ConnectionIntent.WRITE, 1);
+
+        Partitions newPartitions = new Partitions();
+        newPartitions.add(new RedisClusterNode(RedisURI.create("localhost", 3), "3", true, null, 0, 0, 0,
+                IntStream.range(0, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()),
+                Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM)));
+
+        sut.setPartitions(newPartitions);
+        sut.getConnection(ConnectionIntent.WRITE, 1);
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:3"), any(), any());
+    }
+
+    @Test
+    void shouldRouteToRedirectedNode() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), any(), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        sut.getConnection(ConnectionIntent.WRITE, 1);
+        sut.redirectSlot(1, "localhost", 2);
+        sut.getConnection(ConnectionIntent.WRITE, 1);
+        sut.getConnection(ConnectionIntent.WRITE, 1);
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any());
+    }
+
+    @Test
+    void shouldIgnoreRedirectToUnknownNode() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), any(), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        sut.redirectSlot(1, "localhost", 3);
+        sut.getConnection(ConnectionIntent.WRITE, 1);
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock, never()).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:3"), any(), any());
+    }
+
+    @Test
+    void shouldDiscardRedirectsAfterPartitionsChange() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), any(), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        sut.redirectSlot(1, "localhost", 2);
+        sut.setPartitions(partitions);
+        sut.getConnection(ConnectionIntent.WRITE, 1);
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock, never()).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any());
+    }
+
+    @Test
+    void shouldRetainReadFromAfterPartitionsChange() {
+
+        sut.setReadFrom(ReadFrom.REPLICA);
+        sut.setPartitions(partitions);
+
+        assertThat(sut.getReadFrom()).isEqualTo(ReadFrom.REPLICA);
+    }
+
     @Test
     void shouldObtainConnectionReadFromReplica() {
 
@@ -437,4 +529,186 @@ class PooledClusterConnectionProviderUnitTests {
         verify(clusterEventListener).onUnknownNode();
     }
 
+    @Test
+    void warmUpShouldConnectUpstreamNodesAndPopulateRouting() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), anyString(), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        partitions.getPartitionByNodeId("2").setFlags(Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM));
+        partitions.getPartitionByNodeId("2").setSlaveOf(null);
+        partitions.updateCache();
+        sut.setPartitions(partitions);
+
+        sut.warmUp(ClusterWarmUpOptions.create()).join();
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any());
+
+        assertThat(sut.getConnection(ConnectionIntent.WRITE, 1)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getConnection(ConnectionIntent.WRITE, SlotHash.SLOT_COUNT - 1)).isSameAs(nodeConnectionMock);
+
+        verify(clientMock, times(2)).connectToNodeAsync(eq(StringCodec.UTF8), anyString(), any(), any());
+    }
+
+    @Test
+    void warmUpShouldConnectReplicasIfRequested() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), anyString(), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        Partitions partitions = new Partitions();
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", 1), "1", true, null, 0, 0, 0,
+                IntStream.range(0, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()),
+                Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM)));
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", 2), "2", true, "1", 0, 0, 0, new ArrayList<>(),
+                Collections.singleton(RedisClusterNode.NodeFlag.REPLICA)));
+        sut.setPartitions(partitions);
+        sut.setReadFrom(ReadFrom.REPLICA);
+
+        AsyncCommand<String, String, String> async = new AsyncCommand<>(new Command<>(CommandType.READONLY, null, null));
+        async.complete();
+
+        when(asyncCommandsMock.readOnly()).thenReturn(async);
+
+        sut.warmUp(ClusterWarmUpOptions.builder().replicas(true).build()).join();
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any());
+
+        assertThat(sut.getConnection(ConnectionIntent.READ, 1)).isSameAs(nodeConnectionMock);
+
+        verify(clientMock, times(2)).connectToNodeAsync(eq(StringCodec.UTF8), anyString(), any(), any());
+    }
+
+    @Test
+    void warmUpShouldBoundParallelism() {
+
+        List<CompletableFuture<StatefulRedisConnection<String, String>>> pending = new ArrayList<>();
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), anyString(), any(), any())).thenAnswer(invocation -> {
+
+            CompletableFuture<StatefulRedisConnection<String, String>> future = new CompletableFuture<>();
+            pending.add(future);
+            return ConnectionFuture.from(socketAddressMock, future);
+        });
+
+        Partitions partitions = new Partitions();
+        for (int i = 0; i < 4; i++) {
+            int from = i * (SlotHash.SLOT_COUNT / 4);
+            partitions.add(new RedisClusterNode(RedisURI.create("localhost", i + 1), "" + (i + 1), true, null, 0, 0, 0,
+                    IntStream.range(from, from + SlotHash.SLOT_COUNT / 4).boxed().collect(Collectors.toList()),
+                    Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM)));
+        }
+        sut.setPartitions(partitions);
+
+        CompletableFuture<Void> warmUp = sut.warmUp(ClusterWarmUpOptions.builder().parallelism(2).build());
+
+        assertThat(pending).hasSize(2);
+
+        pending.get(0).complete(nodeConnectionMock);
+        assertThat(pending).hasSize(3);
+
+        pending.get(1).complete(nodeConnectionMock);
+        pending.get(2).complete(nodeConnectionMock);
+        assertThat(pending).hasSize(4);
+        assertThat(warmUp).isNotDone();
+
+        pending.get(3).complete(nodeConnectionMock);
+        assertThat(warmUp).isCompleted();
+    }
+
+    @Test
+    void warmUpShouldFailIfNodeCannotBeConnected() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, Futures.failed(new RedisConnectionException("foo"))));
+
+        CompletableFuture<Void> warmUp = sut.warmUp(ClusterWarmUpOptions.create());
+
+        assertThat(warmUp).isCompletedExceptionally();
+    }
+
+    @Test
+    void setClientTrackingShouldApplyToOpenAndNewConnections() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), anyString(), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        AsyncCommand<String, String, String> async = new AsyncCommand<>(new Command<>(CommandType.CLIENT, null, null));
+        async.complete();
+
+        when(asyncCommandsMock.clientTracking(any())).thenReturn(async);
+
+        sut.getConnection(ConnectionIntent.WRITE, 1);
+
+        TrackingArgs tracking = TrackingArgs.Builder.enabled();
+        sut.setClientTracking(tracking).join();
+
+        verify(asyncCommandsMock).clientTracking(tracking);
+        verify(channelHandlerMock).addListener(any(RedisConnectionStateListener.class));
+
+        sut.getConnection(ConnectionIntent.WRITE, "localhost", 2);
+
+        verify(asyncCommandsMock, times(2)).clientTracking(tracking);
+        verify(channelHandlerMock, times(2)).addListener(any(RedisConnectionStateListener.class));
+    }
+
+    @Test
+    void setClientTrackingShouldNotRegisterStateListenerAgain() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), anyString(), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        AsyncCommand<String, String, String> async = new AsyncCommand<>(new Command<>(CommandType.CLIENT, null, null));
+        async.complete();
+
+        when(asyncCommandsMock.clientTracking(any())).thenReturn(async);
+
+        sut.getConnection(ConnectionIntent.WRITE, 1);
+
+        sut.setClientTracking(TrackingArgs.Builder.enabled()).join();
+        sut.setClientTracking(TrackingArgs.Builder.enabled().bcast()).join();
+
+        verify(asyncCommandsMock, times(2)).clientTracking(any());
+        verify(channelHandlerMock).addListener(any(RedisConnectionStateListener.class));
+    }
+
+    @Test
+    void shouldNotifyInvalidateAllOnTrackingConnectionDisconnect() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        AsyncCommand<String, String, String> async = new AsyncCommand<>(new Command<>(CommandType.CLIENT, null, null));
+        async.complete();
+
+        when(asyncCommandsMock.clientTracking(any())).thenReturn(async);
+
+        List<PushMessage> messages = new ArrayList<>();
+        List<RedisClusterNode> nodes = new ArrayList<>();
+        sut.addListener((node, message) -> {
+            nodes.add(node);
+            messages.add(message);
+        });
+
+        sut.setClientTracking(TrackingArgs.Builder.enabled()).join();
+        sut.getConnection(ConnectionIntent.WRITE, 1);
+
+        ArgumentCaptor<RedisConnectionStateListener> captor = ArgumentCaptor.forClass(RedisConnectionStateListener.class);
+        verify(channelHandlerMock).addListener(captor.capture());
+
+        captor.getValue().onRedisDisconnected(channelHandlerMock);
+
+        assertThat(nodes).extracting(RedisClusterNode::getNodeId).containsOnly("1");
+        assertThat(messages).hasSize(1);
+        assertThat(messages.get(0).getType()).isEqualTo("invalidate");
+        assertThat(messages.get(0).getContent(StringCodec.UTF8::decodeKey)).containsExactly("invalidate", null);
+
+        sut.setClientTracking(TrackingArgs.Builder.enabled(false)).join();
+        captor.getValue().onRedisDisconnected(channelHandlerMock);
+
+        assertThat(messages).hasSize(1);
+    }
+
 }
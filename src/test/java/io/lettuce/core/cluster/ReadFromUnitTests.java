@@ -107,6 +107,18 @@ class ReadFromUnitTests {
         assertThat(result).hasSize(2).containsExactly(nearest, replica);
     }
 
+    @Test
+    void leastOutstandingRequests() {
+        List<RedisNodeDescription> result = ReadFrom.LEAST_OUTSTANDING_REQUESTS.select(getNodes());
+        assertThat(result).hasSize(3).containsExactly(nearest, master, replica);
+    }
+
+    @Test
+    void lowestEwmaLatencyFromReplicas() {
+        List<RedisNodeDescription> result = ReadFrom.lowestEwmaLatency(ReadFrom.ANY_REPLICA).select(getNodes());
+        assertThat(result).hasSize(2).containsExactly(nearest, replica);
+    }
+
     @Test
     void subnetIpv4RuleIpv6NodeGiven() {
         ReadFrom sut = ReadFrom.subnet("0.0.0.0/0");
@@ -354,6 +366,18 @@ class ReadFromUnitTests {
         assertThat(ReadFrom.valueOf(name)).isEqualTo(ReadFrom.ANY);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "leastOutstandingRequests", "LEASTOUTSTANDINGREQUESTS" })
+    void valueOfLeastOutstandingRequests(String name) {
+        assertThat(ReadFrom.valueOf(name)).isEqualTo(ReadFrom.LEAST_OUTSTANDING_REQUESTS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "lowestEwmaLatency", "LOWESTEWMALATENCY" })
+    void valueOfLowestEwmaLatency(String name) {
+        assertThat(ReadFrom.valueOf(name)).isEqualTo(ReadFrom.LOWEST_EWMA_LATENCY);
+    }
+
     private ReadFrom.Nodes getNodes() {
         return new ReadFrom.Nodes() {
 
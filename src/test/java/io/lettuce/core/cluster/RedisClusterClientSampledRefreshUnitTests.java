@@ -0,0 +1,223 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.cluster.topology.ClusterTopologyRefresh;
+import io.lettuce.test.resource.FastShutdown;
+import io.lettuce.test.resource.TestClientResources;
+
+/**
+ * Unit tests for sampled topology refresh in {@link RedisClusterClient}.
+ */
+@Tag(UNIT_TEST)
+class RedisClusterClientSampledRefreshUnitTests {
+
+    private final ClusterTopologyRefresh refresh = mock(ClusterTopologyRefresh.class);
+
+    private RedisClusterClient client;
+
+    @BeforeEach
+    void before() {
+
+        client = new RedisClusterClient(TestClientResources.get(),
+                Collections.singletonList(RedisURI.create("localhost", 7000))) {
+
+            @Override
+            protected ClusterTopologyRefresh createTopologyRefresh() {
+                return refresh;
+            }
+
+        };
+
+        client.setPartitions(createPartitions(5));
+    }
+
+    @AfterEach
+    void after() {
+        FastShutdown.shutdown(client);
+    }
+
+    @Test
+    void shouldQuerySampleOnly() {
+
+        client.setOptions(sampleSize(2));
+        when(refresh.loadViews(any(), any(), eq(false)))
+                .thenAnswer(invocation -> views(invocation.getArgument(0), createPartitions(5)));
+
+        client.refreshPartitions();
+
+        List<RedisURI> sample = captureSources(false);
+        assertThat(sample).hasSize(2).isSubsetOf(getUris(client.getPartitions()));
+        verify(refresh, never()).loadViews(any(), any(), eq(true));
+    }
+
+    @Test
+    void shouldRotateSample() {
+
+        client.setOptions(sampleSize(2));
+        when(refresh.loadViews(any(), any(), eq(false)))
+                .thenAnswer(invocation -> views(invocation.getArgument(0), createPartitions(5)));
+
+        List<RedisURI> queried = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+
+            client.refreshPartitions();
+
+            queried.addAll(captureSources(false));
+            clearInvocations(refresh);
+        }
+
+        assertThat(new HashSet<>(queried)).containsExactlyInAnyOrderElementsOf(getUris(createPartitions(5)));
+    }
+
+    @Test
+    void shouldEscalateOnDifferentViews() {
+
+        client.setOptions(sampleSize(2));
+        when(refresh.loadViews(any(), any(), eq(false))).thenAnswer(invocation -> {
+
+            List<RedisURI> sources = toList(invocation.getArgument(0));
+            Map<RedisURI, Partitions> views = new LinkedHashMap<>();
+            views.put(sources.get(0), createPartitions(5));
+            views.put(sources.get(1), createPartitions(6));
+            return CompletableFuture.completedFuture(views);
+        });
+        doAnswer(invocation -> views(invocation.getArgument(0), createPartitions(6))).when(refresh).loadViews(any(), any(),
+                eq(true));
+
+        client.refreshPartitions();
+
+        assertThat(captureSources(true)).hasSize(5);
+        assertThat(client.getPartitions()).hasSize(6);
+    }
+
+    @Test
+    void shouldEscalateOnMissingView() {
+
+        client.setOptions(sampleSize(2));
+        when(refresh.loadViews(any(), any(), eq(false))).thenAnswer(invocation -> {
+
+            List<RedisURI> sources = toList(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(Collections.singletonMap(sources.get(0), createPartitions(5)));
+        });
+        doAnswer(invocation -> views(invocation.getArgument(0), createPartitions(5))).when(refresh).loadViews(any(), any(),
+                eq(true));
+
+        client.refreshPartitions();
+
+        assertThat(captureSources(true)).hasSize(5);
+    }
+
+    @Test
+    void shouldQueryAllNodesIfSampleCoversCluster() {
+
+        client.setOptions(sampleSize(5));
+        when(refresh.loadViews(any(), any(), anyBoolean()))
+                .thenAnswer(invocation -> views(invocation.getArgument(0), createPartitions(5)));
+
+        client.refreshPartitions();
+
+        assertThat(captureSources(true)).hasSize(5);
+        verify(refresh, never()).loadViews(any(), any(), eq(false));
+    }
+
+    private List<RedisURI> captureSources(boolean discovery) {
+
+        ArgumentCaptor<Iterable<RedisURI>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(refresh).loadViews(captor.capture(), any(), eq(discovery));
+        return toList(captor.getValue());
+    }
+
+    private static ClusterClientOptions sampleSize(int sampleSize) {
+        return ClusterClientOptions.builder()
+                .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder().refreshSourcesSampleSize(sampleSize).build())
+                .build();
+    }
+
+    private static CompletableFuture<Map<RedisURI, Partitions>> views(Iterable<RedisURI> sources, Partitions partitions) {
+
+        Map<RedisURI, Partitions> views = new LinkedHashMap<>();
+        for (RedisURI source : sources) {
+            views.put(source, partitions);
+        }
+        return CompletableFuture.completedFuture(views);
+    }
+
+    private static Partitions createPartitions(int nodes) {
+
+        Partitions partitions = new Partitions();
+        int slotsPerNode = SlotHash.SLOT_COUNT / nodes;
+
+        for (int i = 0; i < nodes; i++) {
+
+            List<Integer> slots = new ArrayList<>();
+            int to = i == nodes - 1 ? SlotHash.SLOT_COUNT : (i + 1) * slotsPerNode;
+            for (int slot = i * slotsPerNode; slot < to; slot++) {
+                slots.add(slot);
+            }
+
+            partitions.add(new RedisClusterNode(RedisURI.create("127.0.0.1", 7000 + i), "node-" + i, true, null, 0, 0, 0, slots,
+                    new HashSet<>(Arrays.asList(RedisClusterNode.NodeFlag.UPSTREAM))));
+        }
+
+        partitions.updateCache();
+        return partitions;
+    }
+
+    private static List<RedisURI> getUris(Iterable<RedisClusterNode> nodes) {
+
+        List<RedisURI> uris = new ArrayList<>();
+        for (RedisClusterNode node : nodes) {
+            uris.add(node.getUri());
+        }
+        return uris;
+    }
+
+    private static List<RedisURI> toList(Iterable<RedisURI> sources) {
+
+        List<RedisURI> list = new ArrayList<>();
+        sources.forEach(list::add);
+        return list;
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link SlotPartitioning}.
+ */
+@Tag(UNIT_TEST)
+class SlotPartitioningUnitTests {
+
+    @Test
+    void shouldPartitionEmptyKeys() {
+
+        SlotPartitioning<String> partitioning = SlotPartitioning.of(StringCodec.UTF8, Collections.emptyList());
+
+        assertThat(partitioning.size()).isZero();
+        assertThat(partitioning.getGroupCount()).isZero();
+    }
+
+    @Test
+    void shouldCreateSingleGroupForSameSlot() {
+
+        List<String> keys = Arrays.asList("{a}1", "{a}2", "a");
+        SlotPartitioning<String> partitioning = SlotPartitioning.of(StringCodec.UTF8, keys);
+
+        assertThat(partitioning.getGroupCount()).isOne();
+        assertThat(partitioning.getSlot(0)).isEqualTo(SlotHash.getSlot("a"));
+        assertThat(partitioning.getKeys(0)).isEqualTo(keys);
+        assertThat(partitioning.getPosition(0, 2)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGroupKeysBySlotRetainingKeyOrder() {
+
+        List<String> keys = Arrays.asList("a", "b", "{a}1", "c", "{b}1", "{a}2");
+        SlotPartitioning<String> partitioning = SlotPartitioning.of(StringCodec.UTF8, keys);
+
+        assertThat(partitioning.size()).isEqualTo(6);
+        assertThat(partitioning.getGroupCount()).isEqualTo(3);
+
+        // groups are ordered by slot: b (3300), c (7365), a (15495)
+        assertThat(partitioning.getSlot(0)).isEqualTo(SlotHash.getSlot("b"));
+        assertThat(partitioning.getKeys(0)).containsExactly("b", "{b}1");
+        assertThat(partitioning.getKeys(1)).containsExactly("c");
+        assertThat(partitioning.getKeys(2)).containsExactly("a", "{a}1", "{a}2");
+
+        assertThat(partitioning.getGroupSize(2)).isEqualTo(3);
+        assertThat(partitioning.getPosition(2, 0)).isEqualTo(0);
+        assertThat(partitioning.getPosition(2, 1)).isEqualTo(2);
+        assertThat(partitioning.getPosition(2, 2)).isEqualTo(5);
+        assertThat(partitioning.getPosition(0, 1)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRetainDuplicateKeys() {
+
+        List<String> keys = Arrays.asList("a", "b", "a");
+        SlotPartitioning<String> partitioning = SlotPartitioning.of(StringCodec.UTF8, keys);
+
+        assertThat(partitioning.getKeys(1)).containsExactly("a", "a");
+        assertThat(partitioning.getPosition(1, 1)).isEqualTo(2);
+    }
+
+}
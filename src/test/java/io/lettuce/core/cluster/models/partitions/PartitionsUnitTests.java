@@ -4,6 +4,7 @@ import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.*;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -345,6 +346,88 @@ class PartitionsUnitTests {
         assertThat(iterator.hasNext()).isFalse();
     }
 
+    @Test
+    void updateRetainsUnchangedNodes() {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+
+        RedisClusterNode update1 = node1.clone();
+        update1.setReplOffset(42);
+
+        assertThat(partitions.update(Arrays.asList(node2.clone(), update1))).isFalse();
+
+        assertThat(partitions).containsExactly(node2, node1);
+        assertThat(partitions.getPartition(0)).isSameAs(node2);
+        assertThat(partitions.getPartitionByNodeId("a")).isSameAs(node1);
+        assertThat(node1.getReplOffset()).isEqualTo(42);
+        assertThat(partitions.getPartitionBySlot(1)).isSameAs(node1);
+    }
+
+    @Test
+    void updateAppliesChangedSlots() {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+
+        RedisClusterNode update1 = node1.clone();
+        update1.setSlots(Arrays.asList(1, 2));
+        RedisClusterNode update2 = node2.clone();
+        update2.setSlots(Arrays.asList(3, 4, 5, 6));
+
+        assertThat(partitions.update(Arrays.asList(update1, update2))).isTrue();
+
+        assertThat(partitions.getPartitionBySlot(1)).isSameAs(update1);
+        assertThat(partitions.getPartitionBySlot(3)).isSameAs(update2);
+        assertThat(partitions.getPartitionByNodeId("b")).isSameAs(update2);
+    }
+
+    @Test
+    void updateAddsAndRemovesNodes() {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+
+        RedisClusterNode node3 = new RedisClusterNode(RedisURI.create("localhost", 6381), "c", true, "", 0, 0, 0,
+                Arrays.asList(4, 5, 6), Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM));
+
+        assertThat(partitions.update(Arrays.asList(node1.clone(), node3))).isTrue();
+
+        assertThat(partitions).containsExactly(node1, node3);
+        assertThat(partitions.getPartitionBySlot(2)).isSameAs(node1);
+        assertThat(partitions.getPartitionBySlot(4)).isSameAs(node3);
+        assertThat(partitions.getMasterBySlot(4)).isSameAs(node3);
+        assertThat(partitions.getPartitionByNodeId("b")).isNull();
+    }
+
+    @Test
+    void updateRemovesSlotsOfRemovedNodes() {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+
+        partitions.update(Collections.singletonList(node1.clone()));
+
+        assertThat(partitions.getPartitionBySlot(4)).isNull();
+        assertThat(partitions.getPartitionBySlot(1)).isSameAs(node1);
+    }
+
+    @Test
+    void updateRebuildsCacheOnOverlappingSlots() {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+
+        RedisClusterNode node3 = new RedisClusterNode(RedisURI.create("localhost", 6381), "c", true, "", 0, 0, 0,
+                Arrays.asList(2, 4), new HashSet<>());
+
+        partitions.update(Arrays.asList(node3, node1.clone(), node2.clone()));
+
+        assertThat(partitions.getPartitionBySlot(2)).isSameAs(node1);
+        assertThat(partitions.getPartitionBySlot(4)).isSameAs(node2);
+        assertThat(partitions.getPartitionBySlot(3)).isSameAs(node1);
+    }
+
     @Test
     void testToString() {
 
@@ -216,6 +216,45 @@ class ClusterTopologyRefreshUnitTests {
         }
     }
 
+    @Test
+    void getNodeSpecificViewsFromClusterShards() {
+
+        List<Object> shards = Arrays.asList(
+                shard(Arrays.asList(0L, 8191L), node("1", 7380, "master", "online"), node("3", 7382, "replica", "online")),
+                shard(Arrays.asList(8192L, 16383L), node("2", 7381, "master", "failed")));
+
+        Requests requests = createClusterShardsRequests(1, "1", shards);
+        Requests clientRequests = createClientListRequests(1, "c1\nc2\n");
+
+        NodeTopologyViews nodeSpecificViews = sut.getNodeSpecificViews(requests, clientRequests);
+
+        Partitions partitions = nodeSpecificViews.toMap().values().iterator().next();
+
+        assertThat(partitions).hasSize(3);
+
+        RedisClusterNode node1 = partitions.getPartitionByNodeId("1");
+        assertThat(node1.is(RedisClusterNode.NodeFlag.MYSELF)).isTrue();
+        assertThat(node1.getSlots()).hasSize(8192);
+        assertThat(partitions.getPartitionByNodeId("3").getSlaveOf()).isEqualTo("1");
+        assertThat(partitions.getPartitionByNodeId("3").hasNoSlots()).isTrue();
+        assertThat(partitions.getPartitionByNodeId("2").is(RedisClusterNode.NodeFlag.FAIL)).isTrue();
+        assertThat(partitions.getPartitionByNodeId("2").isConnected()).isFalse();
+        assertThat(partitions.getMasterBySlot(16383).getNodeId()).isEqualTo("2");
+    }
+
+    @Test
+    void shouldSkipClusterShardsViewWithoutNodeId() {
+
+        List<Object> shards = Collections.singletonList(shard(Arrays.asList(0L, 16383L), node("1", 7380, "master", "online")));
+
+        Requests requests = createClusterShardsRequests(1, null, shards);
+        Requests clientRequests = createClientListRequests(1, "c1\nc2\n");
+
+        NodeTopologyViews nodeSpecificViews = sut.getNodeSpecificViews(requests, clientRequests);
+
+        assertThat(nodeSpecificViews.toMap()).isEmpty();
+    }
+
     @Test
     void shouldNotRequestTopologyIfExecutorShutsDown() {
 
@@ -603,6 +642,37 @@ class ClusterTopologyRefreshUnitTests {
         return requests;
     }
 
+    Requests createClusterShardsRequests(int duration, String nodeId, List<Object> shards) {
+
+        RedisURI redisURI = RedisURI.create("redis://localhost:" + duration);
+        Connections connections = new Connections(clientResources, new HashMap<>());
+        connections.addConnection(redisURI, connection);
+
+        Requests requests = connections.requestShards(100, TimeUnit.SECONDS);
+        TimedAsyncCommand<String, String, List<Object>> command = requests.getRequest(redisURI);
+
+        if (nodeId != null) {
+            requests.getNodeIdRequest(redisURI).complete(nodeId);
+        } else {
+            requests.getNodeIdRequest(redisURI).completeExceptionally(new RedisException("ERR unknown command"));
+        }
+
+        command.complete(shards);
+        command.encodedAtNs = 0;
+        command.completedAtNs = duration;
+
+        return requests;
+    }
+
+    private static List<Object> shard(List<?> slots, List<Object>... nodes) {
+        return Arrays.asList("slots", slots, "nodes", Arrays.asList(nodes));
+    }
+
+    private static List<Object> node(String id, int port, String role, String health) {
+        return Arrays.asList("id", id, "port", (long) port, "ip", "127.0.0.1", "endpoint", "127.0.0.1", "hostname", "", "role",
+                role, "replication-offset", 10L, "health", health);
+    }
+
     Requests createClientListRequests(int duration, String response) {
 
         RedisURI redisURI = RedisURI.create("redis://localhost:" + duration);
@@ -5,6 +5,9 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -35,4 +38,20 @@ class ByteArrayCodecUnitTests {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void testDecodeValue_fromByteBuf() {
+        final ByteArrayCodec byteArrayCodec = ByteArrayCodec.INSTANCE;
+        final ByteBuf buffer = Unpooled.wrappedBuffer("xhello".getBytes()).skipBytes(1);
+        final byte[] result = byteArrayCodec.decodeValueFrom(buffer);
+        assertThat(result).isEqualTo("hello".getBytes());
+        assertThat(buffer.readerIndex()).isEqualTo(1);
+    }
+
+    @Test
+    void testDecodeValue_withEmptyByteBuf() {
+        final ByteArrayCodec byteArrayCodec = ByteArrayCodec.INSTANCE;
+        final byte[] result = byteArrayCodec.decodeValueFrom(Unpooled.EMPTY_BUFFER);
+        assertThat(result).isEmpty();
+    }
+
 }
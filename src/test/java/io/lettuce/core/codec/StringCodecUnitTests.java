@@ -120,6 +120,21 @@ class StringCodecUnitTests {
         assertThat(codec.decodeKey(buffer.nioBuffer())).isEqualTo(teststringPlain);
     }
 
+    @Test
+    void encodeAndDecodeFromByteBuf() {
+
+        StringCodec codec = new StringCodec(StandardCharsets.UTF_8);
+
+        ByteBuf buffer = Unpooled.buffer(1234);
+        buffer.writeBytes("$$".getBytes());
+        codec.encode(teststring, buffer);
+        buffer.skipBytes(2);
+
+        assertThat(codec.decodeKeyFrom(buffer)).isEqualTo(teststring);
+        assertThat(codec.decodeValueFrom(buffer)).isEqualTo(teststring);
+        assertThat(buffer.readerIndex()).isEqualTo(2);
+    }
+
     @Test
     void estimateSize() {
 
@@ -19,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import io.lettuce.core.ConnectionFuture;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
@@ -75,4 +76,27 @@ class MasterReplicaConnectionProviderUnitTests {
         verify(channelHandlerMock).closeAsync();
     }
 
+    @Test
+    void alternateReadConnectionShouldNotOpenConnections() {
+
+        when(nodeConnectionMock.isOpen()).thenReturn(true);
+        when(clientMock.connectAsync(eq(StringCodec.UTF8), any()))
+                .thenReturn(ConnectionFuture.completed(null, nodeConnectionMock));
+
+        sut.setKnownNodes(Arrays.asList(
+                new RedisMasterReplicaNode("localhost", 1, RedisURI.create("localhost", 1), RedisInstance.Role.UPSTREAM),
+                new RedisMasterReplicaNode("localhost", 2, RedisURI.create("localhost", 2), RedisInstance.Role.REPLICA)));
+        sut.setReadFrom(ReadFrom.ANY);
+
+        StatefulRedisConnection<String, String> exclude = mock(StatefulRedisConnection.class);
+
+        assertThat(sut.getAlternateReadConnection(exclude)).isNull();
+        verifyNoInteractions(clientMock);
+
+        sut.getConnection(ConnectionIntent.WRITE);
+
+        assertThat(sut.getAlternateReadConnection(exclude)).isSameAs(nodeConnectionMock);
+        verify(clientMock).connectAsync(eq(StringCodec.UTF8), any());
+    }
+
 }
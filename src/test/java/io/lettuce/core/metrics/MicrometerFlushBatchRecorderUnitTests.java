@@ -0,0 +1,71 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static io.lettuce.core.metrics.MicrometerFlushBatchRecorder.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.SocketAddress;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.local.LocalAddress;
+
+/**
+ * Unit tests for {@link MicrometerFlushBatchRecorder}.
+ */
+@Tag(UNIT_TEST)
+class MicrometerFlushBatchRecorderUnitTests {
+
+    private static final SocketAddress LOCAL_ADDRESS = new LocalAddress("localhost:54689");
+
+    private static final SocketAddress REMOTE_ADDRESS = new LocalAddress("localhost:6379");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void verifyMetrics() {
+
+        MicrometerFlushBatchRecorder recorder = new MicrometerFlushBatchRecorder(meterRegistry, MicrometerOptions.create());
+
+        recorder.recordFlushBatch(LOCAL_ADDRESS, REMOTE_ADDRESS, 1);
+        recorder.recordFlushBatch(LOCAL_ADDRESS, REMOTE_ADDRESS, 5);
+
+        assertThat(meterRegistry.find(METRIC_FLUSH_BATCH).summaries()).hasSize(1).element(0)
+                .extracting(DistributionSummary::takeSnapshot).hasFieldOrPropertyWithValue("count", 2L)
+                .hasFieldOrPropertyWithValue("max", 5.0).hasFieldOrPropertyWithValue("total", 6.0);
+    }
+
+    @Test
+    void disabledShouldNotRecord() {
+
+        MicrometerFlushBatchRecorder recorder = new MicrometerFlushBatchRecorder(meterRegistry, MicrometerOptions.disabled());
+
+        recorder.recordFlushBatch(LOCAL_ADDRESS, REMOTE_ADDRESS, 1);
+
+        assertThat(meterRegistry.find(METRIC_FLUSH_BATCH).summaries()).isEmpty();
+    }
+
+}
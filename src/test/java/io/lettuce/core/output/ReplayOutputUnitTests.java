@@ -4,8 +4,10 @@ import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -54,6 +56,31 @@ class ReplayOutputUnitTests {
         assertThat(target.get().get(0)).isEqualTo(Arrays.asList("foo", Collections.singletonList("bar")));
     }
 
+    @Test
+    void shouldReplayResp3Signals() {
+
+        ReplayOutput<String, String> replay = new ReplayOutput<>();
+        RecordingOutput target = new RecordingOutput();
+
+        replay.multiArray(5);
+        replay.set(1.5);
+        replay.set(true);
+        replay.setSingle(ByteBuffer.wrap("OK".getBytes()));
+        replay.setBigNumber(ByteBuffer.wrap("123".getBytes()));
+        replay.multiMap(1);
+        replay.set(ByteBuffer.wrap("key".getBytes()));
+        replay.set(2L);
+        replay.complete(2);
+        replay.multiSet(0);
+        replay.complete(2);
+        replay.complete(1);
+
+        replay.replay(target);
+
+        assertThat(target.get()).containsExactly("array:5", "double:1.5", "boolean:true", "single:OK", "bignumber:123", "map:1",
+                "bulk:key", "integer:2", "complete:2", "set:0", "complete:2", "complete:1");
+    }
+
     @Test
     void shouldDecodeErrorResponse() {
 
@@ -68,4 +95,62 @@ class ReplayOutputUnitTests {
         assertThat(target.getError()).isEqualTo("foo");
     }
 
+    static class RecordingOutput extends CommandOutput<String, String, List<String>> {
+
+        RecordingOutput() {
+            super(StringCodec.ASCII, new ArrayList<>());
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+            output.add("bulk:" + decodeString(bytes));
+        }
+
+        @Override
+        public void setSingle(ByteBuffer bytes) {
+            output.add("single:" + decodeString(bytes));
+        }
+
+        @Override
+        public void setBigNumber(ByteBuffer bytes) {
+            output.add("bignumber:" + decodeString(bytes));
+        }
+
+        @Override
+        public void set(long integer) {
+            output.add("integer:" + integer);
+        }
+
+        @Override
+        public void set(double number) {
+            output.add("double:" + number);
+        }
+
+        @Override
+        public void set(boolean value) {
+            output.add("boolean:" + value);
+        }
+
+        @Override
+        public void multiArray(int count) {
+            output.add("array:" + count);
+        }
+
+        @Override
+        public void multiMap(int count) {
+            output.add("map:" + count);
+        }
+
+        @Override
+        public void multiSet(int count) {
+            output.add("set:" + count);
+        }
+
+        @Override
+        public void complete(int depth) {
+            output.add("complete:" + depth);
+        }
+
+    }
+
 }
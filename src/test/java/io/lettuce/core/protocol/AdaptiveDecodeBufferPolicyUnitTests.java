@@ -0,0 +1,150 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link AdaptiveDecodeBufferPolicy}.
+ */
+@Tag(UNIT_TEST)
+class AdaptiveDecodeBufferPolicyUnitTests {
+
+    AdaptiveDecodeBufferPolicy policy = new AdaptiveDecodeBufferPolicy(1024);
+
+    @Test
+    void shouldCreateNewInstancePerConnection() {
+
+        assertThat(policy.forConnection()).isNotSameAs(policy).isInstanceOf(AdaptiveDecodeBufferPolicy.class);
+        assertThat(DecodeBufferPolicies.always().forConnection()).isSameAs(DecodeBufferPolicies.always());
+    }
+
+    @Test
+    void shouldLearnReplySizes() {
+
+        ByteBuf buffer = Unpooled.buffer(4096);
+
+        decodeReplies(buffer, 64, 100);
+
+        assertThat(policy.getTypicalReplySize()).isEqualTo(128);
+        assertThat(policy.getLargeReplySize()).isEqualTo(128);
+    }
+
+    @Test
+    void shouldNotDiscardWhileTypicalReplyFits() {
+
+        ByteBuf buffer = Unpooled.buffer(64 * 1024);
+
+        decodeReplies(buffer, 64, 100);
+        buffer.writeBytes(new byte[64 * 10 + 10]);
+
+        for (int i = 0; i < 10; i++) {
+            buffer.skipBytes(64);
+            policy.afterCommandDecoded(buffer);
+        }
+
+        assertThat(buffer.readerIndex()).isEqualTo(640);
+    }
+
+    @Test
+    void shouldDiscardWhenTypicalReplyDoesNotFit() {
+
+        ByteBuf buffer = Unpooled.buffer(8192, 8192);
+
+        decodeReplies(buffer, 64, 100);
+        buffer.writeBytes(new byte[buffer.writableBytes() - 10]);
+
+        policy.afterCommandDecoded(buffer);
+
+        assertThat(buffer.readerIndex()).isZero();
+    }
+
+    @Test
+    void shouldDiscardDrainedBuffer() {
+
+        ByteBuf buffer = Unpooled.buffer(1024);
+        buffer.writeBytes(new byte[100]).skipBytes(100);
+
+        policy.afterDecoding(buffer);
+
+        assertThat(buffer.readerIndex()).isZero();
+        assertThat(buffer.writerIndex()).isZero();
+    }
+
+    @Test
+    void shouldPreSizeBufferForPendingBulk() {
+
+        ByteBuf buffer = Unpooled.buffer(64);
+        buffer.writeBytes("+OK\r\n$100000\r\nfoo".getBytes()).readerIndex(14);
+
+        policy.afterPartialDecode(buffer, 100002);
+
+        assertThat(buffer.readerIndex()).isZero();
+        assertThat(buffer.readableBytes()).isEqualTo(3);
+        assertThat(buffer.writableBytes()).isGreaterThanOrEqualTo(100002 - 3);
+    }
+
+    @Test
+    void shouldShrinkBufferAfterLargeReply() {
+
+        ByteBuf buffer = Unpooled.buffer(1024);
+
+        decodeReplies(buffer, 16, 300);
+
+        buffer.capacity(1024 * 1024);
+        buffer.writeBytes(new byte[512 * 1024]).skipBytes(512 * 1024);
+        policy.afterCommandDecoded(buffer);
+        policy.afterDecoding(buffer);
+
+        assertThat(buffer.capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    void shouldRetainCapacityForFrequentLargeReplies() {
+
+        ByteBuf buffer = Unpooled.buffer(1024);
+
+        decodeReplies(buffer, 200 * 1024, 300);
+
+        buffer.capacity(1024 * 1024);
+        policy.afterDecoding(buffer);
+
+        assertThat(buffer.capacity()).isEqualTo(1024 * 1024);
+    }
+
+    private void decodeReplies(ByteBuf buffer, int replySize, int count) {
+
+        byte[] reply = new byte[replySize];
+
+        for (int i = 0; i < count; i++) {
+
+            buffer.writeBytes(reply).skipBytes(replySize);
+            policy.afterCommandDecoded(buffer);
+        }
+    }
+
+}
@@ -14,6 +14,7 @@ import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 
 /**
  * Unit tests for {@link CommandArgs}.
@@ -31,6 +32,15 @@ class CommandArgsUnitTests {
         assertThat(CommandArgsAccessor.getFirstInteger(args)).isNull();
     }
 
+    @Test
+    void getProtocolKeywordsShouldReturnKeywords() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.TRACKING).add("foo")
+                .add(CommandKeyword.ON).add(1L);
+
+        assertThat(CommandArgsAccessor.getProtocolKeywords(args)).containsExactly(CommandKeyword.TRACKING, CommandKeyword.ON);
+    }
+
     @Test
     void getFirstIntegerShouldReturnFirstInteger() {
 
@@ -115,6 +125,19 @@ class CommandArgsUnitTests {
         assertThat(CommandArgsAccessor.encodeFirstKey(args)).isEqualTo(ByteBuffer.wrap("one".getBytes()));
     }
 
+    @Test
+    void encodeKeywordsUsingPreEncodedForm() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.WITHSCORES)
+                .add(CommandType.GET).add("EX");
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII))
+                .isEqualTo("$10\r\nWITHSCORES\r\n" + "$3\r\nGET\r\n" + "$2\r\nEX\r\n");
+    }
+
     @Test
     void addValues() {
 
@@ -185,4 +208,41 @@ class CommandArgsUnitTests {
         assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected.toString(StandardCharsets.US_ASCII));
     }
 
+    @Test
+    void encodeLargeValuesUsingGatheringBuffer() {
+
+        byte[] large = new byte[1024];
+        Arrays.fill(large, (byte) 'x');
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).addKey("key").addValue(new String(large))
+                .add(large).add("small");
+
+        GatheringByteBuf buffer = new GatheringByteBuf(UnpooledByteBufAllocator.DEFAULT, true, 16, 512);
+        args.encode(buffer);
+
+        ByteBuf expected = Unpooled.buffer();
+        args.encode(expected);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected.toString(StandardCharsets.US_ASCII));
+        assertThat(buffer.numComponents()).isGreaterThanOrEqualTo(5);
+        assertThat(buffer.isDirect()).isTrue();
+
+        buffer.release();
+    }
+
+    @Test
+    void encodeSmallValuesUsingGatheringBuffer() {
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes())
+                .addValue("value".getBytes());
+
+        GatheringByteBuf buffer = new GatheringByteBuf(UnpooledByteBufAllocator.DEFAULT, false, 256, 512);
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo("$3\r\nkey\r\n$5\r\nvalue\r\n");
+        assertThat(buffer.numComponents()).isOne();
+
+        buffer.release();
+    }
+
 }
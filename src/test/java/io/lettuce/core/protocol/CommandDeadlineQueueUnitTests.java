@@ -0,0 +1,187 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+
+/**
+ * Unit tests for {@link CommandDeadlineQueue}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+class CommandDeadlineQueueUnitTests {
+
+    @Mock
+    Timer timer;
+
+    List<TimerTask> tasks = new ArrayList<>();
+
+    List<Long> delays = new ArrayList<>();
+
+    CommandDeadlineQueue queue;
+
+    @BeforeEach
+    void before() {
+
+        when(timer.newTimeout(any(), anyLong(), eq(TimeUnit.NANOSECONDS))).then(invocation -> {
+            tasks.add(invocation.getArgument(0));
+            delays.add(invocation.getArgument(1));
+            return null;
+        });
+
+        queue = new CommandDeadlineQueue(timer, ImmediateEventExecutor.INSTANCE);
+    }
+
+    @Test
+    void shouldScheduleSingleSweep() {
+
+        assertThat(queue.offer(command(), 1, TimeUnit.MINUTES)).isTrue();
+        assertThat(queue.offer(command(), 1, TimeUnit.MINUTES)).isTrue();
+        assertThat(queue.offer(command(), 1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(tasks).hasSize(1);
+        assertThat(delays.get(0)).isEqualTo(CommandDeadlineQueue.MAX_SWEEP_INTERVAL);
+        assertThat(queue.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldExpireCommandsPastDeadline() {
+
+        AsyncCommand<String, String, String> command = command();
+
+        queue.offer(command, 1, TimeUnit.NANOSECONDS);
+        runSweep();
+
+        assertThat(command.isDone()).isTrue();
+        assertThatThrownBy(command::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RedisCommandTimeoutException.class);
+        assertThat(queue.size()).isZero();
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void shouldRemoveCompletedCommands() {
+
+        AsyncCommand<String, String, String> first = command();
+        AsyncCommand<String, String, String> second = command();
+
+        queue.offer(first, 1, TimeUnit.MINUTES);
+        queue.offer(second, 1, TimeUnit.MINUTES);
+
+        first.complete();
+        second.complete();
+        runSweep();
+
+        assertThat(queue.size()).isZero();
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void shouldRemoveCompletedHeadOnOffer() {
+
+        AsyncCommand<String, String, String> first = command();
+        AsyncCommand<String, String, String> second = command();
+
+        queue.offer(first, 1, TimeUnit.MINUTES);
+        queue.offer(second, 1, TimeUnit.MINUTES);
+
+        first.complete();
+        second.complete();
+        queue.offer(command(), 1, TimeUnit.MINUTES);
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    void shouldRescheduleWhileHeadIsPending() {
+
+        AsyncCommand<String, String, String> first = command();
+        AsyncCommand<String, String, String> second = command();
+
+        queue.offer(first, 1, TimeUnit.MINUTES);
+        queue.offer(second, 1, TimeUnit.MINUTES);
+
+        second.complete();
+        runSweep();
+
+        assertThat(first.isDone()).isFalse();
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(tasks).hasSize(1);
+        assertThat(delays.get(0)).isLessThanOrEqualTo(CommandDeadlineQueue.MAX_SWEEP_INTERVAL);
+    }
+
+    @Test
+    void shouldScheduleSweepAfterQueueWasDrained() {
+
+        queue.offer(command(), 1, TimeUnit.NANOSECONDS);
+        runSweep();
+
+        assertThat(queue.offer(command(), 1, TimeUnit.MINUTES)).isTrue();
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectOutOfOrderDeadlines() {
+
+        assertThat(queue.offer(command(), 1, TimeUnit.MINUTES)).isTrue();
+        assertThat(queue.offer(command(), 1, TimeUnit.SECONDS)).isFalse();
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+    private void runSweep() {
+
+        TimerTask task = tasks.remove(0);
+        delays.remove(0);
+
+        try {
+            task.run(null);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static AsyncCommand<String, String, String> command() {
+        return new AsyncCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+    }
+
+}
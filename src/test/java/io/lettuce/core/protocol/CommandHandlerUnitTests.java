@@ -467,6 +467,59 @@ class CommandHandlerUnitTests {
                 .allMatch(o -> CommandWrapper.unwrap((RedisCommand) o) == command2);
     }
 
+    @Test
+    void shouldWriteNoReplyCommandsWithoutAddingToStack() throws Exception {
+
+        RedisCommand<String, String, Void> replyOff = NoReplyCommand.replyOff(StringCodec.UTF8);
+        NoReplyCommand<String, String, String> noReply = new NoReplyCommand<>(command);
+        AsyncCommand<String, String, Void> replyOn = NoReplyCommand.replyOn(StringCodec.UTF8);
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+
+        sut.write(context, Arrays.asList(replyOff, noReply, replyOn), channelPromise);
+
+        assertThat(stack).hasSize(1).allMatch(o -> CommandWrapper.unwrap((RedisCommand) o, AsyncCommand.class) == replyOn);
+        assertThat(noReply.isDone()).isFalse();
+
+        channelPromise.setSuccess();
+
+        assertThat(replyOff.isDone()).isTrue();
+        assertThat(noReply.isDone()).isTrue();
+        assertThat(command.isDone()).isTrue();
+        assertThat(replyOn.isDone()).isFalse();
+    }
+
+    @Test
+    void shouldNotTrackLoadUnlessEnabled() throws Exception {
+
+        DefaultEndpoint defaultEndpoint = new DefaultEndpoint(ClientOptions.create(), clientResources);
+        sut = new CommandHandler(ClientOptions.create(), clientResources, defaultEndpoint);
+
+        sut.write(context, command, promise);
+
+        assertThat(defaultEndpoint.getCommandLoad().getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldDiscardLatencySampleOnWriteFailure() throws Exception {
+
+        DefaultEndpoint defaultEndpoint = new DefaultEndpoint(ClientOptions.create(), clientResources);
+        CommandLoad load = defaultEndpoint.getCommandLoad();
+        load.enable();
+        sut = new CommandHandler(ClientOptions.create(), clientResources, defaultEndpoint);
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        sut.write(context, command, channelPromise);
+
+        assertThat(load.getInFlight()).isEqualTo(1);
+        assertThat(load.getLatency(System.nanoTime() + Duration.ofMillis(50).toNanos())).isPositive();
+
+        channelPromise.setFailure(new IOException());
+
+        assertThat(load.getInFlight()).isZero();
+        assertThat(load.getLatency(System.nanoTime() + Duration.ofMillis(50).toNanos())).isZero();
+    }
+
     @Test
     void shouldRecordCorrectFirstResponseLatency() throws Exception {
 
@@ -579,6 +632,7 @@ class CommandHandlerUnitTests {
     void shouldCallPolicyToDiscardReadBytes() throws Exception {
 
         DecodeBufferPolicy policy = mock(DecodeBufferPolicy.class);
+        when(policy.forConnection()).thenReturn(policy);
 
         CommandHandler commandHandler = new CommandHandler(ClientOptions.builder().decodeBufferPolicy(policy).build(),
                 clientResources, endpoint);
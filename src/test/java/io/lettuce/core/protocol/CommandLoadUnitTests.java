@@ -0,0 +1,189 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.LoadBalancingReadFromAccessor;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Unit tests for {@link CommandLoad}.
+ */
+@Tag(UNIT_TEST)
+class CommandLoadUnitTests {
+
+    private static final long MILLIS = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void shouldTrackInFlightCommands() {
+
+        CommandLoad load = new CommandLoad();
+        Command<String, String, String> first = command();
+        Command<String, String, String> second = command();
+
+        load.onWrite(first, 1);
+        load.onWrite(second, 2);
+        assertThat(load.getInFlight()).isEqualTo(2);
+
+        load.onComplete(first, 1);
+        assertThat(load.getInFlight()).isEqualTo(1);
+
+        load.reset();
+        assertThat(load.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldConsiderPendingSampleAge() {
+
+        CommandLoad load = new CommandLoad();
+        assertThat(load.getLatency(System.nanoTime())).isZero();
+
+        load.onWrite(command(), 1);
+
+        assertThat(load.getLatency(System.nanoTime() + 50 * MILLIS)).isGreaterThanOrEqualTo(50 * MILLIS);
+    }
+
+    @Test
+    void shouldAverageSampledLatency() throws InterruptedException {
+
+        CommandLoad load = new CommandLoad();
+        Command<String, String, String> command = command();
+
+        load.onWrite(command, 1);
+        Thread.sleep(10);
+        load.onComplete(command, 0);
+
+        long now = System.nanoTime();
+        long latency = load.getLatency(now);
+
+        assertThat(latency).isGreaterThanOrEqualTo(10 * MILLIS);
+        assertThat(load.getLatency(now + Duration.ofMillis(1500).toNanos())).isEqualTo(latency >> 1);
+        assertThat(load.getLatency(now + Duration.ofMinutes(2).toNanos())).isZero();
+    }
+
+    @Test
+    void shouldSampleOneCommandAtATime() {
+
+        CommandLoad load = new CommandLoad();
+        Command<String, String, String> first = command();
+        Command<String, String, String> second = command();
+
+        load.onWrite(first, 1);
+        load.onWrite(second, 2);
+        load.onComplete(second, 1);
+
+        // second command was not sampled, the sample of the first command is still pending
+        assertThat(load.getLatency(System.nanoTime() + 50 * MILLIS)).isGreaterThanOrEqualTo(50 * MILLIS);
+
+        load.reset();
+        assertThat(load.getLatency(System.nanoTime() + 50 * MILLIS)).isZero();
+    }
+
+    @Test
+    void shouldObtainLoadFromWriterChain() {
+
+        DefaultEndpoint endpoint = new DefaultEndpoint(ClientOptions.create(), mock(ClientResources.class));
+        CommandExpiryWriter writer = mock(CommandExpiryWriter.class);
+        when(writer.getDelegate()).thenReturn(endpoint);
+
+        assertThat(CommandLoad.from(endpoint)).isSameAs(endpoint.getCommandLoad());
+        assertThat(CommandLoad.from(writer)).isSameAs(endpoint.getCommandLoad());
+        assertThat(CommandLoad.from(null)).isNull();
+    }
+
+    @Test
+    void leastOutstandingRequestsShouldPreferIdleConnection() {
+
+        StatefulRedisConnection<String, String> idle = connection(0);
+        StatefulRedisConnection<String, String> busy = connection(10);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(LoadBalancingReadFromAccessor.choose(ReadFrom.LEAST_OUTSTANDING_REQUESTS, Arrays.asList(idle, busy)))
+                    .isSameAs(idle);
+        }
+    }
+
+    @Test
+    void lowestEwmaLatencyShouldAvoidConnectionWithSlowCommand() {
+
+        StatefulRedisConnection<String, String> fast = connection(0);
+        StatefulRedisConnection<String, String> slow = connection(1);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(LoadBalancingReadFromAccessor.choose(ReadFrom.LOWEST_EWMA_LATENCY, Arrays.asList(slow, fast)))
+                    .isSameAs(fast);
+        }
+    }
+
+    @Test
+    void shouldChooseAmongTwoRandomCandidates() {
+
+        StatefulRedisConnection<String, String> first = connection(0);
+        StatefulRedisConnection<String, String> second = connection(0);
+        StatefulRedisConnection<String, String> third = connection(5);
+
+        Set<StatefulRedisConnection<String, String>> chosen = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            chosen.add(LoadBalancingReadFromAccessor.choose(ReadFrom.LEAST_OUTSTANDING_REQUESTS,
+                    Arrays.asList(first, second, third)));
+        }
+
+        assertThat(chosen).containsOnly(first, second);
+        assertThat(LoadBalancingReadFromAccessor.isLoadBalancing(ReadFrom.LEAST_OUTSTANDING_REQUESTS)).isTrue();
+        assertThat(LoadBalancingReadFromAccessor.isLoadBalancing(ReadFrom.ANY)).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StatefulRedisConnection<String, String> connection(int inFlight) {
+
+        DefaultEndpoint endpoint = new DefaultEndpoint(ClientOptions.create(), mock(ClientResources.class));
+        for (int i = 0; i < inFlight; i++) {
+            endpoint.getCommandLoad().onWrite(command(), i + 1);
+        }
+
+        RedisChannelHandler<String, String> connection = mock(RedisChannelHandler.class,
+                withSettings().extraInterfaces(StatefulRedisConnection.class));
+        when(connection.getChannelWriter()).thenReturn(endpoint);
+
+        return (StatefulRedisConnection<String, String>) connection;
+    }
+
+    private static Command<String, String, String> command() {
+        return new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8));
+    }
+
+}
@@ -13,6 +13,8 @@ import io.lettuce.core.RedisException;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.CommandOutput;
 import io.lettuce.core.output.StatusOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 /**
  * Unit test for {@link Command}.
@@ -89,6 +91,32 @@ public class CommandUnitTests {
         assertThat(sut.toString()).contains("Command");
     }
 
+    @Test
+    void encode() {
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("key"));
+
+        ByteBuf buffer = Unpooled.buffer();
+        command.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo("*2\r\n$3\r\nGET\r\n$3\r\nkey\r\n");
+    }
+
+    @Test
+    void encodeCustomKeywordWithManyArguments() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+        for (int i = 0; i < 200; i++) {
+            args.add("a");
+        }
+
+        ByteBuf buffer = Unpooled.buffer();
+        new Command<>(MyKeywords.DUMMY, new StatusOutput<>(StringCodec.UTF8), args).encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).startsWith("*201\r\n$5\r\nDUMMY\r\n$1\r\na\r\n");
+    }
+
     @Test
     void customKeyword() {
 
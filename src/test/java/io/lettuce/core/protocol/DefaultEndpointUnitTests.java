@@ -6,14 +6,21 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.Level;
@@ -32,6 +39,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisException;
@@ -43,9 +51,12 @@ import io.lettuce.test.ConnectionTestUtil;
 import io.lettuce.test.ReflectionTestUtils;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
 import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.EncoderException;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 
@@ -378,6 +389,103 @@ class DefaultEndpointUnitTests {
         verify(channel, never()).writeAndFlush(command);
     }
 
+    @Test
+    void noReplyBatchesShouldNotInterleaveWithConcurrentWrites() throws Exception {
+
+        List<Object> messages = Collections.synchronizedList(new ArrayList<>());
+        Answer<ChannelFuture> recorder = invocation -> {
+            messages.add(invocation.getArgument(0));
+            return promise;
+        };
+
+        when(channel.isActive()).thenReturn(true);
+        when(channel.write(any())).thenAnswer(recorder);
+        when(channel.writeAndFlush(any())).thenAnswer(recorder);
+
+        sut.notifyChannelActive(channel);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> batches = executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    sut.write(Arrays.asList(NoReplyCommand.replyOff(StringCodec.UTF8),
+                            new NoReplyCommand<>(new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8))),
+                            NoReplyCommand.replyOn(StringCodec.UTF8)));
+                }
+            });
+            Future<?> reads = executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    sut.write(new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8)));
+                }
+            });
+
+            batches.get(10, TimeUnit.SECONDS);
+            reads.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<RedisCommand<?, ?, ?>> written = new ArrayList<>();
+        for (Object message : messages) {
+            if (message instanceof Collection) {
+                written.addAll((Collection<RedisCommand<?, ?, ?>>) message);
+            } else {
+                written.add((RedisCommand<?, ?, ?>) message);
+            }
+        }
+
+        assertThat(written).hasSize(2000);
+
+        boolean repliesOff = false;
+        for (RedisCommand<?, ?, ?> command : written) {
+
+            if (CommandWrapper.unwrap(command, NoReplyCommand.Acknowledgement.class) != null) {
+                repliesOff = false;
+                continue;
+            }
+
+            if (repliesOff) {
+                assertThat(NoReplyCommand.isNoReply(command)).describedAs("Command within CLIENT REPLY OFF window").isTrue();
+            }
+
+            if (NoReplyCommand.isNoReply(command) && command.getType() == CommandType.CLIENT) {
+                repliesOff = true;
+            }
+        }
+    }
+
+    @Test
+    void shouldNotRetryNoReplyCommandsAfterReconnect() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        DefaultChannelPromise failed = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+
+        when(channel.isActive()).thenReturn(true);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.write(any())).thenAnswer(invocation -> {
+            queue.addAll((Collection) invocation.getArguments()[0]);
+            return failed;
+        });
+
+        sut.notifyChannelActive(channel);
+
+        Command<String, String, String> set = new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8));
+        AsyncCommand<String, String, Void> acknowledgement = NoReplyCommand.replyOn(StringCodec.UTF8);
+
+        sut.write(Arrays.asList(NoReplyCommand.replyOff(StringCodec.UTF8), new NoReplyCommand<>(set), acknowledgement));
+        failed.tryFailure(new ClosedChannelException());
+
+        sut.notifyChannelInactive(channel);
+        sut.notifyChannelActive(channel);
+
+        assertThat(set.exception).isInstanceOf(ClosedChannelException.class);
+        assertThat(acknowledgement).isCompletedExceptionally();
+        assertThat(queue).hasSize(3);
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).isEmpty();
+        verify(eventLoop, never()).submit(any(Runnable.class));
+    }
+
     @Test
     void shouldWrapActivationCommands() {
 
@@ -440,6 +548,69 @@ class DefaultEndpointUnitTests {
         assertThat(queue).hasSize(1).extracting(RedisCommand::getType).containsOnly(CommandType.AUTH);
     }
 
+    @Test
+    void lockFreeSubmissionShouldWriteAndFlushOnEventLoop() {
+
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel();
+        DefaultEndpoint endpoint = new DefaultEndpoint(ClientOptions.builder().lockFreeSubmission(true).build(),
+                clientResources);
+        endpoint.setConnectionFacade(connectionFacade);
+        endpoint.notifyChannelActive(embeddedChannel);
+
+        Command<String, String, String> command1 = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8));
+        Command<String, String, String> command2 = new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8));
+
+        endpoint.write(command1);
+        endpoint.write(Collections.singletonList(command2));
+
+        assertThat(embeddedChannel.outboundMessages()).isEmpty();
+
+        embeddedChannel.runPendingTasks();
+
+        assertThat(embeddedChannel.outboundMessages()).containsExactly(command1, command2);
+        assertThat(ConnectionTestUtil.getQueueSize(endpoint)).isZero();
+    }
+
+    @Test
+    void lockFreeSubmissionShouldFlushPerBatchSize() {
+
+        AtomicInteger flushes = new AtomicInteger();
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+
+            @Override
+            public void flush(ChannelHandlerContext ctx) {
+                flushes.incrementAndGet();
+                ctx.flush();
+            }
+
+        });
+        DefaultEndpoint endpoint = new DefaultEndpoint(
+                ClientOptions.builder().lockFreeSubmission(true).lockFreeSubmissionBatchSize(2).build(), clientResources);
+        endpoint.setConnectionFacade(connectionFacade);
+        endpoint.notifyChannelActive(embeddedChannel);
+
+        for (int i = 0; i < 5; i++) {
+            endpoint.write(new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8)));
+        }
+
+        embeddedChannel.runPendingTasks();
+
+        assertThat(embeddedChannel.outboundMessages()).hasSize(5);
+        assertThat(flushes).hasValue(3);
+    }
+
+    @Test
+    void lockFreeSubmissionShouldBufferWhileDisconnected() {
+
+        DefaultEndpoint endpoint = new DefaultEndpoint(ClientOptions.builder().lockFreeSubmission(true).build(),
+                clientResources);
+        endpoint.setConnectionFacade(connectionFacade);
+
+        endpoint.write(command);
+
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(endpoint)).contains(command);
+    }
+
     @Test
     void testMTCConcurrentConcurrentWrite() throws Throwable {
 
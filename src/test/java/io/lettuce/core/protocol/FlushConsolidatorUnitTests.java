@@ -0,0 +1,178 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.FlushConsolidationOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+import io.netty.util.DefaultAttributeMap;
+
+/**
+ * Unit tests for {@link FlushConsolidator}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FlushConsolidatorUnitTests {
+
+    private final List<Integer> batches = new ArrayList<>();
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private final DefaultAttributeMap attributes = new DefaultAttributeMap();
+
+    @Mock
+    private Channel channel;
+
+    @Mock
+    private EventLoop eventLoop;
+
+    @Mock
+    private ChannelPromise promise;
+
+    @BeforeEach
+    void before() {
+
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.attr(any())).thenAnswer(invocation -> attributes.attr(invocation.getArgument(0)));
+        when(eventLoop.inEventLoop()).thenReturn(true);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any());
+    }
+
+    @Test
+    void shouldFlushCommandsWrittenWithinSameTick() {
+
+        FlushConsolidator sut = new FlushConsolidator(FlushConsolidationOptions.builder().consolidateFlushes()
+                .flushBatchRecorder((l, r, c) -> batches.add(c)).build());
+
+        sut.write(channel, command(), promise);
+        sut.write(channel, command(), promise);
+        sut.write(channel, command(), promise);
+
+        verify(channel, times(3)).write(any(), eq(promise));
+        verify(channel, never()).flush();
+        assertThat(tasks).hasSize(1);
+
+        runTasks();
+
+        verify(channel).flush();
+        assertThat(batches).containsExactly(3);
+    }
+
+    @Test
+    void shouldFlushWrittenCommandsOnce() {
+
+        FlushConsolidator sut = new FlushConsolidator(FlushConsolidationOptions.builder().consolidateFlushes()
+                .flushBatchRecorder((l, r, c) -> batches.add(c)).build());
+
+        sut.written(channel, 2);
+        sut.written(channel, 1);
+
+        verify(channel, never()).flush();
+
+        runTasks();
+
+        verify(channel).flush();
+        assertThat(batches).containsExactly(3);
+    }
+
+    @Test
+    void shouldDispatchWritesToEventLoop() {
+
+        when(eventLoop.inEventLoop()).thenReturn(false);
+
+        FlushConsolidator sut = new FlushConsolidator(FlushConsolidationOptions.enabled());
+
+        sut.write(channel, command(), promise);
+
+        verify(channel, never()).write(any(), any());
+        assertThat(tasks).hasSize(1);
+
+        runTasks();
+
+        verify(channel).write(any(), eq(promise));
+        verify(channel).flush();
+    }
+
+    @Test
+    void shouldFlushOnceMaxCommandsReached() {
+
+        FlushConsolidator sut = new FlushConsolidator(FlushConsolidationOptions.builder().consolidateFlushes()
+                .maxCommandsPerFlush(2).flushBatchRecorder((l, r, c) -> batches.add(c)).build());
+
+        sut.write(channel, command(), promise);
+        sut.write(channel, command(), promise);
+
+        verify(channel).flush();
+
+        sut.write(channel, command(), promise);
+        runTasks();
+
+        verify(channel, times(2)).flush();
+        assertThat(batches).containsExactly(2, 1);
+    }
+
+    @Test
+    void shouldScheduleDelayedFlush() {
+
+        FlushConsolidator sut = new FlushConsolidator(
+                FlushConsolidationOptions.builder().consolidateFlushes().flushDelay(Duration.ofMillis(1)).build());
+
+        sut.write(channel, command(), promise);
+        sut.write(channel, command(), promise);
+
+        verify(eventLoop).schedule(any(Runnable.class), eq(TimeUnit.MILLISECONDS.toNanos(1)), eq(TimeUnit.NANOSECONDS));
+        verify(channel, never()).flush();
+    }
+
+    private void runTasks() {
+
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static Command<String, String, String> command() {
+        return new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8));
+    }
+
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.HedgedReadOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.output.ValueOutput;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+/**
+ * Unit tests for {@link HedgedReads}.
+ */
+@Tag(UNIT_TEST)
+class HedgedReadsUnitTests {
+
+    private EventExecutorGroup executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new DefaultEventExecutorGroup(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldNotHedgeWhenDisabled() {
+
+        HedgedReads hedgedReads = new HedgedReads(HedgedReadOptions.create(), executor);
+        AsyncCommand<String, String, String> command = get();
+
+        assertThat(hedgedReads.isEnabled()).isFalse();
+        assertThat(hedgedReads.hedge(command, hedge -> true)).isSameAs(command);
+    }
+
+    @Test
+    void shouldNotHedgeWriteCommands() {
+
+        HedgedReads hedgedReads = new HedgedReads(options(Duration.ZERO, 1), executor);
+        AsyncCommand<String, String, String> command = new AsyncCommand<>(
+                new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8)));
+
+        assertThat(hedgedReads.isHedgeable(command)).isFalse();
+        assertThat(hedgedReads.hedge(command, hedge -> true)).isSameAs(command);
+    }
+
+    @Test
+    void hedgeShouldCompleteCommand() throws Exception {
+
+        HedgedReads hedgedReads = new HedgedReads(options(Duration.ofMillis(1), 1), executor);
+        AsyncCommand<String, String, String> command = get();
+        CompletableFuture<RedisCommand<String, String, ?>> dispatched = new CompletableFuture<>();
+
+        RedisCommand<String, String, String> hedged = hedgedReads.hedge(command, hedge -> dispatched.complete(hedge));
+
+        RedisCommand<String, String, ?> hedge = dispatched.get(1, TimeUnit.SECONDS);
+        assertThat(hedge.getType()).isEqualTo(CommandType.GET);
+        assertThat(hedge.getArgs()).isSameAs(command.getArgs());
+
+        hedge.getOutput().set(bytes("hedge"));
+        hedge.complete();
+
+        assertThat(command.get(1, TimeUnit.SECONDS)).isEqualTo("hedge");
+
+        hedged.getOutput().set(bytes("primary"));
+        hedged.complete();
+
+        assertThat(command.get()).isEqualTo("hedge");
+        assertThat(hedged.getOutput().hasError()).isFalse();
+    }
+
+    @Test
+    void shouldRecordLatencyOfOriginalReplyOnly() throws Exception {
+
+        HedgedReadOptions options = HedgedReadOptions.builder().hedgeReads().delay(Duration.ofMillis(1)).delayPercentile(95)
+                .budget(1).build();
+        HedgedReads hedgedReads = new HedgedReads(options, executor);
+        AsyncCommand<String, String, String> command = get();
+        CompletableFuture<RedisCommand<String, String, ?>> dispatched = new CompletableFuture<>();
+
+        RedisCommand<String, String, String> hedged = hedgedReads.hedge(command, hedge -> dispatched.complete(hedge));
+        RedisCommand<String, String, ?> hedge = dispatched.get(1, TimeUnit.SECONDS);
+
+        hedge.getOutput().set(bytes("hedge"));
+        hedge.complete();
+
+        assertThat(command.get(1, TimeUnit.SECONDS)).isEqualTo("hedge");
+        assertThat(hedgedReads.getSamples()).isZero();
+
+        hedged.getOutput().set(bytes("primary"));
+        hedged.complete();
+
+        assertThat(hedgedReads.getSamples()).isOne();
+    }
+
+    @Test
+    void primaryShouldWinOverLateHedge() throws Exception {
+
+        HedgedReads hedgedReads = new HedgedReads(options(Duration.ofMillis(1), 1), executor);
+        AsyncCommand<String, String, String> command = get();
+        CompletableFuture<RedisCommand<String, String, ?>> dispatched = new CompletableFuture<>();
+
+        RedisCommand<String, String, String> hedged = hedgedReads.hedge(command, hedge -> dispatched.complete(hedge));
+        RedisCommand<String, String, ?> hedge = dispatched.get(1, TimeUnit.SECONDS);
+
+        hedged.getOutput().set(bytes("primary"));
+        hedge.getOutput().set(bytes("hedge"));
+        hedge.complete();
+
+        assertThat(command.isDone()).isFalse();
+
+        hedged.complete();
+
+        assertThat(command.get()).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldNotDispatchHedgeIfCompletedWithinDelay() throws Exception {
+
+        HedgedReads hedgedReads = new HedgedReads(options(Duration.ofMillis(20), 1), executor);
+        AsyncCommand<String, String, String> command = get();
+        AtomicInteger dispatched = new AtomicInteger();
+
+        RedisCommand<String, String, String> hedged = hedgedReads.hedge(command, hedge -> {
+            dispatched.incrementAndGet();
+            return true;
+        });
+
+        hedged.getOutput().set(bytes("primary"));
+        hedged.complete();
+
+        Thread.sleep(50);
+
+        assertThat(command.get()).isEqualTo("primary");
+        assertThat(dispatched).hasValue(0);
+    }
+
+    @Test
+    void shouldIgnoreHedgeErrors() throws Exception {
+
+        HedgedReads hedgedReads = new HedgedReads(options(Duration.ofMillis(1), 1), executor);
+        AsyncCommand<String, String, String> command = get();
+        CompletableFuture<RedisCommand<String, String, ?>> dispatched = new CompletableFuture<>();
+
+        RedisCommand<String, String, String> hedged = hedgedReads.hedge(command, hedge -> dispatched.complete(hedge));
+        RedisCommand<String, String, ?> hedge = dispatched.get(1, TimeUnit.SECONDS);
+
+        hedge.getOutput().setError("MOVED 1 127.0.0.1:7380");
+        hedge.complete();
+
+        assertThat(command.isDone()).isFalse();
+
+        hedged.getOutput().set(bytes("primary"));
+        hedged.complete();
+
+        assertThat(command.get()).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldPropagatePrimaryFailure() {
+
+        HedgedReads hedgedReads = new HedgedReads(options(Duration.ofSeconds(1), 1), executor);
+        AsyncCommand<String, String, String> command = get();
+
+        RedisCommand<String, String, String> hedged = hedgedReads.hedge(command, hedge -> true);
+        hedged.completeExceptionally(new IllegalStateException());
+
+        assertThat(command).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldLimitHedgesToBudget() {
+
+        HedgedReads hedgedReads = new HedgedReads(options(Duration.ofSeconds(1), 0.5), executor);
+
+        assertThat(hedgedReads.hedge(get(), hedge -> true)).isInstanceOf(AsyncCommand.class);
+        assertThat(hedgedReads.hedge(get(), hedge -> true)).isInstanceOf(HedgedReads.HedgedCommand.class);
+        assertThat(hedgedReads.getTokens()).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldRefundBudgetWithoutAlternateNode() throws Exception {
+
+        HedgedReads hedgedReads = new HedgedReads(options(Duration.ofMillis(1), 1), executor);
+        CompletableFuture<Void> attempted = new CompletableFuture<>();
+
+        hedgedReads.hedge(get(), hedge -> {
+            attempted.complete(null);
+            return false;
+        });
+
+        attempted.get(1, TimeUnit.SECONDS);
+        Thread.sleep(10);
+
+        assertThat(hedgedReads.getTokens()).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldDeriveDelayFromPercentile() {
+
+        HedgedReadOptions options = HedgedReadOptions.builder().hedgeReads().delay(Duration.ofSeconds(1)).delayPercentile(80)
+                .budget(1).build();
+        HedgedReads hedgedReads = new HedgedReads(options, executor);
+
+        assertThat(hedgedReads.getDelay()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+        for (int i = 0; i < 128; i++) {
+            hedgedReads.record(TimeUnit.MICROSECONDS.toNanos(i % 10 == 0 ? 50_000 : 100));
+        }
+
+        assertThat(hedgedReads.getDelay()).isBetween(TimeUnit.MICROSECONDS.toNanos(64), TimeUnit.MICROSECONDS.toNanos(128));
+    }
+
+    private static HedgedReadOptions options(Duration delay, double budget) {
+        return HedgedReadOptions.builder().hedgeReads().delay(delay).budget(budget).build();
+    }
+
+    private static AsyncCommand<String, String, String> get() {
+
+        CommandOutput<String, String, String> output = new ValueOutput<>(StringCodec.UTF8);
+        return new AsyncCommand<>(new Command<>(CommandType.GET, output, new CommandArgs<>(StringCodec.UTF8).addKey("key")));
+    }
+
+    private static ByteBuffer bytes(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
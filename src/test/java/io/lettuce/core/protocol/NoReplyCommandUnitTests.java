@@ -0,0 +1,80 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.RedisException;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+
+/**
+ * Unit tests for {@link NoReplyCommand}.
+ */
+@Tag(UNIT_TEST)
+class NoReplyCommandUnitTests {
+
+    @Test
+    void shouldEncodeClientReplyCommands() {
+
+        assertThat(NoReplyCommand.replyOff(StringCodec.UTF8).getArgs().toCommandString()).isEqualTo("REPLY OFF");
+        assertThat(NoReplyCommand.replySkip(StringCodec.UTF8).getArgs().toCommandString()).isEqualTo("REPLY SKIP");
+        assertThat(NoReplyCommand.replyOn(StringCodec.UTF8).getArgs().toCommandString()).isEqualTo("REPLY ON");
+    }
+
+    @Test
+    void shouldDetectNoReplyCommands() {
+
+        Command<String, String, String> command = new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8));
+
+        assertThat(NoReplyCommand.isNoReply(command)).isFalse();
+        assertThat(NoReplyCommand.isNoReply(new NoReplyCommand<>(command))).isTrue();
+        assertThat(NoReplyCommand.isNoReply(new AsyncCommand<>(new NoReplyCommand<>(command)))).isTrue();
+        assertThat(NoReplyCommand.isNoReply(NoReplyCommand.replyOff(StringCodec.UTF8))).isTrue();
+        assertThat(NoReplyCommand.isNoReply(NoReplyCommand.replyOn(StringCodec.UTF8))).isFalse();
+    }
+
+    @Test
+    void shouldFailUnacknowledgedBatches() {
+
+        AsyncCommand<String, String, String> command = new AsyncCommand<>(
+                new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8)));
+        AsyncCommand<String, String, Void> acknowledgement = NoReplyCommand.replyOn(StringCodec.UTF8);
+
+        List<RedisCommand<?, ?, ?>> commands = new ArrayList<>(
+                Arrays.asList(command, new LatencyMeteredCommand<>(acknowledgement)));
+
+        NoReplyCommand.failUnacknowledged(commands);
+
+        assertThat(commands).containsOnly(command);
+        assertThat(command.isDone()).isFalse();
+        assertThat(acknowledgement.isCompletedExceptionally()).isTrue();
+        assertThatThrownBy(acknowledgement::join).hasCauseInstanceOf(RedisException.class);
+    }
+
+}
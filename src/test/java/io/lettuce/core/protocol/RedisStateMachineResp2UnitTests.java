@@ -24,8 +24,11 @@ import static io.lettuce.core.protocol.RedisStateMachine.State;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +41,7 @@ import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.junit.jupiter.api.*;
 
 import io.lettuce.core.RedisException;
+import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.*;
@@ -141,6 +145,119 @@ class RedisStateMachineResp2UnitTests {
         assertThat(buffer.readerIndex()).isEqualTo(9);
     }
 
+    @Test
+    void bulkFromByteBuf() {
+        CommandOutput<byte[], byte[], byte[]> output = new ValueOutput<>(ByteArrayCodec.INSTANCE);
+        ByteBuf buffer = buffer("$3\r\nfoo\r\n");
+        assertThat(output.isByteBufSupported()).isTrue();
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo("foo".getBytes());
+        assertThat(buffer.readerIndex()).isEqualTo(9);
+        assertThat(buffer.refCnt()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkThroughOverriddenCodec() {
+        StringCodec reversing = new StringCodec() {
+
+            @Override
+            public String decodeValue(ByteBuffer bytes) {
+                return new StringBuilder(super.decodeValue(bytes)).reverse().toString();
+            }
+
+        };
+        CommandOutput<String, String, String> output = new ValueOutput<>(reversing);
+        assertThat(output.isByteBufSupported()).isFalse();
+        assertThat(rsm.decode(buffer("$3\r\nfoo\r\n"), output)).isTrue();
+        assertThat(output.get()).isEqualTo("oof");
+    }
+
+    @Test
+    void bulkFromByteBufPartial() {
+        CommandOutput<byte[], byte[], byte[]> output = new ValueOutput<>(ByteArrayCodec.INSTANCE);
+        ByteBuf buffer = buffer("$3\r\nfo");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        buffer.writeBytes("o\r\n".getBytes());
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo("foo".getBytes());
+    }
+
+    @Test
+    void bulkChunked() {
+
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        CommandOutput<String, String, Long> output = new ByteStreamingOutput<>(codec, ByteStreamingChannel.to(target));
+
+        ByteBuf buffer = buffer("$6\r\nfo");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(target.toString()).isEqualTo("fo");
+        assertThat(buffer.isReadable()).isFalse();
+
+        buffer.writeBytes("oba".getBytes());
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(target.toString()).isEqualTo("fooba");
+
+        buffer.writeBytes("r\r".getBytes());
+        assertThat(rsm.decode(buffer, output)).isFalse();
+
+        buffer.writeBytes("\n".getBytes());
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(target.toString()).isEqualTo("foobar");
+        assertThat(output.get()).isEqualTo(6);
+    }
+
+    @Test
+    void bulkChunkedNull() {
+
+        CommandOutput<String, String, Long> output = new ByteStreamingOutput<>(codec, chunk -> {
+            throw new IllegalStateException();
+        });
+
+        assertThat(rsm.decode(buffer("$-1\r\n"), output)).isTrue();
+        assertThat(output.get()).isNull();
+    }
+
+    @Test
+    void bulkChunkedMulti() {
+
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        CommandOutput<String, String, Long> output = new ByteStreamingOutput<>(codec, new ByteStreamingChannel() {
+
+            @Override
+            public void onChunk(ByteBuffer chunk) {
+                current.append(StandardCharsets.US_ASCII.decode(chunk));
+            }
+
+            @Override
+            public void onComplete() {
+                values.add(current.toString());
+                current.setLength(0);
+            }
+
+        });
+
+        assertThat(rsm.decode(buffer("*2\r\n$3\r\nfoo\r\n$0\r\n\r\n"), output)).isTrue();
+        assertThat(values).containsExactly("foo", "");
+        assertThat(output.get()).isEqualTo(3);
+    }
+
+    @Test
+    void pendingBulkLength() {
+
+        CommandOutput<String, String, String> output = new ValueOutput<>(codec);
+        ByteBuf buffer = buffer("$6\r\nfo");
+
+        assertThat(rsm.getPendingBulkLength()).isZero();
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(rsm.getPendingBulkLength()).isEqualTo(8);
+
+        buffer.writeBytes("obar\r\n".getBytes());
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(rsm.getPendingBulkLength()).isZero();
+        assertThat(output.get()).isEqualTo("foobar");
+    }
+
     @Test
     void multi() {
         CommandOutput<String, String, List<String>> output = new ValueListOutput<>(codec);
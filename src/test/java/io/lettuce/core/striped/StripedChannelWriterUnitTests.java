@@ -0,0 +1,248 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.striped;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.RedisException;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Unit tests for {@link StripedChannelWriter}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StripedChannelWriterUnitTests {
+
+    @Mock
+    StatefulRedisConnection<String, String> stripe1;
+
+    @Mock
+    StatefulRedisConnection<String, String> stripe2;
+
+    @Mock
+    StatefulRedisConnection<String, String> stripe3;
+
+    @Mock
+    ClientResources clientResources;
+
+    List<StatefulRedisConnection<String, String>> stripes;
+
+    @BeforeEach
+    void before() {
+        stripes = Arrays.asList(stripe1, stripe2, stripe3);
+    }
+
+    @Test
+    void shouldDistributeRoundRobin() {
+
+        StripedChannelWriter writer = writer(StripingOptions.create());
+
+        writer.write(command(CommandType.PING));
+        writer.write(command(CommandType.PING));
+        writer.write(command(CommandType.PING));
+        writer.write(command(CommandType.PING));
+
+        verify(stripe1, times(2)).dispatch(any(RedisCommand.class));
+        verify(stripe2).dispatch(any(RedisCommand.class));
+        verify(stripe3).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldRouteSameKeyToSameStripe() {
+
+        StripedChannelWriter writer = writer(StripingOptions.create());
+
+        for (int i = 0; i < 10; i++) {
+            writer.write(command(CommandType.GET, "key"));
+        }
+
+        int stripe = writer.selectStripe(command(CommandType.GET, "key"));
+        verify(stripes.get(stripe), times(10)).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldNotRouteByKeyWithoutKeyOrdering() {
+
+        StripedChannelWriter writer = writer(StripingOptions.builder().keyOrdering(false).build());
+
+        writer.write(command(CommandType.GET, "key"));
+        writer.write(command(CommandType.GET, "key"));
+        writer.write(command(CommandType.GET, "key"));
+
+        verify(stripe1).dispatch(any(RedisCommand.class));
+        verify(stripe2).dispatch(any(RedisCommand.class));
+        verify(stripe3).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldSelectStripeWithLeastInFlightCommands() {
+
+        StripedChannelWriter writer = writer(
+                StripingOptions.builder().stripeSelection(StripingOptions.StripeSelection.LEAST_IN_FLIGHT).build());
+
+        AsyncCommand<String, String, String> first = command(CommandType.PING);
+        writer.write(first);
+        writer.write(command(CommandType.PING));
+
+        first.complete();
+
+        assertThat(writer.getInFlight(0)).isZero();
+        assertThat(writer.getInFlight(1)).isOne();
+        assertThat(writer.getInFlight(2)).isZero();
+
+        writer.write(command(CommandType.PING));
+        writer.write(command(CommandType.PING));
+
+        assertThat(writer.getInFlight(1)).isOne();
+        verify(stripe2).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldPinTransactionToStripe() {
+
+        StripedChannelWriter writer = writer(StripingOptions.create());
+
+        writer.write(command(CommandType.MULTI));
+        writer.write(command(CommandType.SET, "key1"));
+        writer.write(command(CommandType.SET, "key2"));
+        writer.write(command(CommandType.EXEC));
+        writer.write(command(CommandType.PING));
+
+        verify(stripe1, times(4)).dispatch(any(RedisCommand.class));
+        verify(stripe2).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldPinWatchToStripe() {
+
+        StripedChannelWriter writer = writer(StripingOptions.create());
+
+        writer.write(command(CommandType.WATCH, "key"));
+        writer.write(command(CommandType.UNWATCH));
+
+        int stripe = writer.selectStripe(command(CommandType.GET, "key"));
+        verify(stripes.get(stripe), times(2)).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldRejectConnectionStateCommands() {
+
+        StripedChannelWriter writer = writer(StripingOptions.create());
+
+        AsyncCommand<String, String, String> select = command(CommandType.SELECT);
+        writer.write(select);
+
+        assertThat(select.isCompletedExceptionally()).isTrue();
+        assertThatThrownBy(select::join).hasCauseInstanceOf(RedisException.class);
+        verifyNoInteractions(stripe1, stripe2, stripe3);
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void shouldPartitionBatchByKey() {
+
+        StripedChannelWriter writer = writer(StripingOptions.create());
+
+        AsyncCommand<String, String, String> ping = command(CommandType.PING);
+        List<RedisCommand<String, String, ?>> batch = Arrays.asList(command(CommandType.GET, "key1"),
+                command(CommandType.GET, "key2"), ping, command(CommandType.GET, "key1"));
+
+        writer.write(batch);
+
+        int key1Stripe = writer.selectStripe(command(CommandType.GET, "key1"));
+
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(stripes.get(key1Stripe), atLeastOnce()).dispatch(captor.capture());
+
+        assertThat(captor.getValue()).contains(batch.get(0), batch.get(3));
+        assertThat(captor.getAllValues().stream().mapToInt(Collection::size).sum()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void shouldCloseAllStripes() {
+
+        when(stripe1.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        when(stripe2.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        when(stripe3.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+        StripedChannelWriter writer = writer(StripingOptions.create());
+        writer.close();
+
+        verify(stripe1).closeAsync();
+        verify(stripe2).closeAsync();
+        verify(stripe3).closeAsync();
+        assertThatThrownBy(() -> writer.write(command(CommandType.PING))).isInstanceOf(RedisException.class);
+    }
+
+    @Test
+    void shouldFlushAllStripes() {
+
+        StripedChannelWriter writer = writer(StripingOptions.create());
+
+        writer.setAutoFlushCommands(false);
+        writer.flushCommands();
+
+        verify(stripe1).setAutoFlushCommands(false);
+        verify(stripe2).flushCommands();
+        verify(stripe3).flushCommands();
+    }
+
+    private StripedChannelWriter writer(StripingOptions options) {
+        return new StripedChannelWriter(stripes, clientResources, options);
+    }
+
+    private static AsyncCommand<String, String, String> command(CommandType type) {
+        return new AsyncCommand<>(new Command<>(type, new StatusOutput<>(StringCodec.UTF8)));
+    }
+
+    private static AsyncCommand<String, String, String> command(CommandType type, String key) {
+        return new AsyncCommand<>(
+                new Command<>(type, new StatusOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey(key)));
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link BoundedCacheAccessor}.
+ */
+@Tag(UNIT_TEST)
+class BoundedCacheAccessorUnitTests {
+
+    @Test
+    void shouldGetPutAndEvict() {
+
+        BoundedCacheAccessor<String, String> accessor = BoundedCacheAccessor.create(10);
+
+        assertThat(accessor.get("key")).isNull();
+
+        accessor.put("key", "value");
+        assertThat(accessor.get("key")).isEqualTo("value");
+
+        accessor.put("key", "updated");
+        assertThat(accessor.get("key")).isEqualTo("updated");
+
+        accessor.evict("key");
+        assertThat(accessor.get("key")).isNull();
+        assertThat(accessor.estimatedSize()).isZero();
+        assertThat(accessor.weightedSize()).isZero();
+    }
+
+    @Test
+    void shouldClear() {
+
+        BoundedCacheAccessor<Integer, Integer> accessor = BoundedCacheAccessor.create(100);
+
+        IntStream.range(0, 50).forEach(i -> accessor.put(i, i));
+        accessor.get(1);
+
+        accessor.clear();
+
+        assertThat(accessor.get(1)).isNull();
+        assertThat(accessor.estimatedSize()).isZero();
+        assertThat(accessor.weightedSize()).isZero();
+
+        accessor.put(1, 1);
+        assertThat(accessor.get(1)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBoundByEntryCount() {
+
+        BoundedCacheAccessor<Integer, Integer> accessor = BoundedCacheAccessor.create(100);
+
+        IntStream.range(0, 1000).forEach(i -> accessor.put(i, i));
+        accessor.cleanUp();
+
+        assertThat(accessor.estimatedSize()).isEqualTo(100);
+        assertThat(accessor.weightedSize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldRetainFrequentlyUsedKeysDuringScan() {
+
+        BoundedCacheAccessor<Integer, Integer> accessor = BoundedCacheAccessor.create(100);
+
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                if (accessor.get(i) == null) {
+                    accessor.put(i, i);
+                }
+            }
+            accessor.cleanUp();
+        }
+
+        IntStream.range(1000, 1500).forEach(i -> accessor.put(i, i));
+        accessor.cleanUp();
+
+        long retained = IntStream.range(0, 50).filter(i -> accessor.get(i) != null).count();
+
+        assertThat(retained).isGreaterThanOrEqualTo(45);
+        assertThat(accessor.estimatedSize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldBoundByEncodedSize() {
+
+        BoundedCacheAccessor<String, String> accessor = BoundedCacheAccessor.<String, String> builder().maximumWeight(1000)
+                .weighByEncodedSize(StringCodec.UTF8).build();
+
+        String value = String.format("%0100d", 0);
+
+        IntStream.range(0, 100).forEach(i -> accessor.put(String.format("key-%02d", i), value));
+        accessor.cleanUp();
+
+        assertThat(accessor.weightedSize()).isLessThanOrEqualTo(1000).isGreaterThan(800);
+        assertThat(accessor.estimatedSize()).isEqualTo(accessor.weightedSize() / 106);
+    }
+
+    @Test
+    void shouldNotRetainEntriesExceedingMaximumWeight() {
+
+        BoundedCacheAccessor<String, String> accessor = BoundedCacheAccessor.<String, String> builder().maximumWeight(100)
+                .weighByEncodedSize(StringCodec.UTF8).build();
+
+        accessor.put("small", "value");
+        accessor.put("large", String.format("%0200d", 0));
+
+        assertThat(accessor.get("large")).isNull();
+        assertThat(accessor.get("small")).isEqualTo("value");
+    }
+
+    @Test
+    void shouldUpdateWeight() {
+
+        BoundedCacheAccessor<String, String> accessor = BoundedCacheAccessor.<String, String> builder().maximumWeight(100)
+                .weigher((k, v) -> v.length()).build();
+
+        accessor.put("key", "12345");
+        accessor.put("key", "123");
+
+        assertThat(accessor.weightedSize()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldExpireEntries() {
+
+        AtomicLong time = new AtomicLong();
+        BoundedCacheAccessor<String, String> accessor = BoundedCacheAccessor.<String, String> builder().maximumSize(10)
+                .timeToLive(Duration.ofSeconds(10)).ticker(time::get).build();
+
+        accessor.put("key", "value");
+
+        time.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertThat(accessor.get("key")).isEqualTo("value");
+
+        time.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(accessor.get("key")).isNull();
+        assertThat(accessor.estimatedSize()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+
+        assertThatIllegalStateException().isThrownBy(() -> BoundedCacheAccessor.builder().build());
+        assertThatIllegalStateException()
+                .isThrownBy(() -> BoundedCacheAccessor.builder().maximumSize(10).maximumWeight(10).build());
+        assertThatIllegalStateException().isThrownBy(() -> BoundedCacheAccessor.builder().maximumWeight(10).build());
+        assertThatIllegalArgumentException().isThrownBy(() -> BoundedCacheAccessor.builder().maximumSize(0));
+    }
+
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+
+/**
+ * Unit tests for {@link ClientSideCaching}.
+ */
+@Tag(UNIT_TEST)
+class ClientSideCachingUnitTests {
+
+    private final Map<String, String> clientCache = new ConcurrentHashMap<>();
+
+    private final StubRedisCache redisCache = new StubRedisCache();
+
+    private final ClientSideCaching<String, String> frontend = ClientSideCaching.create(CacheAccessor.forMap(clientCache),
+            redisCache);
+
+    @Test
+    void getAsyncShouldReturnCachedValue() {
+
+        clientCache.put("key", "value");
+
+        assertThat(frontend.getAsync("key").toCompletableFuture().join()).isEqualTo("value");
+        assertThat(redisCache.requests).isEmpty();
+    }
+
+    @Test
+    void concurrentMissesShouldShareSingleRequest() {
+
+        CompletableFuture<String> first = frontend.getAsync("key").toCompletableFuture();
+        CompletableFuture<String> second = frontend.getAsync("key").toCompletableFuture();
+
+        assertThat(redisCache.requests).hasSize(1);
+        assertThat(first).isNotDone();
+
+        redisCache.requests.get(0).complete("value");
+
+        assertThat(first.join()).isEqualTo("value");
+        assertThat(second.join()).isEqualTo("value");
+        assertThat(clientCache).containsEntry("key", "value");
+
+        assertThat(frontend.getAsync("key").toCompletableFuture().join()).isEqualTo("value");
+        assertThat(redisCache.requests).hasSize(1);
+    }
+
+    @Test
+    void callersShouldNotCompleteSharedRequest() {
+
+        frontend.getAsync("key").toCompletableFuture().complete("foo");
+        CompletableFuture<String> second = frontend.getAsync("key").toCompletableFuture();
+
+        redisCache.requests.get(0).complete("value");
+
+        assertThat(second.join()).isEqualTo("value");
+    }
+
+    @Test
+    void failedRequestShouldNotBeCached() {
+
+        CompletableFuture<String> first = frontend.getAsync("key").toCompletableFuture();
+        redisCache.requests.get(0).completeExceptionally(new RedisException("fail"));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(clientCache).isEmpty();
+
+        frontend.getAsync("key");
+        assertThat(redisCache.requests).hasSize(2);
+    }
+
+    @Test
+    void invalidationShouldDetachInFlightRequest() {
+
+        CompletableFuture<String> first = frontend.getAsync("key").toCompletableFuture();
+
+        redisCache.invalidate("key");
+
+        CompletableFuture<String> second = frontend.getAsync("key").toCompletableFuture();
+        assertThat(redisCache.requests).hasSize(2);
+
+        redisCache.requests.get(0).complete("stale");
+        assertThat(first.join()).isEqualTo("stale");
+        assertThat(clientCache).isEmpty();
+
+        redisCache.requests.get(1).complete("fresh");
+        assertThat(second.join()).isEqualTo("fresh");
+        assertThat(clientCache).containsEntry("key", "fresh");
+    }
+
+    @Test
+    void getReactiveShouldEmitValue() {
+
+        StepVerifier.create(frontend.getReactive("key")).then(() -> redisCache.requests.get(0).complete("value"))
+                .expectNext("value").verifyComplete();
+
+        StepVerifier.create(frontend.getReactive("absent")).then(() -> redisCache.requests.get(1).complete(null))
+                .verifyComplete();
+    }
+
+    @Test
+    void getShouldDiscardFillAfterInvalidation() {
+
+        redisCache.values.put("key", "stale");
+        redisCache.afterGet = () -> redisCache.invalidate("key");
+
+        assertThat(frontend.get("key")).isEqualTo("stale");
+        assertThat(clientCache).isEmpty();
+
+        redisCache.afterGet = () -> {
+        };
+
+        assertThat(frontend.get("key")).isEqualTo("stale");
+        assertThat(clientCache).containsEntry("key", "stale");
+    }
+
+    @Test
+    void getShouldEvictFillRacingWithInvalidation() {
+
+        // invalidation that advances the epoch and evicts before the value gets written
+        CacheAccessor<String, String> accessor = new CacheAccessor<String, String>() {
+
+            @Override
+            public String get(String key) {
+                return clientCache.get(key);
+            }
+
+            @Override
+            public void put(String key, String value) {
+                redisCache.invalidate(key);
+                clientCache.put(key, value);
+            }
+
+            @Override
+            public void evict(String key) {
+                clientCache.remove(key);
+            }
+
+        };
+
+        CacheFrontend<String, String> frontend = ClientSideCaching.create(accessor, redisCache);
+        redisCache.values.put("key", "stale");
+
+        assertThat(frontend.get("key")).isEqualTo("stale");
+        assertThat(clientCache).isEmpty();
+    }
+
+    @Test
+    void getAsyncShouldDiscardFillAfterInvalidation() {
+
+        CompletableFuture<String> first = frontend.getAsync("key").toCompletableFuture();
+
+        redisCache.listeners.get(0).accept("key");
+        redisCache.requests.get(0).complete("stale");
+
+        assertThat(first.join()).isEqualTo("stale");
+        assertThat(clientCache).isEmpty();
+    }
+
+    @Test
+    void valueLoaderShouldCacheTrackedValue() {
+
+        assertThat(frontend.get("key", () -> "loaded")).isEqualTo("loaded");
+        assertThat(clientCache).containsEntry("key", "loaded");
+    }
+
+    @Test
+    void flushShouldClearCacheAndDetachInFlightRequests() {
+
+        clientCache.put("cached", "value");
+        CompletableFuture<String> first = frontend.getAsync("key").toCompletableFuture();
+
+        redisCache.flush();
+
+        assertThat(clientCache).isEmpty();
+
+        redisCache.requests.get(0).complete("stale");
+        assertThat(first.join()).isEqualTo("stale");
+        assertThat(clientCache).isEmpty();
+
+        frontend.getAsync("key");
+        assertThat(redisCache.requests).hasSize(2);
+    }
+
+    @Test
+    void getAllShouldFetchMissesOnly() {
+
+        clientCache.put("cached", "value");
+        redisCache.values.put("key1", "value1");
+
+        Map<String, String> result = frontend.getAll(Arrays.asList("key1", "cached", "absent", "key1"));
+
+        assertThat(result).containsExactly(entry("key1", "value1"), entry("cached", "value"));
+        assertThat(redisCache.getAllRequests).containsExactly(Arrays.asList("key1", "absent"));
+        assertThat(clientCache).containsEntry("key1", "value1").doesNotContainKey("absent");
+
+        frontend.getAll(Arrays.asList("key1", "cached"));
+        assertThat(redisCache.getAllRequests).hasSize(1);
+    }
+
+    @Test
+    void getAllShouldDiscardFillAfterInvalidation() {
+
+        redisCache.values.put("key1", "stale");
+        redisCache.afterGet = () -> redisCache.invalidate("key1");
+
+        assertThat(frontend.getAll(Arrays.asList("key1"))).containsEntry("key1", "stale");
+        assertThat(clientCache).isEmpty();
+    }
+
+    @Test
+    void executeShouldCacheResultUntilInvalidation() {
+
+        redisCache.values.put("field", "value");
+
+        assertThat(frontend.hget("key", "field")).isEqualTo("value");
+        assertThat(frontend.hget("key", "field")).isEqualTo("value");
+        assertThat(redisCache.commands).hasSize(1);
+
+        assertThat(frontend.hget("key", "other")).isNull();
+        assertThat(frontend.hget("key", "other")).isNull();
+        assertThat(redisCache.commands).hasSize(3);
+
+        redisCache.invalidate("key");
+
+        assertThat(frontend.hget("key", "field")).isEqualTo("value");
+        assertThat(redisCache.commands).hasSize(4);
+    }
+
+    @Test
+    void executeShouldDiscardResultAfterInvalidation() {
+
+        redisCache.values.put("field", "value");
+        redisCache.afterGet = () -> redisCache.invalidate("key");
+
+        assertThat(frontend.hget("key", "field")).isEqualTo("value");
+
+        redisCache.afterGet = () -> {
+        };
+
+        frontend.hget("key", "field");
+        assertThat(redisCache.commands).hasSize(2);
+    }
+
+    @Test
+    void executeShouldEvictResultOnInvalidationOfAnyKey() {
+
+        redisCache.values.put("other", "value");
+
+        String value = frontend.execute(CommandType.SUNION, "key", ValueOutput::new, args -> args.addKey("other"));
+        assertThat(value).isEqualTo("value");
+
+        frontend.execute(CommandType.SUNION, "key", ValueOutput::new, args -> args.addKey("other"));
+        assertThat(redisCache.commands).hasSize(1);
+
+        redisCache.invalidate("other");
+
+        frontend.execute(CommandType.SUNION, "key", ValueOutput::new, args -> args.addKey("other"));
+        assertThat(redisCache.commands).hasSize(2);
+
+        redisCache.invalidate("other");
+        redisCache.afterGet = () -> redisCache.invalidate("other");
+        frontend.execute(CommandType.SUNION, "key", ValueOutput::new, args -> args.addKey("other"));
+
+        redisCache.afterGet = () -> {
+        };
+        frontend.execute(CommandType.SUNION, "key", ValueOutput::new, args -> args.addKey("other"));
+        assertThat(redisCache.commands).hasSize(4);
+    }
+
+    @Test
+    void executeShouldRejectWriteCommands() {
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> frontend.execute(CommandType.SET, "key", ValueOutput::new, args -> args.addValue("value")));
+    }
+
+    @Test
+    void flushShouldClearCommandResults() {
+
+        redisCache.values.put("field", "value");
+
+        frontend.hget("key", "field");
+        redisCache.flush();
+        frontend.hget("key", "field");
+
+        assertThat(redisCache.commands).hasSize(2);
+    }
+
+    static class StubRedisCache implements DispatchingRedisCache<String, String> {
+
+        final List<CompletableFuture<String>> requests = new ArrayList<>();
+
+        final List<Consumer<? super String>> listeners = new ArrayList<>();
+
+        final List<Runnable> flushListeners = new ArrayList<>();
+
+        final Map<String, String> values = new ConcurrentHashMap<>();
+
+        final List<Collection<String>> getAllRequests = new ArrayList<>();
+
+        final List<String> commands = new ArrayList<>();
+
+        Runnable afterGet = () -> {
+        };
+
+        @Override
+        public String get(String key) {
+
+            String value = values.get(key);
+            afterGet.run();
+            return value;
+        }
+
+        @Override
+        public CompletionStage<String> getAsync(String key) {
+
+            CompletableFuture<String> request = new CompletableFuture<>();
+            requests.add(request);
+            return request;
+        }
+
+        @Override
+        public Map<String, String> getAll(Collection<String> keys) {
+
+            getAllRequests.add(new ArrayList<>(keys));
+
+            Map<String, String> result = new LinkedHashMap<>();
+            keys.stream().filter(values::containsKey).forEach(key -> result.put(key, values.get(key)));
+            afterGet.run();
+            return result;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T dispatch(ProtocolKeyword type, CommandOutput<String, String, T> output, CommandArgs<String, String> args) {
+
+            commands.add(args.toCommandString());
+
+            // stub hash lookup: resolve the field (second argument, rendered as key<field>) against the stored values
+            String field = args.toCommandString().split(" ")[1];
+            T result = (T) values.get(field.substring(4, field.length() - 1));
+            afterGet.run();
+            return result;
+        }
+
+        @Override
+        public RedisCodec<String, String> getCodec() {
+            return StringCodec.UTF8;
+        }
+
+        @Override
+        public void put(String key, String value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void addInvalidationListener(Consumer<? super String> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void addFlushListener(Runnable listener) {
+            flushListeners.add(listener);
+        }
+
+        void invalidate(String key) {
+            listeners.forEach(it -> it.accept(key));
+        }
+
+        void flush() {
+            flushListeners.forEach(Runnable::run);
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+}
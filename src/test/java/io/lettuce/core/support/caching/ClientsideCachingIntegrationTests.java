@@ -3,6 +3,7 @@ package io.lettuce.core.support.caching;
 import static io.lettuce.TestTags.INTEGRATION_TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -164,6 +165,30 @@ public class ClientsideCachingIntegrationTests extends TestSupport {
         frontend.close();
     }
 
+    @Test
+    void serverAssistedCachingShouldFetchValueAsynchronously() {
+
+        Map<String, String> clientCache = new ConcurrentHashMap<>();
+
+        StatefulRedisConnection<String, String> otherParty = redisClient.connect();
+        otherParty.sync().set(key, value);
+
+        StatefulRedisConnection<String, String> connection = redisClient.connect();
+        CacheFrontend<String, String> frontend = ClientSideCaching.enable(CacheAccessor.forMap(clientCache), connection,
+                TrackingArgs.Builder.enabled().noloop());
+
+        assertThat(frontend.getAsync(key).toCompletableFuture().join()).isEqualTo(value);
+        assertThat(clientCache).containsEntry(key, value);
+
+        otherParty.sync().set(key, "other");
+        Wait.untilTrue(clientCache::isEmpty).waitOrTimeout();
+
+        assertThat(frontend.getReactive(key).block()).isEqualTo("other");
+
+        otherParty.close();
+        frontend.close();
+    }
+
     @Test
     void serverAssistedCachingShouldExpireValueFromRedis() throws InterruptedException {
 
@@ -227,4 +252,81 @@ public class ClientsideCachingIntegrationTests extends TestSupport {
         frontend.close();
     }
 
+    @Test
+    void serverAssistedCachingShouldRestoreTrackingAfterReconnect() {
+
+        Map<String, String> clientCache = new ConcurrentHashMap<>();
+
+        StatefulRedisConnection<String, String> otherParty = redisClient.connect();
+        otherParty.sync().set(key, value);
+
+        StatefulRedisConnection<String, String> connection = redisClient.connect();
+        CacheFrontend<String, String> frontend = ClientSideCaching.enable(CacheAccessor.forMap(clientCache), connection,
+                TrackingArgs.Builder.enabled().noloop());
+
+        connection.sync().quit();
+        Wait.untilTrue(connection::isOpen).waitOrTimeout();
+
+        assertThat(frontend.get(key)).isEqualTo(value);
+        assertThat(clientCache).containsEntry(key, value);
+
+        otherParty.sync().set(key, "other");
+        Wait.untilTrue(clientCache::isEmpty).waitOrTimeout();
+
+        otherParty.close();
+        frontend.close();
+    }
+
+    @Test
+    void serverAssistedCachingShouldClearCacheOnFlush() {
+
+        Map<String, String> clientCache = new ConcurrentHashMap<>();
+
+        StatefulRedisConnection<String, String> otherParty = redisClient.connect();
+        otherParty.sync().set(key, value);
+
+        StatefulRedisConnection<String, String> connection = redisClient.connect();
+        CacheFrontend<String, String> frontend = ClientSideCaching.enable(CacheAccessor.forMap(clientCache), connection,
+                TrackingArgs.Builder.enabled().noloop());
+
+        assertThat(frontend.get(key)).isEqualTo(value);
+        assertThat(clientCache).hasSize(1);
+
+        otherParty.sync().flushall();
+        Wait.untilTrue(clientCache::isEmpty).waitOrTimeout();
+
+        otherParty.close();
+        frontend.close();
+    }
+
+    @Test
+    void serverAssistedCachingShouldCacheHashesAndBulkReads() {
+
+        Map<String, String> clientCache = new ConcurrentHashMap<>();
+
+        StatefulRedisConnection<String, String> otherParty = redisClient.connect();
+        RedisCommands<String, String> commands = otherParty.sync();
+
+        commands.set("key1", "value1");
+        commands.hset("hash", "field", "value");
+
+        StatefulRedisConnection<String, String> connection = redisClient.connect();
+        ClientSideCaching<String, String> frontend = ClientSideCaching.enable(CacheAccessor.forMap(clientCache), connection,
+                TrackingArgs.Builder.enabled().noloop());
+
+        assertThat(frontend.getAll(Arrays.asList("key1", "key2"))).containsOnlyKeys("key1");
+        assertThat(clientCache).containsOnlyKeys("key1");
+
+        assertThat(frontend.hget("hash", "field")).isEqualTo("value");
+        assertThat(frontend.hgetall("hash")).containsEntry("field", "value");
+
+        commands.hset("hash", "field", "updated");
+
+        Wait.untilEquals("updated", () -> frontend.hget("hash", "field")).waitOrTimeout();
+        assertThat(frontend.hgetall("hash")).containsEntry("field", "updated");
+
+        otherParty.close();
+        frontend.close();
+    }
+
 }
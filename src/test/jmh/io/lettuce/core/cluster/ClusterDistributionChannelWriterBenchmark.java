@@ -20,6 +20,7 @@
 package io.lettuce.core.cluster;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -31,6 +32,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 
 import io.lettuce.core.*;
 import io.lettuce.core.cluster.models.partitions.Partitions;
@@ -71,6 +73,8 @@ public class ClusterDistributionChannelWriterBenchmark {
 
     private ClusterDistributionChannelWriter writer;
 
+    private ClusterDistributionChannelWriter routedWriter;
+
     @Setup
     public void setup() {
 
@@ -79,10 +83,10 @@ public class ClusterDistributionChannelWriterBenchmark {
         Partitions partitions = new Partitions();
 
         partitions.add(new RedisClusterNode(RedisURI.create("localhost", 1), "1", true, null, 0, 0, 0, IntStream.range(0, 8191)
-                .boxed().collect(Collectors.toList()), new HashSet<>()));
+                .boxed().collect(Collectors.toList()), new HashSet<>(Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM))));
 
         partitions.add(new RedisClusterNode(RedisURI.create("localhost", 2), "2", true, null, 0, 0, 0, IntStream
-                .range(8192, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()), new HashSet<>()));
+                .range(8192, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()), new HashSet<>(Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM))));
 
         partitions.updateCache();
 
@@ -96,6 +100,28 @@ public class ClusterDistributionChannelWriterBenchmark {
             }
         });
         writer.setPartitions(partitions);
+
+        routedWriter = new ClusterDistributionChannelWriter(EMPTY_WRITER, CLIENT_OPTIONS, ClusterEventListener.NO_OP);
+        routedWriter.setPartitions(partitions);
+        routedWriter.setClusterConnectionProvider(new PooledClusterConnectionProvider(new EmptyRedisClusterClient(RedisURI
+                .create("localhost", 7379)), EMPTY_WRITER, ByteArrayCodec.INSTANCE, ClusterEventListener.NO_OP) {
+
+            @Override
+            protected ClusterNodeConnectionFactory getConnectionFactory(RedisClusterClient redisClusterClient) {
+                return new ClusterNodeConnectionFactory() {
+
+                    @Override
+                    public void setPartitions(Partitions partitions) {
+                    }
+
+                    @Override
+                    public ConnectionFuture apply(Object key) {
+                        return ConnectionFuture.from(null, connectionFuture);
+                    }
+                };
+            }
+        });
+        routedWriter.setPartitions(partitions);
     }
 
     @Benchmark
@@ -119,4 +145,24 @@ public class ClusterDistributionChannelWriterBenchmark {
     public void writePlainCommand() {
         writer.write(PLAIN_COMMAND);
     }
+
+    @Benchmark
+    public void writeKeyedCommandRouted() {
+        routedWriter.write(KEYED_COMMAND1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void writeKeyedCommandRoutedConcurrently() {
+        routedWriter.write(KEYED_COMMAND1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void write3KeyedCommandsRoutedConcurrently() {
+        routedWriter.write(KEYED_COMMAND1);
+        routedWriter.write(KEYED_COMMAND2);
+        routedWriter.write(KEYED_COMMAND3);
+    }
+
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster.models.partitions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Benchmark for parsing cluster topology replies ({@code CLUSTER NODES} vs. {@code CLUSTER SHARDS}) and for applying a
+ * topology to {@link Partitions} ({@link Partitions#reload(List) full reload} vs. {@link Partitions#update(List) incremental
+ * update}).
+ */
+@State(Scope.Benchmark)
+public class PartitionsRefreshBenchmark {
+
+    @Param({ "100", "500", "1000" })
+    int nodes;
+
+    private String clusterNodes;
+
+    private List<Object> clusterShards;
+
+    private List<RedisClusterNode> topology;
+
+    private List<RedisClusterNode> movedSlotTopology;
+
+    private final Partitions reloaded = new Partitions();
+
+    private final Partitions unchanged = new Partitions();
+
+    private final Partitions changed = new Partitions();
+
+    private boolean moved;
+
+    @Setup
+    public void setup() {
+
+        int masters = nodes / 2;
+        int slotsPerMaster = SlotHash.SLOT_COUNT / masters;
+
+        StringBuilder builder = new StringBuilder();
+        clusterShards = new ArrayList<>(masters);
+
+        for (int i = 0; i < masters; i++) {
+
+            int from = i * slotsPerMaster;
+            int to = i == masters - 1 ? SlotHash.SLOT_COUNT - 1 : from + slotsPerMaster - 1;
+            String master = nodeId("m", i);
+            String replica = nodeId("r", i);
+
+            builder.append(String.format("%s 10.0.%d.%d:6379@16379 master - 0 1401258245007 %d connected %d-%d%n", master,
+                    i / 256, i % 256, i + 1, from, to));
+            builder.append(String.format("%s 10.1.%d.%d:6379@16379 slave %s 0 1401258245007 %d connected%n", replica, i / 256,
+                    i % 256, master, i + 1));
+
+            clusterShards.add(Arrays.asList("slots", Arrays.asList((long) from, (long) to), "nodes",
+                    Arrays.asList(shardNode(master, "10.0." + (i / 256) + "." + (i % 256), "master"),
+                            shardNode(replica, "10.1." + (i / 256) + "." + (i % 256), "replica"))));
+        }
+
+        clusterNodes = builder.toString();
+
+        topology = ClusterPartitionParser.parse(clusterNodes).getPartitions();
+        movedSlotTopology = ClusterPartitionParser.parse(clusterNodes).getPartitions();
+
+        // move the last slot of the first master to the second master
+        RedisClusterNode first = movedSlotTopology.get(0);
+        RedisClusterNode second = movedSlotTopology.get(2);
+        List<Integer> firstSlots = first.getSlots();
+        List<Integer> secondSlots = second.getSlots();
+        secondSlots.add(0, firstSlots.remove(firstSlots.size() - 1));
+        first.setSlots(firstSlots);
+        second.setSlots(secondSlots);
+
+        reloaded.reload(copy(topology));
+        unchanged.reload(copy(topology));
+        changed.reload(copy(topology));
+    }
+
+    @Benchmark
+    public Partitions parseClusterNodes() {
+        return ClusterPartitionParser.parse(clusterNodes);
+    }
+
+    @Benchmark
+    public Partitions parseClusterShards() {
+        return ClusterPartitionParser.parse(clusterShards);
+    }
+
+    @Benchmark
+    public Partitions reload() {
+        reloaded.reload(topology);
+        return reloaded;
+    }
+
+    @Benchmark
+    public boolean updateUnchanged() {
+        return unchanged.update(topology);
+    }
+
+    @Benchmark
+    public boolean updateMovedSlot() {
+
+        moved = !moved;
+        return changed.update(moved ? movedSlotTopology : topology);
+    }
+
+    private static List<RedisClusterNode> copy(List<RedisClusterNode> nodes) {
+
+        List<RedisClusterNode> copy = new ArrayList<>(nodes.size());
+        for (RedisClusterNode node : nodes) {
+            copy.add(node.clone());
+        }
+        return copy;
+    }
+
+    private static List<Object> shardNode(String id, String ip, String role) {
+        return Arrays.asList("id", id, "port", 6379L, "ip", ip, "endpoint", ip, "role", role, "replication-offset", 1000L,
+                "health", "online");
+    }
+
+    private static String nodeId(String prefix, int index) {
+        return String.format("%s%039d", prefix, index);
+    }
+
+}
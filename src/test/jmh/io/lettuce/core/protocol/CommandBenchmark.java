@@ -11,6 +11,7 @@ import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.codec.Utf8StringCodec;
+import io.lettuce.core.output.IntegerOutput;
 import io.lettuce.core.output.ValueOutput;
 
 /**
@@ -18,6 +19,7 @@ import io.lettuce.core.output.ValueOutput;
  * <ul>
  * <li>Create commands using String and ByteArray codecs</li>
  * <li>Encode commands using String and ByteArray codecs</li>
+ * <li>Encode commands with keyword arguments</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -63,6 +65,15 @@ public class CommandBenchmark {
         createCommand(KEY, NEW_STRING_CODEC).encode(DUMMY_BYTE_BUF);
     }
 
+    @Benchmark
+    public void encodeCommandWithKeywordsUsingByteArrayCodec() {
+
+        Command<byte[], byte[], Long> command = new Command<>(CommandType.ZADD, new IntegerOutput<>(BYTE_ARRAY_CODEC),
+                new CommandArgs<>(BYTE_ARRAY_CODEC).addKey(BYTE_KEY).add(CommandKeyword.NX).add(CommandKeyword.CH).add(1.0)
+                        .addValue(BYTE_KEY));
+        command.encode(DUMMY_BYTE_BUF);
+    }
+
     private <K, V, T> Command<K, V, T> createCommand(K key, RedisCodec<K, V> codec) {
         Command command = new Command(CommandType.GET, new ValueOutput<>(codec), new CommandArgs(codec).addKey(key));
         return command;
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.time.Duration;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.EmptyRedisChannelWriter;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+
+/**
+ * Benchmark for {@link CommandExpiryWriter} comparing timer tasks per command with the per-connection deadline queue. Each
+ * operation writes a batch of commands and completes them in write order, emulating pipelined replies.
+ */
+@State(Scope.Benchmark)
+public class CommandExpiryWriterBenchmark {
+
+    private static final int BATCH_SIZE = 64;
+
+    @Param({ "false", "true" })
+    boolean deadlineQueue;
+
+    private ClientResources clientResources;
+
+    private CommandExpiryWriter writer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        clientResources = DefaultClientResources.create();
+
+        TimeoutOptions timeoutOptions = TimeoutOptions.builder().fixedTimeout(Duration.ofSeconds(10))
+                .deadlineQueue(deadlineQueue).build();
+        ClientOptions clientOptions = ClientOptions.builder().timeoutOptions(timeoutOptions).build();
+
+        writer = new CommandExpiryWriter(EmptyRedisChannelWriter.INSTANCE, clientOptions, clientResources);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientResources.shutdown();
+    }
+
+    @Benchmark
+    public void writeAndComplete() {
+        writeAndComplete0();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void writeAndComplete8() {
+        writeAndComplete0();
+    }
+
+    private void writeAndComplete0() {
+
+        AsyncCommand<?, ?, ?>[] commands = new AsyncCommand[BATCH_SIZE];
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            commands[i] = new AsyncCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+            writer.write(commands[i]);
+        }
+
+        for (AsyncCommand<?, ?, ?> command : commands) {
+            command.complete();
+        }
+    }
+
+}
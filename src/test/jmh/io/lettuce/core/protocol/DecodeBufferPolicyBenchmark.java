@@ -0,0 +1,169 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.nio.ByteBuffer;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for {@link DecodeBufferPolicy} implementations decoding a stream of small replies with occasional large
+ * {@code bulk} replies. Replies arrive in socket-sized reads and the policy callbacks are invoked the way
+ * {@link CommandHandler} does.
+ */
+@State(Scope.Thread)
+public class DecodeBufferPolicyBenchmark {
+
+    private static final int READ_SIZE = 64 * 1024;
+
+    private static final byte[] SMALL_REPLY = "$10\r\n0123456789\r\n".getBytes();
+
+    @Param({ "ratio", "always", "alwaysSome", "adaptive" })
+    String policyName;
+
+    @Param({ "1048576" })
+    int largeReplySize;
+
+    @Param({ "0", "100" })
+    int largeReplyEvery;
+
+    private final RedisStateMachine stateMachine = new RedisStateMachine();
+
+    private final DiscardingOutput output = new DiscardingOutput();
+
+    private DecodeBufferPolicy policy;
+
+    private ByteBuf buffer;
+
+    private byte[] stream;
+
+    private int replies;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        switch (policyName) {
+            case "ratio":
+                policy = DecodeBufferPolicies.ratio(3);
+                break;
+            case "always":
+                policy = DecodeBufferPolicies.always();
+                break;
+            case "alwaysSome":
+                policy = DecodeBufferPolicies.alwaysSome();
+                break;
+            default:
+                policy = DecodeBufferPolicies.adaptive();
+        }
+
+        policy = policy.forConnection();
+        buffer = PooledByteBufAllocator.DEFAULT.buffer(READ_SIZE);
+
+        byte[] largeValue = new byte[largeReplySize];
+        byte[] largeReply = concat(("$" + largeValue.length + "\r\n").getBytes(), largeValue, "\r\n".getBytes());
+
+        ByteBuf streamBuffer = PooledByteBufAllocator.DEFAULT.heapBuffer();
+        for (int i = 1; i <= 1000; i++) {
+            streamBuffer.writeBytes(largeReplyEvery > 0 && i % largeReplyEvery == 0 ? largeReply : SMALL_REPLY);
+            replies++;
+        }
+
+        stream = new byte[streamBuffer.readableBytes()];
+        streamBuffer.readBytes(stream);
+        streamBuffer.release();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public int decodeMixedReplies() {
+
+        int decoded = 0;
+
+        for (int offset = 0; offset < stream.length; offset += READ_SIZE) {
+
+            buffer.writeBytes(stream, offset, Math.min(READ_SIZE, stream.length - offset));
+
+            while (buffer.isReadable()) {
+
+                if (!stateMachine.decode(buffer, output)) {
+
+                    int pendingBytes = stateMachine.getPendingBulkLength();
+
+                    if (pendingBytes > 0) {
+                        policy.afterPartialDecode(buffer, pendingBytes);
+                    } else {
+                        policy.afterPartialDecode(buffer);
+                    }
+                    break;
+                }
+
+                decoded++;
+                policy.afterCommandDecoded(buffer);
+            }
+
+            policy.afterDecoding(buffer);
+        }
+
+        if (decoded != replies) {
+            throw new IllegalStateException("Decoded " + decoded + " replies, expected " + replies);
+        }
+
+        return buffer.capacity();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+
+        byte[] result = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+
+        return result;
+    }
+
+    static class DiscardingOutput extends CommandOutput<byte[], byte[], byte[]> {
+
+        DiscardingOutput() {
+            super(ByteArrayCodec.INSTANCE, null);
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+        }
+
+    }
+
+}
@@ -6,9 +6,20 @@ import io.lettuce.core.ClientOptions;
 import io.lettuce.core.EmptyStatefulRedisConnection;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.output.ValueOutput;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
 
 /**
  * Benchmark for {@link DefaultEndpoint}.
@@ -16,6 +27,7 @@ import io.netty.channel.embedded.EmbeddedChannel;
  * Test cases:
  * <ul>
  * <li>user command writes</li>
+ * <li>concurrent user command writes from 1, 8 and 64 threads using the shared lock and the lock-free submission queue</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -51,6 +63,84 @@ public class RedisEndpointBenchmark {
         defaultEndpoint.write(command);
     }
 
+    @Benchmark
+    @Threads(1)
+    public void measureConcurrentUserWrite1(ConcurrentEndpoint endpoint) {
+        endpoint.defaultEndpoint.write(endpoint.command);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void measureConcurrentUserWrite8(ConcurrentEndpoint endpoint) {
+        endpoint.defaultEndpoint.write(endpoint.command);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void measureConcurrentUserWrite64(ConcurrentEndpoint endpoint) {
+        endpoint.defaultEndpoint.write(endpoint.command);
+    }
+
+    /**
+     * Endpoint connected through a local channel whose writes are discarded on the event loop.
+     */
+    @State(Scope.Benchmark)
+    public static class ConcurrentEndpoint {
+
+        @Param({ "false", "true" })
+        boolean lockFreeSubmission;
+
+        private EventLoopGroup group;
+
+        private Channel server;
+
+        private Channel channel;
+
+        DefaultEndpoint defaultEndpoint;
+
+        Command command;
+
+        @Setup
+        public void setup() throws Exception {
+
+            LocalAddress address = new LocalAddress("RedisEndpointBenchmark");
+            group = new DefaultEventLoopGroup(1);
+            server = new ServerBootstrap().group(group).channel(LocalServerChannel.class)
+                    .childHandler(new ChannelInboundHandlerAdapter()).bind(address).sync().channel();
+            channel = new Bootstrap().group(group).channel(LocalChannel.class).handler(new DiscardingHandler()).connect(address)
+                    .sync().channel();
+
+            defaultEndpoint = new DefaultEndpoint(ClientOptions.builder().lockFreeSubmission(lockFreeSubmission).build(),
+                    EmptyClientResources.INSTANCE);
+            command = new Command(CommandType.GET, new ValueOutput<>(CODEC), new CommandArgs(CODEC).addKey(KEY));
+
+            defaultEndpoint.setConnectionFacade(EmptyStatefulRedisConnection.INSTANCE);
+            defaultEndpoint.notifyChannelActive(channel);
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+
+            channel.close().sync();
+            server.close().sync();
+            group.shutdownGracefully().sync();
+        }
+
+    }
+
+    private static final class DiscardingHandler extends ChannelOutboundHandlerAdapter {
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            promise.trySuccess();
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+        }
+
+    }
+
     private static final class MyLocalChannel extends EmbeddedChannel {
         @Override
         public boolean isActive() {
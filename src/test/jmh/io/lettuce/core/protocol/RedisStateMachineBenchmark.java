@@ -25,7 +25,9 @@ import java.util.List;
 import org.openjdk.jmh.annotations.*;
 
 import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.ArrayOutput;
+import io.lettuce.core.output.ValueOutput;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.PooledByteBufAllocator;
@@ -62,8 +64,21 @@ public class RedisStateMachineBenchmark {
                 }
             }, new CommandArgs(BYTE_ARRAY_CODEC).addKey(new byte[] { 1, 2, 3, 4 }));
 
+    private static final ValueOutput<String, String> byteBufOutput = new ValueOutput<>(StringCodec.UTF8);
+
+    private static final ValueOutput<String, String> byteBufferOutput = new ValueOutput<String, String>(StringCodec.UTF8) {
+
+        @Override
+        public boolean isByteBufSupported() {
+            return false;
+        }
+
+    };
+
     private ByteBuf masterBuffer;
 
+    private ByteBuf bulkBuffer;
+
     private final RedisStateMachine stateMachine = new RedisStateMachine();
     private final byte[] payload = ("*3\r\n" + //
             "$4\r\n" + //
@@ -73,15 +88,20 @@ public class RedisStateMachineBenchmark {
             "+QUEUED\r\n" + //
             ":12\r\n").getBytes();
 
+    private final byte[] bulkPayload = "$64\r\n0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef\r\n".getBytes();
+
     @Setup(Level.Trial)
     public void setup() {
         masterBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(32);
         masterBuffer.writeBytes(payload);
+        bulkBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(128);
+        bulkBuffer.writeBytes(bulkPayload);
     }
 
     @TearDown
     public void tearDown() {
         masterBuffer.release();
+        bulkBuffer.release();
     }
 
     @Benchmark
@@ -90,6 +110,18 @@ public class RedisStateMachineBenchmark {
         masterBuffer.readerIndex(0);
     }
 
+    @Benchmark
+    public void measureDecodeBulkFromByteBuf() {
+        stateMachine.decode(bulkBuffer, byteBufOutput);
+        bulkBuffer.readerIndex(0);
+    }
+
+    @Benchmark
+    public void measureDecodeBulkFromByteBuffer() {
+        stateMachine.decode(bulkBuffer, byteBufferOutput);
+        bulkBuffer.readerIndex(0);
+    }
+
     public static void main(String[] args) {
 
         RedisStateMachineBenchmark b = new RedisStateMachineBenchmark();
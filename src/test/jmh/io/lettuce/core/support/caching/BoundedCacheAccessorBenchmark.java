@@ -0,0 +1,121 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark for the hit path of {@link CacheAccessor} implementations under a Zipfian key distribution. The cache is populated
+ * up-front so that reads measure lookup and access recording. {@code map} uses an unbounded {@link ConcurrentHashMap} as
+ * baseline.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class BoundedCacheAccessorBenchmark {
+
+    private static final int SAMPLES = 1 << 16;
+
+    @Param({ "map", "bounded" })
+    String accessorName;
+
+    @Param({ "100000" })
+    int maximumSize;
+
+    @Param({ "0.99" })
+    double skew;
+
+    private CacheAccessor<Integer, Integer> accessor;
+
+    private Integer[] keys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        if (accessorName.equals("map")) {
+            accessor = CacheAccessor.forMap(new ConcurrentHashMap<>());
+        } else {
+            accessor = BoundedCacheAccessor.create(maximumSize);
+        }
+
+        keys = zipfian(maximumSize, skew, SAMPLES);
+
+        for (int i = 0; i < maximumSize; i++) {
+            accessor.put(i, i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        int index = new Random().nextInt(SAMPLES);
+
+    }
+
+    @Benchmark
+    public Integer get(ThreadState state) {
+        return accessor.get(keys[state.index++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public Integer readWriteGet(ThreadState state) {
+        return accessor.get(keys[state.index++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void readWritePut(ThreadState state) {
+
+        Integer key = keys[state.index++ & (SAMPLES - 1)];
+        accessor.put(key, key);
+    }
+
+    /**
+     * Sample {@code samples} keys from {@code [0, items)} following a Zipfian distribution with exponent {@code skew}.
+     */
+    private static Integer[] zipfian(int items, double skew, int samples) {
+
+        double[] cdf = new double[items];
+        double sum = 0;
+
+        for (int i = 0; i < items; i++) {
+            sum += 1 / Math.pow(i + 1, skew);
+            cdf[i] = sum;
+        }
+
+        Random random = new Random(42);
+        Integer[] keys = new Integer[samples];
+
+        for (int i = 0; i < samples; i++) {
+
+            int index = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            keys[i] = index >= 0 ? index : Math.min(-index - 1, items - 1);
+        }
+
+        return keys;
+    }
+
+}